@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Measures time-to-ready: from launching the JVM until /actuator/health reports UP.
+#
+# Usage: scripts/measure-startup.sh <label> <command...>
+#   RUNS  number of runs (default 5)
+#   URL   health URL to poll (default http://localhost:8080/actuator/health)
+#
+# Example (plain jar vs AOT + CDS, see README "Startup-Optimized Image"):
+#   scripts/measure-startup.sh plain java -jar target/car-0.0.1-SNAPSHOT.jar
+#   scripts/measure-startup.sh aot+cds java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app/app.jar
+set -euo pipefail
+
+label=$1; shift
+runs=${RUNS:-5}
+url=${URL:-http://localhost:8080/actuator/health}
+results=()
+
+for run in $(seq 1 "$runs"); do
+  start=$(date +%s%N)
+  "$@" > "/tmp/measure-startup-$label.log" 2>&1 &
+  pid=$!
+  until curl -sf "$url" 2>/dev/null | grep -q '"status":"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$label: application exited, see /tmp/measure-startup-$label.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  results+=("$elapsed")
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  echo "$label run $run: ${elapsed} ms"
+done
+
+median=$(printf '%s\n' "${results[@]}" | sort -n | sed -n "$(( (runs + 1) / 2 ))p")
+echo "$label: median time-to-ready ${median} ms over $runs runs"
@@ -0,0 +1,31 @@
+package com.reservation.car.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the per-request access log. Failed requests (4xx, 5xx) are always logged;
+ * successful ones are sampled per endpoint.
+ *
+ * @param enabled whether the access log is written at all
+ * @param defaultSampleRate share of successful requests logged for endpoints without an entry in sampleRates
+ * @param sampleRates share of successful requests logged per endpoint, keyed by controller and method
+ *                    (e.g. {@code CarController.getAllCars}); 0 logs none, 1 logs all
+ */
+@ConfigurationProperties(prefix = "app.access-log")
+public record AccessLogProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1.0") double defaultSampleRate,
+    Map<String, Double> sampleRates
+) {
+
+    public AccessLogProperties {
+        sampleRates = sampleRates == null ? Map.of() : Map.copyOf(sampleRates);
+    }
+
+    public double sampleRate(String endpoint) {
+        return sampleRates.getOrDefault(endpoint, defaultSampleRate);
+    }
+}
@@ -0,0 +1,33 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the adaptive admission controller on the booking path.
+ *
+ * @param enabled whether admission control is applied at all
+ * @param initialLimit concurrency limit at startup
+ * @param minLimit floor the limit never drops below
+ * @param maxLimit ceiling the limit never grows above
+ * @param maxQueueSize requests allowed to wait for a permit before new ones are shed
+ * @param maxQueueWait longest a queued request waits for a permit
+ * @param latencyThreshold latency above which a completed request counts as congestion
+ * @param backoffRatio multiplicative decrease applied to the limit on congestion
+ * @param retryAfter value of the Retry-After header on rejected requests
+ */
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("20") int initialLimit,
+    @DefaultValue("2") int minLimit,
+    @DefaultValue("200") int maxLimit,
+    @DefaultValue("50") int maxQueueSize,
+    @DefaultValue("50ms") Duration maxQueueWait,
+    @DefaultValue("250ms") Duration latencyThreshold,
+    @DefaultValue("0.9") double backoffRatio,
+    @DefaultValue("1s") Duration retryAfter
+) {
+}
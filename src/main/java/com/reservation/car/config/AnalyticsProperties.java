@@ -0,0 +1,25 @@
+package com.reservation.car.config;
+
+import java.time.LocalTime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the utilization analytics job.
+ *
+ * @param enabled whether this node runs the nightly job
+ * @param runAt UTC time of day of the nightly run, outside business hours
+ * @param parallelism fork-join worker threads aggregating reservations; 0 uses every core
+ * @param fetchSize reservation rows per round trip of the server-side cursor
+ * @param chunkSize reservation rows handed to the workers at once
+ */
+@ConfigurationProperties(prefix = "app.analytics")
+public record AnalyticsProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("03:00") LocalTime runAt,
+    @DefaultValue("0") int parallelism,
+    @DefaultValue("10000") int fetchSize,
+    @DefaultValue("16384") int chunkSize
+) {
+}
@@ -11,4 +11,6 @@ public final class ApiConstants {
     public static final String API_V1_BASE = "/api/v1";
     public static final String RESERVATIONS_PATH = API_V1_BASE + "/reservations";
     public static final String CARS_PATH = API_V1_BASE + "/cars";
+    public static final String USERS_PATH = API_V1_BASE + "/users";
+    public static final String ANALYTICS_PATH = API_V1_BASE + "/analytics";
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.reservation.car.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the in-memory availability index behind car schedules.
+ *
+ * @param enabled whether schedules are served from the index; off, every schedule is read from the database
+ * @param snapshotPath file the index is saved to and restored from on startup
+ * @param snapshotInterval how often the index is saved
+ * @param maxSnapshotAge oldest snapshot restored on startup; older ones are rebuilt from scratch
+ * @param retention how far back the index keeps booked periods; earlier windows are read from the database
+ * @param rebuildFetchSize reservation rows per round trip while rebuilding
+ */
+@ConfigurationProperties(prefix = "app.availability-index")
+public record AvailabilityIndexProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("data/availability-index.snapshot") Path snapshotPath,
+    @DefaultValue("5m") Duration snapshotInterval,
+    @DefaultValue("1d") Duration maxSnapshotAge,
+    @DefaultValue("7d") Duration retention,
+    @DefaultValue("10000") int rebuildFetchSize
+) {
+}
@@ -0,0 +1,19 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Coalescing of concurrent identical availability searches.
+ *
+ * @param coalesce whether identical concurrent searches share one query
+ * @param coalesceTimeout longest a search waits for a shared query before running its own
+ */
+@ConfigurationProperties(prefix = "app.available-cars")
+public record AvailableCarsProperties(
+    @DefaultValue("true") boolean coalesce,
+    @DefaultValue("2s") Duration coalesceTimeout
+) {
+}
@@ -0,0 +1,47 @@
+package com.reservation.car.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary alternatives to JSON for service-to-service callers, selected with the Accept header
+ * ({@code application/cbor} or {@code application/x-jackson-smile}); JSON stays the default.
+ *
+ * Both formats carry the same documents as JSON, but UUIDs are written as 16-byte binary values
+ * and instants as decimal epoch seconds (nanosecond precision) instead of strings. The converters
+ * stream straight to the response through Jackson's recycled per-thread buffers, so encoding a page
+ * allocates no intermediate byte array. Request bodies in either format are accepted as well.
+ */
+@Configuration
+public class BinaryMediaTypeConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(builder, new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(builder, new SmileFactory()));
+    }
+
+    /**
+     * Builds a mapper with the application's Jackson settings on a binary factory. Dates are
+     * written as numeric timestamps; UUIDs become binary because both generators write binary natively.
+     */
+    static ObjectMapper binaryObjectMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder
+            .factory(factory)
+            .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+}
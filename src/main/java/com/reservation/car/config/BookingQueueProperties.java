@@ -0,0 +1,28 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the asynchronous booking mode and its Postgres-backed queue.
+ *
+ * @param enabled whether clients may opt into async booking with {@code Prefer: respond-async}
+ * @param workers number of requests processed concurrently
+ * @param pollInterval how often idle workers look for requests accepted by other instances
+ * @param processingTimeout claims older than this are considered abandoned and re-queued
+ * @param maxAttempts attempts before a request failing with unexpected errors, or abandoned by its
+ *                    worker, is marked FAILED
+ * @param maxLongPoll longest a status poll may wait for the outcome
+ */
+@ConfigurationProperties(prefix = "app.booking-queue")
+public record BookingQueueProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("4") int workers,
+    @DefaultValue("500ms") Duration pollInterval,
+    @DefaultValue("60s") Duration processingTimeout,
+    @DefaultValue("3") int maxAttempts,
+    @DefaultValue("25s") Duration maxLongPoll
+) {
+}
@@ -0,0 +1,35 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the read and write bulkheads. Each compartment owns its own
+ * connection pool and its own cap on concurrently executing requests, so a flood
+ * on one side cannot exhaust connections or servlet threads needed by the other.
+ *
+ * @param read compartment serving car queries (read-only transactions)
+ * @param write compartment serving reservation creates and cancels
+ */
+@ConfigurationProperties(prefix = "app.bulkhead")
+public record BulkheadProperties(
+    @DefaultValue Compartment read,
+    @DefaultValue Compartment write
+) {
+
+    /**
+     * @param maxConcurrentCalls requests allowed to execute at once in this compartment
+     * @param maxWait how long a request waits for a free slot before it is shed with 503
+     * @param poolSize maximum size of the compartment's connection pool
+     * @param connectionTimeout how long a request waits for a pooled connection
+     */
+    public record Compartment(
+        @DefaultValue("40") int maxConcurrentCalls,
+        @DefaultValue("100ms") Duration maxWait,
+        @DefaultValue("8") int poolSize,
+        @DefaultValue("5s") Duration connectionTimeout
+    ) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.reservation.car.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Creates the in-process JCache (Caffeine) regions behind the Hibernate second-level cache.
+ *
+ * Regions are created here, bounded, instead of letting Hibernate create unbounded defaults
+ * ({@code missing_cache_strategy=fail} catches a region that is used but not declared).
+ * Invalidation after writes outside Hibernate is done by {@code CarCacheInvalidator}.
+ */
+@Configuration
+public class CarCacheConfig {
+
+    public static final String CAR_REGION = "car";
+    public static final String CAR_PAGES_REGION = "car-pages";
+
+    static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CarCacheProperties properties) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, createCacheManager(properties));
+    }
+
+    static CacheManager createCacheManager(CarCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // One manager per session factory: Hibernate closes it on shutdown, which must not
+        // take down the caches of another application context in the same JVM
+        URI uri = URI.create("urn:car:second-level-cache:" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, CarCacheConfig.class.getClassLoader());
+
+        cacheManager.createCache(CAR_REGION, boundedRegion(properties.carMaxEntries(), properties));
+        cacheManager.createCache(CAR_PAGES_REGION, boundedRegion(properties.pageMaxEntries(), properties));
+        cacheManager.createCache(DEFAULT_QUERY_RESULTS_REGION, boundedRegion(properties.pageMaxEntries(), properties));
+        // One entry per table; evicting one would let stale query results pass as current
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> boundedRegion(long maxEntries, CarCacheProperties properties) {
+        return new CaffeineConfiguration<>()
+            .setMaximumSize(OptionalLong.of(maxEntries))
+            .setExpireAfterWrite(OptionalLong.of(properties.timeToLive().toNanos()));
+    }
+}
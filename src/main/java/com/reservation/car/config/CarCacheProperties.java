@@ -0,0 +1,22 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Sizing of the Hibernate second-level cache regions for cars.
+ *
+ * @param carMaxEntries maximum number of cached Car entities
+ * @param pageMaxEntries maximum number of cached car pages (and their counts)
+ * @param timeToLive age after which a cached car or page is reloaded; a backstop for changes
+ *                   whose notification was lost, not the primary invalidation
+ */
+@ConfigurationProperties(prefix = "app.car-cache")
+public record CarCacheProperties(
+    @DefaultValue("20000") long carMaxEntries,
+    @DefaultValue("1000") long pageMaxEntries,
+    @DefaultValue("1h") Duration timeToLive
+) {
+}
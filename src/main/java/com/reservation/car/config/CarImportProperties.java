@@ -0,0 +1,17 @@
+package com.reservation.car.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the streaming fleet import (POST /api/v1/cars/import).
+ *
+ * @param maxReportedRejects how many rejected lines are listed in the response; all are counted
+ * @param copyBufferBytes size of the buffer in front of the COPY stream to the database
+ */
+@ConfigurationProperties(prefix = "app.car-import")
+public record CarImportProperties(
+    @DefaultValue("1000") int maxReportedRejects,
+    @DefaultValue("65536") int copyBufferBytes
+) {
+}
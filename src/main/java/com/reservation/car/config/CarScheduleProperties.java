@@ -0,0 +1,19 @@
+package com.reservation.car.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits and caching of car schedules.
+ *
+ * @param maxCars most cars accepted by one multi-car schedule request
+ * @param maxRangeDays widest window accepted by schedule queries, in days
+ * @param cacheMaxEntries maximum number of cached per-car schedules
+ */
+@ConfigurationProperties(prefix = "app.car-schedule")
+public record CarScheduleProperties(
+    @DefaultValue("300") int maxCars,
+    @DefaultValue("62") int maxRangeDays,
+    @DefaultValue("20000") long cacheMaxEntries
+) {
+}
@@ -0,0 +1,33 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for cross-node change notifications over Postgres LISTEN/NOTIFY.
+ *
+ * @param enabled whether changes are published and a listener connection is kept open
+ * @param channel notification channel (a plain SQL identifier)
+ * @param pollTimeout how long one wait for notifications blocks; bounds shutdown latency
+ * @param keepaliveInterval idle time after which the listener connection is probed
+ * @param minReconnectDelay first delay before reconnecting after the connection was lost
+ * @param maxReconnectDelay cap for the exponentially growing reconnect delay
+ */
+@ConfigurationProperties(prefix = "app.change-notifications")
+public record ChangeNotificationProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("car_changes") String channel,
+    @DefaultValue("500ms") Duration pollTimeout,
+    @DefaultValue("10s") Duration keepaliveInterval,
+    @DefaultValue("1s") Duration minReconnectDelay,
+    @DefaultValue("30s") Duration maxReconnectDelay
+) {
+
+    public ChangeNotificationProperties {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Notification channel must be a lower-case SQL identifier: " + channel);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.reservation.car.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Splits database access into a read pool and a write pool.
+ *
+ * Both pools use the regular spring.datasource.* connection settings. The application
+ * DataSource hands out lazy connections: the physical connection is only fetched on the
+ * first statement, by which time the transaction manager has marked it read-only or not.
+ * Read-only transactions (all of CarService) draw from the read pool, everything else
+ * (reservation writes, Flyway, occupancy rebuilds) from the write pool.
+ *
+ * The pools are only injectable by qualifier, so nothing else picks one up by type.
+ * Batched inserts (hibernate.jdbc.batch_size) are rewritten by the driver into multi-row
+ * INSERT statements (reWriteBatchedInserts), one round trip per batch.
+ * Pool metrics are published as hikaricp.* tagged with pool=read-pool / write-pool.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    static final String READ_POOL = "read-pool";
+    static final String WRITE_POOL = "write-pool";
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource readDataSource(DataSourceProperties properties, BulkheadProperties bulkheads,
+                                           MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = createPool(properties, bulkheads.read(), READ_POOL, meterRegistry);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource writeDataSource(DataSourceProperties properties, BulkheadProperties bulkheads,
+                                            MeterRegistry meterRegistry) {
+        return createPool(properties, bulkheads.write(), WRITE_POOL, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("readDataSource") HikariDataSource readDataSource,
+                                 @Qualifier("writeDataSource") HikariDataSource writeDataSource) {
+        return routingDataSource(readDataSource, writeDataSource);
+    }
+
+    static DataSource routingDataSource(DataSource readDataSource, DataSource writeDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(writeDataSource);
+        proxy.setReadOnlyDataSource(readDataSource);
+        return proxy;
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties properties, BulkheadProperties.Compartment compartment,
+                                               String poolName, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(compartment.poolSize());
+        dataSource.setConnectionTimeout(compartment.connectionTimeout().toMillis());
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+        return dataSource;
+    }
+}
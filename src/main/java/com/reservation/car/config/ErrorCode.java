@@ -7,12 +7,15 @@ package com.reservation.car.config;
 public enum ErrorCode {
     CAR_UNAVAILABLE("CAR_UNAVAILABLE", "Car unavailable"),
     CAR_NOT_FOUND("CAR_NOT_FOUND", "Car not found"),
+    REPORT_NOT_FOUND("REPORT_NOT_FOUND", "Report not found"),
     INVALID_RESERVATION("INVALID_RESERVATION", "Invalid reservation"),
     VALIDATION_FAILED("VALIDATION_FAILED", "Request validation failed"),
     INVALID_ARGUMENT("INVALID_ARGUMENT", "Invalid argument"),
     MISSING_PARAMETER("MISSING_PARAMETER", "Required parameter '%s' is missing"),
     MISSING_HEADER("MISSING_HEADER", "Required header '%s' is missing"),
     INVALID_PARAMETER_TYPE("INVALID_PARAMETER_TYPE", "Parameter '%s' has invalid format"),
+    UNSUPPORTED_MEDIA_TYPE("UNSUPPORTED_MEDIA_TYPE", "Content type '%s' is not supported"),
+    SERVICE_OVERLOADED("SERVICE_OVERLOADED", "Service is at capacity. Please retry later."),
     DATABASE_ERROR("DATABASE_ERROR", "Database temporarily unavailable. Please try again later."),
     INTERNAL_ERROR("INTERNAL_ERROR", "An unexpected error occurred. Please try again later.");
 
@@ -0,0 +1,30 @@
+package com.reservation.car.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides at runtime whether Flyway runs during startup.
+ *
+ * A property check here instead of {@code spring.flyway.enabled}: the Flyway auto-configuration
+ * condition is frozen at build time in AOT-processed images, while this strategy is evaluated
+ * on every start.
+ */
+@Configuration
+@Slf4j
+public class MigrationConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(MigrationProperties properties) {
+        return flyway -> {
+            if (properties.runOnStartup()) {
+                flyway.migrate();
+            } else {
+                log.info("Skipping schema migration on startup (app.migrations.run-on-startup=false)");
+            }
+        };
+    }
+}
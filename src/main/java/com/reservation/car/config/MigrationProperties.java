@@ -0,0 +1,16 @@
+package com.reservation.car.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for schema migrations.
+ *
+ * @param runOnStartup whether each instance runs Flyway while starting; turn off when a separate
+ *                     migration job migrates the schema before instances are rolled out
+ */
+@ConfigurationProperties(prefix = "app.migrations")
+public record MigrationProperties(
+    @DefaultValue("true") boolean runOnStartup
+) {
+}
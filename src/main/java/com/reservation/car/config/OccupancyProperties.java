@@ -0,0 +1,19 @@
+package com.reservation.car.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the car_daily_occupancy read model.
+ *
+ * @param rebuildParallelism number of worker threads used by a full rebuild
+ * @param rebuildBatchSize number of cars recomputed per rebuild transaction
+ * @param maxRangeDays widest day range accepted by occupancy queries
+ */
+@ConfigurationProperties(prefix = "app.occupancy")
+public record OccupancyProperties(
+    @DefaultValue("4") int rebuildParallelism,
+    @DefaultValue("500") int rebuildBatchSize,
+    @DefaultValue("366") int maxRangeDays
+) {
+}
@@ -0,0 +1,30 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.reservation.car.model.ReservationWriteMode;
+
+/**
+ * Settings for the reservation write path.
+ *
+ * @param writeMode concurrency strategy for creating reservations
+ *                  ({@code optimistic} or {@code advisory-lock})
+ * @param holdTtl how long a hold blocks its slot before it expires (never past the reservation start)
+ * @param holdExpiryTick resolution of the timing wheel that expires holds; holds expire at most this late
+ * @param holdExpiryBatchSize most holds expired in one statement
+ * @param lifecycleSweepInterval pause between sweeps that move reservations to ACTIVE and COMPLETED
+ * @param lifecycleSweepBatchSize most reservations moved in one statement (and transaction)
+ */
+@ConfigurationProperties(prefix = "app.reservation")
+public record ReservationProperties(
+    @DefaultValue("optimistic") ReservationWriteMode writeMode,
+    @DefaultValue("5m") Duration holdTtl,
+    @DefaultValue("1s") Duration holdExpiryTick,
+    @DefaultValue("500") int holdExpiryBatchSize,
+    @DefaultValue("1m") Duration lifecycleSweepInterval,
+    @DefaultValue("500") int lifecycleSweepBatchSize
+) {
+}
@@ -1,15 +1,38 @@
 package com.reservation.car.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.reservation.car.logging.AccessLogInterceptor;
+import com.reservation.car.resilience.AdmissionControlInterceptor;
+import com.reservation.car.resilience.BulkheadInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AccessLogInterceptor accessLogInterceptor;
+    private final BulkheadInterceptor bulkheadInterceptor;
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/gatling/**")
                 .addResourceLocations("file:/app/target/gatling/");
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // First, so requests shed by the interceptors after it are logged too
+        registry.addInterceptor(accessLogInterceptor)
+                .addPathPatterns(ApiConstants.API_V1_BASE + "/**");
+        registry.addInterceptor(bulkheadInterceptor)
+                .addPathPatterns(ApiConstants.API_V1_BASE + "/**");
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns(ApiConstants.API_V1_BASE + "/**");
+    }
 }
\ No newline at end of file
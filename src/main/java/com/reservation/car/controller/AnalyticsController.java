@@ -0,0 +1,101 @@
+package com.reservation.car.controller;
+
+import java.time.YearMonth;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservation.car.config.ApiConstants;
+import com.reservation.car.config.PaginationConstants;
+import com.reservation.car.dto.response.CarUtilizationDTO;
+import com.reservation.car.dto.response.UtilizationReportDTO;
+import com.reservation.car.resilience.Bulkheaded;
+import com.reservation.car.service.UtilizationAnalyticsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for fleet utilization reports.
+ * Serves the summaries stored by the nightly analytics job, so it lives in the read bulkhead.
+ */
+@RestController
+@RequestMapping(ApiConstants.ANALYTICS_PATH)
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Bulkheaded(Bulkheaded.Compartment.READ)
+@Tag(name = "Analytics", description = "Fleet utilization reports")
+public class AnalyticsController {
+
+    private final UtilizationAnalyticsService analyticsService;
+
+    /**
+     * Returns a month's utilization overall, per hour of day and per make and model.
+     */
+    @Operation(
+        summary = "Get monthly utilization",
+        description = "Returns the utilization of a UTC month as last computed by the nightly analytics job: "
+                    + "overall, per hour of day and per make and model. The current month is reported up to "
+                    + "the last run and has complete=false."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Report retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Malformed month"),
+        @ApiResponse(responseCode = "404", description = "No report computed for the month")
+    })
+    @GetMapping("/utilization")
+    public ResponseEntity<UtilizationReportDTO> getUtilization(
+            @Parameter(description = "Month to report on (yyyy-MM)", required = true, example = "2025-11")
+            @RequestParam YearMonth month) {
+        
+        log.debug("Retrieving utilization report of {}", month);
+        
+        return ResponseEntity.ok(analyticsService.getReport(month));
+    }
+
+    /**
+     * Returns the per-car utilization of a month, most utilized first.
+     */
+    @Operation(
+        summary = "Get monthly utilization per car",
+        description = "Returns the cars of a month's utilization report with paging support, most utilized first."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Car utilization retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Malformed month or invalid pagination parameters"),
+        @ApiResponse(responseCode = "404", description = "No report computed for the month")
+    })
+    @GetMapping("/utilization/cars")
+    public ResponseEntity<Page<CarUtilizationDTO>> getCarUtilization(
+            @Parameter(description = "Month to report on (yyyy-MM)", required = true, example = "2025-11")
+            @RequestParam YearMonth month,
+            
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = PaginationConstants.DEFAULT_PAGE_STR)
+            @Min(value = 0, message = PaginationConstants.PAGE_NUMBER_NON_NEGATIVE_MESSAGE)
+            int page,
+            
+            @Parameter(description = "Page size (max 200 for performance)", example = "50")
+            @RequestParam(defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE_STR)
+            @Min(value = PaginationConstants.MIN_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_MIN_MESSAGE)
+            @Max(value = PaginationConstants.MAX_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_EXCEEDS_MAX_MESSAGE)
+            int size) {
+        
+        log.debug("Retrieving car utilization of {} - page: {}, size: {}", month, page, size);
+        
+        return ResponseEntity.ok(analyticsService.getCarUtilization(month, page, size));
+    }
+}
@@ -1,25 +1,39 @@
 package com.reservation.car.controller;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.reservation.car.config.ApiConstants;
 import com.reservation.car.config.PaginationConstants;
+import com.reservation.car.dto.CarScheduleRequestDTO;
+import com.reservation.car.dto.response.CarOccupancyResponseDTO;
 import com.reservation.car.dto.response.CarResponseDTO;
+import com.reservation.car.dto.response.CarScheduleDTO;
+import com.reservation.car.resilience.Bulkheaded;
+import com.reservation.car.service.CarScheduleService;
 import com.reservation.car.service.CarService;
+import com.reservation.car.service.DataVersionTracker;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
@@ -34,10 +48,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@Bulkheaded(Bulkheaded.Compartment.READ)
 @Tag(name = "Cars", description = "Car fleet management and availability operations")
 public class CarController {
 
     private final CarService carService;
+    private final CarScheduleService carScheduleService;
+    private final DataVersionTracker dataVersionTracker;
 
     /**
      * Retrieves all cars with pagination.
@@ -45,10 +62,12 @@ public class CarController {
      */
     @Operation(
         summary = "List all cars",
-        description = "Retrieves paginated list of all cars in the fleet. Optimized for large fleets."
+        description = "Retrieves paginated list of all cars in the fleet. Optimized for large fleets. "
+                    + "Carries a strong ETag that changes with the fleet; send it back in If-None-Match to get 304 while nothing changed."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Cars retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Fleet unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
     })
     @GetMapping
@@ -62,9 +81,15 @@ public class CarController {
             @RequestParam(defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE_STR) 
             @Min(value = PaginationConstants.MIN_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_MIN_MESSAGE)
             @Max(value = PaginationConstants.MAX_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_EXCEEDS_MAX_MESSAGE)
-            int size) {
+            int size,
+            
+            ServletWebRequest webRequest) {
+        
+        if (ListingEtags.notModified(webRequest, "cars", dataVersionTracker.current().fleet())) {
+            return null;
+        }
         
-        log.info("Retrieving all cars - page: {}, size: {}", page, size);
+        log.debug("Retrieving all cars - page: {}, size: {}", page, size);
         
         Page<CarResponseDTO> response = carService.getAllCars(page, size);
         
@@ -76,10 +101,13 @@ public class CarController {
      */
     @Operation(
         summary = "Check car availability", 
-        description = "Returns cars available for booking during the specified time period. Optimized for concurrent access."
+        description = "Returns cars available for booking during the specified time period. Optimized for concurrent access. "
+                    + "Carries a strong ETag that changes with the fleet and its reservations; send it back in If-None-Match "
+                    + "to get 304 while nothing changed."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Available cars retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Fleet and reservations unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Invalid time parameters or pagination")
     })
     @GetMapping("/available")
@@ -99,9 +127,16 @@ public class CarController {
             @RequestParam(defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE_STR)
             @Min(value = PaginationConstants.MIN_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_MIN_MESSAGE)
             @Max(value = PaginationConstants.MAX_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_EXCEEDS_MAX_MESSAGE)
-            int size) {
+            int size,
+            
+            ServletWebRequest webRequest) {
         
-        log.info("Checking car availability from {} to {} - page: {}, size: {}", 
+        DataVersionTracker.Versions versions = dataVersionTracker.current();
+        if (ListingEtags.notModified(webRequest, "available", versions.fleet(), versions.reservations())) {
+            return null;
+        }
+        
+        log.debug("Checking car availability from {} to {} - page: {}, size: {}", 
             startTime, endTime, page, size);
         
         Page<CarResponseDTO> response = 
@@ -109,4 +144,129 @@ public class CarController {
         
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Lists cars free for whole days, answered from the daily occupancy read model.
+     */
+    @Operation(
+        summary = "Check car availability for whole days",
+        description = "Returns cars without any reservation on the given UTC days (inclusive). "
+                    + "Intended for windows longer than a day; served from precomputed daily occupancy."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Available cars retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or pagination")
+    })
+    @GetMapping("/available-days")
+    public ResponseEntity<Page<CarResponseDTO>> getCarsAvailableForDays(
+            @Parameter(description = "First day (ISO 8601 date, UTC)", example = "2025-11-19", required = true)
+            @RequestParam LocalDate fromDate,
+
+            @Parameter(description = "Last day, inclusive (ISO 8601 date, UTC)", example = "2025-11-26", required = true)
+            @RequestParam LocalDate toDate,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = PaginationConstants.DEFAULT_PAGE_STR)
+            @Min(value = 0, message = PaginationConstants.PAGE_NUMBER_NON_NEGATIVE_MESSAGE)
+            int page,
+
+            @Parameter(description = "Page size (max 200 for performance)", example = "50")
+            @RequestParam(defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE_STR)
+            @Min(value = PaginationConstants.MIN_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_MIN_MESSAGE)
+            @Max(value = PaginationConstants.MAX_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_EXCEEDS_MAX_MESSAGE)
+            int size) {
+
+        log.debug("Checking car availability for days {} to {} - page: {}, size: {}", fromDate, toDate, page, size);
+
+        Page<CarResponseDTO> response = carService.findCarsAvailableForDays(fromDate, toDate, page, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reports a car's daily occupancy and utilization.
+     */
+    @Operation(
+        summary = "Get car occupancy",
+        description = "Returns booked minutes, 15-minute busy slots and utilization of a car per UTC day."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Occupancy retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "404", description = "Car not found")
+    })
+    @GetMapping("/{carId}/occupancy")
+    public ResponseEntity<CarOccupancyResponseDTO> getCarOccupancy(
+            @Parameter(description = "Car ID", required = true)
+            @PathVariable UUID carId,
+
+            @Parameter(description = "First day (ISO 8601 date, UTC)", example = "2025-11-01", required = true)
+            @RequestParam LocalDate fromDate,
+
+            @Parameter(description = "Last day, inclusive (ISO 8601 date, UTC)", example = "2025-11-30", required = true)
+            @RequestParam LocalDate toDate) {
+
+        log.debug("Retrieving occupancy of car {} from {} to {}", carId, fromDate, toDate);
+
+        CarOccupancyResponseDTO response = carService.getCarOccupancy(carId, fromDate, toDate);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns a car's merged busy intervals over a window, for calendar views.
+     */
+    @Operation(
+        summary = "Get car schedule",
+        description = "Returns the busy intervals of a car over [from, to), merged and delta-encoded: whole seconds "
+                    + "alternating gap and length, starting with the gap from 'from' to the first busy interval. "
+                    + "Counts confirmed, active and completed reservations, not holds."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Schedule retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid window"),
+        @ApiResponse(responseCode = "404", description = "Car not found")
+    })
+    @GetMapping("/{carId}/schedule")
+    public ResponseEntity<CarScheduleDTO> getCarSchedule(
+            @Parameter(description = "Car ID", required = true)
+            @PathVariable UUID carId,
+
+            @Parameter(description = "Start of the window (ISO 8601 format)", example = "2025-11-01T00:00:00Z", required = true)
+            @RequestParam Instant from,
+
+            @Parameter(description = "End of the window, exclusive (ISO 8601 format)", example = "2025-12-01T00:00:00Z", required = true)
+            @RequestParam Instant to) {
+
+        log.debug("Retrieving schedule of car {} from {} to {}", carId, from, to);
+
+        CarScheduleDTO response = carScheduleService.getCarSchedule(carId, from, to);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns the merged busy intervals of several cars over the same window.
+     */
+    @Operation(
+        summary = "Get schedules of several cars",
+        description = "Returns one schedule per distinct car, in request order, encoded as for a single car. "
+                    + "Takes the car IDs in the body since a few hundred of them do not fit in a URL."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Schedules retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid window or too many cars"),
+        @ApiResponse(responseCode = "404", description = "Car not found")
+    })
+    @PostMapping("/schedules")
+    public ResponseEntity<List<CarScheduleDTO>> getCarSchedules(@Valid @RequestBody CarScheduleRequestDTO request) {
+
+        log.debug("Retrieving schedules of {} cars from {} to {}",
+            request.getCarIds().size(), request.getFrom(), request.getTo());
+
+        List<CarScheduleDTO> response =
+            carScheduleService.getCarSchedules(request.getCarIds(), request.getFrom(), request.getTo());
+
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.reservation.car.controller;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservation.car.config.ApiConstants;
+import com.reservation.car.dto.response.CarImportResultDTO;
+import com.reservation.car.model.CarImportFormat;
+import com.reservation.car.resilience.Bulkheaded;
+import com.reservation.car.service.CarImportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for bulk fleet imports.
+ * The request body is streamed to the database as it arrives, so imports of any size run in constant memory.
+ */
+@RestController
+@RequestMapping(ApiConstants.CARS_PATH)
+@RequiredArgsConstructor
+@Slf4j
+@Bulkheaded(Bulkheaded.Compartment.WRITE)
+@Tag(name = "Cars", description = "Car fleet management and availability operations")
+public class CarImportController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final CarImportService carImportService;
+
+    /**
+     * Imports cars from CSV with a header line naming make, model and license_plate.
+     */
+    @Operation(
+        summary = "Import cars (CSV)",
+        description = "Upserts cars on license plate from a streamed CSV body with a header line naming the columns "
+                    + "make, model and license_plate. Invalid or duplicate lines are rejected individually "
+                    + "and listed in the response; all other lines are applied in one transaction."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import applied; see counts and rejects"),
+        @ApiResponse(responseCode = "400", description = "Missing or incomplete CSV header"),
+        @ApiResponse(responseCode = "415", description = "Body is neither text/csv nor application/x-ndjson")
+    })
+    @PostMapping(path = "/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<CarImportResultDTO> importCsv(
+            @RequestBody(description = "CSV body with header line, UTF-8", required = true)
+            InputStream body,
+            
+            @Parameter(description = "User ID for audit", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId) {
+        
+        return importCars(body, CarImportFormat.CSV, requestingUserId);
+    }
+
+    /**
+     * Imports cars from NDJSON, one object with make, model and licensePlate per line.
+     */
+    @Operation(
+        summary = "Import cars (NDJSON)",
+        description = "Upserts cars on license plate from a streamed body with one JSON object per line "
+                    + "({\"make\", \"model\", \"licensePlate\"}). Invalid or duplicate lines are rejected individually "
+                    + "and listed in the response; all other lines are applied in one transaction."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import applied; see counts and rejects"),
+        @ApiResponse(responseCode = "415", description = "Body is neither text/csv nor application/x-ndjson")
+    })
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<CarImportResultDTO> importNdjson(
+            @RequestBody(description = "NDJSON body, UTF-8", required = true)
+            InputStream body,
+            
+            @Parameter(description = "User ID for audit", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId) {
+        
+        return importCars(body, CarImportFormat.NDJSON, requestingUserId);
+    }
+
+    private ResponseEntity<CarImportResultDTO> importCars(InputStream body, CarImportFormat format, UUID requestingUserId) {
+        log.debug("Importing cars ({}) for user {}", format, requestingUserId);
+        
+        CarImportResultDTO result = carImportService.importCars(body, format);
+        
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,81 @@
+package com.reservation.car.controller;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.car.config.ApiConstants;
+import com.reservation.car.dto.response.CancellationResultDTO;
+import com.reservation.car.resilience.Bulkheaded;
+import com.reservation.car.service.ReservationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for operations on the reservations of a single car.
+ * Lives in the write bulkhead, unlike the read-only {@link CarController}.
+ */
+@RestController
+@RequestMapping(ApiConstants.CARS_PATH + "/{carId}/reservations")
+@RequiredArgsConstructor
+@Slf4j
+@Bulkheaded(Bulkheaded.Compartment.WRITE)
+@Tag(name = "Reservations", description = "Car reservation management operations")
+public class CarReservationController {
+
+    private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Cancels every reservation of the car that overlaps a maintenance window.
+     */
+    @Operation(
+        summary = "Cancel reservations for maintenance",
+        description = "Cancels all confirmed reservations of the car overlapping [from, to) in one statement. "
+                    + "The customer notice period does not apply; rentals already under way are kept. "
+                    + "Streams one JSON object per reservation (application/x-ndjson) with its outcome."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Per-reservation outcomes (CANCELLED or ALREADY_STARTED)"),
+        @ApiResponse(responseCode = "400", description = "Invalid or inverted window"),
+        @ApiResponse(responseCode = "404", description = "Car not found")
+    })
+    @DeleteMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> cancelForMaintenance(
+            @Parameter(description = "Car going into maintenance", required = true)
+            @PathVariable UUID carId,
+            
+            @Parameter(description = "Window start (ISO-8601)", required = true, example = "2025-01-20T08:00:00Z")
+            @RequestParam Instant from,
+            
+            @Parameter(description = "Window end (ISO-8601)", required = true, example = "2025-01-21T08:00:00Z")
+            @RequestParam Instant to,
+            
+            @Parameter(description = "User ID for audit", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId) {
+        
+        log.debug("User {} cancelling reservations of car {} for maintenance from {} to {}", 
+            requestingUserId, carId, from, to);
+        
+        List<CancellationResultDTO> results = reservationService.cancelReservationsForMaintenance(carId, from, to);
+        
+        return NdjsonResponses.of(results, objectMapper);
+    }
+}
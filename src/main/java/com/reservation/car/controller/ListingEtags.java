@@ -0,0 +1,48 @@
+package com.reservation.car.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Strong ETags for listings whose content is fully determined by the request URL, the negotiated
+ * representation and a few data versions. The tag combines the versions with a checksum of the
+ * Accept header, since JSON, CBOR and Smile bodies of the same page are different representations.
+ */
+final class ListingEtags {
+
+    private ListingEtags() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Tags the response and checks If-None-Match. When it matches, the response has been turned
+     * into a 304 Not Modified and the handler must return without producing a body.
+     *
+     * @param listing short name of the listing, e.g. "cars"
+     * @param versions data versions the listing is derived from
+     * @return true if the client's copy is current
+     */
+    static boolean notModified(ServletWebRequest request, String listing, long... versions) {
+        StringBuilder etag = new StringBuilder(listing);
+        for (long version : versions) {
+            etag.append('-').append(version);
+        }
+        etag.append('-').append(Long.toHexString(acceptChecksum(request.getHeader(HttpHeaders.ACCEPT))));
+
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return request.checkNotModified(etag.toString());
+    }
+
+    private static long acceptChecksum(String accept) {
+        CRC32 crc = new CRC32();
+        if (accept != null) {
+            crc.update(accept.getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,37 @@
+package com.reservation.car.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes result rows as newline-delimited JSON, one object per line, flushing as it goes
+ * so clients can process rows before the whole response has arrived.
+ */
+final class NdjsonResponses {
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private NdjsonResponses() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static ResponseEntity<StreamingResponseBody> of(List<?> rows, ObjectMapper objectMapper) {
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody body = out -> {
+            for (Object row : rows) {
+                out.write(writer.writeValueAsBytes(row));
+                out.write(NEWLINE);
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
@@ -1,21 +1,36 @@
 package com.reservation.car.controller;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reservation.car.config.ApiConstants;
 import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.BookingRequestResponseDTO;
+import com.reservation.car.dto.response.CancellationResultDTO;
 import com.reservation.car.dto.response.ReservationResponseDTO;
+import com.reservation.car.resilience.AdmissionControlled;
+import com.reservation.car.resilience.Bulkheaded;
+import com.reservation.car.service.BookingRequestService;
 import com.reservation.car.service.ReservationService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +39,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,34 +53,65 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@Bulkheaded(Bulkheaded.Compartment.WRITE)
 @Tag(name = "Reservations", description = "Car reservation management operations")
 public class ReservationController {
 
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final ReservationService reservationService;
+    private final BookingRequestService bookingRequestService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new car reservation.
      * Implements transactional integrity and concurrency protection.
+     * With {@code Prefer: respond-async} the request is only validated and queued (202 Accepted).
      */
     @Operation(
         summary = "Create reservation",
         description = "Creates a new car reservation with full validation, concurrency protection, and transactional integrity. "
-                    + "Handles overlapping reservation conflicts automatically."
+                    + "Handles overlapping reservation conflicts automatically. "
+                    + "Send 'Prefer: respond-async' to have the request queued and answered with 202 Accepted; "
+                    + "the outcome is then available at the Location URL."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Reservation created successfully"),
+        @ApiResponse(responseCode = "202", description = "Booking request queued (asynchronous mode)"),
         @ApiResponse(responseCode = "400", description = "Invalid reservation data (validation errors)"),
-        @ApiResponse(responseCode = "409", description = "Car unavailable (overlapping reservation or car not found)")
+        @ApiResponse(responseCode = "409", description = "Car unavailable (overlapping reservation or car not found)"),
+        @ApiResponse(responseCode = "503", description = "Booking path at capacity; retry after the Retry-After delay")
     })
     @PostMapping
-    public ResponseEntity<ReservationResponseDTO> createReservation(
+    @AdmissionControlled
+    public ResponseEntity<?> createReservation(
             @Parameter(description = "Reservation details", required = true)
             @Valid @RequestBody ReservationRequestDTO request,
             
             @Parameter(description = "User ID for audit and authorization", required = true)
-            @RequestHeader("X-User-ID") UUID requestingUserId) {
+            @RequestHeader("X-User-ID") UUID requestingUserId,
+            
+            @Parameter(description = "'respond-async' to queue the request instead of booking synchronously")
+            @RequestHeader(value = PREFER_HEADER, required = false) String prefer) {
         
-        log.info("Creating reservation for user {} - car: {}, period: {} to {}", 
+        if (prefersAsync(prefer) && bookingRequestService.isAsyncEnabled()) {
+            log.debug("Queueing booking request for user {} - car: {}, period: {} to {}", 
+                request.getUserId(), request.getCarId(), request.getStartTime(), request.getEndTime());
+            
+            BookingRequestResponseDTO accepted = bookingRequestService.submit(request, requestingUserId);
+            
+            return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .path("/requests/{requestId}")
+                    .buildAndExpand(accepted.getId())
+                    .toUri())
+                .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                .body(accepted);
+        }
+        
+        log.debug("Creating reservation for user {} - car: {}, period: {} to {}", 
             request.getUserId(), request.getCarId(), request.getStartTime(), request.getEndTime());
         
         ReservationResponseDTO response = reservationService.createReservation(request, requestingUserId);
@@ -71,6 +119,66 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Places a temporary hold on a time slot, to be confirmed before it expires.
+     */
+    @Operation(
+        summary = "Place hold",
+        description = "Blocks the time slot for the hold TTL (5 minutes by default, never past the start time) "
+                    + "with the same validation as a reservation. Confirm it with POST /{reservationId}/confirmation; "
+                    + "unconfirmed holds expire and free the slot. Release it early with DELETE /{reservationId}."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Hold placed (status HOLD, expiry in holdExpiresAt)"),
+        @ApiResponse(responseCode = "400", description = "Invalid reservation data (validation errors)"),
+        @ApiResponse(responseCode = "409", description = "Car unavailable (overlapping reservation or hold)"),
+        @ApiResponse(responseCode = "503", description = "Booking path at capacity; retry after the Retry-After delay")
+    })
+    @PostMapping("/holds")
+    @AdmissionControlled
+    public ResponseEntity<ReservationResponseDTO> createHold(
+            @Parameter(description = "Reservation details", required = true)
+            @Valid @RequestBody ReservationRequestDTO request,
+            
+            @Parameter(description = "User ID for audit and authorization", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId) {
+        
+        log.debug("Placing hold for user {} - car: {}, period: {} to {}", 
+            request.getUserId(), request.getCarId(), request.getStartTime(), request.getEndTime());
+        
+        ReservationResponseDTO response = reservationService.createHold(request, requestingUserId);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Confirms a hold, turning it into a reservation.
+     */
+    @Operation(
+        summary = "Confirm hold",
+        description = "Turns the user's unexpired hold into a confirmed reservation. "
+                    + "Confirming an already confirmed reservation returns it unchanged."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Reservation confirmed"),
+        @ApiResponse(responseCode = "400", description = "Hold not found, owned by another user or cancelled"),
+        @ApiResponse(responseCode = "409", description = "Hold expired; the time slot is no longer reserved")
+    })
+    @PostMapping("/{reservationId}/confirmation")
+    public ResponseEntity<ReservationResponseDTO> confirmHold(
+            @Parameter(description = "Hold to confirm", required = true)
+            @PathVariable UUID reservationId,
+            
+            @Parameter(description = "User ID for authorization", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId) {
+        
+        log.debug("Confirming hold {} for user {}", reservationId, requestingUserId);
+        
+        ReservationResponseDTO response = reservationService.confirmHold(reservationId, requestingUserId);
+        
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Cancels an existing reservation.
      * Enforces business rules (30-minute minimum notice) and authorization.
@@ -78,6 +186,7 @@ public class ReservationController {
     @Operation(
         summary = "Cancel reservation",
         description = "Cancels an existing reservation if business rules allow (30+ minutes before start time). "
+                    + "Holds can be released at any time. "
                     + "Only the reservation owner can cancel their reservation. "
                     + "DELETE means \"remove this resource from the collection of active resources.\""
     )
@@ -94,10 +203,76 @@ public class ReservationController {
             @Parameter(description = "User ID for authorization", required = true)
             @RequestHeader("X-User-ID") UUID requestingUserId) {
         
-        log.info("Cancelling reservation {} for user {}", reservationId, requestingUserId);
+        log.debug("Cancelling reservation {} for user {}", reservationId, requestingUserId);
         
         ReservationResponseDTO response = reservationService.cancelReservation(reservationId, requestingUserId);
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Cancels all of the requesting user's upcoming reservations.
+     */
+    @Operation(
+        summary = "Cancel upcoming reservations",
+        description = "Cancels every confirmed reservation of the user that has not started yet, in one statement. "
+                    + "Reservations starting within 30 minutes are kept. "
+                    + "Streams one JSON object per reservation (application/x-ndjson) with its outcome."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Per-reservation outcomes (CANCELLED or TOO_LATE)"),
+        @ApiResponse(responseCode = "400", description = "Unsupported scope")
+    })
+    @DeleteMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> cancelReservations(
+            @Parameter(description = "Which reservations to cancel; only 'future' is supported", required = true, example = "future")
+            @RequestParam @Pattern(regexp = "future", message = "scope must be 'future'") String scope,
+            
+            @Parameter(description = "User ID whose reservations are cancelled", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId) {
+        
+        log.debug("Cancelling all upcoming reservations for user {}", requestingUserId);
+        
+        List<CancellationResultDTO> results = reservationService.cancelUpcomingReservations(requestingUserId);
+        
+        return NdjsonResponses.of(results, objectMapper);
+    }
+
+    /**
+     * Returns the state of an asynchronous booking request, optionally long-polling for its outcome.
+     */
+    @Operation(
+        summary = "Get booking request",
+        description = "Returns the status of a booking request queued with 'Prefer: respond-async'. "
+                    + "With waitSeconds > 0 the response is held until the request finishes or the wait elapses."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Current state (PENDING, PROCESSING, SUCCEEDED or FAILED)"),
+        @ApiResponse(responseCode = "400", description = "Request not found or owned by another user")
+    })
+    @GetMapping("/requests/{requestId}")
+    public CompletableFuture<BookingRequestResponseDTO> getBookingRequest(
+            @Parameter(description = "Booking request ID", required = true)
+            @PathVariable UUID requestId,
+            
+            @Parameter(description = "User ID for authorization", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId,
+            
+            @Parameter(description = "Seconds to wait for the outcome (long-poll); 0 answers immediately")
+            @RequestParam(defaultValue = "0") @Min(0) int waitSeconds) {
+        
+        return bookingRequestService.awaitBookingRequest(requestId, requestingUserId, Duration.ofSeconds(waitSeconds));
+    }
+
+    private static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (preference.trim().toLowerCase(Locale.ROOT).startsWith(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package com.reservation.car.controller;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservation.car.config.ApiConstants;
+import com.reservation.car.config.PaginationConstants;
+import com.reservation.car.dto.response.ReservationPageDTO;
+import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.resilience.Bulkheaded;
+import com.reservation.car.service.ReservationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for the reservations of a single user.
+ * Read-only, so it lives in the read bulkhead.
+ */
+@RestController
+@RequestMapping(ApiConstants.USERS_PATH + "/{userId}/reservations")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Bulkheaded(Bulkheaded.Compartment.READ)
+@Tag(name = "Reservations", description = "Car reservation management operations")
+public class UserReservationController {
+
+    private final ReservationService reservationService;
+
+    /**
+     * Lists the user's reservations by start time, one keyset page at a time.
+     */
+    @Operation(
+        summary = "List a user's reservations",
+        description = "Returns the user's reservations ordered by start time (then id), optionally limited to some "
+                    + "statuses and to start times in [from, to). Pages are keyset-based: pass the nextCursor of a "
+                    + "page as cursor to get the next one, which costs the same however deep into the listing it is. "
+                    + "nextCursor is null on the last page."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Reservations retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Not the requesting user, inverted range, malformed cursor or invalid size")
+    })
+    @GetMapping
+    public ResponseEntity<ReservationPageDTO> getUserReservations(
+            @Parameter(description = "User whose reservations to list", required = true)
+            @PathVariable UUID userId,
+            
+            @Parameter(description = "Statuses to include (repeatable); all when omitted", example = "CONFIRMED")
+            @RequestParam(required = false) Set<ReservationStatus> status,
+            
+            @Parameter(description = "Earliest start time (ISO 8601)", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            
+            @Parameter(description = "Exclusive upper bound on the start time (ISO 8601)", example = "2026-01-01T00:00:00Z")
+            @RequestParam(required = false) Instant to,
+            
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Page size (max 200 for performance)", example = "50")
+            @RequestParam(defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE_STR)
+            @Min(value = PaginationConstants.MIN_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_MIN_MESSAGE)
+            @Max(value = PaginationConstants.MAX_PAGE_SIZE, message = PaginationConstants.PAGE_SIZE_EXCEEDS_MAX_MESSAGE)
+            int size,
+            
+            @Parameter(description = "User ID for authorization; must match userId", required = true)
+            @RequestHeader("X-User-ID") UUID requestingUserId) {
+        
+        log.debug("Listing reservations of user {} - statuses: {}, from: {}, to: {}, size: {}", 
+            userId, status, from, to, size);
+        
+        ReservationPageDTO page = reservationService.getUserReservations(
+            userId, requestingUserId, status != null ? status : Set.of(), from, to, cursor, size);
+        
+        return ResponseEntity.ok(page);
+    }
+}
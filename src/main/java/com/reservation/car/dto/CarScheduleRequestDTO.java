@@ -0,0 +1,30 @@
+package com.reservation.car.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request for the schedules of several cars over the same window.
+ * Sent as a body rather than query parameters: a few hundred car IDs exceed the URL size servers accept.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarScheduleRequestDTO {
+
+    @NotEmpty(message = "At least one car ID is required")
+    private List<@NotNull(message = "Car IDs must not be null") UUID> carIds;
+
+    @NotNull(message = "Start of the window is required")
+    private Instant from;
+
+    @NotNull(message = "End of the window is required")
+    private Instant to;
+}
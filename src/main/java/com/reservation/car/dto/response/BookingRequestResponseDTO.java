@@ -0,0 +1,52 @@
+package com.reservation.car.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.reservation.car.entity.BookingRequest;
+import com.reservation.car.model.BookingRequestStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for asynchronous booking requests.
+ * reservationId is set once the request SUCCEEDED; errorCode/errorMessage once it FAILED.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingRequestResponseDTO {
+
+    private UUID id;
+    private UUID carId;
+    private UUID userId;
+    private Instant startTime;
+    private Instant endTime;
+    private BookingRequestStatus status;
+    private UUID reservationId;
+    private String errorCode;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    /**
+     * Converts BookingRequest entity to response DTO.
+     */
+    public static BookingRequestResponseDTO from(BookingRequest request) {
+        return new BookingRequestResponseDTO(
+            request.getId(),
+            request.getCarId(),
+            request.getUserId(),
+            request.getStartTime(),
+            request.getEndTime(),
+            request.getStatus(),
+            request.getReservationId(),
+            request.getErrorCode(),
+            request.getErrorMessage(),
+            request.getCreatedAt(),
+            request.getUpdatedAt()
+        );
+    }
+}
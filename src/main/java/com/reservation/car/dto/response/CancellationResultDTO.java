@@ -0,0 +1,41 @@
+package com.reservation.car.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.reservation.car.entity.Reservation;
+import com.reservation.car.model.CancellationOutcome;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a bulk cancellation response: the reservation and what happened to it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CancellationResultDTO {
+
+    private UUID reservationId;
+    private UUID carId;
+    private UUID userId;
+    private Instant startTime;
+    private Instant endTime;
+    private CancellationOutcome outcome;
+
+    /**
+     * Converts a Reservation entity and its outcome to a response DTO.
+     */
+    public static CancellationResultDTO from(Reservation reservation, CancellationOutcome outcome) {
+        return new CancellationResultDTO(
+            reservation.getId(),
+            reservation.getCarId(),
+            reservation.getUserId(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            outcome
+        );
+    }
+}
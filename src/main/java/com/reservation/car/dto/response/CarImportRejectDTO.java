@@ -0,0 +1,20 @@
+package com.reservation.car.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A line of an import body that was not applied, and why.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarImportRejectDTO {
+
+    /** 1-based line number in the request body (the CSV header is line 1). */
+    private long line;
+    /** License plate of the line, if it could be read. */
+    private String licensePlate;
+    private String reason;
+}
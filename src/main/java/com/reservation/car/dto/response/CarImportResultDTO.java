@@ -0,0 +1,24 @@
+package com.reservation.car.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a fleet import. Every received line is counted exactly once as inserted,
+ * updated, unchanged or rejected; {@code rejects} lists only the first rejected lines.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarImportResultDTO {
+
+    private long received;
+    private long inserted;
+    private long updated;
+    private long unchanged;
+    private long rejected;
+    private List<CarImportRejectDTO> rejects;
+}
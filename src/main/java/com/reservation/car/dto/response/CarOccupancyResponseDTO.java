@@ -0,0 +1,26 @@
+package com.reservation.car.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a car's occupancy over a range of UTC days.
+ * Only booked days are listed; utilization is booked minutes over all minutes in the range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarOccupancyResponseDTO {
+
+    private UUID carId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private long bookedMinutes;
+    private double utilization;
+    private List<DailyOccupancyDTO> days;
+}
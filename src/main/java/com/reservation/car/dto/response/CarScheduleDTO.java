@@ -0,0 +1,25 @@
+package com.reservation.car.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a car's busy intervals over a window.
+ * {@code busy} holds whole seconds alternating gap and length: the gap from {@code from} to the
+ * first busy interval, its length, the gap to the next one, its length, and so on. Empty when the
+ * car is free for the whole window.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarScheduleDTO {
+
+    private UUID carId;
+    private Instant from;
+    private Instant to;
+    private long[] busy;
+}
@@ -0,0 +1,20 @@
+package com.reservation.car.dto.response;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utilization of one car over a month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarUtilizationDTO {
+
+    private UUID carId;
+    private long bookedMinutes;
+    private double utilization;
+}
@@ -0,0 +1,35 @@
+package com.reservation.car.dto.response;
+
+import java.time.LocalDate;
+
+import com.reservation.car.entity.CarDailyOccupancy;
+import com.reservation.car.util.OccupancyCalculator;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a single day of a car's occupancy.
+ * busySlots is the 15-minute slot mask as 24 hex characters (slot n is bit n % 8 of byte n / 8).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyOccupancyDTO {
+
+    private LocalDate date;
+    private int bookedMinutes;
+    private String busySlots;
+
+    /**
+     * Converts CarDailyOccupancy entity to response DTO.
+     */
+    public static DailyOccupancyDTO from(CarDailyOccupancy occupancy) {
+        return new DailyOccupancyDTO(
+            occupancy.getOccupancyDate(),
+            occupancy.getBookedMinutes(),
+            OccupancyCalculator.toHex(occupancy.getBusyMask())
+        );
+    }
+}
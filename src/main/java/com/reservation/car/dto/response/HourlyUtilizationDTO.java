@@ -0,0 +1,18 @@
+package com.reservation.car.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fleet utilization during one UTC hour of day over a month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HourlyUtilizationDTO {
+
+    private int hour;
+    private long bookedMinutes;
+    private double utilization;
+}
@@ -0,0 +1,20 @@
+package com.reservation.car.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utilization of all cars of one make and model over a month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelUtilizationDTO {
+
+    private String make;
+    private String model;
+    private int carCount;
+    private long bookedMinutes;
+    private double utilization;
+}
@@ -0,0 +1,21 @@
+package com.reservation.car.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a keyset-paginated reservation listing.
+ * Pass {@code nextCursor} back as {@code cursor} to fetch the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationPageDTO {
+
+    private List<ReservationResponseDTO> content;
+    private int size;
+    private String nextCursor;
+}
@@ -26,6 +26,7 @@ public class ReservationResponseDTO {
     private Instant endTime;
     private ReservationStatus status;
     private Instant createdAt;
+    private Instant holdExpiresAt;
     
     /**
      * Converts Reservation entity to response DTO.
@@ -38,7 +39,8 @@ public class ReservationResponseDTO {
             reservation.getStartTime(),
             reservation.getEndTime(),
             reservation.getStatus(),
-            reservation.getCreatedAt()
+            reservation.getCreatedAt(),
+            reservation.getHoldExpiresAt()
         );
     }
 }
\ No newline at end of file
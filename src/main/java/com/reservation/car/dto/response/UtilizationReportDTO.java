@@ -0,0 +1,30 @@
+package com.reservation.car.dto.response;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a month's fleet utilization, as computed by the analytics job.
+ * Utilization is booked minutes over all minutes of the month of the cars involved;
+ * {@code complete} is false while the month had not ended when the report was computed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationReportDTO {
+
+    private YearMonth month;
+    private Instant computedAt;
+    private boolean complete;
+    private int carCount;
+    private long reservationCount;
+    private long bookedMinutes;
+    private double utilization;
+    private List<HourlyUtilizationDTO> hours;
+    private List<ModelUtilizationDTO> models;
+}
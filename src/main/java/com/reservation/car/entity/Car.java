@@ -2,6 +2,11 @@ package com.reservation.car.entity;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.reservation.car.config.CarCacheConfig;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -12,6 +17,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "car")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CarCacheConfig.CAR_REGION)
 @Getter @Setter
 @NoArgsConstructor
 public class Car {
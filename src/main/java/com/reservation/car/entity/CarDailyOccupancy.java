@@ -0,0 +1,74 @@
+package com.reservation.car.entity;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import com.reservation.car.util.OccupancyCalculator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Read model row holding how much of a single UTC day a car is booked.
+ * Maintained by {@link com.reservation.car.service.OccupancyService}, never written by clients.
+ */
+@Entity
+@Table(name = "car_daily_occupancy")
+@IdClass(CarDailyOccupancyId.class)
+@Getter @Setter
+@NoArgsConstructor
+public class CarDailyOccupancy implements Persistable<CarDailyOccupancyId> {
+
+    @Id
+    @Column(name = "car_id", nullable = false)
+    private UUID carId;
+
+    @Id
+    @Column(name = "occupancy_date", nullable = false)
+    private LocalDate occupancyDate;
+
+    @Column(name = "booked_minutes", nullable = false)
+    private int bookedMinutes;
+
+    @Column(name = "busy_mask", nullable = false)
+    private byte[] busyMask;
+
+    // Rows are created with assigned keys; skip the merge SELECT on insert
+    @Transient
+    private boolean newRow;
+
+    // Constructor for rows built in memory (rebuild)
+    public CarDailyOccupancy(UUID carId, LocalDate occupancyDate) {
+        this.carId = carId;
+        this.occupancyDate = occupancyDate;
+        this.busyMask = OccupancyCalculator.emptyMask();
+        this.newRow = true;
+    }
+
+    @Override
+    public CarDailyOccupancyId getId() {
+        return new CarDailyOccupancyId(carId, occupancyDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRow = false;
+    }
+}
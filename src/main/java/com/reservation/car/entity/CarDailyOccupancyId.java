@@ -0,0 +1,21 @@
+package com.reservation.car.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key of {@link CarDailyOccupancy}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarDailyOccupancyId implements Serializable {
+
+    private UUID carId;
+    private LocalDate occupancyDate;
+}
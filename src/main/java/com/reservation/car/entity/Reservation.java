@@ -3,14 +3,15 @@ package com.reservation.car.entity;
 import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.UuidGenerator;
+
 import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.util.UuidV7Generator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -27,8 +28,9 @@ import lombok.Setter;
 @NoArgsConstructor @AllArgsConstructor
 public class Reservation {
 
+    // Time-ordered, assigned on persist without a database round trip, so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(name = "car_id", nullable = false)
@@ -49,4 +51,8 @@ public class Reservation {
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
+
+    // Only set for holds: the moment the blocked slot is released unless confirmed
+    @Column(name = "hold_expires_at")
+    private Instant holdExpiresAt;
 }
\ No newline at end of file
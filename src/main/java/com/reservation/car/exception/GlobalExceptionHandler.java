@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -57,6 +59,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(ReportNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleReportNotFound(ReportNotFoundException ex, WebRequest request) {
+        log.warn("{}: {}", ErrorCode.REPORT_NOT_FOUND.getCode(), ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+            ErrorCode.REPORT_NOT_FOUND.getCode(),
+            ex.getMessage(),
+            HttpStatus.NOT_FOUND.value(),
+            request.getDescription(false).replace("uri=", "")
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
     @ExceptionHandler(InvalidReservationException.class)
     public ResponseEntity<ErrorResponse> handleInvalidReservation(InvalidReservationException ex, WebRequest request) {
         log.warn("{}: {}", ErrorCode.INVALID_RESERVATION.getCode(), ex.getMessage());
@@ -165,6 +181,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedMediaType(HttpMediaTypeNotSupportedException ex, WebRequest request) {
+        log.warn("Unsupported content type: {}", ex.getContentType());
+        
+        ErrorResponse error = new ErrorResponse(
+            ErrorCode.UNSUPPORTED_MEDIA_TYPE.getCode(),
+            ErrorCode.UNSUPPORTED_MEDIA_TYPE.getFormattedMessage(ex.getContentType()),
+            HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(error);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex, WebRequest request) {
+        log.debug("{}: {}", ErrorCode.SERVICE_OVERLOADED.getCode(), ex.getMessage());
+        
+        ErrorResponse error = new ErrorResponse(
+            ErrorCode.SERVICE_OVERLOADED.getCode(),
+            ex.getMessage(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+            .body(error);
+    }
+
     @ExceptionHandler(DataAccessException.class)
     public ResponseEntity<ErrorResponse> handleDataAccessException(DataAccessException ex, WebRequest request) {
         log.error("Database access error occurred", ex);
@@ -0,0 +1,11 @@
+package com.reservation.car.exception;
+
+/**
+ * Exception thrown when no analytics report has been computed for the requested period.
+ */
+public class ReportNotFoundException extends RuntimeException {
+
+    public ReportNotFoundException(String message) {
+        super(message);
+    }
+}
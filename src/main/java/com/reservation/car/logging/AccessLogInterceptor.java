@@ -0,0 +1,75 @@
+package com.reservation.car.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.event.Level;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.reservation.car.config.AccessLogProperties;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes one access log line per API request, replacing the per-layer INFO lines on hot paths.
+ *
+ * Client and server errors (including 409 conflicts and 503 sheds) are always logged; successful
+ * requests only at the endpoint's sample rate, which is recorded with the line so counts can be
+ * scaled back up. The request details are attached as key-value pairs for structured output.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccessLogInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STARTED_ATTRIBUTE = AccessLogInterceptor.class.getName() + ".started";
+
+    private final AccessLogProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async handlers pass through here twice; time them from the first dispatch
+        if (request.getAttribute(STARTED_ATTRIBUTE) == null) {
+            request.setAttribute(STARTED_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!properties.enabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        int status = ex != null && response.getStatus() < 400 ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        String endpoint = endpointOf(handlerMethod);
+        boolean failed = status >= 400;
+        double sampleRate = failed ? 1.0 : properties.sampleRate(endpoint);
+        if (!failed && !sampled(sampleRate)) {
+            return;
+        }
+
+        long durationMs = request.getAttribute(STARTED_ATTRIBUTE) instanceof Long started
+            ? (System.nanoTime() - started) / 1_000_000
+            : -1;
+        log.atLevel(status >= 500 ? Level.WARN : Level.INFO)
+            .addKeyValue("http.method", request.getMethod())
+            .addKeyValue("http.path", request.getRequestURI())
+            .addKeyValue("http.status", status)
+            .addKeyValue("endpoint", endpoint)
+            .addKeyValue("durationMs", durationMs)
+            .addKeyValue("sampleRate", sampleRate)
+            .log("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), status, durationMs);
+    }
+
+    static String endpointOf(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+
+    private static boolean sampled(double sampleRate) {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
@@ -0,0 +1,19 @@
+package com.reservation.car.model;
+
+/**
+ * Enum for asynchronous booking request statuses.
+ * PENDING - Accepted and waiting in the queue
+ * PROCESSING - Claimed by a worker
+ * SUCCEEDED - Reservation created
+ * FAILED - Rejected (conflict, validation) or given up after repeated errors
+ */
+public enum BookingRequestStatus {
+    PENDING,
+    PROCESSING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
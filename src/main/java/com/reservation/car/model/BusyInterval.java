@@ -0,0 +1,11 @@
+package com.reservation.car.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Booked period of a car, as read for its schedule.
+ * A car without any booking in the requested window comes back once with null times.
+ */
+public record BusyInterval(UUID carId, Instant startTime, Instant endTime) {
+}
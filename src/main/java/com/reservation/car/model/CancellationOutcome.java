@@ -0,0 +1,13 @@
+package com.reservation.car.model;
+
+/**
+ * Per-reservation result of a bulk cancellation.
+ * CANCELLED - Reservation was cancelled by this request
+ * TOO_LATE - Starts within the minimum cancellation notice
+ * ALREADY_STARTED - Rental is under way and cannot be cancelled
+ */
+public enum CancellationOutcome {
+    CANCELLED,
+    TOO_LATE,
+    ALREADY_STARTED
+}
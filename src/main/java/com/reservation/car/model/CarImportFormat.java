@@ -0,0 +1,11 @@
+package com.reservation.car.model;
+
+/**
+ * Body formats accepted by the fleet import.
+ */
+public enum CarImportFormat {
+    /** Comma-separated values with a header line naming make, model and license_plate. */
+    CSV,
+    /** One JSON object per line with make, model and licensePlate. */
+    NDJSON
+}
@@ -2,10 +2,18 @@ package com.reservation.car.model;
 
 /** 
  * Enum for reservation statuses. 
- * CONFIRMED - Active reservation
+ * HOLD - Slot blocked for a short time until the owner confirms it
+ * CONFIRMED - Booked reservation that has not started yet
+ * ACTIVE - Confirmed reservation under way (start time passed, end time not yet)
+ * COMPLETED - Confirmed reservation whose end time has passed
  * CANCELLED - Reservation has been cancelled
+ * EXPIRED - Hold that was not confirmed in time
 */
 public enum ReservationStatus {
     CONFIRMED,
-    CANCELLED
-}
\ No newline at end of file
+    CANCELLED,
+    HOLD,
+    EXPIRED,
+    ACTIVE,
+    COMPLETED
+}
@@ -0,0 +1,11 @@
+package com.reservation.car.model;
+
+/**
+ * Enum for how concurrent reservation writes on the same car are kept consistent.
+ * OPTIMISTIC - Overlap check without locking, retried on conflict; exclusion constraint as backstop
+ * ADVISORY_LOCK - Per-car transaction-scoped advisory lock serializes check-and-insert
+ */
+public enum ReservationWriteMode {
+    OPTIMISTIC,
+    ADVISORY_LOCK
+}
@@ -0,0 +1,32 @@
+package com.reservation.car.notification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed change to cars or reservations, as broadcast to every node. A change to many rows at
+ * once is sent as one event without car, reservation or period.
+ *
+ * @param type what changed
+ * @param carId the affected car, or null if several may be
+ * @param reservationId the affected reservation (single-reservation RESERVATION events only)
+ * @param startTime start of the affected period (single-reservation RESERVATION events only)
+ * @param endTime end of the affected period (single-reservation RESERVATION events only)
+ * @param origin ID of the node that made the change
+ * @param publishedAt when the change was published, right before its transaction's commit was issued
+ */
+public record ChangeEvent(
+    Type type,
+    UUID carId,
+    UUID reservationId,
+    Instant startTime,
+    Instant endTime,
+    UUID origin,
+    Instant publishedAt
+) {
+
+    public enum Type {
+        CAR,
+        RESERVATION
+    }
+}
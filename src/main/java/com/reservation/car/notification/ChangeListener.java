@@ -0,0 +1,20 @@
+package com.reservation.car.notification;
+
+/**
+ * Extension point for local caches that must follow changes made by any node.
+ * Implementations are discovered as beans and called from the single listener thread,
+ * so they should only invalidate, never block.
+ */
+public interface ChangeListener {
+
+    /**
+     * Called for every committed change, including changes made by this node.
+     */
+    void onChange(ChangeEvent event);
+
+    /**
+     * Called whenever the listener connection has been (re-)established. Notifications sent
+     * while it was down are lost, so everything derived from the database must be dropped.
+     */
+    void onResync();
+}
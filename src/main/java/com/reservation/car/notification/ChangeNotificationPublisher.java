@@ -0,0 +1,95 @@
+package com.reservation.car.notification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.car.config.ChangeNotificationProperties;
+import com.reservation.car.entity.Reservation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Broadcasts changes with pg_notify on the caller's transaction. Postgres delivers the
+ * notification when (and only if) that transaction commits, so listeners never see
+ * rolled-back changes and a committed change cannot be lost between commit and publish.
+ *
+ * The notification is issued right before the commit rather than when the change is reported,
+ * so its publishedAt leaves out the rest of the transaction and the lag measured by
+ * listeners runs from the commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeNotificationPublisher {
+
+    /** Identifies this JVM so listeners can tell local changes from remote ones. */
+    public static final UUID NODE_ID = UUID.randomUUID();
+
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChangeNotificationProperties properties;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationChanged(Reservation reservation) {
+        publish(new ChangeEvent(
+            ChangeEvent.Type.RESERVATION,
+            reservation.getCarId(),
+            reservation.getId(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            NODE_ID,
+            null
+        ));
+    }
+
+    /**
+     * Publishes one event for a batch of reservation changes, without naming any reservation.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationsChanged() {
+        publish(new ChangeEvent(ChangeEvent.Type.RESERVATION, null, null, null, null, NODE_ID, null));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void carChanged(UUID carId) {
+        publish(new ChangeEvent(ChangeEvent.Type.CAR, carId, null, null, null, NODE_ID, null));
+    }
+
+    private void publish(ChangeEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notify(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                notify(event);
+            }
+        });
+    }
+
+    private void notify(ChangeEvent event) {
+        ChangeEvent stamped = new ChangeEvent(event.type(), event.carId(), event.reservationId(),
+            event.startTime(), event.endTime(), event.origin(), Instant.now());
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", IGNORE_RESULT,
+                properties.channel(), objectMapper.writeValueAsString(stamped));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize change event " + stamped, e);
+        }
+    }
+}
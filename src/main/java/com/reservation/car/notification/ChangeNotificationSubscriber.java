@@ -0,0 +1,231 @@
+package com.reservation.car.notification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.car.config.ChangeNotificationProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a dedicated LISTEN connection open and fans notifications out to every {@link ChangeListener}.
+ *
+ * The connection is opened outside the pools (it lives as long as the application) and probed when
+ * idle. When it breaks the subscriber reconnects with exponential backoff; after every successful
+ * LISTEN the listeners are asked to resync, because notifications sent in the gap are gone.
+ *
+ * Exported metrics: change.notification.lag (timer, publish to applied), change.notification.received,
+ * change.notification.reconnects (counters) and change.notification.connected (gauge).
+ */
+@Component
+@Slf4j
+public class ChangeNotificationSubscriber implements SmartLifecycle {
+
+    private static final String APPLICATION_NAME = "car-change-listener";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ChangeNotificationProperties properties;
+    private final ObjectProvider<ChangeListener> listeners;
+    private final ObjectMapper objectMapper;
+
+    private final Timer lag;
+    private final Counter received;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread thread;
+
+    public ChangeNotificationSubscriber(DataSourceProperties dataSourceProperties, ChangeNotificationProperties properties,
+                                        ObjectProvider<ChangeListener> listeners, ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.listeners = listeners;
+        this.objectMapper = objectMapper;
+
+        this.lag = Timer.builder("change.notification.lag")
+            .description("Delay between committing a change and applying it on this node")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.received = Counter.builder("change.notification.received")
+            .description("Change notifications received")
+            .register(meterRegistry);
+        this.reconnects = Counter.builder("change.notification.reconnects")
+            .description("Times the listener connection had to be re-established")
+            .register(meterRegistry);
+        Gauge.builder("change.notification.connected", this, subscriber -> subscriber.connected ? 1 : 0)
+            .description("1 while the listener connection is up")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Change notifications disabled; not listening on '{}'", properties.channel());
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listenLoop, "change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            // The loop notices the flag after at most one poll timeout
+            thread.join(properties.pollTimeout().multipliedBy(4).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void listenLoop() {
+        Duration reconnectDelay = properties.minReconnectDelay();
+        boolean everConnected = false;
+
+        while (running) {
+            try (Connection connection = openConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                }
+                connected = true;
+                reconnectDelay = properties.minReconnectDelay();
+                if (everConnected) {
+                    reconnects.increment();
+                    log.info("Change listener reconnected to channel '{}'", properties.channel());
+                }
+                everConnected = true;
+
+                resyncListeners();
+                receiveUntilStopped(connection);
+            } catch (SQLException e) {
+                connected = false;
+                if (!running) {
+                    return;
+                }
+                log.warn("Change listener connection lost ({}); reconnecting in {} ms", e.getMessage(), reconnectDelay.toMillis());
+                if (!sleep(reconnectDelay)) {
+                    return;
+                }
+                reconnectDelay = min(reconnectDelay.multipliedBy(2), properties.maxReconnectDelay());
+            }
+        }
+        connected = false;
+    }
+
+    private void receiveUntilStopped(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int pollMillis = (int) properties.pollTimeout().toMillis();
+        long keepaliveNanos = properties.keepaliveInterval().toNanos();
+        long lastActivity = System.nanoTime();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+            if (notifications != null && notifications.length > 0) {
+                lastActivity = System.nanoTime();
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getParameter());
+                }
+            } else if (System.nanoTime() - lastActivity > keepaliveNanos) {
+                // A silent channel and a dead connection look the same; probe to tell them apart
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastActivity = System.nanoTime();
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        ChangeEvent event;
+        try {
+            event = objectMapper.readValue(payload, ChangeEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed change notification: {}", payload);
+            return;
+        }
+
+        received.increment();
+        List<ChangeListener> targets = listeners.orderedStream().toList();
+        for (ChangeListener listener : targets) {
+            try {
+                listener.onChange(event);
+            } catch (RuntimeException e) {
+                log.error("Change listener {} failed on {}", listener.getClass().getSimpleName(), event, e);
+            }
+        }
+        if (event.publishedAt() != null) {
+            lag.record(Duration.between(event.publishedAt(), Instant.now()));
+        }
+    }
+
+    private void resyncListeners() {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onResync();
+            } catch (RuntimeException e) {
+                log.error("Change listener {} failed to resync", listener.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    private Connection openConnection() throws SQLException {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", dataSourceProperties.determineUsername());
+        String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            connectionProperties.setProperty("password", password);
+        }
+        connectionProperties.setProperty("ApplicationName", APPLICATION_NAME);
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), connectionProperties);
+    }
+
+    private boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
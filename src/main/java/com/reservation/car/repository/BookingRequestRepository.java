@@ -0,0 +1,77 @@
+package com.reservation.car.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.reservation.car.entity.BookingRequest;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface BookingRequestRepository extends JpaRepository<BookingRequest, UUID> {
+
+    /**
+     * Atomically moves up to {@code limit} claimable requests to PROCESSING and returns their IDs.
+     * A request is claimable when no earlier request for the same car is still open (per-car FIFO).
+     * Rows being claimed by another worker are skipped rather than waited on; their (uncommitted)
+     * PENDING state still blocks later requests for the same car.
+     */
+    @Query(value = "UPDATE booking_request SET status = 'PROCESSING', attempts = attempts + 1, updated_at = NOW() " +
+           "WHERE id IN (" +
+           "  SELECT br.id FROM booking_request br " +
+           "  WHERE br.status = 'PENDING' " +
+           "  AND NOT EXISTS (" +
+           "    SELECT 1 FROM booking_request earlier " +
+           "    WHERE earlier.car_id = br.car_id " +
+           "    AND earlier.status IN ('PENDING', 'PROCESSING') " +
+           "    AND earlier.seq < br.seq" +
+           "  ) " +
+           "  ORDER BY br.seq " +
+           "  LIMIT :limit " +
+           "  FOR UPDATE SKIP LOCKED" +
+           ") " +
+           "RETURNING id",
+           nativeQuery = true)
+    List<UUID> claimNext(@Param("limit") int limit);
+
+    /**
+     * Returns requests whose worker died (claim older than the cutoff) to the queue, unless they
+     * have used up their attempts.
+     */
+    @Modifying
+    @Query("UPDATE BookingRequest br SET br.status = com.reservation.car.model.BookingRequestStatus.PENDING, " +
+           "br.updatedAt = :now " +
+           "WHERE br.status = com.reservation.car.model.BookingRequestStatus.PROCESSING " +
+           "AND br.updatedAt < :claimedBefore " +
+           "AND br.attempts < :maxAttempts")
+    int requeueStale(@Param("claimedBefore") Instant claimedBefore, @Param("maxAttempts") int maxAttempts,
+                     @Param("now") Instant now);
+
+    /**
+     * Marks requests whose worker died (claim older than the cutoff) on their last attempt as FAILED.
+     * A request that keeps killing its worker would otherwise be re-queued forever, and hold up every
+     * later request for its car.
+     */
+    @Modifying
+    @Query("UPDATE BookingRequest br SET br.status = com.reservation.car.model.BookingRequestStatus.FAILED, " +
+           "br.errorCode = :errorCode, br.errorMessage = :errorMessage, br.updatedAt = :now " +
+           "WHERE br.status = com.reservation.car.model.BookingRequestStatus.PROCESSING " +
+           "AND br.updatedAt < :claimedBefore " +
+           "AND br.attempts >= :maxAttempts")
+    int failExhaustedStale(@Param("claimedBefore") Instant claimedBefore, @Param("maxAttempts") int maxAttempts,
+                           @Param("errorCode") String errorCode, @Param("errorMessage") String errorMessage,
+                           @Param("now") Instant now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT br FROM BookingRequest br WHERE br.id = :id")
+    Optional<BookingRequest> findByIdForUpdate(@Param("id") UUID id);
+}
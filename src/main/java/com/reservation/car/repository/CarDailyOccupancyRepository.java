@@ -0,0 +1,75 @@
+package com.reservation.car.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.reservation.car.entity.CarDailyOccupancy;
+import com.reservation.car.entity.CarDailyOccupancyId;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface CarDailyOccupancyRepository extends JpaRepository<CarDailyOccupancy, CarDailyOccupancyId> {
+
+    /**
+     * Inserts empty rows for the given car and day range where none exist yet,
+     * so that every day can be row-locked before it is recomputed.
+     * The declared query space keeps Hibernate from treating this native write as touching
+     * every table, which would empty the whole second-level cache on each booking.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "car_daily_occupancy"))
+    @Query(value = "INSERT INTO car_daily_occupancy (car_id, occupancy_date, booked_minutes, busy_mask) " +
+           "SELECT :carId, CAST(d AS date), 0, decode('000000000000000000000000', 'hex') " +
+           "FROM generate_series(CAST(:fromDate AS timestamp), CAST(:toDate AS timestamp), interval '1 day') d " +
+           "ON CONFLICT (car_id, occupancy_date) DO NOTHING",
+           nativeQuery = true)
+    int insertMissingDays(
+        @Param("carId") UUID carId,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+
+    /**
+     * Locks the car's rows for the given day range (in date order, to avoid deadlocks
+     * between reservations spanning midnight).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM CarDailyOccupancy o " +
+           "WHERE o.carId = :carId AND o.occupancyDate BETWEEN :fromDate AND :toDate " +
+           "ORDER BY o.occupancyDate")
+    List<CarDailyOccupancy> lockDays(
+        @Param("carId") UUID carId,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+
+    /**
+     * Finds the car's booked days within the given range.
+     */
+    @Query("SELECT o FROM CarDailyOccupancy o " +
+           "WHERE o.carId = :carId AND o.occupancyDate BETWEEN :fromDate AND :toDate " +
+           "AND o.bookedMinutes > 0 " +
+           "ORDER BY o.occupancyDate")
+    List<CarDailyOccupancy> findBookedDays(
+        @Param("carId") UUID carId,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+
+    @Modifying
+    @Query("DELETE FROM CarDailyOccupancy o WHERE o.carId IN :carIds")
+    int deleteByCarIds(@Param("carIds") Collection<UUID> carIds);
+}
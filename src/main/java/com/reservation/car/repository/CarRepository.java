@@ -1,34 +1,50 @@
 package com.reservation.car.repository;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.reservation.car.config.CarCacheConfig;
+import com.reservation.car.dto.response.CarResponseDTO;
 import com.reservation.car.entity.Car;
+import com.reservation.car.model.BusyInterval;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface CarRepository extends JpaRepository<Car, UUID> {
+
+    /**
+     * Car columns aliased to the CarResponseDTO constructor parameters, so that native listings
+     * map rows straight into DTOs instead of hydrating managed entities.
+     */
+    String CAR_RESPONSE_COLUMNS = "c.id AS id, c.make AS make, c.model AS model, c.license_plate AS \"licensePlate\"";
     
     /**
      * Finds cars available for booking during the specified time period with pagination.
+     * The anti-join probes the GIST index on (car_id, period) of blocking reservations
+     * (confirmed ones and unexpired holds).
      */
-    @Query(value = "SELECT c.* FROM car c " +
+    @Query(value = "SELECT " + CAR_RESPONSE_COLUMNS + " FROM car c " +
            "WHERE NOT EXISTS (" +
            "  SELECT 1 FROM reservation r " +
            "  WHERE r.car_id = c.id " +
-           "  AND r.status = 'CONFIRMED' " +
-           "  AND r.start_time < :endTime " +
-           "  AND r.end_time > :startTime" +
+           "  AND " + ReservationRepository.BLOCKING +
+           "  AND r.period && tstzrange(CAST(:startTime AS timestamptz), CAST(:endTime AS timestamptz), '()')" +
            ") " +
            "ORDER BY c.make, c.model, c.license_plate", 
            nativeQuery = true)
-    Page<Car> findAvailableCarsForTimePeriod(
+    Page<CarResponseDTO> findAvailableCarsForTimePeriod(
         @Param("startTime") Instant startTime, 
         @Param("endTime") Instant endTime,
         Pageable pageable
@@ -37,7 +53,60 @@ public interface CarRepository extends JpaRepository<Car, UUID> {
     /**
      * Finds all cars with pagination support for large fleets.
      * Optimized with proper ordering for consistent results across pages.
+     * Pages and their counts are served from the second-level query cache.
+     */
+    @Query("SELECT new com.reservation.car.dto.response.CarResponseDTO(c.id, c.make, c.model, c.licensePlate) " +
+           "FROM Car c ORDER BY c.make, c.model, c.licensePlate")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CarCacheConfig.CAR_PAGES_REGION)
+    })
+    Page<CarResponseDTO> findAllCarsPaginated(Pageable pageable);
+
+    /**
+     * Finds cars without any booked minutes on the given UTC days (inclusive).
+     * Reads the car_daily_occupancy read model instead of the raw reservation rows.
+     */
+    @Query(value = "SELECT " + CAR_RESPONSE_COLUMNS + " FROM car c " +
+           "WHERE NOT EXISTS (" +
+           "  SELECT 1 FROM car_daily_occupancy o " +
+           "  WHERE o.car_id = c.id " +
+           "  AND o.occupancy_date BETWEEN :fromDate AND :toDate " +
+           "  AND o.booked_minutes > 0" +
+           ") " +
+           "ORDER BY c.make, c.model, c.license_plate",
+           nativeQuery = true)
+    Page<CarResponseDTO> findCarsAvailableForDays(
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        Pageable pageable
+    );
+
+    @Query("SELECT c.id FROM Car c ORDER BY c.id")
+    List<UUID> findAllIds();
+
+    /**
+     * Finds the booked periods (confirmed, active and completed reservations) of the given cars
+     * overlapping [from, to), ordered by car and start time, in one range query over
+     * (car_id, start_time, end_time, status). Reservations last at most a day, so
+     * {@code earliestStart} (a day before {@code from}) bounds the scan of each car from below.
+     * Each known car appears at least once, with null times if it has no booking in the window;
+     * unknown cars do not appear at all.
      */
-    @Query("SELECT c FROM Car c ORDER BY c.make, c.model, c.licensePlate")
-    Page<Car> findAllCarsPaginated(Pageable pageable);
+    @Query(value = "SELECT c.id AS \"carId\", r.start_time AS \"startTime\", r.end_time AS \"endTime\" " +
+           "FROM car c " +
+           "LEFT JOIN reservation r ON r.car_id = c.id " +
+           "  AND r.status IN ('CONFIRMED', 'ACTIVE', 'COMPLETED') " +
+           "  AND r.start_time >= :earliestStart " +
+           "  AND r.start_time < :to " +
+           "  AND r.end_time > :from " +
+           "WHERE c.id = ANY(:carIds) " +
+           "ORDER BY c.id, r.start_time",
+           nativeQuery = true)
+    List<BusyInterval> findBusyIntervals(
+        @Param("carIds") UUID[] carIds,
+        @Param("from") Instant from,
+        @Param("to") Instant to,
+        @Param("earliestStart") Instant earliestStart
+    );
 }
@@ -1,6 +1,9 @@
 package com.reservation.car.repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,22 +17,252 @@ import com.reservation.car.entity.Reservation;
 public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
     
     /**
-     * Checks if there are any confirmed reservations for a specific car
-     * that overlap with the given time period.
+     * Status condition of the reservations that block their slot: confirmed and active ones, and
+     * holds until their expiry. The first conjunct matches the predicate of the partial GIST index
+     * on (car_id, period), so the planner can use it.
+     */
+    String BLOCKING = "r.status IN ('HOLD', 'CONFIRMED', 'ACTIVE') "
+         + "AND (r.status <> 'HOLD' OR r.hold_expires_at > NOW()) ";
+
+    /**
+     * Checks if there are any reservations blocking a specific car
+     * during the given time period (confirmed or active ones and unexpired holds).
+     * Uses the GIST index on (car_id, period) of blocking reservations.
      * 
      * @param carId the car to check
      * @param startTime the start of the time period to check
      * @param endTime the end of the time period to check
      * @return true if there are overlapping reservations, false otherwise
      */
-    @Query("SELECT COUNT(r) > 0 FROM Reservation r "
+    @Query(value = "SELECT EXISTS ("
+         + "  SELECT 1 FROM reservation r "
+         + "  WHERE r.car_id = :carId "
+         + "  AND " + BLOCKING
+         + "  AND r.period && tstzrange(CAST(:startTime AS timestamptz), CAST(:endTime AS timestamptz), '()')"
+         + ")",
+         nativeQuery = true)
+    boolean hasBlockingReservation(
+        @Param("carId") UUID carId,
+        @Param("startTime") Instant startTime,
+        @Param("endTime") Instant endTime
+    );
+
+    /**
+     * Finds confirmed reservations of a car overlapping the given time period, including those
+     * under way or completed since.
+     */
+    @Query("SELECT r FROM Reservation r "
          + "WHERE r.carId = :carId "
-         + "AND r.status = 'CONFIRMED' "
+         + "AND r.status IN ('CONFIRMED', 'ACTIVE', 'COMPLETED') "
          + "AND r.startTime < :endTime "
-         + "AND r.endTime > :startTime")
-    boolean hasOverlappingConfirmedReservation(
+         + "AND r.endTime > :startTime "
+         + "ORDER BY r.startTime")
+    List<Reservation> findConfirmedForCarBetween(
+        @Param("carId") UUID carId,
+        @Param("startTime") Instant startTime,
+        @Param("endTime") Instant endTime
+    );
+
+    /**
+     * Finds all confirmed reservations of the given cars, including those under way or completed since.
+     */
+    @Query("SELECT r FROM Reservation r "
+         + "WHERE r.carId IN :carIds "
+         + "AND r.status IN ('CONFIRMED', 'ACTIVE', 'COMPLETED')")
+    List<Reservation> findConfirmedForCars(@Param("carIds") Collection<UUID> carIds);
+
+    /**
+     * Lists a user's reservations starting before {@code endTime} that come strictly after
+     * (afterStartTime, afterId) in (start time, id) order, with the given statuses.
+     * Walks the (user_id, start_time, id) index from the cursor, so every page costs the same
+     * regardless of how far into the listing it is.
+     */
+    @Query(value = "SELECT * FROM reservation r "
+         + "WHERE r.user_id = :userId "
+         + "AND (r.start_time, r.id) > (:afterStartTime, :afterId) "
+         + "AND r.start_time < :endTime "
+         + "AND r.status IN (:statuses) "
+         + "ORDER BY r.start_time, r.id "
+         + "LIMIT :limit",
+         nativeQuery = true)
+    List<Reservation> findPageForUser(
+        @Param("userId") UUID userId,
+        @Param("afterStartTime") Instant afterStartTime,
+        @Param("afterId") UUID afterId,
+        @Param("endTime") Instant endTime,
+        @Param("statuses") Collection<String> statuses,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Expires the car's holds overlapping the given period whose expiry has passed but that were
+     * not released yet, so that a booking of the slot does not run into the exclusion constraint.
+     *
+     * @return the expired holds
+     */
+    @Query(value = "UPDATE reservation r SET status = 'EXPIRED' "
+         + "WHERE r.car_id = :carId "
+         + "AND r.status = 'HOLD' "
+         + "AND r.hold_expires_at <= NOW() "
+         + "AND r.period && tstzrange(CAST(:startTime AS timestamptz), CAST(:endTime AS timestamptz), '()') "
+         + "RETURNING *",
+         nativeQuery = true)
+    List<Reservation> expireOverlappingHolds(
         @Param("carId") UUID carId,
         @Param("startTime") Instant startTime,
         @Param("endTime") Instant endTime
     );
+
+    /**
+     * Expires, in one statement, the given holds whose expiry is not after {@code now}.
+     * Holds confirmed, cancelled or extended in the meantime are left alone.
+     *
+     * @return the expired holds
+     */
+    @Query(value = "UPDATE reservation SET status = 'EXPIRED' "
+         + "WHERE id IN (:ids) "
+         + "AND status = 'HOLD' "
+         + "AND hold_expires_at <= :now "
+         + "RETURNING *",
+         nativeQuery = true)
+    List<Reservation> expireHolds(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    /**
+     * Confirms a hold in one statement if the user owns it and it has neither expired nor started.
+     *
+     * @return the confirmed reservation, or empty if any condition failed
+     */
+    @Query(value = "UPDATE reservation SET status = 'CONFIRMED' "
+         + "WHERE id = :id "
+         + "AND user_id = :userId "
+         + "AND status = 'HOLD' "
+         + "AND hold_expires_at > NOW() "
+         + "AND start_time > NOW() "
+         + "RETURNING *",
+         nativeQuery = true)
+    Optional<Reservation> confirmHoldIfAllowed(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /**
+     * Lists the holds that have not been expired yet, for scheduling their expiry after a restart.
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.status = 'HOLD'")
+    List<Reservation> findHolds();
+
+    /**
+     * Moves up to {@code batchSize} confirmed or active reservations whose end time has passed to
+     * COMPLETED, oldest first. Rows locked by a concurrent sweep are skipped rather than waited for,
+     * so several nodes can sweep at once without blocking each other or moving a row twice.
+     *
+     * @return the completed reservations
+     */
+    @Query(value = "UPDATE reservation SET status = 'COMPLETED' "
+         + "WHERE id IN ("
+         + "  SELECT id FROM reservation "
+         + "  WHERE status IN ('CONFIRMED', 'ACTIVE') AND end_time <= NOW() "
+         + "  ORDER BY end_time "
+         + "  LIMIT :batchSize "
+         + "  FOR UPDATE SKIP LOCKED"
+         + ") "
+         + "RETURNING *",
+         nativeQuery = true)
+    List<Reservation> completeEnded(@Param("batchSize") int batchSize);
+
+    /**
+     * Moves up to {@code batchSize} confirmed reservations whose start time has passed to ACTIVE,
+     * oldest first, skipping rows locked by a concurrent sweep like {@link #completeEnded(int)}.
+     * Reservations that have also ended are left to {@link #completeEnded(int)}.
+     *
+     * @return the activated reservations
+     */
+    @Query(value = "UPDATE reservation SET status = 'ACTIVE' "
+         + "WHERE id IN ("
+         + "  SELECT id FROM reservation "
+         + "  WHERE status = 'CONFIRMED' AND start_time <= NOW() AND end_time > NOW() "
+         + "  ORDER BY start_time "
+         + "  LIMIT :batchSize "
+         + "  FOR UPDATE SKIP LOCKED"
+         + ") "
+         + "RETURNING *",
+         nativeQuery = true)
+    List<Reservation> activateStarted(@Param("batchSize") int batchSize);
+
+    /**
+     * Takes a transaction-scoped advisory lock, blocking until it is available.
+     * Released automatically at commit or rollback.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Integer acquireTransactionLock(@Param("key") long key);
+
+    /**
+     * Cancels a reservation in one statement if the user owns it and it is either a HOLD (released
+     * at any time) or CONFIRMED and starting more than {@code noticeMinutes} from now (database clock).
+     *
+     * @return the cancelled reservation, or empty if any condition failed
+     */
+    @Query(value = "UPDATE reservation SET status = 'CANCELLED' "
+         + "WHERE id = :id "
+         + "AND user_id = :userId "
+         + "AND (status = 'HOLD' "
+         + "  OR (status = 'CONFIRMED' AND start_time > NOW() + make_interval(mins => :noticeMinutes))) "
+         + "RETURNING *",
+         nativeQuery = true)
+    Optional<Reservation> cancelIfAllowed(
+        @Param("id") UUID id,
+        @Param("userId") UUID userId,
+        @Param("noticeMinutes") int noticeMinutes
+    );
+
+    /**
+     * Cancels, in one statement, every CONFIRMED reservation of the user that has not started yet
+     * and starts more than {@code noticeMinutes} from now.
+     * Returns every candidate row ordered by start time: cancelled rows with status CANCELLED,
+     * rows inside the notice period unchanged (CONFIRMED).
+     */
+    @Query(value = "WITH target AS ("
+         + "  SELECT id FROM reservation "
+         + "  WHERE user_id = :userId AND status = 'CONFIRMED' AND start_time > NOW() "
+         + "  FOR UPDATE"
+         + "), cancelled AS ("
+         + "  UPDATE reservation r SET status = 'CANCELLED' FROM target t "
+         + "  WHERE r.id = t.id AND r.start_time > NOW() + make_interval(mins => :noticeMinutes) "
+         + "  RETURNING r.*"
+         + ") "
+         + "SELECT * FROM cancelled "
+         + "UNION ALL "
+         + "SELECT r.* FROM reservation r JOIN target t ON t.id = r.id "
+         + "WHERE NOT EXISTS (SELECT 1 FROM cancelled c WHERE c.id = r.id) "
+         + "ORDER BY start_time",
+         nativeQuery = true)
+    List<Reservation> cancelUpcomingForUser(
+        @Param("userId") UUID userId,
+        @Param("noticeMinutes") int noticeMinutes
+    );
+
+    /**
+     * Cancels, in one statement, every CONFIRMED reservation of the car overlapping the window
+     * that has not started yet. Maintenance overrides the customer notice period.
+     * Returns every overlapping unfinished row ordered by start time: cancelled rows with status
+     * CANCELLED, rentals already under way unchanged (ACTIVE, or CONFIRMED until the next sweep).
+     */
+    @Query(value = "WITH target AS ("
+         + "  SELECT id FROM reservation "
+         + "  WHERE car_id = :carId AND status IN ('CONFIRMED', 'ACTIVE') "
+         + "  AND start_time < :windowEnd AND end_time > :windowStart AND end_time > NOW() "
+         + "  FOR UPDATE"
+         + "), cancelled AS ("
+         + "  UPDATE reservation r SET status = 'CANCELLED' FROM target t "
+         + "  WHERE r.id = t.id AND r.start_time > NOW() "
+         + "  RETURNING r.*"
+         + ") "
+         + "SELECT * FROM cancelled "
+         + "UNION ALL "
+         + "SELECT r.* FROM reservation r JOIN target t ON t.id = r.id "
+         + "WHERE NOT EXISTS (SELECT 1 FROM cancelled c WHERE c.id = r.id) "
+         + "ORDER BY start_time",
+         nativeQuery = true)
+    List<Reservation> cancelForCarWindow(
+        @Param("carId") UUID carId,
+        @Param("windowStart") Instant windowStart,
+        @Param("windowEnd") Instant windowEnd
+    );
 }
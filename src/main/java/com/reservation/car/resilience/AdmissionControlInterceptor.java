@@ -0,0 +1,94 @@
+package com.reservation.car.resilience;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.reservation.car.config.AdmissionProperties;
+import com.reservation.car.config.ErrorCode;
+import com.reservation.car.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies adaptive admission control to handlers annotated with {@link AdmissionControlled}.
+ *
+ * Exported metrics: admission.limit, admission.in_flight, admission.queue.depth (gauges)
+ * and admission.rejected (counter).
+ */
+@Component
+@Slf4j
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+
+    private final AdmissionProperties properties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Counter rejected;
+
+    public AdmissionControlInterceptor(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limiter = new AdaptiveConcurrencyLimiter(
+            properties.initialLimit(),
+            properties.minLimit(),
+            properties.maxLimit(),
+            properties.maxQueueSize(),
+            properties.maxQueueWait(),
+            properties.latencyThreshold(),
+            properties.backoffRatio());
+
+        Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit of the booking path")
+            .register(meterRegistry);
+        Gauge.builder("admission.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("Admitted booking requests currently executing")
+            .register(meterRegistry);
+        Gauge.builder("admission.queue.depth", limiter, AdaptiveConcurrencyLimiter::getQueued)
+            .description("Booking requests waiting for a permit")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("admission.rejected")
+            .description("Booking requests shed with 503")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!isGuarded(handler) || request.getAttribute(START_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            throw new ServiceOverloadedException(ErrorCode.SERVICE_OVERLOADED.getMessage(), properties.retryAfter());
+        }
+
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(start instanceof Long startNanos)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+
+        // Server errors on the booking path are overwhelmingly DB trouble: treat them as congestion
+        boolean overloaded = ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        limiter.release(System.nanoTime() - startNanos, overloaded);
+    }
+
+    private boolean isGuarded(Object handler) {
+        return properties.enabled()
+            && handler instanceof HandlerMethod handlerMethod
+            && handlerMethod.hasMethodAnnotation(AdmissionControlled.class);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reservation.car.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method as guarded by the {@link AdmissionControlInterceptor}:
+ * requests beyond the adaptive concurrency limit are queued briefly, then shed with 503.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AdmissionControlled {
+}
@@ -0,0 +1,54 @@
+package com.reservation.car.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Semaphore bulkhead: caps the number of concurrently executing calls in one
+ * compartment, letting callers wait a bounded time for a free slot.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Bulkhead " + name + " must allow at least one call");
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /**
+     * @return true if a slot was obtained and {@link #release()} must be called
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    public int getQueuedCalls() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,115 @@
+package com.reservation.car.resilience;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.reservation.car.config.BulkheadProperties;
+import com.reservation.car.config.ErrorCode;
+import com.reservation.car.exception.ServiceOverloadedException;
+import com.reservation.car.resilience.Bulkheaded.Compartment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Enforces the read/write bulkheads on handlers annotated with {@link Bulkheaded}.
+ *
+ * Exported metrics, tagged with bulkhead=read|write: bulkhead.active, bulkhead.queued,
+ * bulkhead.max (gauges) and bulkhead.rejected (counter).
+ */
+@Component
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Map<Compartment, Bulkhead> bulkheads = new EnumMap<>(Compartment.class);
+    private final Map<Compartment, Counter> rejections = new EnumMap<>(Compartment.class);
+    public BulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        register(Compartment.READ, properties.read(), meterRegistry);
+        register(Compartment.WRITE, properties.write(), meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        // The async re-dispatch only writes the result computed off-thread
+        Compartment compartment = compartmentOf(handler);
+        if (compartment == null || request.getDispatcherType() == DispatcherType.ASYNC
+                || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        if (!bulkheads.get(compartment).tryAcquire()) {
+            rejections.get(compartment).increment();
+            throw new ServiceOverloadedException(ErrorCode.SERVICE_OVERLOADED.getMessage(), RETRY_AFTER);
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, compartment);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        releasePermit(request);
+    }
+
+    /**
+     * Long-polls and other async handlers give their slot back as soon as the servlet thread is freed.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        releasePermit(request);
+    }
+
+    private void releasePermit(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Compartment compartment) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkheads.get(compartment).release();
+        }
+    }
+
+    private void register(Compartment compartment, BulkheadProperties.Compartment settings, MeterRegistry meterRegistry) {
+        String name = compartment.name().toLowerCase(Locale.ROOT);
+        Bulkhead bulkhead = new Bulkhead(name, settings.maxConcurrentCalls(), settings.maxWait());
+        bulkheads.put(compartment, bulkhead);
+
+        Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActiveCalls)
+            .tag("bulkhead", name)
+            .description("Requests currently executing in the compartment")
+            .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", bulkhead, Bulkhead::getQueuedCalls)
+            .tag("bulkhead", name)
+            .description("Requests waiting for a free slot in the compartment")
+            .register(meterRegistry);
+        Gauge.builder("bulkhead.max", bulkhead, Bulkhead::getMaxConcurrentCalls)
+            .tag("bulkhead", name)
+            .description("Configured concurrency cap of the compartment")
+            .register(meterRegistry);
+        rejections.put(compartment, Counter.builder("bulkhead.rejected")
+            .tag("bulkhead", name)
+            .description("Requests shed with 503 because the compartment was full")
+            .register(meterRegistry));
+    }
+
+    private static Compartment compartmentOf(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        Bulkheaded annotation = handlerMethod.getMethodAnnotation(Bulkheaded.class);
+        if (annotation == null) {
+            annotation = handlerMethod.getBeanType().getAnnotation(Bulkheaded.class);
+        }
+        return annotation != null ? annotation.value() : null;
+    }
+}
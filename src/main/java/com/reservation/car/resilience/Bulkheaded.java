@@ -0,0 +1,24 @@
+package com.reservation.car.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a controller (or a single handler method) to a bulkhead compartment
+ * enforced by the {@link BulkheadInterceptor}. A method-level annotation overrides the type-level one.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkheaded {
+
+    Compartment value();
+
+    enum Compartment {
+        READ,
+        WRITE
+    }
+}
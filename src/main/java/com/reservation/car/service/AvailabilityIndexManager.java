@@ -0,0 +1,475 @@
+package com.reservation.car.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.config.AvailabilityIndexProperties;
+import com.reservation.car.model.BusyInterval;
+import com.reservation.car.notification.ChangeEvent;
+import com.reservation.car.notification.ChangeListener;
+import com.reservation.car.util.AvailabilityIndex;
+import com.reservation.car.util.AvailabilitySnapshot;
+import com.reservation.car.util.AvailabilitySnapshot.Marker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the booked periods of every car in an {@link AvailabilityIndex} for schedule reads, and
+ * saves it to a snapshot file so that a restart does not have to scan the reservation table.
+ *
+ * The index carries the marker of the database state it reflects: the pg_snapshot it was read in.
+ * Catching up reads, in one repeatable-read transaction, a new marker and the cars and reservations
+ * whose change_xid was not visible in the old one, whatever order their transactions committed in.
+ * It runs after every change notification and before any read that needs a newer reservation
+ * version than the index has. A delete in either table, or a marker from another database, drops
+ * the index; it is then rebuilt in the background and callers read the database meanwhile.
+ *
+ * On startup the snapshot file is memory-mapped, verified, decoded and caught up, so schedules are
+ * served from memory right away. A missing or corrupt file, or one older than
+ * {@code app.availability-index.max-snapshot-age}, is rebuilt from scratch instead. Every
+ * {@code app.availability-index.snapshot-interval}, and on shutdown, periods older than the
+ * retention are dropped and the index is saved again.
+ *
+ * Exported metrics: availability.index.periods, availability.index.ready (gauges),
+ * availability.index.catchups (timer), availability.index.rebuilds (counter, tagged with the reason).
+ */
+@Component
+@Slf4j
+public class AvailabilityIndexManager implements SmartLifecycle, ChangeListener {
+
+    private static final String BOOKED = "status IN ('CONFIRMED', 'ACTIVE', 'COMPLETED')";
+
+    private static final String MARKER_SQL = """
+        SELECT pg_current_snapshot()::text AS snapshot,
+               coalesce(sum(version) FILTER (WHERE name = 'reservation'), 0) AS reservations,
+               coalesce(sum(version) FILTER (WHERE name = 'deletion'), 0) AS deletions
+          FROM version_counter
+        """;
+
+    // A marker ahead of the database was taken on another one, e.g. before a restore
+    private static final String SAME_DATABASE_SQL =
+        "SELECT pg_snapshot_xmax(CAST(? AS pg_snapshot)) <= pg_snapshot_xmax(pg_current_snapshot())";
+
+    private static final String CHANGED_SINCE = """
+         WHERE change_xid >= pg_snapshot_xmin(CAST(? AS pg_snapshot))
+           AND NOT pg_visible_in_snapshot(change_xid, CAST(? AS pg_snapshot))
+        """;
+
+    private static final String CHANGED_CARS_SQL = "SELECT id FROM car" + CHANGED_SINCE;
+
+    private static final String CHANGED_RESERVATIONS_SQL =
+        "SELECT id, car_id, start_time, end_time, " + BOOKED + " AS booked FROM reservation" + CHANGED_SINCE;
+
+    private static final String BOOKED_RESERVATIONS_SQL =
+        "SELECT id, car_id, start_time, end_time FROM reservation WHERE " + BOOKED + " AND end_time > ?";
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private record ChangedReservation(UUID id, UUID carId, long start, long end, boolean booked) {
+    }
+
+    /** What changed since a marker, or why the index has to be rebuilt instead. */
+    private record Changes(Marker marker, List<UUID> cars, List<ChangedReservation> reservations, String staleReason) {
+
+        static Changes stale(String reason) {
+            return new Changes(null, List.of(), List.of(), reason);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate repeatableRead;
+    private final AvailabilityIndexProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer catchUps;
+
+    /** Guards the contents of the index: reads share it, applying changes and pruning take it exclusively. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Serializes catch-ups, rebuilds and saves, so concurrent readers share one catch-up. */
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    private volatile AvailabilityIndex index;
+    /** Null while there is no usable index. */
+    private volatile Marker marker;
+    private volatile String rebuildReason = "missing";
+    private volatile boolean catchUpRequested;
+    private volatile boolean running;
+    private Thread maintainer;
+
+    public AvailabilityIndexManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    AvailabilityIndexProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.repeatableRead = new TransactionTemplate(transactionManager);
+        this.repeatableRead.setReadOnly(true);
+        this.repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("availability.index.periods", this, manager -> {
+                AvailabilityIndex current = manager.index;
+                return current == null ? 0 : current.periodCount();
+            })
+            .description("Booked periods held in the availability index")
+            .register(meterRegistry);
+        Gauge.builder("availability.index.ready", this, manager -> manager.marker != null ? 1 : 0)
+            .description("1 while schedules can be served from the availability index")
+            .register(meterRegistry);
+        this.catchUps = Timer.builder("availability.index.catchups")
+            .description("Time to read and apply the changes since the last catch-up")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the booked periods of the given cars overlapping [from, to) in the shape of
+     * {@link com.reservation.car.repository.CarRepository#findBusyIntervals}, or nothing if the index
+     * cannot answer: it is disabled or not built, the window starts before its horizon, or it
+     * could not be brought up to the given reservation version.
+     *
+     * @param reservationVersion reservation version the answer must reflect at least
+     */
+    public Optional<List<BusyInterval>> findBusyIntervals(List<UUID> carIds, Instant from, Instant to,
+                                                          long reservationVersion) {
+        Marker current = marker;
+        if (!properties.enabled() || current == null) {
+            return Optional.empty();
+        }
+        if (current.reservationVersion() < reservationVersion) {
+            try {
+                catchUp();
+            } catch (RuntimeException e) {
+                log.debug("Availability index could not catch up, reading the database: {}", e.getMessage());
+                return Optional.empty();
+            }
+            current = marker;
+            if (current == null || current.reservationVersion() < reservationVersion) {
+                return Optional.empty();
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            AvailabilityIndex currentIndex = index;
+            if (currentIndex == null || from.getEpochSecond() < currentIndex.horizon()) {
+                return Optional.empty();
+            }
+            List<BusyInterval> periods = new ArrayList<>();
+            for (UUID carId : carIds) {
+                currentIndex.collectBusyIntervals(carId, from.getEpochSecond(), to.getEpochSecond(), periods);
+            }
+            return Optional.of(periods);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!properties.enabled()) {
+            return;
+        }
+        restore();
+        maintainer = new Thread(this::maintainLoop, "availability-index");
+        maintainer.setDaemon(true);
+        maintainer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (maintainer != null) {
+            maintainer.interrupt();
+            save();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        requestCatchUp();
+    }
+
+    @Override
+    public void onResync() {
+        // Catching up reads the database, so notifications lost while disconnected are no loss
+        requestCatchUp();
+    }
+
+    /**
+     * Applies the changes made since the marker of the index; drops the index if it has to be rebuilt.
+     */
+    void catchUp() {
+        maintenanceLock.lock();
+        try {
+            Marker since = marker;
+            if (since == null) {
+                return;
+            }
+            long started = System.nanoTime();
+            Changes changes = repeatableRead.execute(status -> readChanges(since));
+            if (changes.staleReason() != null) {
+                discard(changes.staleReason());
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                changes.cars().forEach(index::putCar);
+                for (ChangedReservation reservation : changes.reservations()) {
+                    if (reservation.booked()) {
+                        index.put(reservation.carId(), reservation.id(), reservation.start(), reservation.end());
+                    } else {
+                        index.remove(reservation.carId(), reservation.id());
+                    }
+                }
+                marker = changes.marker();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            catchUps.record(Duration.ofNanos(System.nanoTime() - started));
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Builds a new index from the car and reservation tables and saves it.
+     */
+    void rebuild(String reason) {
+        maintenanceLock.lock();
+        try {
+            log.info("Rebuilding availability index ({})", reason);
+            Counter.builder("availability.index.rebuilds")
+                .description("Availability index rebuilds from the database")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+            long started = System.nanoTime();
+            long horizon = Instant.now().minus(properties.retention()).getEpochSecond();
+            AvailabilitySnapshot.Loaded rebuilt = repeatableRead.execute(status -> readAll(horizon));
+            install(rebuilt.index(), rebuilt.marker());
+            log.info("Rebuilt availability index of {} cars and {} periods in {} ms", rebuilt.index().carCount(),
+                rebuilt.index().periodCount(), (System.nanoTime() - started) / 1_000_000);
+            save();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the periods older than the retention and writes the snapshot file.
+     */
+    void save() {
+        maintenanceLock.lock();
+        try {
+            AvailabilityIndex current = index;
+            Marker currentMarker = marker;
+            if (current == null || currentMarker == null) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                current.prune(Instant.now().minus(properties.retention()).getEpochSecond());
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // Only maintenance changes the index, so it can be written while readers go on
+            AvailabilitySnapshot.write(properties.snapshotPath(), current, currentMarker);
+            log.debug("Saved availability index of {} periods to {}", current.periodCount(), properties.snapshotPath());
+        } catch (IOException e) {
+            log.warn("Failed to save availability index to {}: {}", properties.snapshotPath(), e.getMessage(), e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void restore() {
+        Path path = properties.snapshotPath();
+        if (!Files.exists(path)) {
+            log.info("No availability snapshot at {}, building the index from the database", path);
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            AvailabilitySnapshot.Loaded loaded = AvailabilitySnapshot.read(path);
+            Duration age = Duration.between(loaded.marker().takenAt(), Instant.now());
+            if (age.compareTo(properties.maxSnapshotAge()) > 0) {
+                log.info("Availability snapshot {} is {} old, building the index from the database", path, age);
+                rebuildReason = "expired";
+                return;
+            }
+            install(loaded.index(), loaded.marker());
+            log.info("Restored availability index of {} cars and {} periods from {} in {} ms", loaded.index().carCount(),
+                loaded.index().periodCount(), path, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("Discarding availability snapshot {}: {}", path, e.getMessage());
+            rebuildReason = "corrupt";
+            return;
+        }
+
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            // Served as restored until then; reads that need newer data go to the database
+            log.warn("Failed to catch up the restored availability index, retrying: {}", e.getMessage(), e);
+            catchUpRequested = true;
+        }
+    }
+
+    private void maintainLoop() {
+        long nextSave = System.nanoTime() + properties.snapshotInterval().toNanos();
+        while (running) {
+            try {
+                if (marker == null) {
+                    rebuild(rebuildReason);
+                    nextSave = System.nanoTime() + properties.snapshotInterval().toNanos();
+                } else if (catchUpRequested) {
+                    catchUpRequested = false;
+                    catchUp();
+                } else if (System.nanoTime() - nextSave >= 0) {
+                    save();
+                    nextSave = System.nanoTime() + properties.snapshotInterval().toNanos();
+                } else {
+                    // Woken early by change notifications
+                    LockSupport.parkNanos(this, nextSave - System.nanoTime());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Availability index maintenance failed, retrying in {}: {}", RETRY_DELAY, e.getMessage(), e);
+                catchUpRequested = true;
+                try {
+                    Thread.sleep(RETRY_DELAY.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void requestCatchUp() {
+        catchUpRequested = true;
+        Thread thread = maintainer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void install(AvailabilityIndex newIndex, Marker newMarker) {
+        lock.writeLock().lock();
+        try {
+            index = newIndex;
+            marker = newMarker;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void discard(String reason) {
+        log.info("Dropping availability index ({}), reading schedules from the database until it is rebuilt", reason);
+        lock.writeLock().lock();
+        try {
+            rebuildReason = reason;
+            index = null;
+            marker = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        requestCatchUp();
+    }
+
+    private Changes readChanges(Marker since) {
+        Marker now = readMarker();
+        if (now.deletionVersion() != since.deletionVersion()) {
+            return Changes.stale("deletion");
+        }
+        Boolean sameDatabase = jdbcTemplate.queryForObject(SAME_DATABASE_SQL, Boolean.class, since.pgSnapshot());
+        if (!Boolean.TRUE.equals(sameDatabase) || now.reservationVersion() < since.reservationVersion()) {
+            return Changes.stale("foreign");
+        }
+
+        List<UUID> cars = jdbcTemplate.queryForList(CHANGED_CARS_SQL, UUID.class, since.pgSnapshot(), since.pgSnapshot());
+        List<ChangedReservation> reservations = jdbcTemplate.query(CHANGED_RESERVATIONS_SQL,
+            (rs, rowNum) -> new ChangedReservation(
+                rs.getObject("id", UUID.class),
+                rs.getObject("car_id", UUID.class),
+                startSecond(rs),
+                endSecond(rs),
+                rs.getBoolean("booked")
+            ), since.pgSnapshot(), since.pgSnapshot());
+        return new Changes(now, cars, reservations, null);
+    }
+
+    private AvailabilitySnapshot.Loaded readAll(long horizon) {
+        Marker now = readMarker();
+        Integer carCount = jdbcTemplate.queryForObject("SELECT count(*) FROM car", Integer.class);
+        AvailabilityIndex rebuilt = new AvailabilityIndex(horizon, carCount == null ? 0 : carCount);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT id FROM car");
+            statement.setFetchSize(properties.rebuildFetchSize());
+            return statement;
+        }, (RowCallbackHandler) rs -> rebuilt.putCar(rs.getObject("id", UUID.class)));
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(BOOKED_RESERVATIONS_SQL);
+            // Fetched in batches through a cursor, which needs the surrounding transaction
+            statement.setFetchSize(properties.rebuildFetchSize());
+            statement.setObject(1, Instant.ofEpochSecond(horizon).atOffset(ZoneOffset.UTC));
+            return statement;
+        }, (RowCallbackHandler) rs -> rebuilt.put(rs.getObject("car_id", UUID.class), rs.getObject("id", UUID.class),
+            startSecond(rs), endSecond(rs)));
+        return new AvailabilitySnapshot.Loaded(rebuilt, now);
+    }
+
+    private Marker readMarker() {
+        return jdbcTemplate.queryForObject(MARKER_SQL, (rs, rowNum) -> new Marker(
+            rs.getString("snapshot"),
+            rs.getLong("reservations"),
+            rs.getLong("deletions"),
+            Instant.now()
+        ));
+    }
+
+    private static long startSecond(ResultSet rs) throws SQLException {
+        return rs.getObject("start_time", OffsetDateTime.class).toEpochSecond();
+    }
+
+    // Widened to whole seconds like the schedule encoding, never narrowed
+    private static long endSecond(ResultSet rs) throws SQLException {
+        OffsetDateTime end = rs.getObject("end_time", OffsetDateTime.class);
+        return end.getNano() == 0 ? end.toEpochSecond() : end.toEpochSecond() + 1;
+    }
+}
@@ -0,0 +1,193 @@
+package com.reservation.car.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.reservation.car.config.BookingQueueProperties;
+import com.reservation.car.model.BookingRequestStatus;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the booking_request queue with a bounded pool of workers.
+ *
+ * A single dispatcher thread claims as many requests as there are idle workers and hands them
+ * over. It wakes up when a request is accepted by this instance, when a worker finishes
+ * (the next request for that car may now be claimable) or after the poll interval
+ * (requests accepted by other instances). Abandoned claims are re-queued periodically,
+ * so accepted requests survive a crash of the instance processing them.
+ *
+ * Exported metrics: booking.queue.workers.busy (gauge), booking.queue.processed (counter, tagged outcome).
+ */
+@Component
+@Slf4j
+public class BookingQueueWorker implements SmartLifecycle {
+
+    private final BookingRequestService bookingRequestService;
+    private final BookingRequestCompletions completions;
+    private final BookingQueueProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Semaphore idleWorkers;
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+    private boolean signalled;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+    private Thread dispatcher;
+
+    public BookingQueueWorker(BookingRequestService bookingRequestService, BookingRequestCompletions completions,
+                              BookingQueueProperties properties, MeterRegistry meterRegistry) {
+        this.bookingRequestService = bookingRequestService;
+        this.completions = completions;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.idleWorkers = new Semaphore(properties.workers());
+
+        Gauge.builder("booking.queue.workers.busy", busyWorkers, AtomicInteger::get)
+            .description("Booking workers currently processing a request")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Asynchronous booking disabled; queue worker not started");
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "booking-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "booking-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("Booking queue worker started with {} workers", properties.workers());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        workers.shutdown();
+        try {
+            // Unfinished requests stay PROCESSING and are re-queued once their claim goes stale
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @TransactionalEventListener
+    public void onRequestAccepted(BookingRequestAcceptedEvent event) {
+        signal();
+    }
+
+    private void dispatchLoop() {
+        long recoveryIntervalNanos = properties.processingTimeout().toNanos() / 2;
+        long nextRecovery = System.nanoTime();
+
+        while (running) {
+            try {
+                if (System.nanoTime() - nextRecovery >= 0) {
+                    bookingRequestService.requeueStale();
+                    nextRecovery = System.nanoTime() + recoveryIntervalNanos;
+                }
+
+                int idle = idleWorkers.availablePermits();
+                List<UUID> claimed = idle > 0 ? bookingRequestService.claimNext(idle) : List.of();
+                claimed.forEach(this::dispatch);
+
+                // A full batch means more work may be waiting; otherwise sleep until something changes
+                if (idle == 0 || claimed.size() < idle) {
+                    awaitSignal();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Booking dispatcher failed to claim requests: {}", e.getMessage(), e);
+                try {
+                    awaitSignal();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(UUID requestId) {
+        idleWorkers.acquireUninterruptibly();
+        busyWorkers.incrementAndGet();
+        workers.execute(() -> {
+            try {
+                BookingRequestStatus outcome = bookingRequestService.process(requestId);
+                meterRegistry.counter("booking.queue.processed", "outcome", outcome.name().toLowerCase()).increment();
+                if (outcome.isFinished()) {
+                    completions.signal(requestId);
+                }
+            } catch (RuntimeException e) {
+                // The claim goes stale and the request is retried after the processing timeout
+                log.error("Failed to process booking request {}", requestId, e);
+            } finally {
+                busyWorkers.decrementAndGet();
+                idleWorkers.release();
+                signal();
+            }
+        });
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            signalled = true;
+            wakeUp.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = properties.pollInterval().toNanos();
+            while (!signalled && remaining > 0) {
+                remaining = wakeUp.awaitNanos(remaining);
+            }
+            signalled = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
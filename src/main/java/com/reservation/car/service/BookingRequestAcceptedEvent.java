@@ -0,0 +1,10 @@
+package com.reservation.car.service;
+
+import java.util.UUID;
+
+/**
+ * Published when an asynchronous booking request has been queued; delivered after commit
+ * so the worker can claim it immediately instead of waiting for the next poll.
+ */
+public record BookingRequestAcceptedEvent(UUID requestId) {
+}
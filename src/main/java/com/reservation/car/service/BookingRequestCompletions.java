@@ -0,0 +1,50 @@
+package com.reservation.car.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process rendezvous between long-polling clients and the booking workers.
+ *
+ * Only completions processed by this instance are signalled; a waiter whose request was
+ * finished elsewhere simply times out and re-reads the status from the database.
+ */
+@Component
+public class BookingRequestCompletions {
+
+    private final ConcurrentMap<UUID, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * @return a future completed (normally) when the request finishes here or the timeout elapses
+     */
+    public CompletableFuture<Void> awaitFinished(UUID requestId, Duration timeout) {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.compute(requestId, (id, registered) -> {
+            Set<CompletableFuture<Void>> set = registered != null ? registered : new HashSet<>();
+            set.add(waiter);
+            return set;
+        });
+
+        waiter.completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        waiter.whenComplete((ignored, error) -> waiters.computeIfPresent(requestId, (id, registered) -> {
+            registered.remove(waiter);
+            return registered.isEmpty() ? null : registered;
+        }));
+        return waiter;
+    }
+
+    public void signal(UUID requestId) {
+        Set<CompletableFuture<Void>> registered = waiters.remove(requestId);
+        if (registered != null) {
+            registered.forEach(waiter -> waiter.complete(null));
+        }
+    }
+}
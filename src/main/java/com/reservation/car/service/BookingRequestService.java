@@ -0,0 +1,74 @@
+package com.reservation.car.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.BookingRequestResponseDTO;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.model.BookingRequestStatus;
+
+/**
+ * Service for the asynchronous booking mode: requests are validated and queued in Postgres,
+ * then turned into reservations by {@link BookingQueueWorker} in per-car FIFO order.
+ */
+public interface BookingRequestService {
+
+    /**
+     * @return whether clients may opt into asynchronous booking
+     */
+    boolean isAsyncEnabled();
+
+    /**
+     * Validates and queues a booking request. Conflicts with other reservations are
+     * only detected when the request is processed.
+     *
+     * @param request the reservation request details
+     * @param requestingUserId the ID of the user making the request (for authorization)
+     * @return the queued request (status PENDING)
+     * @throws CarNotFoundException if car doesn't exist
+     * @throws InvalidReservationException if request violates business rules
+     */
+    BookingRequestResponseDTO submit(ReservationRequestDTO request, UUID requestingUserId);
+
+    /**
+     * Returns the current state of a booking request.
+     *
+     * @param requestId the booking request
+     * @param userId the user asking (must own the request)
+     * @throws InvalidReservationException if the request doesn't exist or belongs to another user
+     */
+    BookingRequestResponseDTO getBookingRequest(UUID requestId, UUID userId);
+
+    /**
+     * Like {@link #getBookingRequest(UUID, UUID)}, but if the request is still open waits up to
+     * {@code maxWait} (capped by configuration) for it to finish before answering.
+     */
+    CompletableFuture<BookingRequestResponseDTO> awaitBookingRequest(UUID requestId, UUID userId, Duration maxWait);
+
+    /**
+     * Claims up to {@code limit} requests for processing (per-car FIFO, skipping rows claimed elsewhere).
+     *
+     * @return IDs of the claimed requests, now PROCESSING
+     */
+    List<UUID> claimNext(int limit);
+
+    /**
+     * Processes a claimed request: creates the reservation, or records why it could not be created.
+     * Requests failing with unexpected errors go back to the queue until attempts are exhausted.
+     *
+     * @return the request's status afterwards
+     */
+    BookingRequestStatus process(UUID requestId);
+
+    /**
+     * Returns requests claimed by a worker that died to the queue. Those that have used up their
+     * attempts are marked FAILED instead.
+     *
+     * @return number of re-queued requests
+     */
+    int requeueStale();
+}
@@ -0,0 +1,235 @@
+package com.reservation.car.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.config.BookingQueueProperties;
+import com.reservation.car.config.ErrorCode;
+import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.BookingRequestResponseDTO;
+import com.reservation.car.dto.response.ReservationResponseDTO;
+import com.reservation.car.entity.BookingRequest;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.exception.CarUnavailableException;
+import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.model.BookingRequestStatus;
+import com.reservation.car.repository.BookingRequestRepository;
+import com.reservation.car.repository.CarRepository;
+import com.reservation.car.util.TimeSlotValidator;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@Transactional
+public class BookingRequestServiceImpl implements BookingRequestService {
+
+    private final BookingRequestRepository bookingRequestRepository;
+    private final CarRepository carRepository;
+    private final ReservationService reservationService;
+    private final BookingRequestCompletions completions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final Executor taskExecutor;
+    private final BookingQueueProperties properties;
+
+    public BookingRequestServiceImpl(BookingRequestRepository bookingRequestRepository,
+                                     CarRepository carRepository,
+                                     ReservationService reservationService,
+                                     BookingRequestCompletions completions,
+                                     ApplicationEventPublisher eventPublisher,
+                                     PlatformTransactionManager transactionManager,
+                                     @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor,
+                                     BookingQueueProperties properties) {
+        this.bookingRequestRepository = bookingRequestRepository;
+        this.carRepository = carRepository;
+        this.reservationService = reservationService;
+        this.completions = completions;
+        this.eventPublisher = eventPublisher;
+        this.transactionManager = transactionManager;
+        this.taskExecutor = taskExecutor;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean isAsyncEnabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    public BookingRequestResponseDTO submit(ReservationRequestDTO request, UUID requestingUserId) {
+        if (!request.getUserId().equals(requestingUserId)) {
+            throw new InvalidReservationException(
+                "User " + requestingUserId + " is not authorized to create reservation for user " + request.getUserId());
+        }
+
+        TimeSlotValidator.validateTimeSlot(request.getStartTime(), request.getEndTime());
+
+        if (!carRepository.existsById(request.getCarId())) {
+            throw new CarNotFoundException("Car with ID " + request.getCarId() + " not found");
+        }
+
+        Instant now = Instant.now();
+        BookingRequest bookingRequest = new BookingRequest();
+        bookingRequest.setCarId(request.getCarId());
+        bookingRequest.setUserId(request.getUserId());
+        bookingRequest.setStartTime(request.getStartTime());
+        bookingRequest.setEndTime(request.getEndTime());
+        bookingRequest.setStatus(BookingRequestStatus.PENDING);
+        bookingRequest.setCreatedAt(now);
+        bookingRequest.setUpdatedAt(now);
+
+        BookingRequest saved = bookingRequestRepository.save(bookingRequest);
+        eventPublisher.publishEvent(new BookingRequestAcceptedEvent(saved.getId()));
+
+        log.debug("Queued booking request {} for car {}", saved.getId(), saved.getCarId());
+        return BookingRequestResponseDTO.from(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingRequestResponseDTO getBookingRequest(UUID requestId, UUID userId) {
+        BookingRequest bookingRequest = bookingRequestRepository.findById(requestId)
+            .orElseThrow(() -> new InvalidReservationException(
+                "Booking request with ID " + requestId + " not found"));
+
+        if (!bookingRequest.getUserId().equals(userId)) {
+            throw new InvalidReservationException(
+                "User " + userId + " is not authorized to view this booking request");
+        }
+
+        return BookingRequestResponseDTO.from(bookingRequest);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompletableFuture<BookingRequestResponseDTO> awaitBookingRequest(UUID requestId, UUID userId, Duration maxWait) {
+        Duration wait = maxWait.compareTo(properties.maxLongPoll()) > 0 ? properties.maxLongPoll() : maxWait;
+        if (wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(getBookingRequest(requestId, userId));
+        }
+
+        // Register before reading so a completion between the read and the wait is not missed
+        CompletableFuture<Void> finished = completions.awaitFinished(requestId, wait);
+        BookingRequestResponseDTO current = getBookingRequest(requestId, userId);
+        if (current.getStatus().isFinished()) {
+            finished.complete(null);
+            return CompletableFuture.completedFuture(current);
+        }
+
+        return finished.thenApplyAsync(ignored -> bookingRequestRepository.findById(requestId)
+            .map(BookingRequestResponseDTO::from)
+            .orElse(current), taskExecutor);
+    }
+
+    @Override
+    public List<UUID> claimNext(int limit) {
+        return bookingRequestRepository.claimNext(limit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public BookingRequestStatus process(UUID requestId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> book(requestId));
+        } catch (CarUnavailableException e) {
+            return fail(transactionTemplate, requestId, ErrorCode.CAR_UNAVAILABLE, e.getMessage());
+        } catch (CarNotFoundException e) {
+            return fail(transactionTemplate, requestId, ErrorCode.CAR_NOT_FOUND, e.getMessage());
+        } catch (InvalidReservationException e) {
+            return fail(transactionTemplate, requestId, ErrorCode.INVALID_RESERVATION, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Booking request {} failed unexpectedly: {}", requestId, e.getMessage(), e);
+            return transactionTemplate.execute(status -> retryOrFail(requestId));
+        }
+    }
+
+    @Override
+    public int requeueStale() {
+        Instant now = Instant.now();
+        Instant claimedBefore = now.minus(properties.processingTimeout());
+        int failed = bookingRequestRepository.failExhaustedStale(claimedBefore, properties.maxAttempts(),
+            ErrorCode.INTERNAL_ERROR.getCode(), ErrorCode.INTERNAL_ERROR.getMessage(), now);
+        if (failed > 0) {
+            log.warn("Failed {} booking requests abandoned by their worker on the last attempt", failed);
+        }
+        int requeued = bookingRequestRepository.requeueStale(claimedBefore, properties.maxAttempts(), now);
+        if (requeued > 0) {
+            log.warn("Re-queued {} booking requests abandoned by their worker", requeued);
+        }
+        return requeued;
+    }
+
+    private BookingRequestStatus book(UUID requestId) {
+        BookingRequest bookingRequest = lock(requestId);
+
+        // Re-queued after its claim went stale and already handled by another worker
+        if (bookingRequest.getStatus() != BookingRequestStatus.PROCESSING) {
+            return bookingRequest.getStatus();
+        }
+
+        ReservationRequestDTO request = new ReservationRequestDTO(
+            bookingRequest.getCarId(),
+            bookingRequest.getUserId(),
+            bookingRequest.getStartTime(),
+            bookingRequest.getEndTime()
+        );
+        ReservationResponseDTO reservation = reservationService.createReservation(request, bookingRequest.getUserId());
+
+        bookingRequest.setStatus(BookingRequestStatus.SUCCEEDED);
+        bookingRequest.setReservationId(reservation.getId());
+        bookingRequest.setUpdatedAt(Instant.now());
+
+        log.debug("Booking request {} succeeded with reservation {}", requestId, reservation.getId());
+        return BookingRequestStatus.SUCCEEDED;
+    }
+
+    private BookingRequestStatus fail(TransactionTemplate transactionTemplate, UUID requestId, ErrorCode errorCode, String message) {
+        log.debug("Booking request {} failed: {}", requestId, message);
+        return transactionTemplate.execute(status -> markFailed(lock(requestId), errorCode, message));
+    }
+
+    private BookingRequestStatus retryOrFail(UUID requestId) {
+        BookingRequest bookingRequest = lock(requestId);
+        if (bookingRequest.getStatus() != BookingRequestStatus.PROCESSING) {
+            return bookingRequest.getStatus();
+        }
+        if (bookingRequest.getAttempts() >= properties.maxAttempts()) {
+            return markFailed(bookingRequest, ErrorCode.INTERNAL_ERROR, ErrorCode.INTERNAL_ERROR.getMessage());
+        }
+
+        bookingRequest.setStatus(BookingRequestStatus.PENDING);
+        bookingRequest.setUpdatedAt(Instant.now());
+        return BookingRequestStatus.PENDING;
+    }
+
+    private BookingRequestStatus markFailed(BookingRequest bookingRequest, ErrorCode errorCode, String message) {
+        if (bookingRequest.getStatus() != BookingRequestStatus.PROCESSING) {
+            return bookingRequest.getStatus();
+        }
+        bookingRequest.setStatus(BookingRequestStatus.FAILED);
+        bookingRequest.setErrorCode(errorCode.getCode());
+        bookingRequest.setErrorMessage(message);
+        bookingRequest.setUpdatedAt(Instant.now());
+        return BookingRequestStatus.FAILED;
+    }
+
+    private BookingRequest lock(UUID requestId) {
+        return bookingRequestRepository.findByIdForUpdate(requestId)
+            .orElseThrow(() -> new IllegalStateException("Booking request " + requestId + " disappeared"));
+    }
+}
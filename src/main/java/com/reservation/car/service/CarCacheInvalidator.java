@@ -0,0 +1,56 @@
+package com.reservation.car.service;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import com.reservation.car.config.CarCacheConfig;
+import com.reservation.car.entity.Car;
+import com.reservation.car.notification.ChangeEvent;
+import com.reservation.car.notification.ChangeListener;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the second-level cache for cars in step with the car table.
+ *
+ * Writes through Hibernate maintain the cache themselves; this covers everything else (bulk
+ * JDBC inserts, psql, other nodes). A statement trigger on the car table sends a CAR event for
+ * every such write, with the car ID when exactly one row changed. Cached pages are always
+ * dropped, since a single new car can shift every page after it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CarCacheInvalidator implements ChangeListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (event.type() != ChangeEvent.Type.CAR) {
+            return;
+        }
+        Cache cache = secondLevelCache();
+        if (event.carId() != null) {
+            cache.evictEntityData(Car.class, event.carId());
+        } else {
+            cache.evictEntityData(Car.class);
+        }
+        cache.evictQueryRegion(CarCacheConfig.CAR_PAGES_REGION);
+    }
+
+    @Override
+    public void onResync() {
+        log.debug("Dropping cached cars after listener resync");
+        Cache cache = secondLevelCache();
+        cache.evictEntityData(Car.class);
+        cache.evictQueryRegion(CarCacheConfig.CAR_PAGES_REGION);
+    }
+
+    private Cache secondLevelCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,25 @@
+package com.reservation.car.service;
+
+import java.io.InputStream;
+
+import com.reservation.car.dto.response.CarImportResultDTO;
+import com.reservation.car.model.CarImportFormat;
+
+/**
+ * Service interface for bulk loading the car fleet.
+ */
+public interface CarImportService {
+
+    /**
+     * Streams cars from the body into the fleet, upserting on license plate.
+     * The body is read line by line and copied straight to the database; it is never held in memory.
+     * Invalid or duplicate lines are rejected individually, the rest is applied in one transaction.
+     *
+     * @param body CSV (with header line) or NDJSON, UTF-8
+     * @param format format of the body
+     * @return counts of inserted, updated, unchanged and rejected lines, and the first rejects
+     * @throws IllegalArgumentException if a CSV body has no usable header line
+     * @throws java.io.UncheckedIOException if the body cannot be read
+     */
+    CarImportResultDTO importCars(InputStream body, CarImportFormat format);
+}
@@ -0,0 +1,233 @@
+package com.reservation.car.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.car.config.CarImportProperties;
+import com.reservation.car.dto.response.CarImportRejectDTO;
+import com.reservation.car.dto.response.CarImportResultDTO;
+import com.reservation.car.model.CarImportFormat;
+import com.reservation.car.util.CarImportParser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports cars by streaming parsed lines into a temporary staging table with COPY,
+ * then applying them to the car table in a single upsert.
+ *
+ * Per-line problems (parse errors, missing fields, duplicate plates within the body) are written
+ * to the staging table with their reason instead of aborting the import. The car table's statement
+ * trigger publishes one CAR change for the whole upsert, which drops the cached cars and pages.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CarImportServiceImpl implements CarImportService {
+
+    private static final String CREATE_STAGING_SQL = """
+        CREATE TEMP TABLE car_import_staging (
+            line_no BIGINT NOT NULL,
+            make TEXT,
+            model TEXT,
+            license_plate TEXT,
+            error TEXT
+        ) ON COMMIT DROP
+        """;
+
+    private static final String COPY_SQL =
+        "COPY car_import_staging (line_no, make, model, license_plate, error) FROM STDIN";
+
+    private static final String MARK_DUPLICATES_SQL = """
+        UPDATE car_import_staging s
+           SET error = 'duplicate license_plate (first seen on line ' || d.first_line || ')'
+          FROM (SELECT license_plate, min(line_no) AS first_line
+                  FROM car_import_staging
+                 WHERE error IS NULL
+                 GROUP BY license_plate
+                HAVING count(*) > 1) d
+         WHERE s.license_plate = d.license_plate
+           AND s.error IS NULL
+           AND s.line_no > d.first_line
+        """;
+
+    /** Rows whose make and model already match are skipped, so they are neither written nor counted as updated. */
+    private static final String UPSERT_SQL = """
+        WITH upserted AS (
+            INSERT INTO car (make, model, license_plate)
+            SELECT make, model, license_plate
+              FROM car_import_staging
+             WHERE error IS NULL
+            ON CONFLICT (license_plate) DO UPDATE
+               SET make = EXCLUDED.make, model = EXCLUDED.model
+             WHERE (car.make, car.model) IS DISTINCT FROM (EXCLUDED.make, EXCLUDED.model)
+            RETURNING (xmax = 0) AS inserted
+        )
+        SELECT count(*) FILTER (WHERE inserted) AS inserted,
+               count(*) FILTER (WHERE NOT inserted) AS updated
+          FROM upserted
+        """;
+
+    private static final String COUNT_REJECTED_SQL =
+        "SELECT count(*) FROM car_import_staging WHERE error IS NOT NULL";
+
+    private static final String REJECTS_SQL = """
+        SELECT line_no, license_plate, error
+          FROM car_import_staging
+         WHERE error IS NOT NULL
+         ORDER BY line_no
+         LIMIT ?
+        """;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CarImportProperties properties;
+
+    @Override
+    public CarImportResultDTO importCars(InputStream body, CarImportFormat format) {
+        long started = System.nanoTime();
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        long received = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> copyLines(connection, reader, format));
+
+        jdbcTemplate.execute("ANALYZE car_import_staging");
+        jdbcTemplate.update(MARK_DUPLICATES_SQL);
+        long[] written = jdbcTemplate.queryForObject(UPSERT_SQL,
+            (rs, rowNum) -> new long[] {rs.getLong("inserted"), rs.getLong("updated")});
+        long rejected = jdbcTemplate.queryForObject(COUNT_REJECTED_SQL, Long.class);
+        List<CarImportRejectDTO> rejects = jdbcTemplate.query(REJECTS_SQL,
+            (rs, rowNum) -> new CarImportRejectDTO(rs.getLong("line_no"), rs.getString("license_plate"), rs.getString("error")),
+            properties.maxReportedRejects());
+
+        long inserted = written[0];
+        long updated = written[1];
+        CarImportResultDTO result = new CarImportResultDTO(
+            received, inserted, updated, received - rejected - inserted - updated, rejected, rejects);
+
+        log.info("Imported {} car lines ({}) in {} ms - inserted: {}, updated: {}, unchanged: {}, rejected: {}",
+            received, format, (System.nanoTime() - started) / 1_000_000,
+            inserted, updated, result.getUnchanged(), rejected);
+        return result;
+    }
+
+    private long copyLines(Connection connection, BufferedReader reader, CarImportFormat format) throws SQLException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(
+            connection.unwrap(PGConnection.class), COPY_SQL, properties.copyBufferBytes());
+        try {
+            Writer out = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), properties.copyBufferBytes());
+            long received = writeLines(reader, format, out);
+            out.flush();
+            copy.endCopy();
+            return received;
+        } catch (IOException e) {
+            cancel(copy);
+            throw new UncheckedIOException("Failed to read car import body", e);
+        } catch (RuntimeException e) {
+            cancel(copy);
+            throw e;
+        }
+    }
+
+    private long writeLines(BufferedReader reader, CarImportFormat format, Writer out) throws IOException {
+        long lineNo = 0;
+        long received = 0;
+        CarImportParser.LineParser parser;
+        if (format == CarImportFormat.CSV) {
+            String header = stripByteOrderMark(reader.readLine());
+            lineNo++;
+            parser = CarImportParser.csv(header);
+        } else {
+            parser = CarImportParser.ndjson(objectMapper);
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (lineNo == 1) {
+                line = stripByteOrderMark(line);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            received++;
+            try {
+                CarImportParser.Row row = parser.parse(line);
+                writeRow(out, lineNo, row.make(), row.model(), row.licensePlate(), null);
+            } catch (CarImportParser.InvalidLineException e) {
+                writeRow(out, lineNo, null, null, e.getLicensePlate(), e.getMessage());
+            }
+        }
+        return received;
+    }
+
+    private static void writeRow(Writer out, long lineNo, String make, String model, String licensePlate,
+                                 String error) throws IOException {
+        out.write(Long.toString(lineNo));
+        writeField(out, make);
+        writeField(out, model);
+        writeField(out, licensePlate);
+        writeField(out, error);
+        out.write('\n');
+    }
+
+    /**
+     * Writes a tab-separated field in COPY text format: NULL as \N, and backslash,
+     * tab, newline and carriage return escaped.
+     */
+    private static void writeField(Writer out, String value) throws IOException {
+        out.write('\t');
+        if (value == null) {
+            out.write("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+    }
+
+    private static String stripByteOrderMark(String line) {
+        if (line != null && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            return line.substring(1);
+        }
+        return line;
+    }
+
+    private static void cancel(PGCopyOutputStream copy) {
+        if (copy.isActive()) {
+            try {
+                copy.cancelCopy();
+            } catch (SQLException e) {
+                log.debug("Failed to cancel car import COPY", e);
+            }
+        }
+    }
+}
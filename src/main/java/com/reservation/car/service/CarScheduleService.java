@@ -0,0 +1,40 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.reservation.car.dto.response.CarScheduleDTO;
+import com.reservation.car.exception.CarNotFoundException;
+
+/**
+ * Service interface for car schedules: the merged busy intervals of cars over a window,
+ * for calendar views of the fleet.
+ */
+public interface CarScheduleService {
+
+    /**
+     * Returns the busy intervals of a car over [from, to).
+     *
+     * @param carId the car
+     * @param from start of the window
+     * @param to end of the window (exclusive)
+     * @return the car's schedule
+     * @throws CarNotFoundException if car doesn't exist
+     * @throws IllegalArgumentException if the window is invalid
+     */
+    CarScheduleDTO getCarSchedule(UUID carId, Instant from, Instant to);
+
+    /**
+     * Returns the busy intervals of several cars over the same window [from, to), in the order
+     * the cars were given; duplicates are answered once.
+     *
+     * @param carIds the cars, at most {@code app.car-schedule.max-cars}
+     * @param from start of the window
+     * @param to end of the window (exclusive)
+     * @return one schedule per distinct car
+     * @throws CarNotFoundException if any of the cars doesn't exist
+     * @throws IllegalArgumentException if the window or the number of cars is invalid
+     */
+    List<CarScheduleDTO> getCarSchedules(List<UUID> carIds, Instant from, Instant to);
+}
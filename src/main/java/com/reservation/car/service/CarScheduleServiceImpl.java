@@ -0,0 +1,142 @@
+package com.reservation.car.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.car.config.CarScheduleProperties;
+import com.reservation.car.dto.response.CarScheduleDTO;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.model.BusyInterval;
+import com.reservation.car.repository.CarRepository;
+import com.reservation.car.util.BusyIntervals;
+import com.reservation.car.util.TimeSlotValidator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves car schedules from a cache keyed on car, window and reservation version.
+ *
+ * The version is the node-wide reservation counter of {@link DataVersionTracker} (there is no
+ * per-car one), so any reservation change makes every cached schedule unreachable; superseded
+ * entries are evicted by size. The version is read before the query, so an entry is never keyed
+ * on a version newer than its data. Cars missing from the cache are read together: from the
+ * {@link AvailabilityIndexManager} when it is enabled and has caught up to that version, else in
+ * one query.
+ *
+ * Exported metrics: cache.* tagged cache=car-schedule.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class CarScheduleServiceImpl implements CarScheduleService {
+
+    private record CacheKey(UUID carId, Instant from, Instant to, long reservationVersion) {
+    }
+
+    private final CarRepository carRepository;
+    private final AvailabilityIndexManager availabilityIndex;
+    private final DataVersionTracker dataVersionTracker;
+    private final CarScheduleProperties properties;
+    private final Cache<CacheKey, CarScheduleDTO> cache;
+
+    public CarScheduleServiceImpl(CarRepository carRepository, AvailabilityIndexManager availabilityIndex,
+                                  DataVersionTracker dataVersionTracker, CarScheduleProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.carRepository = carRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.dataVersionTracker = dataVersionTracker;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.cacheMaxEntries())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "car-schedule");
+    }
+
+    @Override
+    public CarScheduleDTO getCarSchedule(UUID carId, Instant from, Instant to) {
+        return getCarSchedules(List.of(carId), from, to).get(0);
+    }
+
+    @Override
+    public List<CarScheduleDTO> getCarSchedules(List<UUID> carIds, Instant from, Instant to) {
+        log.debug("Retrieving schedules of {} cars from {} to {}", carIds.size(), from, to);
+
+        validateWindow(from, to);
+        LinkedHashSet<UUID> distinctIds = new LinkedHashSet<>(carIds);
+        if (distinctIds.size() > properties.maxCars()) {
+            throw new IllegalArgumentException("Cannot request schedules of more than " + properties.maxCars() + " cars");
+        }
+
+        // Whole seconds, the unit of the encoded intervals
+        Instant windowStart = from.truncatedTo(ChronoUnit.SECONDS);
+        Instant windowEnd = to.truncatedTo(ChronoUnit.SECONDS);
+        long version = dataVersionTracker.current().reservations();
+
+        Map<UUID, CarScheduleDTO> schedules = new LinkedHashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID carId : distinctIds) {
+            CarScheduleDTO cached = cache.getIfPresent(new CacheKey(carId, windowStart, windowEnd, version));
+            schedules.put(carId, cached);
+            if (cached == null) {
+                missing.add(carId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            load(missing, windowStart, windowEnd, version).forEach((carId, schedule) -> {
+                cache.put(new CacheKey(carId, windowStart, windowEnd, version), schedule);
+                schedules.put(carId, schedule);
+            });
+            for (UUID carId : missing) {
+                if (schedules.get(carId) == null) {
+                    throw new CarNotFoundException("Car with ID " + carId + " not found");
+                }
+            }
+        }
+        return new ArrayList<>(schedules.values());
+    }
+
+    private Map<UUID, CarScheduleDTO> load(List<UUID> carIds, Instant from, Instant to, long version) {
+        List<BusyInterval> periods = availabilityIndex.findBusyIntervals(carIds, from, to, version)
+            .orElseGet(() -> carRepository.findBusyIntervals(
+                carIds.toArray(UUID[]::new), from, to, from.minus(TimeSlotValidator.MAX_DURATION)));
+
+        Map<UUID, CarScheduleDTO> schedules = new LinkedHashMap<>();
+        int first = 0;
+        for (int i = 1; i <= periods.size(); i++) {
+            // Rows come ordered by car; encode each car's run once it ends
+            if (i == periods.size() || !periods.get(i).carId().equals(periods.get(first).carId())) {
+                UUID carId = periods.get(first).carId();
+                schedules.put(carId, new CarScheduleDTO(carId, from, to,
+                    BusyIntervals.encode(from, to, periods.subList(first, i))));
+                first = i;
+            }
+        }
+        return schedules;
+    }
+
+    private void validateWindow(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start of the schedule window must be before its end");
+        }
+        if (Duration.between(from, to).compareTo(Duration.ofDays(properties.maxRangeDays())) > 0) {
+            throw new IllegalArgumentException(
+                "Schedule window cannot exceed " + properties.maxRangeDays() + " days");
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.reservation.car.service;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 
+import com.reservation.car.dto.response.CarOccupancyResponseDTO;
 import com.reservation.car.dto.response.CarResponseDTO;
+import com.reservation.car.exception.CarNotFoundException;
 import com.reservation.car.exception.InvalidReservationException;
 
 /**
@@ -33,4 +37,29 @@ public interface CarService {
      * @throws InvalidReservationException if time period is invalid
      */
     Page<CarResponseDTO> findAvailableCars(Instant startTime, Instant endTime, int page, int size);
+
+    /**
+     * Finds all cars without any booking on the given UTC days (inclusive), with pagination.
+     * Served from the daily occupancy read model, suited to windows longer than a day.
+     *
+     * @param fromDate first day of the window
+     * @param toDate last day of the window
+     * @param page page number (0-based)
+     * @param size number of cars per page
+     * @return paginated response with car DTOs free for the whole window
+     * @throws IllegalArgumentException if the day range is invalid
+     */
+    Page<CarResponseDTO> findCarsAvailableForDays(LocalDate fromDate, LocalDate toDate, int page, int size);
+
+    /**
+     * Returns a car's booked minutes, busy slots and utilization over the given UTC days (inclusive).
+     *
+     * @param carId the car to report on
+     * @param fromDate first day of the range
+     * @param toDate last day of the range
+     * @return occupancy of the car per booked day
+     * @throws CarNotFoundException if car doesn't exist
+     * @throws IllegalArgumentException if the day range is invalid
+     */
+    CarOccupancyResponseDTO getCarOccupancy(UUID carId, LocalDate fromDate, LocalDate toDate);
 }
\ No newline at end of file
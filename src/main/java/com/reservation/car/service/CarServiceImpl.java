@@ -1,6 +1,10 @@
 package com.reservation.car.service;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -9,42 +13,143 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reservation.car.config.AvailableCarsProperties;
+import com.reservation.car.config.OccupancyProperties;
+import com.reservation.car.dto.response.CarOccupancyResponseDTO;
 import com.reservation.car.dto.response.CarResponseDTO;
-import com.reservation.car.entity.Car;
+import com.reservation.car.dto.response.DailyOccupancyDTO;
+import com.reservation.car.entity.CarDailyOccupancy;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.repository.CarDailyOccupancyRepository;
 import com.reservation.car.repository.CarRepository;
+import com.reservation.car.util.OccupancyCalculator;
+import com.reservation.car.util.RequestCoalescer;
 import com.reservation.car.util.TimeSlotValidator;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Car listings and occupancy.
+ *
+ * Concurrent identical availability searches (same window and page) are coalesced: the first one
+ * queries and the others wait for its page, up to {@code app.available-cars.coalesce-timeout}
+ * before querying themselves. The key also holds the data versions read before the query, so a
+ * search never gets a page older than the versions its caller has already seen (and sent as ETag).
+ *
+ * Exported metrics: cars.available.requests, cars.available.executions,
+ * cars.available.coalesce.timeouts, cars.available.coalesce.ratio (share of searches answered
+ * by another one's query).
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class CarServiceImpl implements CarService {
 
+    private record AvailabilityKey(Instant startTime, Instant endTime, int page, int size,
+                                   DataVersionTracker.Versions versions) {
+    }
+
     private final CarRepository carRepository;
+    private final CarDailyOccupancyRepository occupancyRepository;
+    private final DataVersionTracker dataVersionTracker;
+    private final OccupancyProperties occupancyProperties;
+    private final AvailableCarsProperties availableCarsProperties;
+    private final RequestCoalescer<AvailabilityKey, Page<CarResponseDTO>> availabilityCoalescer;
+
+    public CarServiceImpl(CarRepository carRepository, CarDailyOccupancyRepository occupancyRepository,
+                          DataVersionTracker dataVersionTracker, OccupancyProperties occupancyProperties,
+                          AvailableCarsProperties availableCarsProperties, MeterRegistry meterRegistry) {
+        this.carRepository = carRepository;
+        this.occupancyRepository = occupancyRepository;
+        this.dataVersionTracker = dataVersionTracker;
+        this.occupancyProperties = occupancyProperties;
+        this.availableCarsProperties = availableCarsProperties;
+        this.availabilityCoalescer = new RequestCoalescer<>(availableCarsProperties.coalesceTimeout());
+
+        FunctionCounter.builder("cars.available.requests", availabilityCoalescer, RequestCoalescer::requests)
+            .description("Availability searches")
+            .register(meterRegistry);
+        FunctionCounter.builder("cars.available.executions", availabilityCoalescer, RequestCoalescer::executions)
+            .description("Availability queries run against the database")
+            .register(meterRegistry);
+        FunctionCounter.builder("cars.available.coalesce.timeouts", availabilityCoalescer, RequestCoalescer::timeouts)
+            .description("Availability searches that stopped waiting for a shared query")
+            .register(meterRegistry);
+        Gauge.builder("cars.available.coalesce.ratio", availabilityCoalescer, coalescer -> {
+                long requests = coalescer.requests();
+                return requests == 0 ? 0 : 1 - (double) coalescer.executions() / requests;
+            })
+            .description("Share of availability searches answered by another search's query")
+            .register(meterRegistry);
+    }
 
     @Override
     public Page<CarResponseDTO> getAllCars(int page, int size) {
-        log.info("Retrieving cars page {} with size {}", page, size);
+        log.debug("Retrieving cars page {} with size {}", page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("make", "model"));
-        Page<Car> carsPage = carRepository.findAllCarsPaginated(pageable);
-        
-        return carsPage.map(CarResponseDTO::from);
+        return carRepository.findAllCarsPaginated(pageable);
     }
 
     @Override
     public Page<CarResponseDTO> findAvailableCars(Instant startTime, Instant endTime, int page, int size) {
-        log.info("Finding available cars from {} to {}, page {} size {}", startTime, endTime, page, size);
+        log.debug("Finding available cars from {} to {}, page {} size {}", startTime, endTime, page, size);
         
         TimeSlotValidator.validateTimeSlot(startTime, endTime);
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("make", "model"));
-        Page<Car> carsPage = carRepository.findAvailableCarsForTimePeriod(startTime, endTime, pageable);
-        
-        return carsPage.map(CarResponseDTO::from);
+        if (!availableCarsProperties.coalesce()) {
+            return carRepository.findAvailableCarsForTimePeriod(startTime, endTime, pageable);
+        }
+        AvailabilityKey key = new AvailabilityKey(startTime, endTime, page, size, dataVersionTracker.current());
+        return availabilityCoalescer.execute(key,
+            () -> carRepository.findAvailableCarsForTimePeriod(startTime, endTime, pageable));
+    }
+
+    @Override
+    public Page<CarResponseDTO> findCarsAvailableForDays(LocalDate fromDate, LocalDate toDate, int page, int size) {
+        log.debug("Finding cars available on days {} to {}, page {} size {}", fromDate, toDate, page, size);
+
+        validateDayRange(fromDate, toDate);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return carRepository.findCarsAvailableForDays(fromDate, toDate, pageable);
     }
 
+    @Override
+    public CarOccupancyResponseDTO getCarOccupancy(UUID carId, LocalDate fromDate, LocalDate toDate) {
+        log.debug("Retrieving occupancy of car {} from {} to {}", carId, fromDate, toDate);
+
+        validateDayRange(fromDate, toDate);
+
+        if (!carRepository.existsById(carId)) {
+            throw new CarNotFoundException("Car with ID " + carId + " not found");
+        }
 
+        List<CarDailyOccupancy> days = occupancyRepository.findBookedDays(carId, fromDate, toDate);
+
+        long bookedMinutes = days.stream().mapToLong(CarDailyOccupancy::getBookedMinutes).sum();
+        long totalMinutes = (ChronoUnit.DAYS.between(fromDate, toDate) + 1) * OccupancyCalculator.MINUTES_PER_DAY;
+
+        return new CarOccupancyResponseDTO(
+            carId,
+            fromDate,
+            toDate,
+            bookedMinutes,
+            (double) bookedMinutes / totalMinutes,
+            days.stream().map(DailyOccupancyDTO::from).toList()
+        );
+    }
+
+    private void validateDayRange(LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= occupancyProperties.maxRangeDays()) {
+            throw new IllegalArgumentException(
+                "Date range cannot exceed " + occupancyProperties.maxRangeDays() + " days");
+        }
+    }
 }
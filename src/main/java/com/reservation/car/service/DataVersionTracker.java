@@ -0,0 +1,90 @@
+package com.reservation.car.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.notification.ChangeEvent;
+import com.reservation.car.notification.ChangeListener;
+import com.reservation.car.notification.ChangeNotificationSubscriber;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Current versions of the fleet and of the reservations, for ETags on the car listings.
+ *
+ * The authoritative counters live in the version_counter table, where triggers bump them in every
+ * transaction that changes a car or a reservation, on any node. This node caches the last read and
+ * drops it on every CAR or RESERVATION change event and on listener resync. While the listener is
+ * disconnected changes could go unnoticed, so every call then reads the table.
+ */
+@Component
+@Slf4j
+public class DataVersionTracker implements ChangeListener {
+
+    private static final String VERSIONS_SQL = """
+        SELECT coalesce(sum(version) FILTER (WHERE name = 'car'), 0) AS fleet,
+               coalesce(sum(version) FILTER (WHERE name = 'reservation'), 0) AS reservations
+          FROM version_counter
+        """;
+
+    /**
+     * Versions of the data behind a listing; each one only ever grows.
+     */
+    public record Versions(long fleet, long reservations) {
+    }
+
+    private record Snapshot(long generation, Versions versions) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ChangeNotificationSubscriber subscriber;
+
+    /** Moves on every invalidation; a snapshot is only valid for the generation it was read in. */
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public DataVersionTracker(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              ChangeNotificationSubscriber subscriber) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.subscriber = subscriber;
+    }
+
+    /**
+     * Returns the current versions, from the local cache when it is known to be up to date.
+     */
+    public Versions current() {
+        long readGeneration = generation.get();
+        Snapshot cached = snapshot;
+        boolean listening = subscriber.isConnected();
+        if (listening && cached != null && cached.generation() == readGeneration) {
+            return cached.versions();
+        }
+
+        Versions versions = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(VERSIONS_SQL,
+            (rs, rowNum) -> new Versions(rs.getLong("fleet"), rs.getLong("reservations"))));
+        if (listening) {
+            // Tagged with the generation seen before the read: an invalidation that raced with it
+            // moves the generation on, so this snapshot is never served
+            snapshot = new Snapshot(readGeneration, versions);
+        }
+        return versions;
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void onResync() {
+        log.debug("Dropping cached data versions after listener resync");
+        generation.incrementAndGet();
+    }
+}
@@ -0,0 +1,145 @@
+package com.reservation.car.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.reservation.car.config.ReservationProperties;
+import com.reservation.car.entity.Reservation;
+import com.reservation.car.repository.ReservationRepository;
+import com.reservation.car.util.TimingWheel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expires holds when their TTL elapses, driven by an in-process timing wheel instead of polling
+ * the reservation table.
+ *
+ * Holds placed on this node are scheduled once their transaction commits; on startup every
+ * outstanding hold is loaded, so holds of a node that went down are released by the next node
+ * to start. A single thread advances the wheel once per tick and expires the holds that came due
+ * in batches of {@code app.reservation.hold-expiry-batch-size}. Confirmed or cancelled holds come
+ * due as well and are skipped by the expiring statement.
+ *
+ * Exported metrics: reservation.holds.scheduled (gauge), reservation.holds.expired (counter).
+ */
+@Component
+@Slf4j
+public class HoldExpiryScheduler implements SmartLifecycle {
+
+    private static final int WHEEL_SIZE = 64;
+    /** With a 1s tick, four levels span about 194 days before items are placed again. */
+    private static final int WHEEL_LEVELS = 4;
+
+    private final ReservationService reservationService;
+    private final ReservationRepository reservationRepository;
+    private final ReservationProperties properties;
+    private final Counter expiredCounter;
+
+    private final TimingWheel<UUID> wheel;
+
+    private volatile boolean running;
+    private Thread ticker;
+
+    public HoldExpiryScheduler(ReservationService reservationService, ReservationRepository reservationRepository,
+                               ReservationProperties properties, MeterRegistry meterRegistry) {
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+        this.properties = properties;
+        this.wheel = new TimingWheel<>(properties.holdExpiryTick(), WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+        Gauge.builder("reservation.holds.scheduled", this, HoldExpiryScheduler::scheduled)
+            .description("Holds waiting in the timing wheel for their expiry")
+            .register(meterRegistry);
+        this.expiredCounter = Counter.builder("reservation.holds.expired")
+            .description("Holds released because they were not confirmed in time")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        try {
+            List<Reservation> holds = reservationRepository.findHolds();
+            synchronized (wheel) {
+                holds.forEach(hold -> wheel.schedule(hold.getId(), hold.getHoldExpiresAt().toEpochMilli()));
+            }
+            log.debug("Scheduled expiry of {} outstanding holds", holds.size());
+        } catch (RuntimeException e) {
+            // They still stop blocking their slot at expiry; they are only released when it is booked
+            log.warn("Failed to load outstanding holds: {}", e.getMessage(), e);
+        }
+
+        running = true;
+        ticker = new Thread(this::tickLoop, "hold-expiry");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        ticker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @TransactionalEventListener
+    public void onHoldPlaced(HoldPlacedEvent event) {
+        schedule(List.of(event.reservationId()), event.expiresAt().toEpochMilli());
+    }
+
+    private void tickLoop() {
+        long tickMillis = properties.holdExpiryTick().toMillis();
+        while (running) {
+            try {
+                Thread.sleep(tickMillis);
+                List<UUID> due;
+                synchronized (wheel) {
+                    due = wheel.advance(System.currentTimeMillis());
+                }
+                expire(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void expire(List<UUID> due) {
+        int batchSize = properties.holdExpiryBatchSize();
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<UUID> batch = new ArrayList<>(due.subList(from, Math.min(from + batchSize, due.size())));
+            try {
+                expiredCounter.increment(reservationService.expireHolds(batch));
+            } catch (RuntimeException e) {
+                log.warn("Failed to expire {} holds, retrying on the next tick: {}", batch.size(), e.getMessage(), e);
+                schedule(batch, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private void schedule(List<UUID> holdIds, long deadlineMillis) {
+        synchronized (wheel) {
+            holdIds.forEach(id -> wheel.schedule(id, deadlineMillis));
+        }
+    }
+
+    private double scheduled() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+}
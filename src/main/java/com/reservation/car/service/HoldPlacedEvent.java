@@ -0,0 +1,11 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published when a hold has been placed; delivered after commit so the hold's expiry is only
+ * scheduled once the hold exists.
+ */
+public record HoldPlacedEvent(UUID reservationId, Instant expiresAt) {
+}
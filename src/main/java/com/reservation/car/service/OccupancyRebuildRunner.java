@@ -0,0 +1,34 @@
+package com.reservation.car.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recomputes the car_daily_occupancy read model when the application is started with
+ * {@code --rebuild-occupancy}. Combine with {@code --spring.main.web-application-type=none}
+ * to run it as a one-off command that exits when done.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OccupancyRebuildRunner implements ApplicationRunner {
+
+    static final String REBUILD_OPTION = "rebuild-occupancy";
+
+    private final OccupancyService occupancyService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_OPTION)) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        int rows = occupancyService.rebuildAll();
+        log.info("Rebuilt {} occupancy rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+    }
+}
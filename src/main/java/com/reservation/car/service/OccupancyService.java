@@ -0,0 +1,29 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Service maintaining the car_daily_occupancy read model.
+ * Reads of the model go through {@link CarService}.
+ */
+public interface OccupancyService {
+
+    /**
+     * Recomputes the occupancy rows of every UTC day touched by the given period.
+     * Must run inside the transaction that created or cancelled the reservation,
+     * so the read model commits (or rolls back) together with it.
+     *
+     * @param carId the car whose reservations changed
+     * @param startTime start of the changed reservation
+     * @param endTime end of the changed reservation
+     */
+    void refresh(UUID carId, Instant startTime, Instant endTime);
+
+    /**
+     * Recomputes the whole read model from the reservation table, in parallel batches of cars.
+     *
+     * @return number of occupancy rows written
+     */
+    int rebuildAll();
+}
@@ -0,0 +1,119 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.config.OccupancyProperties;
+import com.reservation.car.entity.CarDailyOccupancy;
+import com.reservation.car.entity.Reservation;
+import com.reservation.car.repository.CarDailyOccupancyRepository;
+import com.reservation.car.repository.CarRepository;
+import com.reservation.car.repository.ReservationRepository;
+import com.reservation.car.util.OccupancyCalculator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OccupancyServiceImpl implements OccupancyService {
+
+    private final CarDailyOccupancyRepository occupancyRepository;
+    private final ReservationRepository reservationRepository;
+    private final CarRepository carRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final OccupancyProperties occupancyProperties;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(UUID carId, Instant startTime, Instant endTime) {
+        LocalDate fromDate = OccupancyCalculator.firstDay(startTime);
+        LocalDate toDate = OccupancyCalculator.lastDay(endTime);
+
+        // Row locks serialize concurrent refreshes of the same car-day; reservations are
+        // read only after the lock is held so a concurrent commit cannot be missed
+        occupancyRepository.insertMissingDays(carId, fromDate, toDate);
+        List<CarDailyOccupancy> days = occupancyRepository.lockDays(carId, fromDate, toDate);
+
+        List<Reservation> reservations = reservationRepository.findConfirmedForCarBetween(
+            carId,
+            OccupancyCalculator.startOfDay(fromDate),
+            OccupancyCalculator.startOfDay(toDate.plusDays(1))
+        );
+
+        days.forEach(day -> OccupancyCalculator.recompute(day, reservations));
+        log.debug("Refreshed {} occupancy days for car {}", days.size(), carId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public int rebuildAll() {
+        List<UUID> carIds = carRepository.findAllIds();
+        int batchSize = occupancyProperties.rebuildBatchSize();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        log.info("Rebuilding occupancy for {} cars with {} threads", carIds.size(), occupancyProperties.rebuildParallelism());
+
+        ExecutorService executor = Executors.newFixedThreadPool(occupancyProperties.rebuildParallelism());
+        try {
+            List<Future<Integer>> batches = new ArrayList<>();
+            for (int from = 0; from < carIds.size(); from += batchSize) {
+                List<UUID> batch = carIds.subList(from, Math.min(from + batchSize, carIds.size()));
+                batches.add(executor.submit(() -> transactionTemplate.execute(status -> rebuildBatch(batch))));
+            }
+
+            int rows = 0;
+            for (Future<Integer> batch : batches) {
+                rows += batch.get();
+            }
+            return rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Occupancy rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Occupancy rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildBatch(List<UUID> carIds) {
+        occupancyRepository.deleteByCarIds(carIds);
+
+        Map<UUID, List<Reservation>> reservationsByCar = reservationRepository.findConfirmedForCars(carIds)
+            .stream()
+            .collect(Collectors.groupingBy(Reservation::getCarId));
+
+        List<CarDailyOccupancy> rows = new ArrayList<>();
+        reservationsByCar.forEach((carId, reservations) -> {
+            TreeSet<LocalDate> days = new TreeSet<>();
+            reservations.forEach(r -> days.addAll(OccupancyCalculator.daysCovered(r.getStartTime(), r.getEndTime())));
+
+            for (LocalDate day : days) {
+                CarDailyOccupancy row = new CarDailyOccupancy(carId, day);
+                OccupancyCalculator.recompute(row, reservations);
+                rows.add(row);
+            }
+        });
+
+        occupancyRepository.saveAll(rows);
+        return rows.size();
+    }
+}
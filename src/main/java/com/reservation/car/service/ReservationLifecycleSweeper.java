@@ -0,0 +1,116 @@
+package com.reservation.car.service;
+
+import java.util.function.IntUnaryOperator;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.reservation.car.config.ReservationProperties;
+import com.reservation.car.model.ReservationStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves reservations through their lifecycle: CONFIRMED to ACTIVE once they start, and CONFIRMED
+ * or ACTIVE to COMPLETED once they end, which keeps past rentals out of the partial index and
+ * exclusion constraint on blocking reservations.
+ *
+ * Every {@code app.reservation.lifecycle-sweep-interval} a single thread completes, then activates,
+ * reservations in batches of {@code app.reservation.lifecycle-sweep-batch-size}, one transaction per
+ * batch, until a batch comes back short. Batches lock their rows with SKIP LOCKED, so every node
+ * can run a sweeper: concurrent sweeps share the backlog instead of waiting for each other.
+ *
+ * Exported metrics: reservation.lifecycle.transitions (counter, tagged status).
+ */
+@Component
+@Slf4j
+public class ReservationLifecycleSweeper implements SmartLifecycle {
+
+    private final ReservationService reservationService;
+    private final ReservationProperties properties;
+    private final Counter completedCounter;
+    private final Counter activatedCounter;
+
+    private volatile boolean running;
+    private Thread sweeper;
+
+    public ReservationLifecycleSweeper(ReservationService reservationService, ReservationProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.reservationService = reservationService;
+        this.properties = properties;
+        this.completedCounter = transitions(meterRegistry, ReservationStatus.COMPLETED);
+        this.activatedCounter = transitions(meterRegistry, ReservationStatus.ACTIVE);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        sweeper = new Thread(this::sweepLoop, "reservation-lifecycle");
+        sweeper.setDaemon(true);
+        sweeper.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        sweeper.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs one sweep, draining both transitions.
+     */
+    void sweep() {
+        // Completing first moves reservations that ended while nobody swept straight to COMPLETED
+        int completed = drain(reservationService::completeEndedReservations, completedCounter);
+        int activated = drain(reservationService::activateStartedReservations, activatedCounter);
+        if (completed > 0 || activated > 0) {
+            log.debug("Lifecycle sweep completed {} and activated {} reservations", completed, activated);
+        }
+    }
+
+    private void sweepLoop() {
+        long intervalMillis = properties.lifecycleSweepInterval().toMillis();
+        while (running) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                sweep();
+            } catch (RuntimeException e) {
+                log.warn("Reservation lifecycle sweep failed, retrying after the interval: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private int drain(IntUnaryOperator batch, Counter counter) {
+        int batchSize = properties.lifecycleSweepBatchSize();
+        int total = 0;
+        int moved;
+        do {
+            moved = batch.applyAsInt(batchSize);
+            counter.increment(moved);
+            total += moved;
+        } while (moved == batchSize && !Thread.currentThread().isInterrupted());
+        return total;
+    }
+
+    private static Counter transitions(MeterRegistry meterRegistry, ReservationStatus status) {
+        return Counter.builder("reservation.lifecycle.transitions")
+            .description("Reservations moved to a later lifecycle status by the sweeper")
+            .tag("status", status.name())
+            .register(meterRegistry);
+    }
+}
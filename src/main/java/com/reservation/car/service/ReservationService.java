@@ -1,12 +1,19 @@
 package com.reservation.car.service;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.CancellationResultDTO;
+import com.reservation.car.dto.response.ReservationPageDTO;
 import com.reservation.car.dto.response.ReservationResponseDTO;
 import com.reservation.car.exception.CarNotFoundException;
 import com.reservation.car.exception.CarUnavailableException;
 import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.model.ReservationStatus;
 
 /**
  * Service interface for managing car reservations.
@@ -26,8 +33,60 @@ public interface ReservationService {
      */
     ReservationResponseDTO createReservation(ReservationRequestDTO request, UUID requestingUserId);
 
+    /**
+     * Places a hold: blocks the time slot like a reservation, but only until the hold TTL elapses
+     * (and never past the start time) unless the hold is confirmed first.
+     *
+     * @param request the reservation request details
+     * @param requestingUserId the ID of the user making the request (for authorization)
+     * @return the hold, with status HOLD and its expiry
+     * @throws CarNotFoundException if car doesn't exist
+     * @throws CarUnavailableException if time slot is unavailable
+     * @throws InvalidReservationException if request violates business rules
+     */
+    ReservationResponseDTO createHold(ReservationRequestDTO request, UUID requestingUserId);
+
+    /**
+     * Turns the user's hold into a confirmed reservation. Confirming an already confirmed
+     * reservation returns it unchanged.
+     *
+     * @param reservationId the hold to confirm
+     * @param userId the user requesting confirmation (for authorization)
+     * @return the confirmed reservation DTO
+     * @throws CarUnavailableException if the hold has expired
+     * @throws InvalidReservationException if the hold does not exist, belongs to another user or was cancelled
+     */
+    ReservationResponseDTO confirmHold(UUID reservationId, UUID userId);
+
+    /**
+     * Expires the given holds, in one statement, if they are still holds and their expiry has passed.
+     *
+     * @param holdIds holds that have come due
+     * @return the number of holds expired
+     */
+    int expireHolds(Collection<UUID> holdIds);
+
+    /**
+     * Moves one batch of confirmed or active reservations whose end time has passed to COMPLETED.
+     * Rows another node is sweeping at the same time are skipped.
+     *
+     * @param batchSize most reservations moved
+     * @return the number of reservations completed
+     */
+    int completeEndedReservations(int batchSize);
+
+    /**
+     * Moves one batch of confirmed reservations that have started to ACTIVE.
+     * Rows another node is sweeping at the same time are skipped.
+     *
+     * @param batchSize most reservations moved
+     * @return the number of reservations activated
+     */
+    int activateStartedReservations(int batchSize);
+
     /**
      * Cancels an existing reservation if cancellation rules allow it.
+     * Holds can be released at any time.
      *
      * @param reservationId the reservation to cancel
      * @param userId the user requesting cancellation (for authorization)
@@ -35,4 +94,43 @@ public interface ReservationService {
      * @throws InvalidReservationException if cancellation is not allowed
      */
     ReservationResponseDTO cancelReservation(UUID reservationId, UUID userId);
-}
\ No newline at end of file
+
+    /**
+     * Cancels all of the user's reservations that have not started yet, in one set-based statement.
+     * Reservations inside the minimum notice period are left untouched and reported as TOO_LATE.
+     *
+     * @param userId the user whose reservations to cancel
+     * @return one result per upcoming reservation, ordered by start time
+     */
+    List<CancellationResultDTO> cancelUpcomingReservations(UUID userId);
+
+    /**
+     * Cancels all reservations of a car that overlap a maintenance window, in one set-based statement.
+     * The customer notice period does not apply; rentals already under way are reported as ALREADY_STARTED.
+     *
+     * @param carId the car going into maintenance
+     * @param windowStart start of the maintenance window
+     * @param windowEnd end of the maintenance window
+     * @return one result per overlapping unfinished reservation, ordered by start time
+     * @throws CarNotFoundException if car doesn't exist
+     * @throws InvalidReservationException if the window is empty or inverted
+     */
+    List<CancellationResultDTO> cancelReservationsForMaintenance(UUID carId, Instant windowStart, Instant windowEnd);
+
+    /**
+     * Lists a user's reservations in (start time, id) order, one keyset page at a time.
+     *
+     * @param userId the user whose reservations to list
+     * @param requestingUserId the user asking (for authorization)
+     * @param statuses statuses to include; all when empty
+     * @param from earliest start time to include; unbounded when null
+     * @param to start times from here on are excluded; unbounded when null
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     * @param size maximum number of reservations on the page
+     * @return the page and the cursor of the next one
+     * @throws InvalidReservationException if the user may not list these reservations, the range is
+     *         inverted or the cursor is malformed
+     */
+    ReservationPageDTO getUserReservations(UUID userId, UUID requestingUserId, Set<ReservationStatus> statuses,
+                                           Instant from, Instant to, String cursor, int size);
+}
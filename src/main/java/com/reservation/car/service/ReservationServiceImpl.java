@@ -2,8 +2,15 @@ package com.reservation.car.service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataAccessResourceFailureException;
@@ -12,16 +19,23 @@ import org.springframework.dao.QueryTimeoutException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reservation.car.config.ReservationProperties;
 import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.CancellationResultDTO;
+import com.reservation.car.dto.response.ReservationPageDTO;
 import com.reservation.car.dto.response.ReservationResponseDTO;
 import com.reservation.car.entity.Reservation;
 import com.reservation.car.exception.CarNotFoundException;
 import com.reservation.car.exception.CarUnavailableException;
 import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.model.CancellationOutcome;
 import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.model.ReservationWriteMode;
+import com.reservation.car.notification.ChangeNotificationPublisher;
 import com.reservation.car.repository.CarRepository;
 import com.reservation.car.repository.ReservationRepository;
 import com.reservation.car.util.DatabaseUtils;
+import com.reservation.car.util.ReservationCursor;
 import com.reservation.car.util.TimeSlotValidator;
 
 import lombok.RequiredArgsConstructor;
@@ -35,31 +49,198 @@ public class ReservationServiceImpl implements ReservationService {
 
     private static final Duration MIN_CANCELLATION_NOTICE = Duration.ofMinutes(30);
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    /** Bounds of a user listing without a time range; no reservation starts outside them. */
+    private static final Instant LISTING_START = Instant.EPOCH;
+    private static final Instant LISTING_END = Instant.parse("9999-12-31T00:00:00Z");
+    /** Sorts before every reservation id, so a page starting at a start time includes all its reservations. */
+    private static final UUID LOWEST_ID = new UUID(0, 0);
 
     private final ReservationRepository reservationRepository;
     private final CarRepository carRepository;
+    private final OccupancyService occupancyService;
+    private final ChangeNotificationPublisher changePublisher;
+    private final ReservationProperties reservationProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ReservationResponseDTO createReservation(ReservationRequestDTO request, UUID requestingUserId) {
         validateAuthorization(request, requestingUserId);
         
-        log.info("Creating reservation for car {} from {} to {}", 
+        log.debug("Creating reservation for car {} from {} to {}", 
                 request.getCarId(), request.getStartTime(), request.getEndTime());
         
-        validateReservationRequest(request);
+        Reservation saved = book(createReservationEntity(request, ReservationStatus.CONFIRMED));
+        occupancyService.refresh(saved.getCarId(), saved.getStartTime(), saved.getEndTime());
+        changePublisher.reservationChanged(saved);
         
-        Reservation reservation = createReservationEntity(request);
+        log.debug("Created reservation with ID {}", saved.getId());
+        return ReservationResponseDTO.from(saved);
+    }
+
+    @Override
+    public ReservationResponseDTO createHold(ReservationRequestDTO request, UUID requestingUserId) {
+        validateAuthorization(request, requestingUserId);
         
-        Reservation saved = saveReservationWithRetry(reservation);
+        log.debug("Placing hold on car {} from {} to {}", 
+                request.getCarId(), request.getStartTime(), request.getEndTime());
+        
+        Reservation hold = createReservationEntity(request, ReservationStatus.HOLD);
+        // A hold never outlives the start of the reservation it stands for
+        Instant expiresAt = hold.getCreatedAt().plus(reservationProperties.holdTtl());
+        hold.setHoldExpiresAt(expiresAt.isBefore(request.getStartTime()) ? expiresAt : request.getStartTime());
+        
+        Reservation saved = book(hold);
+        // Holds are not part of the occupancy read model, which only counts confirmed reservations
+        changePublisher.reservationChanged(saved);
+        eventPublisher.publishEvent(new HoldPlacedEvent(saved.getId(), saved.getHoldExpiresAt()));
         
-        log.info("Successfully created reservation with ID {}", saved.getId());
+        log.debug("Placed hold {} until {}", saved.getId(), saved.getHoldExpiresAt());
         return ReservationResponseDTO.from(saved);
     }
 
+    @Override
+    public ReservationResponseDTO confirmHold(UUID reservationId, UUID userId) {
+        log.debug("Confirming hold {} for user {}", reservationId, userId);
+        
+        Optional<Reservation> confirmed = reservationRepository.confirmHoldIfAllowed(reservationId, userId);
+        if (confirmed.isEmpty()) {
+            return explainRejectedConfirmation(reservationId, userId);
+        }
+        
+        Reservation reservation = confirmed.get();
+        occupancyService.refresh(reservation.getCarId(), reservation.getStartTime(), reservation.getEndTime());
+        changePublisher.reservationChanged(reservation);
+        
+        log.debug("Confirmed hold {}", reservationId);
+        return ReservationResponseDTO.from(reservation);
+    }
+
+    @Override
+    public int expireHolds(Collection<UUID> holdIds) {
+        if (holdIds.isEmpty()) {
+            return 0;
+        }
+        List<Reservation> expired = reservationRepository.expireHolds(holdIds, Instant.now());
+        expired.forEach(changePublisher::reservationChanged);
+        return expired.size();
+    }
+
+    @Override
+    public int completeEndedReservations(int batchSize) {
+        // Occupancy is unaffected: the read model counts a reservation the same in every confirmed state
+        List<Reservation> completed = reservationRepository.completeEnded(batchSize);
+        publishSweptBatch(completed);
+        return completed.size();
+    }
+
+    @Override
+    public int activateStartedReservations(int batchSize) {
+        List<Reservation> activated = reservationRepository.activateStarted(batchSize);
+        publishSweptBatch(activated);
+        return activated.size();
+    }
+
     @Override
     public ReservationResponseDTO cancelReservation(UUID reservationId, UUID userId) {
-        log.info("Cancelling reservation {} for user {}", reservationId, userId);
+        log.debug("Cancelling reservation {} for user {}", reservationId, userId);
+        
+        // Fast path: ownership, status and notice period are all checked by the UPDATE itself
+        Optional<Reservation> cancelled = reservationRepository.cancelIfAllowed(
+            reservationId, userId, (int) MIN_CANCELLATION_NOTICE.toMinutes());
+        
+        if (cancelled.isEmpty()) {
+            return explainRejectedCancellation(reservationId, userId);
+        }
+        
+        Reservation reservation = cancelled.get();
+        occupancyService.refresh(reservation.getCarId(), reservation.getStartTime(), reservation.getEndTime());
+        changePublisher.reservationChanged(reservation);
+        
+        log.debug("Cancelled reservation {}", reservationId);
+        return ReservationResponseDTO.from(reservation);
+    }
+
+    @Override
+    public List<CancellationResultDTO> cancelUpcomingReservations(UUID userId) {
+        log.debug("Cancelling all upcoming reservations of user {}", userId);
+        
+        List<CancellationResultDTO> results = applyCancellations(reservationRepository.cancelUpcomingForUser(
+            userId, (int) MIN_CANCELLATION_NOTICE.toMinutes()), CancellationOutcome.TOO_LATE);
+        
+        log.info("Bulk cancellation for user {} processed {} reservations", userId, results.size());
+        return results;
+    }
+
+    @Override
+    public List<CancellationResultDTO> cancelReservationsForMaintenance(UUID carId, Instant windowStart, Instant windowEnd) {
+        log.debug("Cancelling reservations of car {} for maintenance from {} to {}", carId, windowStart, windowEnd);
         
+        if (!windowStart.isBefore(windowEnd)) {
+            throw new InvalidReservationException("Maintenance window start must be before its end");
+        }
+        if (!carRepository.existsById(carId)) {
+            throw new CarNotFoundException("Car with ID " + carId + " not found");
+        }
+        
+        List<CancellationResultDTO> results = applyCancellations(
+            reservationRepository.cancelForCarWindow(carId, windowStart, windowEnd), CancellationOutcome.ALREADY_STARTED);
+        
+        log.info("Maintenance cancellation for car {} processed {} reservations", carId, results.size());
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReservationPageDTO getUserReservations(UUID userId, UUID requestingUserId, Set<ReservationStatus> statuses,
+                                                  Instant from, Instant to, String cursor, int size) {
+        if (!userId.equals(requestingUserId)) {
+            throw new InvalidReservationException(
+                "User " + requestingUserId + " is not authorized to list reservations of user " + userId);
+        }
+        Instant rangeStart = from != null ? from : LISTING_START;
+        Instant rangeEnd = to != null ? to : LISTING_END;
+        if (!rangeStart.isBefore(rangeEnd)) {
+            throw new InvalidReservationException("Listing range start must be before its end");
+        }
+        
+        ReservationCursor after = new ReservationCursor(rangeStart, LOWEST_ID);
+        if (cursor != null) {
+            ReservationCursor previous = decodeCursor(cursor);
+            // A cursor from before the range (the client narrowed it) restarts at the range start
+            if (!previous.startTime().isBefore(rangeStart)) {
+                after = previous;
+            }
+        }
+        List<String> statusNames = (statuses.isEmpty() ? EnumSet.allOf(ReservationStatus.class) : statuses).stream()
+            .map(ReservationStatus::name)
+            .toList();
+        
+        // One row more than the page tells whether another page follows
+        List<Reservation> rows = reservationRepository.findPageForUser(
+            userId, after.startTime(), after.id(), rangeEnd, statusNames, size + 1);
+        
+        List<Reservation> page = rows.size() > size ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (rows.size() > size) {
+            Reservation last = page.get(page.size() - 1);
+            nextCursor = new ReservationCursor(last.getStartTime(), last.getId()).encode();
+        }
+        return new ReservationPageDTO(page.stream().map(ReservationResponseDTO::from).toList(), page.size(), nextCursor);
+    }
+
+    private static ReservationCursor decodeCursor(String cursor) {
+        try {
+            return ReservationCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidReservationException("Invalid cursor; pass the nextCursor of the previous page unchanged");
+        }
+    }
+
+    /**
+     * Diagnoses why the single-statement cancellation matched no row.
+     * Runs only on the slow path, so the happy path stays one round trip.
+     */
+    private ReservationResponseDTO explainRejectedCancellation(UUID reservationId, UUID userId) {
         Reservation reservation = reservationRepository.findById(reservationId)
             .orElseThrow(() -> new InvalidReservationException(
                 "Reservation with ID " + reservationId + " not found"));
@@ -69,28 +250,71 @@ public class ReservationServiceImpl implements ReservationService {
                 "User " + userId + " is not authorized to cancel this reservation");
         }
         
-        // If already cancelled, return as is
-        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+        // If already cancelled (or, for a hold, expired), return as is
+        if (reservation.getStatus() == ReservationStatus.CANCELLED
+                || reservation.getStatus() == ReservationStatus.EXPIRED) {
             return ReservationResponseDTO.from(reservation);
         }
         
-        // Cancellation requires at least 30 minutes before start time
-        Instant now = Instant.now();
-        Duration timeUntilStart = Duration.between(now, reservation.getStartTime());
+        Duration timeUntilStart = Duration.between(Instant.now(), reservation.getStartTime());
+        throw new InvalidReservationException(
+            String.format("Cancellation must be at least %d minutes before start time. "
+                + "Current time until start: %d minutes", 
+                MIN_CANCELLATION_NOTICE.toMinutes(), 
+                timeUntilStart.toMinutes()));
+    }
+
+    /**
+     * Diagnoses why the single-statement confirmation matched no row.
+     */
+    private ReservationResponseDTO explainRejectedConfirmation(UUID reservationId, UUID userId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new InvalidReservationException(
+                "Reservation with ID " + reservationId + " not found"));
         
-        if (timeUntilStart.compareTo(MIN_CANCELLATION_NOTICE) < 0) {
+        if (!reservation.getUserId().equals(userId)) {
             throw new InvalidReservationException(
-                String.format("Cancellation must be at least %d minutes before start time. "
-                    + "Current time until start: %d minutes", 
-                    MIN_CANCELLATION_NOTICE.toMinutes(), 
-                    timeUntilStart.toMinutes()));
+                "User " + userId + " is not authorized to confirm this reservation");
         }
         
-        reservation.setStatus(ReservationStatus.CANCELLED);
-        Reservation cancelled = reservationRepository.save(reservation);
-        
-        log.info("Successfully cancelled reservation {}", reservationId);
-        return ReservationResponseDTO.from(cancelled);
+        return switch (reservation.getStatus()) {
+            // Confirming twice is harmless, also once the reservation has moved on in its lifecycle
+            case CONFIRMED, ACTIVE, COMPLETED -> ReservationResponseDTO.from(reservation);
+            case CANCELLED -> throw new InvalidReservationException(
+                "Reservation " + reservationId + " has been cancelled");
+            case HOLD, EXPIRED -> throw new CarUnavailableException(
+                "Hold " + reservationId + " expired at " + reservation.getHoldExpiresAt()
+                    + "; the time slot is no longer reserved");
+        };
+    }
+
+    /**
+     * Updates the read model and notifies other nodes for every row the bulk statement cancelled.
+     * Rows it left CONFIRMED are reported with the given rejection outcome.
+     */
+    private List<CancellationResultDTO> applyCancellations(List<Reservation> rows, CancellationOutcome rejectedOutcome) {
+        List<CancellationResultDTO> results = new ArrayList<>(rows.size());
+        for (Reservation reservation : rows) {
+            if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+                occupancyService.refresh(reservation.getCarId(), reservation.getStartTime(), reservation.getEndTime());
+                changePublisher.reservationChanged(reservation);
+                results.add(CancellationResultDTO.from(reservation, CancellationOutcome.CANCELLED));
+            } else {
+                results.add(CancellationResultDTO.from(reservation, rejectedOutcome));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Sends one notification for a whole sweep batch. Neither transition changes which periods block
+     * a car, so listeners only need to drop what they cached against the reservation version the
+     * statement bumped; per-row events would cost a round trip each inside the sweep transaction.
+     */
+    private void publishSweptBatch(List<Reservation> swept) {
+        if (!swept.isEmpty()) {
+            changePublisher.reservationsChanged();
+        }
     }
 
     private void validateAuthorization(ReservationRequestDTO request, UUID requestingUserId) {
@@ -100,20 +324,39 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
 
-    private void validateReservationRequest(ReservationRequestDTO request) {
-        TimeSlotValidator.validateTimeSlot(request.getStartTime(), request.getEndTime());
+    /**
+     * Validates the request and inserts the reservation (or hold) if its slot is free.
+     */
+    private Reservation book(Reservation reservation) {
+        if (reservationProperties.writeMode() == ReservationWriteMode.ADVISORY_LOCK) {
+            // One writer per car: the overlap check below cannot be invalidated before our insert commits
+            reservationRepository.acquireTransactionLock(DatabaseUtils.advisoryLockKey(reservation.getCarId()));
+        }
+        
+        validateReservationRequest(reservation);
+        
+        // Lapsed holds no longer block the slot, but the exclusion constraint still sees them
+        reservationRepository.expireOverlappingHolds(
+            reservation.getCarId(), reservation.getStartTime(), reservation.getEndTime())
+            .forEach(changePublisher::reservationChanged);
+        
+        return saveReservationWithRetry(reservation);
+    }
+
+    private void validateReservationRequest(Reservation reservation) {
+        TimeSlotValidator.validateTimeSlot(reservation.getStartTime(), reservation.getEndTime());
         
-        carRepository.findById(request.getCarId())
+        carRepository.findById(reservation.getCarId())
             .orElseThrow(() -> new CarNotFoundException(
-                "Car with ID " + request.getCarId() + " not found"));
+                "Car with ID " + reservation.getCarId() + " not found"));
         
         // Check for overlapping reservations
         // This provides fast-fail for most conflicts and better user experience
         // Note: The check is repeated in saveReservationWithRetry() to handle race conditions
-        boolean hasOverlap = reservationRepository.hasOverlappingConfirmedReservation(
-            request.getCarId(), 
-            request.getStartTime(), 
-            request.getEndTime()
+        boolean hasOverlap = reservationRepository.hasBlockingReservation(
+            reservation.getCarId(), 
+            reservation.getStartTime(), 
+            reservation.getEndTime()
         );
         
         if (hasOverlap) {
@@ -122,13 +365,13 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
 
-    private Reservation createReservationEntity(ReservationRequestDTO request) {
+    private Reservation createReservationEntity(ReservationRequestDTO request, ReservationStatus status) {
         Reservation reservation = new Reservation();
         reservation.setCarId(request.getCarId());
         reservation.setUserId(request.getUserId());
         reservation.setStartTime(request.getStartTime());
         reservation.setEndTime(request.getEndTime());
-        reservation.setStatus(ReservationStatus.CONFIRMED);
+        reservation.setStatus(status);
         reservation.setCreatedAt(Instant.now());
         return reservation;
     }
@@ -139,7 +382,7 @@ public class ReservationServiceImpl implements ReservationService {
         while (attempts < MAX_RETRY_ATTEMPTS) {
             try {
                 // APPLICATION CHECK: Verify no conflicts before insert (fast B-tree index scan)
-                boolean hasOverlap = reservationRepository.hasOverlappingConfirmedReservation(
+                boolean hasOverlap = reservationRepository.hasBlockingReservation(
                     reservation.getCarId(), 
                     reservation.getStartTime(), 
                     reservation.getEndTime()
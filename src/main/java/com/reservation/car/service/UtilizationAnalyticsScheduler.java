@@ -0,0 +1,136 @@
+package com.reservation.car.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.reservation.car.config.AnalyticsProperties;
+import com.reservation.car.dto.response.UtilizationReportDTO;
+import com.reservation.car.exception.ReportNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the utilization analytics job once a day at {@code app.analytics.run-at} (UTC), outside
+ * business hours: it recomputes the current month to date and, until it has been reported in full,
+ * the previous month.
+ *
+ * A month computed by another node within the last hour is skipped. Nodes that start their run at
+ * the same moment may still both compute it; the results are identical, so that only costs a scan.
+ * Set {@code app.analytics.enabled=false} on all but one node to avoid it.
+ *
+ * Exported metrics: analytics.utilization.runs (timer, tagged with the outcome).
+ */
+@Component
+@Slf4j
+public class UtilizationAnalyticsScheduler implements SmartLifecycle {
+
+    private static final Duration RECENT = Duration.ofHours(1);
+
+    private final UtilizationAnalyticsService analyticsService;
+    private final AnalyticsProperties properties;
+    private final Timer succeeded;
+    private final Timer failed;
+
+    private volatile boolean running;
+    private Thread runner;
+
+    public UtilizationAnalyticsScheduler(UtilizationAnalyticsService analyticsService, AnalyticsProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.analyticsService = analyticsService;
+        this.properties = properties;
+        this.succeeded = runTimer(meterRegistry, "success");
+        this.failed = runTimer(meterRegistry, "failure");
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!properties.enabled()) {
+            return;
+        }
+        runner = new Thread(this::runLoop, "utilization-analytics");
+        runner.setDaemon(true);
+        runner.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (runner != null) {
+            runner.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Computes the months that are due at the given time.
+     */
+    void run(Instant now) {
+        YearMonth current = YearMonth.from(now.atZone(ZoneOffset.UTC));
+        YearMonth previous = current.minusMonths(1);
+
+        UtilizationReportDTO previousReport = findReport(previous);
+        if (previousReport == null || !previousReport.isComplete()) {
+            analyticsService.computeReport(previous);
+        }
+        UtilizationReportDTO currentReport = findReport(current);
+        if (currentReport == null || currentReport.getComputedAt().isBefore(now.minus(RECENT))) {
+            analyticsService.computeReport(current);
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                Thread.sleep(Duration.between(Instant.now(), nextRun(Instant.now())).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Timer.Sample sample = Timer.start();
+            try {
+                run(Instant.now());
+                sample.stop(succeeded);
+            } catch (RuntimeException e) {
+                sample.stop(failed);
+                log.warn("Utilization analytics failed, retrying at the next run: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private Instant nextRun(Instant now) {
+        ZonedDateTime today = LocalDate.ofInstant(now, ZoneOffset.UTC).atTime(properties.runAt()).atZone(ZoneOffset.UTC);
+        return today.toInstant().isAfter(now) ? today.toInstant() : today.plusDays(1).toInstant();
+    }
+
+    private static Timer runTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("analytics.utilization.runs")
+            .description("Nightly utilization analytics runs")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private UtilizationReportDTO findReport(YearMonth month) {
+        try {
+            return analyticsService.getReport(month);
+        } catch (ReportNotFoundException e) {
+            return null;
+        }
+    }
+}
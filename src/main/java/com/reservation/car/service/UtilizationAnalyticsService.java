@@ -0,0 +1,45 @@
+package com.reservation.car.service;
+
+import java.time.YearMonth;
+
+import org.springframework.data.domain.Page;
+
+import com.reservation.car.dto.response.CarUtilizationDTO;
+import com.reservation.car.dto.response.UtilizationReportDTO;
+import com.reservation.car.exception.ReportNotFoundException;
+
+/**
+ * Service computing and serving monthly utilization per car, per make and model and per hour of day.
+ * Reports are computed by a batch job outside business hours and read from summary tables.
+ */
+public interface UtilizationAnalyticsService {
+
+    /**
+     * Computes the report of a UTC month from its booked reservations and stores it,
+     * replacing any earlier report of the month.
+     *
+     * @param month the month to report on
+     * @return the stored report
+     */
+    UtilizationReportDTO computeReport(YearMonth month);
+
+    /**
+     * Returns the stored report of a month.
+     *
+     * @param month the month
+     * @return the report, without per-car figures
+     * @throws ReportNotFoundException if no report was computed for the month
+     */
+    UtilizationReportDTO getReport(YearMonth month);
+
+    /**
+     * Returns the cars of a month's report, most utilized first.
+     *
+     * @param month the month
+     * @param page page number (0-based)
+     * @param size number of cars per page
+     * @return paginated utilization of every car in the report
+     * @throws ReportNotFoundException if no report was computed for the month
+     */
+    Page<CarUtilizationDTO> getCarUtilization(YearMonth month, int page, int size);
+}
@@ -0,0 +1,409 @@
+package com.reservation.car.service;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.config.AnalyticsProperties;
+import com.reservation.car.dto.response.CarUtilizationDTO;
+import com.reservation.car.dto.response.HourlyUtilizationDTO;
+import com.reservation.car.dto.response.ModelUtilizationDTO;
+import com.reservation.car.dto.response.UtilizationReportDTO;
+import com.reservation.car.exception.ReportNotFoundException;
+import com.reservation.car.util.CarDictionary;
+import com.reservation.car.util.TimeSlotValidator;
+import com.reservation.car.util.UtilizationAccumulator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Computes utilization reports in one streamed pass over a month's reservations.
+ *
+ * Cars are loaded first and numbered densely in (make, model) order. Reservations are then read
+ * through a server-side cursor ({@code app.analytics.fetch-size} rows per round trip) on the read
+ * pool, packed into primitive chunks and aggregated on a fork-join pool, each worker into its own
+ * {@link UtilizationAccumulator}. A bounded number of chunks is in flight at a time, so memory
+ * depends on the number of cars and workers, never on the number of reservations. Cars added
+ * while the job runs are left out of the report.
+ */
+@Service
+@Slf4j
+public class UtilizationAnalyticsServiceImpl implements UtilizationAnalyticsService {
+
+    private static final String CARS_SQL = "SELECT id, make, model FROM car ORDER BY make, model, id";
+
+    // Reservations last at most a day, so only those starting in the month or the day before can overlap it
+    private static final String RESERVATIONS_SQL = """
+        SELECT car_id, start_time, end_time
+          FROM reservation
+         WHERE status IN ('CONFIRMED', 'ACTIVE', 'COMPLETED')
+           AND start_time >= ? AND start_time < ? AND end_time > ?
+        """;
+
+    private static final String UPSERT_REPORT_SQL = """
+        INSERT INTO utilization_report (month, computed_at, complete, car_count, reservation_count,
+                                        booked_minutes, hourly_booked_minutes)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (month) DO UPDATE
+           SET computed_at = EXCLUDED.computed_at, complete = EXCLUDED.complete,
+               car_count = EXCLUDED.car_count, reservation_count = EXCLUDED.reservation_count,
+               booked_minutes = EXCLUDED.booked_minutes, hourly_booked_minutes = EXCLUDED.hourly_booked_minutes
+        """;
+
+    private static final String REPORT_SQL = """
+        SELECT computed_at, complete, car_count, reservation_count, booked_minutes, hourly_booked_minutes
+          FROM utilization_report
+         WHERE month = ?
+        """;
+
+    private static final String MODELS_SQL = """
+        SELECT make, model, car_count, booked_minutes
+          FROM model_utilization
+         WHERE month = ?
+         ORDER BY make, model
+        """;
+
+    private static final String CARS_PAGE_SQL = """
+        SELECT car_id, booked_minutes
+          FROM car_utilization
+         WHERE month = ?
+         ORDER BY booked_minutes DESC, car_id
+         LIMIT ? OFFSET ?
+        """;
+
+    /** Reservations a fork-join leaf aggregates without splitting further. */
+    private static final int LEAF_SIZE = 1024;
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    /** The cars of a report, numbered densely in (make, model) order, with make and model per ordinal. */
+    private record Fleet(CarDictionary ids, String[] makes, String[] models) {
+
+        int size() {
+            return ids.size();
+        }
+    }
+
+    /** Reservations in columnar primitive arrays, as handed to the workers. */
+    private record Chunk(int[] cars, long[] starts, long[] ends, int size) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final AnalyticsProperties properties;
+
+    public UtilizationAnalyticsServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                           AnalyticsProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public UtilizationReportDTO computeReport(YearMonth month) {
+        long started = System.nanoTime();
+        Instant monthStart = startOf(month);
+        Instant monthEnd = startOf(month.plusMonths(1));
+
+        int parallelism = properties.parallelism() > 0 ? properties.parallelism() : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Fleet cars = readOnlyTransaction.execute(status -> loadCars());
+            Map<Thread, UtilizationAccumulator> partials = new ConcurrentHashMap<>();
+            long reservations = readOnlyTransaction.execute(status ->
+                aggregate(cars, monthStart, monthEnd, pool, partials));
+
+            UtilizationAccumulator total = new UtilizationAccumulator(cars.size());
+            partials.values().forEach(total::addAll);
+
+            Instant computedAt = Instant.now();
+            boolean complete = !computedAt.isBefore(monthEnd);
+            writeTransaction.executeWithoutResult(status ->
+                store(month, computedAt, complete, cars, reservations, total));
+
+            log.info("Computed utilization of {} from {} reservations of {} cars in {} ms", month, reservations,
+                cars.size(), (System.nanoTime() - started) / 1_000_000);
+            return getReport(month);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UtilizationReportDTO getReport(YearMonth month) {
+        LocalDate day = month.atDay(1);
+        List<UtilizationReportDTO> reports = jdbcTemplate.query(REPORT_SQL, (rs, rowNum) -> {
+            int carCount = rs.getInt("car_count");
+            long bookedMinutes = rs.getLong("booked_minutes");
+            Long[] hourly = (Long[]) rs.getArray("hourly_booked_minutes").getArray();
+            long monthMinutes = minutesIn(month);
+
+            List<HourlyUtilizationDTO> hours = new ArrayList<>(UtilizationAccumulator.HOURS_PER_DAY);
+            for (int hour = 0; hour < UtilizationAccumulator.HOURS_PER_DAY; hour++) {
+                hours.add(new HourlyUtilizationDTO(hour, hourly[hour],
+                    ratio(hourly[hour], (long) carCount * month.lengthOfMonth() * 60)));
+            }
+            return new UtilizationReportDTO(month, rs.getObject("computed_at", OffsetDateTime.class).toInstant(),
+                rs.getBoolean("complete"), carCount, rs.getLong("reservation_count"), bookedMinutes,
+                ratio(bookedMinutes, carCount * monthMinutes), hours, null);
+        }, day);
+        if (reports.isEmpty()) {
+            throw new ReportNotFoundException("No utilization report for " + month);
+        }
+
+        UtilizationReportDTO report = reports.get(0);
+        report.setModels(jdbcTemplate.query(MODELS_SQL, (rs, rowNum) -> new ModelUtilizationDTO(
+            rs.getString("make"),
+            rs.getString("model"),
+            rs.getInt("car_count"),
+            rs.getLong("booked_minutes"),
+            ratio(rs.getLong("booked_minutes"), rs.getInt("car_count") * minutesIn(month))
+        ), day));
+        return report;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CarUtilizationDTO> getCarUtilization(YearMonth month, int page, int size) {
+        LocalDate day = month.atDay(1);
+        List<Integer> carCounts = jdbcTemplate.queryForList(
+            "SELECT car_count FROM utilization_report WHERE month = ?", Integer.class, day);
+        if (carCounts.isEmpty()) {
+            throw new ReportNotFoundException("No utilization report for " + month);
+        }
+
+        long monthMinutes = minutesIn(month);
+        List<CarUtilizationDTO> content = jdbcTemplate.query(CARS_PAGE_SQL, (rs, rowNum) -> new CarUtilizationDTO(
+            rs.getObject("car_id", UUID.class),
+            rs.getLong("booked_minutes"),
+            ratio(rs.getLong("booked_minutes"), monthMinutes)
+        ), day, size, (long) page * size);
+        return new PageImpl<>(content, PageRequest.of(page, size), carCounts.get(0));
+    }
+
+    private Fleet loadCars() {
+        Integer carCount = jdbcTemplate.queryForObject("SELECT count(*) FROM car", Integer.class);
+        CarDictionary ids = new CarDictionary(carCount == null ? 0 : carCount);
+        List<String> makes = new ArrayList<>();
+        List<String> models = new ArrayList<>();
+        jdbcTemplate.query(CARS_SQL, (RowCallbackHandler) rs -> {
+            ids.add(rs.getObject("id", UUID.class));
+            makes.add(rs.getString("make"));
+            models.add(rs.getString("model"));
+        });
+        return new Fleet(ids, makes.toArray(String[]::new), models.toArray(String[]::new));
+    }
+
+    /**
+     * Streams the month's reservations into chunks and aggregates them on the pool.
+     *
+     * @return the number of reservations aggregated
+     */
+    private long aggregate(Fleet cars, Instant monthStart, Instant monthEnd, ForkJoinPool pool,
+                           Map<Thread, UtilizationAccumulator> partials) {
+        int chunkSize = properties.chunkSize();
+        int maxInFlight = 2 * pool.getParallelism();
+        long windowStart = monthStart.getEpochSecond();
+        long windowEnd = monthEnd.getEpochSecond();
+
+        Deque<ForkJoinTask<?>> inFlight = new ArrayDeque<>();
+        long[] aggregated = new long[1];
+        Chunk[] current = {newChunk(chunkSize)};
+        int[] filled = new int[1];
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RESERVATIONS_SQL);
+            // Fetched in batches through a cursor: needs the transaction (autocommit off) around it
+            statement.setFetchSize(properties.fetchSize());
+            statement.setObject(1, monthStart.minus(TimeSlotValidator.MAX_DURATION).atOffset(ZoneOffset.UTC));
+            statement.setObject(2, monthEnd.atOffset(ZoneOffset.UTC));
+            statement.setObject(3, monthStart.atOffset(ZoneOffset.UTC));
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            int car = cars.ids().ordinal(rs.getObject(1, UUID.class));
+            // A car added since the dictionary was loaded is left to the next run
+            if (car < 0) {
+                return;
+            }
+            aggregated[0]++;
+            Chunk chunk = current[0];
+            int row = filled[0]++;
+            chunk.cars()[row] = car;
+            chunk.starts()[row] = Math.max(windowStart, epochSecond(rs, 2));
+            chunk.ends()[row] = Math.min(windowEnd, epochSecond(rs, 3));
+            if (filled[0] == chunkSize) {
+                submit(pool, inFlight, maxInFlight, chunk, chunkSize, cars.size(), partials);
+                current[0] = newChunk(chunkSize);
+                filled[0] = 0;
+            }
+        });
+
+        submit(pool, inFlight, maxInFlight, current[0], filled[0], cars.size(), partials);
+        inFlight.forEach(ForkJoinTask::join);
+        return aggregated[0];
+    }
+
+    private static void submit(ForkJoinPool pool, Deque<ForkJoinTask<?>> inFlight, int maxInFlight,
+                               Chunk chunk, int size, int carCount, Map<Thread, UtilizationAccumulator> partials) {
+        if (size == 0) {
+            return;
+        }
+        // Reading is faster than aggregating: wait for the oldest chunk rather than buffering more
+        if (inFlight.size() >= maxInFlight) {
+            inFlight.removeFirst().join();
+        }
+        Chunk sized = new Chunk(chunk.cars(), chunk.starts(), chunk.ends(), size);
+        inFlight.addLast(pool.submit(new AggregateChunk(sized, 0, size, carCount, partials)));
+    }
+
+    /**
+     * Splits a chunk in halves down to {@link #LEAF_SIZE} reservations and folds each leaf into the
+     * accumulator of the worker running it.
+     */
+    private static final class AggregateChunk extends RecursiveAction {
+
+        private final Chunk chunk;
+        private final int from;
+        private final int to;
+        private final int carCount;
+        private final Map<Thread, UtilizationAccumulator> partials;
+
+        AggregateChunk(Chunk chunk, int from, int to, int carCount, Map<Thread, UtilizationAccumulator> partials) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+            this.carCount = carCount;
+            this.partials = partials;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                UtilizationAccumulator accumulator = partials.computeIfAbsent(Thread.currentThread(),
+                    thread -> new UtilizationAccumulator(carCount));
+                for (int row = from; row < to; row++) {
+                    accumulator.add(chunk.cars()[row], chunk.starts()[row], chunk.ends()[row]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AggregateChunk(chunk, from, middle, carCount, partials),
+                      new AggregateChunk(chunk, middle, to, carCount, partials));
+        }
+    }
+
+    private void store(YearMonth month, Instant computedAt, boolean complete, Fleet cars,
+                       long reservations, UtilizationAccumulator total) {
+        LocalDate day = month.atDay(1);
+        long bookedSeconds = 0;
+        for (int car = 0; car < cars.size(); car++) {
+            bookedSeconds += total.carSeconds(car);
+        }
+        long bookedMinutes = bookedSeconds / SECONDS_PER_MINUTE;
+
+        // Upserting the report first locks it: a concurrent run of the same month waits for this one
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_REPORT_SQL);
+            Long[] hourly = new Long[UtilizationAccumulator.HOURS_PER_DAY];
+            for (int hour = 0; hour < hourly.length; hour++) {
+                hourly[hour] = total.hourSeconds(hour) / SECONDS_PER_MINUTE;
+            }
+            Array hourlyArray = connection.createArrayOf("bigint", hourly);
+            statement.setObject(1, day);
+            statement.setObject(2, computedAt.atOffset(ZoneOffset.UTC));
+            statement.setBoolean(3, complete);
+            statement.setInt(4, cars.size());
+            statement.setLong(5, reservations);
+            statement.setLong(6, bookedMinutes);
+            statement.setArray(7, hourlyArray);
+            return statement;
+        });
+        jdbcTemplate.update("DELETE FROM car_utilization WHERE month = ?", day);
+        jdbcTemplate.update("DELETE FROM model_utilization WHERE month = ?", day);
+
+        jdbcTemplate.batchUpdate("INSERT INTO car_utilization (month, car_id, booked_minutes) VALUES (?, ?, ?)",
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int car) throws SQLException {
+                    statement.setObject(1, day);
+                    statement.setObject(2, cars.ids().carId(car));
+                    statement.setLong(3, total.carSeconds(car) / SECONDS_PER_MINUTE);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return cars.size();
+                }
+            });
+
+        // Ordinals follow (make, model), so each model is a contiguous run
+        List<Object[]> models = new ArrayList<>();
+        int first = 0;
+        for (int car = 1; car <= cars.size(); car++) {
+            if (car == cars.size() || !cars.makes()[car].equals(cars.makes()[first])
+                    || !cars.models()[car].equals(cars.models()[first])) {
+                long modelSeconds = 0;
+                for (int member = first; member < car; member++) {
+                    modelSeconds += total.carSeconds(member);
+                }
+                models.add(new Object[] {day, cars.makes()[first], cars.models()[first], car - first,
+                    modelSeconds / SECONDS_PER_MINUTE});
+                first = car;
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO model_utilization (month, make, model, car_count, booked_minutes) VALUES (?, ?, ?, ?, ?)", models);
+    }
+
+    private static Chunk newChunk(int size) {
+        return new Chunk(new int[size], new long[size], new long[size], size);
+    }
+
+    private static long epochSecond(ResultSet rs, int column) throws SQLException {
+        return rs.getObject(column, OffsetDateTime.class).toEpochSecond();
+    }
+
+    private static Instant startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static long minutesIn(YearMonth month) {
+        return month.lengthOfMonth() * 24L * 60;
+    }
+
+    private static double ratio(long bookedMinutes, long totalMinutes) {
+        return totalMinutes == 0 ? 0 : (double) bookedMinutes / totalMinutes;
+    }
+}
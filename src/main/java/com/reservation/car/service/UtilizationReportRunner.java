@@ -0,0 +1,34 @@
+package com.reservation.car.service;
+
+import java.time.YearMonth;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Computes the utilization reports of the months given with {@code --compute-utilization=yyyy-MM},
+ * e.g. to backfill months before the nightly job was enabled. Combine with
+ * {@code --spring.main.web-application-type=none} to run it as a one-off command that exits when done.
+ */
+@Component
+@RequiredArgsConstructor
+public class UtilizationReportRunner implements ApplicationRunner {
+
+    static final String COMPUTE_OPTION = "compute-utilization";
+
+    private final UtilizationAnalyticsService analyticsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(COMPUTE_OPTION)) {
+            return;
+        }
+
+        for (String month : args.getOptionValues(COMPUTE_OPTION)) {
+            analyticsService.computeReport(YearMonth.parse(month));
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.reservation.car.util;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.reservation.car.model.BusyInterval;
+
+/**
+ * Booked periods of every car, held in memory for schedule reads.
+ *
+ * Cars are numbered densely by a {@link CarDictionary} in the order they are added, and per-car
+ * arrays are indexed by that ordinal. Each car's periods are kept in one flat {@code long[]} of
+ * (start, end, reservation ID high bits, low bits) entries in whole epoch seconds, sorted by start,
+ * so a window is found by binary search. Periods ending at or before the horizon are dropped; the
+ * index only answers windows starting at or after it. Not thread-safe.
+ */
+public class AvailabilityIndex {
+
+    /** Longs per period: start, end and the two halves of the reservation ID. */
+    static final int STRIDE = 4;
+
+    private static final long[] NONE = new long[0];
+
+    private final CarDictionary cars;
+    /** Periods per car ordinal; only the first {@code sizes[car] * STRIDE} longs are in use. */
+    private long[][] periods;
+    private int[] sizes;
+    private long periodCount;
+    private long horizon;
+
+    /**
+     * @param horizon start of the indexed time range, in epoch seconds
+     * @param expectedCars number of cars to size the index for
+     */
+    public AvailabilityIndex(long horizon, int expectedCars) {
+        int capacity = Math.max(16, expectedCars);
+        this.cars = new CarDictionary(capacity);
+        this.periods = new long[capacity][];
+        this.sizes = new int[capacity];
+        this.horizon = horizon;
+    }
+
+    /**
+     * Adds a car without periods; does nothing if it is already indexed.
+     *
+     * @return the car ordinal
+     */
+    public int putCar(UUID carId) {
+        int known = cars.size();
+        int ordinal = cars.add(carId);
+        if (ordinal < known) {
+            return ordinal;
+        }
+        if (ordinal == periods.length) {
+            int capacity = periods.length * 2;
+            periods = Arrays.copyOf(periods, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        periods[ordinal] = NONE;
+        return ordinal;
+    }
+
+    public boolean containsCar(UUID carId) {
+        return cars.contains(carId);
+    }
+
+    /**
+     * Records a booked period of a reservation, replacing any earlier period of the same reservation.
+     * Periods that end at or before the horizon are not kept. Adds the car if needed.
+     *
+     * @param start start of the period, in epoch seconds
+     * @param end end of the period (exclusive), in epoch seconds
+     */
+    public void put(UUID carId, UUID reservationId, long start, long end) {
+        int car = putCar(carId);
+        removeFrom(car, reservationId);
+        if (end <= horizon || end <= start) {
+            return;
+        }
+
+        long[] carPeriods = periods[car];
+        int size = sizes[car];
+        if ((size + 1) * STRIDE > carPeriods.length) {
+            carPeriods = Arrays.copyOf(carPeriods, Math.max(4, size * 2) * STRIDE);
+            periods[car] = carPeriods;
+        }
+        int position = firstStartingAtOrAfter(carPeriods, size, start);
+        System.arraycopy(carPeriods, position * STRIDE, carPeriods, (position + 1) * STRIDE, (size - position) * STRIDE);
+        int offset = position * STRIDE;
+        carPeriods[offset] = start;
+        carPeriods[offset + 1] = end;
+        carPeriods[offset + 2] = reservationId.getMostSignificantBits();
+        carPeriods[offset + 3] = reservationId.getLeastSignificantBits();
+        sizes[car] = size + 1;
+        periodCount++;
+    }
+
+    /**
+     * Forgets the period of a reservation, e.g. once it has been cancelled.
+     */
+    public void remove(UUID carId, UUID reservationId) {
+        int car = cars.ordinal(carId);
+        if (car >= 0) {
+            removeFrom(car, reservationId);
+        }
+    }
+
+    /**
+     * Adds the periods of a car overlapping [from, to), ordered by start time, in the shape of
+     * {@link com.reservation.car.repository.CarRepository#findBusyIntervals}: a car without any
+     * period in the window comes back once with null times, an unknown car not at all.
+     *
+     * @param from start of the window, in epoch seconds; must not be before the horizon
+     * @param to end of the window (exclusive), in epoch seconds
+     */
+    public void collectBusyIntervals(UUID carId, long from, long to, List<BusyInterval> into) {
+        int car = cars.ordinal(carId);
+        if (car < 0) {
+            return;
+        }
+        long[] carPeriods = periods[car];
+        int size = sizes[car];
+        int added = 0;
+        // Periods last at most a day, so none starting earlier than that can reach into the window
+        long earliestStart = from - TimeSlotValidator.MAX_DURATION.toSeconds();
+        for (int i = firstStartingAtOrAfter(carPeriods, size, earliestStart); i < size; i++) {
+            int offset = i * STRIDE;
+            if (carPeriods[offset] >= to) {
+                break;
+            }
+            if (carPeriods[offset + 1] > from) {
+                into.add(new BusyInterval(carId, Instant.ofEpochSecond(carPeriods[offset]),
+                    Instant.ofEpochSecond(carPeriods[offset + 1])));
+                added++;
+            }
+        }
+        if (added == 0) {
+            into.add(new BusyInterval(carId, null, null));
+        }
+    }
+
+    /**
+     * Moves the horizon forward and drops the periods that end at or before it.
+     *
+     * @param newHorizon the new horizon, in epoch seconds; ignored if it is not after the current one
+     */
+    public void prune(long newHorizon) {
+        if (newHorizon <= horizon) {
+            return;
+        }
+        horizon = newHorizon;
+        for (int car = 0; car < cars.size(); car++) {
+            long[] carPeriods = periods[car];
+            int kept = 0;
+            for (int i = 0; i < sizes[car]; i++) {
+                int offset = i * STRIDE;
+                if (carPeriods[offset + 1] > newHorizon) {
+                    System.arraycopy(carPeriods, offset, carPeriods, kept * STRIDE, STRIDE);
+                    kept++;
+                }
+            }
+            periodCount -= sizes[car] - kept;
+            sizes[car] = kept;
+        }
+    }
+
+    public long horizon() {
+        return horizon;
+    }
+
+    public int carCount() {
+        return cars.size();
+    }
+
+    public long periodCount() {
+        return periodCount;
+    }
+
+    UUID car(int ordinal) {
+        return cars.carId(ordinal);
+    }
+
+    int periodCount(int ordinal) {
+        return sizes[ordinal];
+    }
+
+    /** Periods of a car in the flat layout; only the first {@code periodCount(ordinal) * STRIDE} longs are valid. */
+    long[] periods(int ordinal) {
+        return periods[ordinal];
+    }
+
+    /**
+     * Installs the periods of a freshly added car, as read back from a snapshot.
+     * They must be sorted by start and entirely after the horizon.
+     */
+    void setPeriods(int ordinal, long[] carPeriods, int size) {
+        periods[ordinal] = carPeriods;
+        periodCount += size - sizes[ordinal];
+        sizes[ordinal] = size;
+    }
+
+    private void removeFrom(int car, UUID reservationId) {
+        long[] carPeriods = periods[car];
+        int size = sizes[car];
+        long high = reservationId.getMostSignificantBits();
+        long low = reservationId.getLeastSignificantBits();
+        for (int i = 0; i < size; i++) {
+            int offset = i * STRIDE;
+            if (carPeriods[offset + 2] == high && carPeriods[offset + 3] == low) {
+                System.arraycopy(carPeriods, offset + STRIDE, carPeriods, offset, (size - i - 1) * STRIDE);
+                sizes[car] = size - 1;
+                periodCount--;
+                return;
+            }
+        }
+    }
+
+    private static int firstStartingAtOrAfter(long[] carPeriods, int size, long start) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (carPeriods[middle * STRIDE] < start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,171 @@
+package com.reservation.car.util;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot file of an {@link AvailabilityIndex} and the marker of the database state it reflects.
+ *
+ * Layout (big-endian): magic, format version, body length and CRC32C of the body, followed by the
+ * body: the marker, the horizon, then every car as (ID, period count) in ordinal order, then all
+ * periods of all cars in the index's flat layout. Files are written through a temporary file and
+ * an atomic rename, and memory-mapped for reading; a file that is truncated, fails its checksum or
+ * has another format version is rejected as a whole.
+ */
+public final class AvailabilitySnapshot {
+
+    /**
+     * Database state an index reflects.
+     *
+     * @param pgSnapshot the {@code pg_snapshot} it was read in; changes by transactions not visible in it are missing
+     * @param reservationVersion the reservation version counter in that snapshot
+     * @param deletionVersion the deletion version counter in that snapshot
+     * @param takenAt when the snapshot was read
+     */
+    public record Marker(String pgSnapshot, long reservationVersion, long deletionVersion, Instant takenAt) {
+    }
+
+    /**
+     * An index read back from a snapshot file, with its marker.
+     */
+    public record Loaded(AvailabilityIndex index, Marker marker) {
+    }
+
+    private static final int MAGIC = 0x43415658;
+    private static final int FORMAT_VERSION = 1;
+    /** Magic, format version, body length, checksum. */
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8;
+    /** Car ID and period count. */
+    private static final int CAR_BYTES = 8 + 8 + 4;
+
+    // Prevent instantiation
+    private AvailabilitySnapshot() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Writes the index and its marker, replacing the file atomically.
+     *
+     * @throws IOException if the file cannot be written or the index is too large for one mapping
+     */
+    public static void write(Path path, AvailabilityIndex index, Marker marker) throws IOException {
+        byte[] pgSnapshot = marker.pgSnapshot().getBytes(StandardCharsets.UTF_8);
+        long bodyBytes = 4 + pgSnapshot.length + 8 + 8 + 8 + 8 + 4
+            + (long) index.carCount() * CAR_BYTES + index.periodCount() * AvailabilityIndex.STRIDE * Long.BYTES;
+        if (HEADER_BYTES + bodyBytes > Integer.MAX_VALUE) {
+            throw new IOException("Availability index too large for a snapshot: " + bodyBytes + " bytes");
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = parent.resolve(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + bodyBytes);
+
+            buffer.position(HEADER_BYTES);
+            buffer.putInt(pgSnapshot.length).put(pgSnapshot);
+            buffer.putLong(marker.reservationVersion());
+            buffer.putLong(marker.deletionVersion());
+            buffer.putLong(marker.takenAt().toEpochMilli());
+            buffer.putLong(index.horizon());
+            buffer.putInt(index.carCount());
+            for (int car = 0; car < index.carCount(); car++) {
+                UUID carId = index.car(car);
+                buffer.putLong(carId.getMostSignificantBits()).putLong(carId.getLeastSignificantBits());
+                buffer.putInt(index.periodCount(car));
+            }
+            LongBuffer periods = buffer.slice().asLongBuffer();
+            for (int car = 0; car < index.carCount(); car++) {
+                periods.put(index.periods(car), 0, index.periodCount(car) * AvailabilityIndex.STRIDE);
+            }
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putLong(8, bodyBytes);
+            buffer.putLong(16, checksum(buffer));
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads a snapshot back into a new index.
+     *
+     * @throws IOException if the file cannot be read or is not a complete, intact snapshot of this format
+     */
+    public static Loaded read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not an availability snapshot: " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Not an availability snapshot of format " + FORMAT_VERSION);
+            }
+            if (buffer.getLong(8) != size - HEADER_BYTES) {
+                throw new IOException("Truncated availability snapshot");
+            }
+            if (buffer.getLong(16) != checksum(buffer)) {
+                throw new IOException("Availability snapshot fails its checksum");
+            }
+
+            try {
+                return decode(buffer.position(HEADER_BYTES));
+            } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+                throw new IOException("Malformed availability snapshot", e);
+            }
+        }
+    }
+
+    private static Loaded decode(ByteBuffer buffer) {
+        byte[] pgSnapshot = new byte[buffer.getInt()];
+        buffer.get(pgSnapshot);
+        long reservationVersion = buffer.getLong();
+        long deletionVersion = buffer.getLong();
+        Instant takenAt = Instant.ofEpochMilli(buffer.getLong());
+        long horizon = buffer.getLong();
+        int carCount = buffer.getInt();
+
+        AvailabilityIndex index = new AvailabilityIndex(horizon, carCount);
+        int[] periodCounts = new int[carCount];
+        for (int car = 0; car < carCount; car++) {
+            if (index.putCar(new UUID(buffer.getLong(), buffer.getLong())) != car) {
+                throw new IllegalArgumentException("Duplicate car in availability snapshot");
+            }
+            periodCounts[car] = buffer.getInt();
+        }
+        LongBuffer periods = buffer.slice().asLongBuffer();
+        for (int car = 0; car < carCount; car++) {
+            long[] carPeriods = new long[periodCounts[car] * AvailabilityIndex.STRIDE];
+            periods.get(carPeriods);
+            index.setPeriods(car, carPeriods, periodCounts[car]);
+        }
+        if (periods.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing data in availability snapshot");
+        }
+
+        Marker marker = new Marker(new String(pgSnapshot, StandardCharsets.UTF_8), reservationVersion,
+            deletionVersion, takenAt);
+        return new Loaded(index, marker);
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES));
+        return crc.getValue();
+    }
+}
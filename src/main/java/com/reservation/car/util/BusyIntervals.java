@@ -0,0 +1,73 @@
+package com.reservation.car.util;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import com.reservation.car.model.BusyInterval;
+
+/**
+ * Merges a car's booked periods into busy intervals and delta-encodes them for the schedule API.
+ *
+ * The encoding is a flat array of whole seconds alternating gap and length: the gap from the
+ * start of the window to the first busy interval, its length, the gap from its end to the next
+ * one, its length, and so on. Intervals are clipped to the window; overlapping and touching
+ * periods are merged, so every gap after the first is positive. Sub-second bounds are widened
+ * to whole seconds, never narrowed.
+ */
+public final class BusyIntervals {
+
+    // Prevent instantiation
+    private BusyIntervals() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Merges and encodes booked periods ordered by start time; entries with null times are skipped.
+     *
+     * @param from start of the window, in whole seconds
+     * @param to end of the window (exclusive), in whole seconds
+     * @param periods booked periods of one car, ordered by start time
+     * @return gaps and lengths in seconds, alternating, starting with a gap
+     */
+    public static long[] encode(Instant from, Instant to, List<BusyInterval> periods) {
+        long windowStart = from.getEpochSecond();
+        long windowEnd = to.getEpochSecond();
+        long[] encoded = new long[2 * periods.size()];
+        int length = 0;
+        long previousEnd = windowStart;
+        long start = -1;
+        long end = -1;
+
+        for (BusyInterval period : periods) {
+            if (period.startTime() == null) {
+                continue;
+            }
+            long periodStart = Math.max(period.startTime().getEpochSecond(), windowStart);
+            long periodEnd = Math.min(ceilSeconds(period.endTime()), windowEnd);
+            if (periodEnd <= periodStart) {
+                continue;
+            }
+            if (start >= 0 && periodStart <= end) {
+                end = Math.max(end, periodEnd);
+                continue;
+            }
+            if (start >= 0) {
+                encoded[length++] = start - previousEnd;
+                encoded[length++] = end - start;
+                previousEnd = end;
+            }
+            start = periodStart;
+            end = periodEnd;
+        }
+        if (start >= 0) {
+            encoded[length++] = start - previousEnd;
+            encoded[length++] = end - start;
+        }
+        return Arrays.copyOf(encoded, length);
+    }
+
+    private static long ceilSeconds(Instant instant) {
+        return instant.getNano() == 0 ? instant.getEpochSecond() : instant.getEpochSecond() + 1;
+    }
+}
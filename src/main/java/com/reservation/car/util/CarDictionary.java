@@ -0,0 +1,133 @@
+package com.reservation.car.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Dense int ordinals for car IDs, in primitive arrays only.
+ *
+ * Ordinals are handed out in insertion order, from 0, and never reused. The ID of each ordinal is
+ * kept as two longs in the reverse arrays; the hash table is an open-addressing {@code int[]} of
+ * ordinal + 1 (0 marks a free slot) probed linearly and compared against the reverse arrays, so
+ * it stores no keys of its own. At most half the slots are used, which puts a car at 16 bytes of
+ * ID plus 8 to 16 bytes of table, against some 90 for a {@code HashMap<UUID, Integer>} entry.
+ * There is no removal: a deleted car keeps its ordinal. Not thread-safe.
+ */
+public final class CarDictionary {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] high;
+    private long[] low;
+    private int[] slots;
+    private int size;
+
+    /**
+     * @param expectedSize number of cars to size the dictionary for; it grows beyond that as needed
+     */
+    public CarDictionary(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        this.high = new long[capacity];
+        this.low = new long[capacity];
+        this.slots = new int[tableSize(capacity)];
+    }
+
+    /**
+     * Returns the ordinal of a car, adding it if it is not in the dictionary yet.
+     */
+    public int add(UUID carId) {
+        long mostSignificant = carId.getMostSignificantBits();
+        long leastSignificant = carId.getLeastSignificantBits();
+        int mask = slots.length - 1;
+        int slot = hash(mostSignificant, leastSignificant) & mask;
+        while (slots[slot] != 0) {
+            int ordinal = slots[slot] - 1;
+            if (high[ordinal] == mostSignificant && low[ordinal] == leastSignificant) {
+                return ordinal;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == high.length) {
+            grow();
+            return add(carId);
+        }
+        int ordinal = size++;
+        high[ordinal] = mostSignificant;
+        low[ordinal] = leastSignificant;
+        slots[slot] = ordinal + 1;
+        return ordinal;
+    }
+
+    /**
+     * Returns the ordinal of a car, or -1 if it is not in the dictionary.
+     */
+    public int ordinal(UUID carId) {
+        long mostSignificant = carId.getMostSignificantBits();
+        long leastSignificant = carId.getLeastSignificantBits();
+        int mask = slots.length - 1;
+        int slot = hash(mostSignificant, leastSignificant) & mask;
+        while (slots[slot] != 0) {
+            int ordinal = slots[slot] - 1;
+            if (high[ordinal] == mostSignificant && low[ordinal] == leastSignificant) {
+                return ordinal;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public boolean contains(UUID carId) {
+        return ordinal(carId) >= 0;
+    }
+
+    /**
+     * Returns the car ID of an ordinal.
+     *
+     * @throws IndexOutOfBoundsException if no car has that ordinal
+     */
+    public UUID carId(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IndexOutOfBoundsException("No car with ordinal " + ordinal + " among " + size);
+        }
+        return new UUID(high[ordinal], low[ordinal]);
+    }
+
+    /**
+     * Returns the number of cars, which is also the first unused ordinal.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        int capacity = high.length * 2;
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+        slots = new int[tableSize(capacity)];
+        int mask = slots.length - 1;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            int slot = hash(high[ordinal], low[ordinal]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = ordinal + 1;
+        }
+    }
+
+    // Smallest power of two holding the capacity at half load
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 2;
+    }
+
+    // Car IDs are random, but the mix also spreads sequential or time-ordered ones (murmur3 finalizer)
+    private static int hash(long mostSignificant, long leastSignificant) {
+        long h = mostSignificant ^ Long.rotateLeft(leastSignificant, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,199 @@
+package com.reservation.car.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Turns single lines of a fleet import body into validated car rows.
+ * Each parser handles exactly one line, so an import never holds more than one line in memory.
+ */
+public final class CarImportParser {
+
+    public static final int MAX_MAKE_LENGTH = 50;
+    public static final int MAX_MODEL_LENGTH = 50;
+    public static final int MAX_LICENSE_PLATE_LENGTH = 20;
+
+    static final String MAKE_COLUMN = "make";
+    static final String MODEL_COLUMN = "model";
+    static final String LICENSE_PLATE_COLUMN = "license_plate";
+
+    /**
+     * A car as read from one line, trimmed and within the column limits of the car table.
+     * {@code licensePlate} may be set on a row that failed validation, to identify it in the reject.
+     */
+    public record Row(String make, String model, String licensePlate) {
+    }
+
+    /**
+     * Parses one non-blank line.
+     * Throws {@link InvalidLineException} with a user-facing reason when the line is rejected.
+     */
+    @FunctionalInterface
+    public interface LineParser {
+        Row parse(String line);
+    }
+
+    /**
+     * A rejected line. Carries the license plate when it could be read.
+     */
+    public static class InvalidLineException extends IllegalArgumentException {
+
+        private final String licensePlate;
+
+        InvalidLineException(String reason, String licensePlate) {
+            super(reason);
+            this.licensePlate = licensePlate;
+        }
+
+        public String getLicensePlate() {
+            return licensePlate;
+        }
+    }
+
+    /**
+     * Creates a CSV line parser from the header line. The header must name the columns
+     * make, model and license_plate (any order, case-insensitive); other columns are ignored.
+     *
+     * @throws IllegalArgumentException if the header is missing a required column
+     */
+    public static LineParser csv(String headerLine) {
+        List<String> header = splitCsv(headerLine == null ? "" : headerLine);
+        int makeIndex = columnIndex(header, MAKE_COLUMN);
+        int modelIndex = columnIndex(header, MODEL_COLUMN);
+        int plateIndex = columnIndex(header, LICENSE_PLATE_COLUMN);
+
+        return line -> {
+            List<String> fields;
+            try {
+                fields = splitCsv(line);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidLineException(e.getMessage(), null);
+            }
+            if (fields.size() != header.size()) {
+                throw new InvalidLineException(
+                    "expected " + header.size() + " fields but found " + fields.size(), null);
+            }
+            return validate(fields.get(makeIndex), fields.get(modelIndex), fields.get(plateIndex));
+        };
+    }
+
+    /**
+     * Creates an NDJSON line parser reading the fields make, model and licensePlate of one JSON object per line.
+     */
+    public static LineParser ndjson(ObjectMapper objectMapper) {
+        return line -> {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new InvalidLineException("malformed JSON: " + e.getOriginalMessage(), null);
+            }
+            if (node == null || !node.isObject()) {
+                throw new InvalidLineException("expected a JSON object", null);
+            }
+            return validate(text(node, "make"), text(node, "model"), text(node, "licensePlate"));
+        };
+    }
+
+    static Row validate(String make, String model, String licensePlate) {
+        String plate = trimToNull(licensePlate);
+        if (plate == null) {
+            throw new InvalidLineException("licensePlate is required", null);
+        }
+        if (plate.length() > MAX_LICENSE_PLATE_LENGTH) {
+            throw new InvalidLineException(
+                "licensePlate exceeds " + MAX_LICENSE_PLATE_LENGTH + " characters", plate.substring(0, MAX_LICENSE_PLATE_LENGTH));
+        }
+        return new Row(
+            required("make", make, MAX_MAKE_LENGTH, plate),
+            required("model", model, MAX_MODEL_LENGTH, plate),
+            plate
+        );
+    }
+
+    private static String required(String field, String value, int maxLength, String plate) {
+        String trimmed = trimToNull(value);
+        if (trimmed == null) {
+            throw new InvalidLineException(field + " is required", plate);
+        }
+        if (trimmed.length() > maxLength) {
+            throw new InvalidLineException(field + " exceeds " + maxLength + " characters", plate);
+        }
+        return trimmed;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isValueNode()) {
+            throw new InvalidLineException(field + " must be a string", null);
+        }
+        return value.asText();
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.strip();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static int columnIndex(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).strip().toLowerCase(Locale.ROOT).equals(column)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(
+            "CSV header must name the columns " + MAKE_COLUMN + ", " + MODEL_COLUMN + " and " + LICENSE_PLATE_COLUMN);
+    }
+
+    /**
+     * Splits one CSV record (RFC 4180 quoting, records may not span lines).
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append(c);
+            }
+            i++;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Prevent instantiation
+    private CarImportParser() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
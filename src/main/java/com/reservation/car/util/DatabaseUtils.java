@@ -1,5 +1,7 @@
 package com.reservation.car.util;
 
+import java.util.UUID;
+
 import org.springframework.dao.DataIntegrityViolationException;
 
 /**
@@ -19,6 +21,17 @@ public class DatabaseUtils {
         return message != null && message.contains("conflicting key value violates exclusion constraint");
     }
 
+    /**
+     * Folds a UUID into the 64-bit key space of PostgreSQL advisory locks.
+     * Distinct UUIDs may share a key; that only serializes two unrelated cars, it never breaks correctness.
+     *
+     * @param id the UUID to fold
+     * @return the advisory lock key
+     */
+    public static long advisoryLockKey(UUID id) {
+        return id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+    }
+
     private DatabaseUtils() {
         // Utility class
     }
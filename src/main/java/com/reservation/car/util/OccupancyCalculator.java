@@ -0,0 +1,119 @@
+package com.reservation.car.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.reservation.car.entity.CarDailyOccupancy;
+import com.reservation.car.entity.Reservation;
+
+/**
+ * Utility class computing the per-day occupancy read model from reservation intervals.
+ *
+ * Days are UTC calendar days split into 96 slots of 15 minutes. A slot is busy when any
+ * reservation overlaps it by a positive amount; slot n is stored as bit (n % 8) of byte (n / 8).
+ * V2__car_daily_occupancy.sql backfills with the same layout.
+ */
+public final class OccupancyCalculator {
+
+    // Prevent instantiation
+    private OccupancyCalculator() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int MASK_BYTES = SLOTS_PER_DAY / Byte.SIZE;
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final long SLOT_NANOS = Duration.ofMinutes(SLOT_MINUTES).toNanos();
+
+    public static byte[] emptyMask() {
+        return new byte[MASK_BYTES];
+    }
+
+    /**
+     * Start of the given UTC day.
+     */
+    public static Instant startOfDay(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * UTC day containing the given instant.
+     */
+    public static LocalDate firstDay(Instant startTime) {
+        return LocalDate.ofInstant(startTime, ZoneOffset.UTC);
+    }
+
+    /**
+     * Last UTC day touched by an interval ending (exclusively) at the given instant.
+     */
+    public static LocalDate lastDay(Instant endTime) {
+        return LocalDate.ofInstant(endTime.minusNanos(1), ZoneOffset.UTC);
+    }
+
+    /**
+     * All UTC days touched by the interval [startTime, endTime).
+     */
+    public static List<LocalDate> daysCovered(Instant startTime, Instant endTime) {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = firstDay(startTime); !day.isAfter(lastDay(endTime)); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    /**
+     * Recomputes booked minutes and busy mask of a single day from the car's reservations.
+     * Reservations outside the day are ignored, so callers may pass a wider set.
+     *
+     * @param day the row to update in place
+     * @param reservations confirmed reservations of the row's car
+     */
+    public static void recompute(CarDailyOccupancy day, Collection<Reservation> reservations) {
+        Instant dayStart = startOfDay(day.getOccupancyDate());
+        Instant dayEnd = startOfDay(day.getOccupancyDate().plusDays(1));
+
+        long bookedSeconds = 0;
+        byte[] mask = emptyMask();
+
+        for (Reservation reservation : reservations) {
+            Instant from = reservation.getStartTime().isAfter(dayStart) ? reservation.getStartTime() : dayStart;
+            Instant to = reservation.getEndTime().isBefore(dayEnd) ? reservation.getEndTime() : dayEnd;
+            if (!from.isBefore(to)) {
+                continue;
+            }
+
+            bookedSeconds += Duration.between(from, to).getSeconds();
+
+            int firstSlot = (int) (Duration.between(dayStart, from).toNanos() / SLOT_NANOS);
+            int lastSlot = (int) ((Duration.between(dayStart, to).toNanos() - 1) / SLOT_NANOS);
+            for (int slot = firstSlot; slot <= lastSlot; slot++) {
+                mask[slot / Byte.SIZE] |= (byte) (1 << (slot % Byte.SIZE));
+            }
+        }
+
+        day.setBookedMinutes((int) Math.min(MINUTES_PER_DAY, bookedSeconds / 60));
+        day.setBusyMask(mask);
+    }
+
+    /**
+     * Checks whether the given 15-minute slot is marked busy.
+     */
+    public static boolean isSlotBusy(byte[] mask, int slot) {
+        return (mask[slot / Byte.SIZE] & (1 << (slot % Byte.SIZE))) != 0;
+    }
+
+    /**
+     * Hex rendering of the busy mask for API responses (24 characters, byte 0 first).
+     */
+    public static String toHex(byte[] mask) {
+        return HexFormat.of().formatHex(mask);
+    }
+}
@@ -0,0 +1,101 @@
+package com.reservation.car.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution: concurrent calls with equal keys share one execution and its result.
+ *
+ * The first caller for a key runs the loader on its own thread; callers arriving while it runs
+ * wait for its result, at most {@code maxWait}, and then run the loader themselves. A failure of
+ * the shared execution is rethrown to every caller that waited for it. Nothing is kept once an
+ * execution completes, so a later call always runs the loader again; keys must therefore capture
+ * everything the result depends on, including how fresh it has to be.
+ *
+ * @param <K> the key, with value-based equals and hashCode
+ * @param <V> the shared result; handed to several threads, so it should not be mutated
+ */
+public class RequestCoalescer<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * @param maxWait longest a caller waits for a shared execution before running its own
+     */
+    public RequestCoalescer(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Returns the result for the key, from an execution already in flight or from the loader.
+     *
+     * @throws IllegalStateException if the thread is interrupted while waiting for a shared execution
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> shared = inFlight.putIfAbsent(key, own);
+        requests.increment();
+        if (shared == null) {
+            return lead(key, own, loader);
+        }
+
+        try {
+            return shared.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            executions.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Shared execution failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared execution", e);
+        }
+    }
+
+    /** Calls made, shared or not. */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /** Loader runs: one per shared execution plus one per caller that stopped waiting. */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /** Callers that stopped waiting for a shared execution and ran their own. */
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    private V lead(K key, CompletableFuture<V> own, Supplier<V> loader) {
+        executions.increment();
+        try {
+            V result = loader.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.reservation.car.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a listing of reservations ordered by (start time, id): the key of the last row
+ * returned. The next page continues strictly after it, so rows inserted or removed in between
+ * never shift a page the way an offset does.
+ *
+ * Clients receive it as an opaque URL-safe string and send it back unchanged.
+ *
+ * @param startTime start time of the last row returned
+ * @param id id of the last row returned
+ */
+public record ReservationCursor(Instant startTime, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return the cursor as an opaque URL-safe string
+     */
+    public String encode() {
+        String key = startTime.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a cursor produced by {@link #encode()}.
+     *
+     * @param cursor the opaque string
+     * @return the cursor
+     * @throws IllegalArgumentException if the string is not a cursor
+     */
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor: " + cursor);
+            }
+            return new ReservationCursor(
+                Instant.parse(key.substring(0, separator)),
+                UUID.fromString(key.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+}
@@ -26,7 +26,7 @@ public final class TimeSlotValidator {
     }
 
     private static final Duration MIN_DURATION = Duration.ofHours(2);
-    private static final Duration MAX_DURATION = Duration.ofHours(24);
+    public static final Duration MAX_DURATION = Duration.ofHours(24);
 
     /**
      * Validates a time slot against all business rules.
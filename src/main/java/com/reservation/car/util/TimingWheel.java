@@ -0,0 +1,138 @@
+package com.reservation.car.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck): schedules items by deadline in O(1) and hands
+ * them back once the wheel has been advanced past their deadline.
+ *
+ * Level 0 has {@code wheelSize} buckets of one tick each; every further level has buckets as wide
+ * as a full turn of the level below. An item goes into the lowest level whose turn reaches its
+ * deadline and cascades down a level whenever the clock enters its bucket. Deadlines beyond the
+ * top level wait in its last bucket and are placed again on each turn. Items are returned at most
+ * one tick after their deadline, never before it.
+ *
+ * Cancelled items are not removed; callers ignore them when they come due. Not thread-safe.
+ *
+ * @param <T> the scheduled item
+ */
+public class TimingWheel<T> {
+
+    private record Entry<T>(T item, long deadline) {
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    /** Bucket width per level, in milliseconds. */
+    private final long[] levelTicks;
+    private final List<List<Entry<T>>[]> levels = new ArrayList<>();
+    /** Items scheduled with a deadline already passed, returned on the next advance. */
+    private final List<T> due = new ArrayList<>();
+    /** Start of the first tick not yet expired; everything due before it has been returned. */
+    private long current;
+    private int size;
+
+    /**
+     * @param tick width of a level-0 bucket
+     * @param wheelSize buckets per level
+     * @param levelCount number of levels; the wheel spans tick * wheelSize^levelCount without re-placing
+     * @param startMillis the current time, in epoch milliseconds
+     */
+    public TimingWheel(Duration tick, int wheelSize, int levelCount, long startMillis) {
+        if (tick.toMillis() < 1 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Timing wheel needs a tick of at least 1ms, 2 buckets and 1 level");
+        }
+        this.tickMillis = tick.toMillis();
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levelCount];
+        long levelTick = tickMillis;
+        for (int level = 0; level < levelCount; level++) {
+            levelTicks[level] = levelTick;
+            levels.add(newBuckets(wheelSize));
+            levelTick = Math.multiplyExact(levelTick, wheelSize);
+        }
+        this.current = startMillis - Math.floorMod(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules an item to come due at the given time.
+     *
+     * @param item the item
+     * @param deadlineMillis when it is due, in epoch milliseconds
+     */
+    public void schedule(T item, long deadlineMillis) {
+        size++;
+        if (deadlineMillis < current) {
+            due.add(item);
+        } else {
+            place(new Entry<>(item, deadlineMillis));
+        }
+    }
+
+    /**
+     * Moves the clock forward to the given time.
+     *
+     * @param nowMillis the current time, in epoch milliseconds
+     * @return the items whose deadline has passed, in no particular order
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>(due);
+        due.clear();
+        while (current + tickMillis <= nowMillis) {
+            List<Entry<T>> bucket = levels.get(0)[bucketIndex(0, current)];
+            for (Entry<T> entry : bucket) {
+                expired.add(entry.item());
+            }
+            bucket.clear();
+            current += tickMillis;
+
+            // Entering a new bucket on a higher level: spread its items over the levels below
+            for (int level = levelTicks.length - 1; level > 0; level--) {
+                if (Math.floorMod(current, levelTicks[level]) == 0) {
+                    List<Entry<T>> cascading = levels.get(level)[bucketIndex(level, current)];
+                    List<Entry<T>> entries = new ArrayList<>(cascading);
+                    cascading.clear();
+                    entries.forEach(this::place);
+                }
+            }
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * @return the number of scheduled items not returned yet
+     */
+    public int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        for (int level = 0; level < levelTicks.length; level++) {
+            long levelStart = current - Math.floorMod(current, levelTicks[level]);
+            if (entry.deadline() < levelStart + levelTicks[level] * wheelSize) {
+                levels.get(level)[bucketIndex(level, entry.deadline())].add(entry);
+                return;
+            }
+        }
+        // Beyond the top level: park in its last bucket of this turn and place again when it cascades
+        int top = levelTicks.length - 1;
+        long topStart = current - Math.floorMod(current, levelTicks[top]);
+        levels.get(top)[bucketIndex(top, topStart + levelTicks[top] * (wheelSize - 1))].add(entry);
+    }
+
+    private int bucketIndex(int level, long timeMillis) {
+        return (int) Math.floorMod(Math.floorDiv(timeMillis, levelTicks[level]), (long) wheelSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<Entry<T>>[] newBuckets(int wheelSize) {
+        List<Entry<T>>[] buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        return buckets;
+    }
+}
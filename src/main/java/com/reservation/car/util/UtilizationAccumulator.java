@@ -0,0 +1,69 @@
+package com.reservation.car.util;
+
+/**
+ * Booked seconds per car (by dense car ordinal) and per UTC hour of day, in primitive arrays.
+ *
+ * Its size depends only on the number of cars, so any number of reservations can be folded in.
+ * Not thread-safe: every worker fills its own accumulator, and they are merged at the end.
+ */
+public final class UtilizationAccumulator {
+
+    public static final int HOURS_PER_DAY = 24;
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    private final long[] carSeconds;
+    private final long[] hourSeconds = new long[HOURS_PER_DAY];
+
+    /**
+     * @param carCount number of car ordinals, 0 to carCount - 1
+     */
+    public UtilizationAccumulator(int carCount) {
+        this.carSeconds = new long[carCount];
+    }
+
+    /**
+     * Adds a booked period of a car, split over the hours of day it covers.
+     *
+     * @param car the car ordinal
+     * @param start start of the period, in epoch seconds
+     * @param end end of the period (exclusive), in epoch seconds
+     */
+    public void add(int car, long start, long end) {
+        if (end <= start) {
+            return;
+        }
+        carSeconds[car] += end - start;
+        long time = start;
+        while (time < end) {
+            long hourEnd = Math.min(end, (Math.floorDiv(time, SECONDS_PER_HOUR) + 1) * SECONDS_PER_HOUR);
+            hourSeconds[(int) Math.floorMod(Math.floorDiv(time, SECONDS_PER_HOUR), (long) HOURS_PER_DAY)] += hourEnd - time;
+            time = hourEnd;
+        }
+    }
+
+    /**
+     * Adds all counts of another accumulator over the same cars to this one.
+     *
+     * @param other the accumulator to fold in
+     */
+    public void addAll(UtilizationAccumulator other) {
+        for (int car = 0; car < carSeconds.length; car++) {
+            carSeconds[car] += other.carSeconds[car];
+        }
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            hourSeconds[hour] += other.hourSeconds[hour];
+        }
+    }
+
+    public long carSeconds(int car) {
+        return carSeconds[car];
+    }
+
+    public long hourSeconds(int hour) {
+        return hourSeconds[hour];
+    }
+
+    public int carCount() {
+        return carSeconds.length;
+    }
+}
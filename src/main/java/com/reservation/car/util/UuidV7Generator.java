@@ -0,0 +1,67 @@
+package com.reservation.car.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562).
+ *
+ * Layout: 48-bit Unix epoch milliseconds, version, a 12-bit sequence (rand_a), variant and
+ * 62 random bits (rand_b). The sequence starts at a random value each millisecond and is
+ * incremented for every further ID in the same millisecond, so IDs from one JVM are strictly
+ * increasing; if it runs out, or the clock steps back, counting continues on the last timestamp
+ * (borrowing the next millisecond when needed). New rows
+ * therefore land at the right edge of a B-tree index instead of on random pages.
+ *
+ * Used by Hibernate through {@code @UuidGenerator(algorithm = UuidV7Generator.class)}.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+    // Leave headroom so a fresh millisecond can always hand out a few thousand IDs
+    private static final int MAX_INITIAL_SEQUENCE = MAX_SEQUENCE >> 1;
+
+    private static final Object LOCK = new Object();
+    private static long lastMillis;
+    private static int sequence;
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+
+    /**
+     * Returns a new version 7 UUID, greater than every UUID previously returned by this JVM.
+     */
+    public static UUID next() {
+        long millis;
+        int seq;
+        synchronized (LOCK) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = RANDOM.nextInt(MAX_INITIAL_SEQUENCE + 1);
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                // Sequence exhausted: borrow the next millisecond
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            seq = sequence;
+        }
+        return build(millis, seq, RANDOM.nextLong());
+    }
+
+    static UUID build(long millis, int sequence, long random) {
+        long mostSigBits = (millis << 16) | 0x7000L | (sequence & MAX_SEQUENCE);
+        long leastSigBits = (random & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,39 @@
+-- Monthly utilization summaries, written by UtilizationAnalyticsServiceImpl from a single streamed
+-- pass over the month's reservations, so reports never aggregate the reservation table on request.
+-- Each run replaces the month's rows in one transaction.
+CREATE TABLE utilization_report (
+    -- First day of the UTC month
+    month DATE PRIMARY KEY,
+    computed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    -- Whether the month had ended when the report was computed
+    complete BOOLEAN NOT NULL,
+    car_count INTEGER NOT NULL,
+    reservation_count BIGINT NOT NULL,
+    booked_minutes BIGINT NOT NULL,
+    -- Fleet-wide booked minutes per UTC hour of day, index 1 = 00:00-01:00
+    hourly_booked_minutes BIGINT[] NOT NULL,
+
+    CONSTRAINT utilization_report_month_check CHECK (EXTRACT(DAY FROM month) = 1),
+    CONSTRAINT utilization_report_hours_check CHECK (cardinality(hourly_booked_minutes) = 24)
+);
+
+CREATE TABLE car_utilization (
+    month DATE NOT NULL REFERENCES utilization_report(month) ON DELETE CASCADE,
+    car_id UUID NOT NULL,
+    booked_minutes BIGINT NOT NULL,
+
+    PRIMARY KEY (month, car_id)
+);
+
+-- Cars of a month ranked by utilization (GET /api/v1/analytics/utilization/cars)
+CREATE INDEX idx_car_utilization_rank ON car_utilization(month, booked_minutes DESC, car_id);
+
+CREATE TABLE model_utilization (
+    month DATE NOT NULL REFERENCES utilization_report(month) ON DELETE CASCADE,
+    make VARCHAR(50) NOT NULL,
+    model VARCHAR(50) NOT NULL,
+    car_count INTEGER NOT NULL,
+    booked_minutes BIGINT NOT NULL,
+
+    PRIMARY KEY (month, make, model)
+);
@@ -0,0 +1,46 @@
+-- Change tracking for the in-process availability index (AvailabilityIndexManager): every car and
+-- reservation row records the top-level transaction that last wrote it. The index remembers the
+-- pg_snapshot it was built from and replays exactly the rows whose writer was not visible in it,
+-- regardless of commit order. Rows written before this migration keep NULL and are never replayed.
+ALTER TABLE car ADD COLUMN change_xid xid8;
+ALTER TABLE car ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id();
+
+ALTER TABLE reservation ADD COLUMN change_xid xid8;
+ALTER TABLE reservation ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id();
+
+CREATE FUNCTION set_change_xid() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER car_change_xid BEFORE UPDATE ON car
+    FOR EACH ROW EXECUTE FUNCTION set_change_xid();
+
+CREATE TRIGGER reservation_change_xid BEFORE UPDATE ON reservation
+    FOR EACH ROW EXECUTE FUNCTION set_change_xid();
+
+-- Replays only look past the xmin of their marker, a short range at the end of the index
+CREATE INDEX idx_car_change_xid ON car(change_xid);
+CREATE INDEX idx_reservation_change_xid ON reservation(change_xid);
+
+-- Deleted rows leave nothing to replay, so deletes are counted instead: an index built before the
+-- last delete is rebuilt from scratch
+INSERT INTO version_counter (name, stripe)
+SELECT 'deletion', stripe FROM generate_series(0, 31) AS stripe;
+
+CREATE TRIGGER car_deleted_deletion AFTER DELETE ON car
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('deletion');
+
+CREATE TRIGGER car_truncated_deletion AFTER TRUNCATE ON car
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('deletion');
+
+CREATE TRIGGER reservation_deleted_deletion AFTER DELETE ON reservation
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('deletion');
+
+CREATE TRIGGER reservation_truncated_deletion AFTER TRUNCATE ON reservation
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('deletion');
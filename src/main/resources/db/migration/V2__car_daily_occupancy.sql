@@ -0,0 +1,65 @@
+-- 02_car_daily_occupancy.sql
+
+-- Read model: one row per car per UTC day, maintained transactionally by
+-- ReservationServiceImpl whenever a reservation is created or cancelled.
+-- Wide-window availability and utilization queries read this table instead of
+-- aggregating the raw reservation rows.
+CREATE TABLE car_daily_occupancy (
+    car_id UUID NOT NULL REFERENCES car(id),
+    occupancy_date DATE NOT NULL,
+    -- Minutes of the day covered by CONFIRMED reservations
+    booked_minutes INTEGER NOT NULL DEFAULT 0,
+    -- 96 bits (12 bytes), one per 15-minute slot; slot n is bit (n % 8) of byte (n / 8)
+    busy_mask BYTEA NOT NULL,
+
+    PRIMARY KEY (car_id, occupancy_date),
+
+    CONSTRAINT car_daily_occupancy_minutes_check CHECK (
+        booked_minutes BETWEEN 0 AND 1440
+    ),
+
+    CONSTRAINT car_daily_occupancy_mask_check CHECK (
+        octet_length(busy_mask) = 12
+    )
+);
+
+-- Fleet-wide day range scans (cars free for whole days, utilization reports)
+CREATE INDEX idx_car_daily_occupancy_date ON car_daily_occupancy(occupancy_date, car_id) WHERE booked_minutes > 0;
+
+-- Backfill from existing reservations, using the same slot layout as OccupancyCalculator.
+-- Later full recomputes use the --rebuild-occupancy command (see OccupancyRebuildRunner).
+WITH reservation_days AS (
+    SELECT r.car_id,
+           CAST(g AS date) AS occupancy_date,
+           g AT TIME ZONE 'UTC' AS day_start,
+           GREATEST(r.start_time, g AT TIME ZONE 'UTC') AS from_time,
+           LEAST(r.end_time, (g + interval '1 day') AT TIME ZONE 'UTC') AS to_time
+    FROM reservation r
+    CROSS JOIN LATERAL generate_series(
+        CAST(CAST(r.start_time AT TIME ZONE 'UTC' AS date) AS timestamp),
+        CAST(CAST((r.end_time - interval '1 microsecond') AT TIME ZONE 'UTC' AS date) AS timestamp),
+        interval '1 day') g
+    WHERE r.status = 'CONFIRMED'
+),
+day_minutes AS (
+    SELECT car_id, occupancy_date,
+           CAST(floor(SUM(EXTRACT(EPOCH FROM (to_time - from_time))) / 60) AS integer) AS booked_minutes
+    FROM reservation_days
+    GROUP BY car_id, occupancy_date
+),
+slot_bytes AS (
+    SELECT car_id, occupancy_date, slot / 8 AS byte_index, bit_or(1 << (slot % 8)) AS byte_value
+    FROM reservation_days
+    CROSS JOIN LATERAL generate_series(
+        CAST(floor(EXTRACT(EPOCH FROM (from_time - day_start)) / 900) AS integer),
+        CAST(ceil(EXTRACT(EPOCH FROM (to_time - day_start)) / 900) AS integer) - 1) slot
+    GROUP BY car_id, occupancy_date, slot / 8
+)
+INSERT INTO car_daily_occupancy (car_id, occupancy_date, booked_minutes, busy_mask)
+SELECT dm.car_id, dm.occupancy_date, dm.booked_minutes,
+       decode(string_agg(lpad(to_hex(COALESCE(sb.byte_value, 0)), 2, '0'), '' ORDER BY b.byte_index), 'hex')
+FROM day_minutes dm
+CROSS JOIN generate_series(0, 11) AS b(byte_index)
+LEFT JOIN slot_bytes sb
+       ON sb.car_id = dm.car_id AND sb.occupancy_date = dm.occupancy_date AND sb.byte_index = b.byte_index
+GROUP BY dm.car_id, dm.occupancy_date, dm.booked_minutes;
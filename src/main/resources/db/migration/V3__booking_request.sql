@@ -0,0 +1,29 @@
+-- Durable queue behind the asynchronous booking mode (POST /api/v1/reservations with Prefer: respond-async).
+-- A request is accepted (PENDING), claimed by a worker (PROCESSING) and finished (SUCCEEDED / FAILED).
+-- seq records arrival order: a request is only claimable once every earlier request for the same car
+-- has finished, which gives per-car FIFO while requests for different cars run in parallel.
+CREATE TABLE booking_request (
+    id UUID PRIMARY KEY,
+    seq BIGINT GENERATED ALWAYS AS IDENTITY,
+    car_id UUID NOT NULL REFERENCES car(id),
+    user_id UUID NOT NULL,
+    start_time TIMESTAMP WITH TIME ZONE NOT NULL,
+    end_time TIMESTAMP WITH TIME ZONE NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    reservation_id UUID REFERENCES reservation(id),
+    error_code VARCHAR(50),
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT booking_request_status_check CHECK (
+        status IN ('PENDING', 'PROCESSING', 'SUCCEEDED', 'FAILED')
+    ),
+
+    CONSTRAINT booking_request_seq_unique UNIQUE (seq)
+);
+
+-- Claim path: open requests per car in arrival order; stays small because finished rows drop out
+CREATE INDEX idx_booking_request_open ON booking_request(car_id, seq)
+    WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,10 @@
+-- Stored period column for range-overlap queries.
+-- Same bounds as the no_double_booking exclusion constraint: '()' so back-to-back bookings do not overlap.
+ALTER TABLE reservation
+    ADD COLUMN period TSTZRANGE GENERATED ALWAYS AS (tstzrange(start_time, end_time, '()')) STORED;
+
+-- The B-tree on (car_id, start_time, end_time, status) can range-scan only start_time < :end;
+-- every row starting earlier must then be filtered on end_time. A GIST index answers
+-- "period && :range" directly. Partial, because only CONFIRMED reservations block a car.
+CREATE INDEX idx_reservation_confirmed_period ON reservation USING GIST (car_id, period)
+    WHERE status = 'CONFIRMED';
@@ -0,0 +1,48 @@
+-- Broadcasts every change to the car table as a CAR change event, whoever made it (the application,
+-- bulk JDBC loads such as PopulateTestDb, psql). Nodes drop their cached cars when it arrives.
+-- Statement-level, so a bulk insert sends one notification instead of one per row; the car ID is
+-- only included when exactly one row changed. NOTIFY is delivered on commit and dropped on rollback.
+-- The channel must match app.change-notifications.channel; set app.change_channel on the database
+-- (ALTER DATABASE ... SET app.change_channel = '...') when it is not the default.
+CREATE FUNCTION notify_car_change() RETURNS trigger
+LANGUAGE plpgsql AS $$
+DECLARE
+    changed_count BIGINT := 0;
+    changed_id UUID;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        SELECT count(*), (array_agg(id))[1] INTO changed_count, changed_id FROM old_rows;
+    ELSIF TG_OP IN ('INSERT', 'UPDATE') THEN
+        SELECT count(*), (array_agg(id))[1] INTO changed_count, changed_id FROM new_rows;
+    ELSE
+        -- TRUNCATE has no transition table; treat it as "everything changed"
+        changed_count := 2;
+    END IF;
+
+    IF changed_count > 0 THEN
+        PERFORM pg_notify(
+            coalesce(nullif(current_setting('app.change_channel', true), ''), 'car_changes'),
+            json_build_object(
+                'type', 'CAR',
+                'carId', CASE WHEN changed_count = 1 THEN changed_id END,
+                'publishedAt', to_char(clock_timestamp() AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"')
+            )::text);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER car_inserted_notify AFTER INSERT ON car
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_car_change();
+
+CREATE TRIGGER car_updated_notify AFTER UPDATE ON car
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_car_change();
+
+CREATE TRIGGER car_deleted_notify AFTER DELETE ON car
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_car_change();
+
+CREATE TRIGGER car_truncated_notify AFTER TRUNCATE ON car
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_car_change();
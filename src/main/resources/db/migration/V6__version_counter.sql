@@ -0,0 +1,70 @@
+-- Version counters behind the ETags of the car listings: 'car' moves with every change to the car
+-- table, 'reservation' with every change to the reservation table, whoever made it. They are bumped
+-- in the writing transaction, so a version is visible exactly when the data it stands for is.
+-- Each counter is split into stripes picked by backend PID: concurrent writers run on different
+-- connections and therefore mostly update different rows instead of queueing on one row lock.
+-- A counter's version is the sum of its stripes.
+CREATE TABLE version_counter (
+    name VARCHAR(32) NOT NULL,
+    stripe SMALLINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (name, stripe)
+);
+
+INSERT INTO version_counter (name, stripe)
+SELECT counter, stripe
+FROM unnest(ARRAY['car', 'reservation']) AS counter, generate_series(0, 31) AS stripe;
+
+-- TG_ARGV[0] names the counter. Statements that changed no rows leave it alone. TRUNCATE has no
+-- transition table, and PL/pgSQL plans an IF condition as a whole (an OR does not short-circuit),
+-- so the operation is tested on its own before changed_rows is read.
+CREATE FUNCTION bump_version_counter() RETURNS trigger
+LANGUAGE plpgsql AS $$
+DECLARE
+    changed BOOLEAN;
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        changed := true;
+    ELSE
+        changed := EXISTS (SELECT 1 FROM changed_rows);
+    END IF;
+
+    IF changed THEN
+        UPDATE version_counter
+           SET version = version + 1
+         WHERE name = TG_ARGV[0]
+           AND stripe = pg_backend_pid() % 32;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER car_inserted_version AFTER INSERT ON car
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('car');
+
+CREATE TRIGGER car_updated_version AFTER UPDATE ON car
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('car');
+
+CREATE TRIGGER car_deleted_version AFTER DELETE ON car
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('car');
+
+CREATE TRIGGER car_truncated_version AFTER TRUNCATE ON car
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('car');
+
+CREATE TRIGGER reservation_inserted_version AFTER INSERT ON reservation
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('reservation');
+
+CREATE TRIGGER reservation_updated_version AFTER UPDATE ON reservation
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('reservation');
+
+CREATE TRIGGER reservation_deleted_version AFTER DELETE ON reservation
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('reservation');
+
+CREATE TRIGGER reservation_truncated_version AFTER TRUNCATE ON reservation
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_version_counter('reservation');
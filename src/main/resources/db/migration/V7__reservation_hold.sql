@@ -0,0 +1,50 @@
+-- Temporary holds: a HOLD reservation blocks its slot like a CONFIRMED one until hold_expires_at.
+-- It is then confirmed by its owner or set to EXPIRED by the node that placed it (HoldExpiryScheduler).
+-- Holds whose expiry has passed but that were not released yet no longer block in the overlap and
+-- availability queries; a booking of their slot releases them first, because the exclusion
+-- constraint cannot compare against NOW().
+ALTER TABLE reservation
+    ADD COLUMN hold_expires_at TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE reservation
+    ADD CONSTRAINT reservation_status_check CHECK (
+        status IN ('HOLD', 'CONFIRMED', 'CANCELLED', 'EXPIRED')
+    ),
+    ADD CONSTRAINT reservation_hold_expiry_check CHECK (
+        status <> 'HOLD' OR hold_expires_at IS NOT NULL
+    );
+
+-- Holds take part in the double-booking safety net
+ALTER TABLE reservation DROP CONSTRAINT no_double_booking;
+ALTER TABLE reservation
+    ADD CONSTRAINT no_double_booking
+    EXCLUDE USING GIST (
+        car_id WITH =,
+        tstzrange(start_time, end_time, '()') WITH &&
+    )
+    WHERE (status IN ('HOLD', 'CONFIRMED'));
+
+DROP INDEX idx_reservation_confirmed_period;
+CREATE INDEX idx_reservation_blocking_period ON reservation USING GIST (car_id, period)
+    WHERE status IN ('HOLD', 'CONFIRMED');
+
+-- Outstanding holds, loaded on startup to schedule their expiry; stays small because holds are short-lived
+CREATE INDEX idx_reservation_hold_expiry ON reservation(hold_expires_at) WHERE status = 'HOLD';
+
+-- A CHECK is evaluated on every UPDATE as well, so start_time > NOW() would reject expiring a hold
+-- (or any later status change) once the reservation has started. Only new rows must start in the future.
+ALTER TABLE reservation DROP CONSTRAINT reservation_future_check;
+
+CREATE FUNCTION check_reservation_starts_in_future() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF NEW.start_time <= NOW() THEN
+        RAISE EXCEPTION 'new row for relation "reservation" violates check constraint "reservation_future_check"'
+            USING ERRCODE = 'check_violation', CONSTRAINT = 'reservation_future_check', TABLE = 'reservation';
+    END IF;
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER reservation_future_check BEFORE INSERT ON reservation
+    FOR EACH ROW EXECUTE FUNCTION check_reservation_starts_in_future();
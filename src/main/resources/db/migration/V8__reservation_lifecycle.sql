@@ -0,0 +1,28 @@
+-- Reservation lifecycle: ReservationLifecycleSweeper moves CONFIRMED reservations to ACTIVE once they
+-- start and to COMPLETED once they end, so past rentals leave the partial index and exclusion constraint
+-- that every overlap and availability query works on. ACTIVE rentals still block their car: a new
+-- booking may start before they end. COMPLETED ones cannot overlap a booking, which must start in the future.
+-- Existing rows are not migrated here; the sweeper catches up in batches after deployment.
+ALTER TABLE reservation DROP CONSTRAINT reservation_status_check;
+ALTER TABLE reservation
+    ADD CONSTRAINT reservation_status_check CHECK (
+        status IN ('HOLD', 'CONFIRMED', 'ACTIVE', 'COMPLETED', 'CANCELLED', 'EXPIRED')
+    );
+
+ALTER TABLE reservation DROP CONSTRAINT no_double_booking;
+ALTER TABLE reservation
+    ADD CONSTRAINT no_double_booking
+    EXCLUDE USING GIST (
+        car_id WITH =,
+        tstzrange(start_time, end_time, '()') WITH &&
+    )
+    WHERE (status IN ('HOLD', 'CONFIRMED', 'ACTIVE'));
+
+DROP INDEX idx_reservation_blocking_period;
+CREATE INDEX idx_reservation_blocking_period ON reservation USING GIST (car_id, period)
+    WHERE status IN ('HOLD', 'CONFIRMED', 'ACTIVE');
+
+-- Sweeper work queues, ordered by the time the next transition is due. Both stay small once the
+-- sweeper has caught up: they hold upcoming and running rentals only.
+CREATE INDEX idx_reservation_confirmed_start ON reservation(start_time) WHERE status = 'CONFIRMED';
+CREATE INDEX idx_reservation_live_end ON reservation(end_time) WHERE status IN ('CONFIRMED', 'ACTIVE');
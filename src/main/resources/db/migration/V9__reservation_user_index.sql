@@ -0,0 +1,4 @@
+-- A user's reservations, listed by GET /api/v1/users/{userId}/reservations in (start_time, id) order.
+-- The listing pages by keyset, so with id as the last key column each page is a single index range
+-- scan starting right after the previous page's last row, however many reservations the user has.
+CREATE INDEX idx_reservation_user_start ON reservation(user_id, start_time, id);
@@ -0,0 +1,149 @@
+package com.reservation.car.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.car.dto.response.CarResponseDTO;
+import com.reservation.car.dto.response.ReservationResponseDTO;
+import com.reservation.car.model.ReservationStatus;
+
+/**
+ * Benchmark of the response formats offered through content negotiation.
+ *
+ * Encodes and decodes a page of 200 cars and a list of 200 reservations as JSON, CBOR and Smile
+ * with the mappers the converters use, writing into one reused buffer as the converters write to
+ * the response. It reports payload size and mean encode/decode time per document.
+ *
+ * Usage:
+ *   ./mvnw test -Dtest=BinaryMediaTypeBenchmarkTest -Dbenchmark=true
+ */
+@JsonTest
+@Import(BinaryMediaTypeConfig.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BinaryMediaTypeBenchmarkTest {
+
+    private static final int DOCUMENT_SIZE = 200;
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    @Autowired
+    private ObjectMapper jsonMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Test
+    void compareFormats() throws IOException {
+        PageImpl<CarResponseDTO> carPage = new PageImpl<>(cars(), PageRequest.of(0, DOCUMENT_SIZE), 10_000);
+        List<ReservationResponseDTO> reservations = reservations();
+
+        List<Result> results = new ArrayList<>();
+        for (Format format : List.of(
+                new Format("json", jsonMapper),
+                new Format("cbor", cborConverter.getObjectMapper()),
+                new Format("smile", smileConverter.getObjectMapper()))) {
+            JavaType carPageType = format.mapper().constructType(CarPage.class);
+            JavaType reservationsType = format.mapper().getTypeFactory()
+                .constructCollectionType(List.class, ReservationResponseDTO.class);
+            results.add(measure(format, "cars", carPage, carPageType));
+            results.add(measure(format, "reservations", reservations, reservationsType));
+        }
+
+        System.out.println();
+        System.out.printf("%-14s %-6s %10s %12s %12s%n", "document", "format", "bytes", "encode us", "decode us");
+        for (Result result : results) {
+            System.out.printf("%-14s %-6s %10d %12.1f %12.1f%n",
+                result.document(), result.format(), result.bytes(), result.encodeMicros(), result.decodeMicros());
+        }
+        System.out.println();
+    }
+
+    private Result measure(Format format, String document, Object value, JavaType type) throws IOException {
+        ObjectMapper mapper = format.mapper();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+
+        byte[] encoded = encode(mapper, value, buffer);
+        Object decoded = mapper.readValue(encoded, type);
+        if (decoded instanceof CarPage page) {
+            assertThat(page.content()).isEqualTo(((PageImpl<?>) value).getContent());
+        } else {
+            assertThat(decoded).isEqualTo(value);
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            encode(mapper, value, buffer);
+            mapper.readValue(encoded, type);
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            buffer.reset();
+            mapper.writeValue(buffer, value);
+        }
+        double encodeMicros = (System.nanoTime() - started) / 1e3 / MEASURED_ITERATIONS;
+
+        started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(encoded, type);
+        }
+        double decodeMicros = (System.nanoTime() - started) / 1e3 / MEASURED_ITERATIONS;
+
+        return new Result(document, format.name(), encoded.length, encodeMicros, decodeMicros);
+    }
+
+    private static byte[] encode(ObjectMapper mapper, Object value, ByteArrayOutputStream buffer) throws IOException {
+        buffer.reset();
+        mapper.writeValue(buffer, value);
+        return buffer.toByteArray();
+    }
+
+    private static List<CarResponseDTO> cars() {
+        List<CarResponseDTO> cars = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_SIZE; i++) {
+            cars.add(new CarResponseDTO(UUID.randomUUID(), "Make" + (i % 10), "Model" + (i % 100), "PLATE" + (10_000 + i)));
+        }
+        return cars;
+    }
+
+    private static List<ReservationResponseDTO> reservations() {
+        Instant base = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        List<ReservationResponseDTO> reservations = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_SIZE; i++) {
+            Instant start = base.plus(i, ChronoUnit.HOURS);
+            reservations.add(new ReservationResponseDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                start, start.plus(2, ChronoUnit.HOURS), ReservationStatus.CONFIRMED, Instant.now(), null));
+        }
+        return reservations;
+    }
+
+    /** The part of a serialized page callers read back. */
+    private record CarPage(List<CarResponseDTO> content, long totalElements) {
+    }
+
+    private record Format(String name, ObjectMapper mapper) {
+    }
+
+    private record Result(String document, String format, int bytes, double encodeMicros, double decodeMicros) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.reservation.car.config;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+class CarCacheConfigTest {
+
+    private final CarCacheProperties properties = new CarCacheProperties(500, 50, Duration.ofMinutes(5));
+
+    @Test
+    void shouldCreateBoundedRegions() {
+        // Act
+        try (CacheManager cacheManager = CarCacheConfig.createCacheManager(properties)) {
+            // Assert
+            assertThat(maximumSize(cacheManager, CarCacheConfig.CAR_REGION)).hasValue(500);
+            assertThat(maximumSize(cacheManager, CarCacheConfig.CAR_PAGES_REGION)).hasValue(50);
+            assertThat(maximumSize(cacheManager, CarCacheConfig.DEFAULT_QUERY_RESULTS_REGION)).hasValue(50);
+            assertThat(configuration(cacheManager, CarCacheConfig.CAR_REGION).getExpireAfterWrite())
+                .hasValue(Duration.ofMinutes(5).toNanos());
+        }
+    }
+
+    @Test
+    void shouldNeverEvictUpdateTimestamps() {
+        // Act
+        try (CacheManager cacheManager = CarCacheConfig.createCacheManager(properties)) {
+            // Assert
+            CaffeineConfiguration<?, ?> timestamps = configuration(cacheManager, CarCacheConfig.UPDATE_TIMESTAMPS_REGION);
+            assertThat(timestamps.getMaximumSize()).isEmpty();
+            assertThat(timestamps.getExpireAfterWrite()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldIsolateManagersOfDifferentContexts() {
+        // Act
+        CacheManager first = CarCacheConfig.createCacheManager(properties);
+        try (CacheManager second = CarCacheConfig.createCacheManager(properties)) {
+            first.close();
+
+            // Assert
+            assertThat(second.isClosed()).isFalse();
+            assertThat(second.getCache(CarCacheConfig.CAR_REGION)).isNotNull();
+        }
+    }
+
+    private static OptionalLong maximumSize(CacheManager cacheManager, String region) {
+        return configuration(cacheManager, region).getMaximumSize();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CaffeineConfiguration<?, ?> configuration(CacheManager cacheManager, String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
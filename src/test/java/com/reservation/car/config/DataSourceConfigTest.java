@@ -0,0 +1,80 @@
+package com.reservation.car.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataSourceConfigTest {
+
+    @Mock
+    private DataSource readDataSource;
+
+    @Mock
+    private DataSource writeDataSource;
+
+    @Mock
+    private Connection readConnection;
+
+    @Mock
+    private Connection writeConnection;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // The write pool also answers the proxy's one-off probe for default connection settings
+        when(readDataSource.getConnection()).thenReturn(readConnection);
+        when(writeDataSource.getConnection()).thenReturn(writeConnection);
+        dataSource = DataSourceConfig.routingDataSource(readDataSource, writeDataSource);
+    }
+
+    @Test
+    void shouldUseReadPool_whenConnectionIsMarkedReadOnly() throws SQLException {
+        // Act
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        // Assert
+        verify(readConnection).createStatement();
+        verify(writeConnection, never()).createStatement();
+    }
+
+    @Test
+    void shouldUseWritePool_whenConnectionIsReadWrite() throws SQLException {
+        // Act
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        // Assert
+        verify(writeConnection).createStatement();
+        verify(readDataSource, never()).getConnection();
+    }
+
+    @Test
+    void shouldNotBorrowFromReadPool_whenConnectionIsNeverUsed() throws SQLException {
+        // Act
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+        }
+
+        // Assert
+        verify(readDataSource, never()).getConnection();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reservation.car.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MigrationConfigTest {
+
+    @Mock
+    private Flyway flyway;
+
+    private final MigrationConfig config = new MigrationConfig();
+
+    @Test
+    void shouldMigrate_whenRunOnStartupEnabled() {
+        // Act
+        config.flywayMigrationStrategy(new MigrationProperties(true)).migrate(flyway);
+
+        // Assert
+        verify(flyway).migrate();
+    }
+
+    @Test
+    void shouldNotTouchSchema_whenMigrationDeferredToJob() {
+        // Act
+        config.flywayMigrationStrategy(new MigrationProperties(false)).migrate(flyway);
+
+        // Assert
+        verifyNoInteractions(flyway);
+    }
+}
@@ -0,0 +1,99 @@
+package com.reservation.car.controller;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reservation.car.dto.response.CarUtilizationDTO;
+import com.reservation.car.dto.response.HourlyUtilizationDTO;
+import com.reservation.car.dto.response.ModelUtilizationDTO;
+import com.reservation.car.dto.response.UtilizationReportDTO;
+import com.reservation.car.exception.ReportNotFoundException;
+import com.reservation.car.service.UtilizationAnalyticsService;
+
+@WebMvcTest(AnalyticsController.class)
+class AnalyticsControllerTest extends BaseControllerTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 11);
+
+    @MockitoBean
+    private UtilizationAnalyticsService analyticsService;
+
+    @Test
+    void shouldReturnReport_whenMonthWasComputed() throws Exception {
+        // Arrange
+        UtilizationReportDTO report = new UtilizationReportDTO(MONTH, Instant.parse("2025-12-01T03:00:12Z"), true,
+            2, 30, 43_200, 0.5,
+            List.of(new HourlyUtilizationDTO(9, 1_800, 0.5)),
+            List.of(new ModelUtilizationDTO("Toyota", "Corolla", 2, 43_200, 0.5)));
+        when(analyticsService.getReport(MONTH)).thenReturn(report);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/analytics/utilization").param("month", "2025-11"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.month").value("2025-11"))
+            .andExpect(jsonPath("$.complete").value(true))
+            .andExpect(jsonPath("$.utilization").value(0.5))
+            .andExpect(jsonPath("$.hours[0].hour").value(9))
+            .andExpect(jsonPath("$.models[0].model").value("Corolla"));
+    }
+
+    @Test
+    void shouldReturnNotFound_whenMonthWasNotComputed() throws Exception {
+        // Arrange
+        when(analyticsService.getReport(MONTH)).thenThrow(new ReportNotFoundException("No utilization report for 2025-11"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/analytics/utilization").param("month", "2025-11"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("REPORT_NOT_FOUND"));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenMonthIsMalformed() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/analytics/utilization").param("month", "2025-13"))
+            .andExpect(status().isBadRequest());
+        verify(analyticsService, never()).getReport(any());
+    }
+
+    @Test
+    void shouldReturnCarPage_whenListingCarUtilization() throws Exception {
+        // Arrange
+        when(analyticsService.getCarUtilization(MONTH, 1, 10)).thenReturn(new PageImpl<>(
+            List.of(new CarUtilizationDTO(testCarId, 21_600, 0.5)), PageRequest.of(1, 10), 11));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/analytics/utilization/cars")
+                .param("month", "2025-11")
+                .param("page", "1")
+                .param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].carId").value(testCarId.toString()))
+            .andExpect(jsonPath("$.content[0].bookedMinutes").value(21_600));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCarPageSizeExceedsMaximum() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/analytics/utilization/cars")
+                .param("month", "2025-11")
+                .param("size", "201"))
+            .andExpect(status().isBadRequest());
+        verify(analyticsService, never()).getCarUtilization(any(), anyInt(), anyInt());
+    }
+}
@@ -3,6 +3,7 @@ package com.reservation.car.controller;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,6 +13,7 @@ import com.reservation.car.util.TestDataFactory;
  * Base class for controller tests providing common setup and utilities.
  * Subclasses must specify the controller to test using @WebMvcTest(ControllerClass.class)
  */
+@Import(WebMvcTestConfig.class)
 public abstract class BaseControllerTest {
 
     @Autowired
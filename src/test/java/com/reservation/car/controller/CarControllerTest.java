@@ -1,28 +1,51 @@
 package com.reservation.car.controller;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.reservation.car.dto.CarScheduleRequestDTO;
+import com.reservation.car.dto.response.CarOccupancyResponseDTO;
 import com.reservation.car.dto.response.CarResponseDTO;
+import com.reservation.car.dto.response.CarScheduleDTO;
+import com.reservation.car.dto.response.DailyOccupancyDTO;
+import com.reservation.car.exception.CarNotFoundException;
 import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.service.CarScheduleService;
 import com.reservation.car.service.CarService;
+import com.reservation.car.service.DataVersionTracker;
 import com.reservation.car.util.TestDataFactory;
 
 @WebMvcTest(CarController.class)
@@ -31,6 +54,20 @@ class CarControllerTest extends BaseControllerTest {
     @MockitoBean
     private CarService carService;
 
+    @MockitoBean
+    private CarScheduleService carScheduleService;
+
+    @MockitoBean
+    private DataVersionTracker dataVersionTracker;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @BeforeEach
+    void givenDataVersions() {
+        when(dataVersionTracker.current()).thenReturn(new DataVersionTracker.Versions(5, 11));
+    }
+
     @Test
     void shouldReturnPagedCars_whenGetAllCars() throws Exception {
         // Arrange
@@ -44,6 +81,96 @@ class CarControllerTest extends BaseControllerTest {
             .andExpect(jsonPath("$.content[0].make").value("Tesla"));
     }
 
+    @Test
+    void shouldReturn304WithoutQuerying_whenFleetUnchanged() throws Exception {
+        // Arrange
+        when(carService.getAllCars(0, 50)).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 50), 0));
+        String etag = mockMvc.perform(get("/api/v1/cars"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Vary", "Accept"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag))
+            .andExpect(content().string(""));
+        verify(carService, times(1)).getAllCars(0, 50);
+    }
+
+    @Test
+    void shouldReturnNewEtag_whenFleetChanged() throws Exception {
+        // Arrange
+        when(carService.getAllCars(0, 50)).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 50), 0));
+        String etag = mockMvc.perform(get("/api/v1/cars"))
+            .andReturn().getResponse().getHeader("ETag");
+        when(dataVersionTracker.current()).thenReturn(new DataVersionTracker.Versions(6, 11));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    void shouldReturnNewAvailabilityEtag_whenReservationsChanged() throws Exception {
+        // Arrange
+        Instant start = Instant.parse("2030-01-20T10:00:00Z");
+        Instant end = start.plusSeconds(3 * 3600);
+        when(carService.findAvailableCars(start, end, 0, 50)).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 50), 0));
+        String etag = mockMvc.perform(get("/api/v1/cars/available")
+                .param("startTime", start.toString())
+                .param("endTime", end.toString()))
+            .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/v1/cars/available")
+                .param("startTime", start.toString())
+                .param("endTime", end.toString())
+                .header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+        when(dataVersionTracker.current()).thenReturn(new DataVersionTracker.Versions(5, 12));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars/available")
+                .param("startTime", start.toString())
+                .param("endTime", end.toString())
+                .header("If-None-Match", etag))
+            .andExpect(status().isOk());
+        verify(carService, times(2)).findAvailableCars(start, end, 0, 50);
+    }
+
+    @Test
+    void shouldNotMatchEtag_whenRepresentationDiffers() throws Exception {
+        // Arrange
+        when(carService.getAllCars(0, 50)).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 50), 0));
+        String jsonEtag = mockMvc.perform(get("/api/v1/cars").accept(MediaType.APPLICATION_JSON))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars").accept(MediaType.APPLICATION_CBOR).header("If-None-Match", jsonEtag))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void shouldEncodeUuidsAsBinary_whenCborAccepted() throws Exception {
+        // Arrange
+        CarResponseDTO car = TestDataFactory.createCarResponseDTO(testCarId, "Tesla", "Model 3", "ABC-123");
+        when(carService.getAllCars(0, 50)).thenReturn(new PageImpl<>(List.of(car), PageRequest.of(0, 10), 1));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/v1/cars").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        JsonNode first = cborMapper.readTree(body).get("content").get(0);
+        assertThat(first.get("id").isBinary()).isTrue();
+        assertThat(first.get("id").binaryValue()).hasSize(16);
+        assertThat(cborMapper.treeToValue(first, CarResponseDTO.class)).isEqualTo(car);
+    }
+
     @Test
     void shouldReturnAvailableCars_whenGetAvailableCars() throws Exception {
         // Arrange
@@ -61,6 +188,102 @@ class CarControllerTest extends BaseControllerTest {
             .andExpect(jsonPath("$.content[0].make").value("Tesla"));
     }
 
+    @Test
+    void shouldReturnOccupancy_whenGetCarOccupancy() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.parse("2030-01-01");
+        LocalDate to = LocalDate.parse("2030-01-07");
+        CarOccupancyResponseDTO response = new CarOccupancyResponseDTO(testCarId, from, to, 120, 120.0 / (7 * 1440),
+            List.of(new DailyOccupancyDTO(from, 120, "00f0ff000000000000000000")));
+        when(carService.getCarOccupancy(testCarId, from, to)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars/{carId}/occupancy", testCarId)
+                .param("fromDate", from.toString())
+                .param("toDate", to.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.bookedMinutes").value(120))
+            .andExpect(jsonPath("$.days[0].busySlots").value("00f0ff000000000000000000"));
+    }
+
+    @Test
+    void shouldReturn404_whenOccupancyOfUnknownCar() throws Exception {
+        // Arrange
+        when(carService.getCarOccupancy(any(), any(), any())).thenThrow(new CarNotFoundException("Car not found"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars/{carId}/occupancy", testCarId)
+                .param("fromDate", "2030-01-01")
+                .param("toDate", "2030-01-07"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturnEncodedSchedule_whenGetCarSchedule() throws Exception {
+        // Arrange
+        Instant from = Instant.parse("2030-01-01T00:00:00Z");
+        Instant to = Instant.parse("2030-02-01T00:00:00Z");
+        when(carScheduleService.getCarSchedule(testCarId, from, to))
+            .thenReturn(new CarScheduleDTO(testCarId, from, to, new long[] {36_000, 7_200}));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars/{carId}/schedule", testCarId)
+                .param("from", from.toString())
+                .param("to", to.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.carId").value(testCarId.toString()))
+            .andExpect(jsonPath("$.busy[0]").value(36_000))
+            .andExpect(jsonPath("$.busy[1]").value(7_200));
+    }
+
+    @Test
+    void shouldReturnSchedules_whenPostCarSchedules() throws Exception {
+        // Arrange
+        Instant from = Instant.parse("2030-01-01T00:00:00Z");
+        Instant to = Instant.parse("2030-02-01T00:00:00Z");
+        CarScheduleRequestDTO request = new CarScheduleRequestDTO(List.of(testCarId), from, to);
+        when(carScheduleService.getCarSchedules(List.of(testCarId), from, to))
+            .thenReturn(List.of(new CarScheduleDTO(testCarId, from, to, new long[0])));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/cars/schedules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].carId").value(testCarId.toString()))
+            .andExpect(jsonPath("$[0].busy").isEmpty());
+    }
+
+    @Test
+    void shouldReturn400_whenScheduleRequestHasNoCars() throws Exception {
+        // Arrange
+        CarScheduleRequestDTO request = new CarScheduleRequestDTO(List.of(),
+            Instant.parse("2030-01-01T00:00:00Z"), Instant.parse("2030-02-01T00:00:00Z"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/cars/schedules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnAvailableCars_whenGetCarsAvailableForDays() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.parse("2030-01-01");
+        LocalDate to = LocalDate.parse("2030-01-07");
+        CarResponseDTO car = TestDataFactory.createCarResponseDTO(testCarId, "Tesla", "Model 3", "ABC-123");
+        Page<CarResponseDTO> response = new PageImpl<>(List.of(car), org.springframework.data.domain.PageRequest.of(0, 10), 1);
+        when(carService.findCarsAvailableForDays(from, to, 0, 50)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/cars/available-days")
+                .param("fromDate", from.toString())
+                .param("toDate", to.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].make").value("Tesla"));
+    }
+
     /**
      * Parameterized test to verify that invalid pagination parameters return 400 Bad Request.
      * Tests both /api/v1/cars and /api/v1/cars/available endpoints for consistent validation.
@@ -0,0 +1,99 @@
+package com.reservation.car.controller;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reservation.car.dto.response.CarImportRejectDTO;
+import com.reservation.car.dto.response.CarImportResultDTO;
+import com.reservation.car.model.CarImportFormat;
+import com.reservation.car.service.CarImportService;
+
+@WebMvcTest(CarImportController.class)
+class CarImportControllerTest extends BaseControllerTest {
+
+    @MockitoBean
+    private CarImportService carImportService;
+
+    @Test
+    void shouldImportCsv() throws Exception {
+        // Arrange
+        CarImportResultDTO result = new CarImportResultDTO(2, 1, 0, 0, 1,
+            List.of(new CarImportRejectDTO(3, "XYZ-1", "model is required")));
+        when(carImportService.importCars(any(InputStream.class), eq(CarImportFormat.CSV))).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/cars/import")
+                .header("X-User-ID", testUserId)
+                .contentType("text/csv")
+                .content("make,model,license_plate\nTesla,Model 3,ABC-123\nFord,,XYZ-1\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.inserted").value(1))
+            .andExpect(jsonPath("$.rejects[0].line").value(3))
+            .andExpect(jsonPath("$.rejects[0].reason").value("model is required"));
+    }
+
+    @Test
+    void shouldImportNdjson() throws Exception {
+        // Arrange
+        when(carImportService.importCars(any(InputStream.class), eq(CarImportFormat.NDJSON)))
+            .thenReturn(new CarImportResultDTO(1, 0, 1, 0, 0, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/cars/import")
+                .header("X-User-ID", testUserId)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"make\":\"Tesla\",\"model\":\"Model Y\",\"licensePlate\":\"ABC-123\"}\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(1));
+    }
+
+    @Test
+    void shouldReturn400_whenCsvHeaderInvalid() throws Exception {
+        // Arrange
+        when(carImportService.importCars(any(InputStream.class), eq(CarImportFormat.CSV)))
+            .thenThrow(new IllegalArgumentException("CSV header must name the columns make, model and license_plate"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/cars/import")
+                .header("X-User-ID", testUserId)
+                .contentType("text/csv")
+                .content("foo,bar\n"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("INVALID_ARGUMENT"));
+    }
+
+    @Test
+    void shouldReturn415_whenContentTypeUnsupported() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/cars/import")
+                .header("X-User-ID", testUserId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+            .andExpect(status().isUnsupportedMediaType())
+            .andExpect(jsonPath("$.error").value("UNSUPPORTED_MEDIA_TYPE"));
+        verifyNoInteractions(carImportService);
+    }
+
+    @Test
+    void shouldReturn400_whenUserHeaderMissing() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/cars/import")
+                .contentType("text/csv")
+                .content("make,model,license_plate\n"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("MISSING_HEADER"));
+        verifyNoInteractions(carImportService);
+    }
+}
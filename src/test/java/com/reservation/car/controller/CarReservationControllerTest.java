@@ -0,0 +1,67 @@
+package com.reservation.car.controller;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reservation.car.dto.response.CancellationResultDTO;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.model.CancellationOutcome;
+import com.reservation.car.service.ReservationService;
+
+@WebMvcTest(CarReservationController.class)
+class CarReservationControllerTest extends BaseControllerTest {
+
+    @MockitoBean
+    private ReservationService reservationService;
+
+    @Test
+    void shouldStreamOutcomes_whenCancellingForMaintenance() throws Exception {
+        // Arrange
+        Instant from = Instant.parse("2030-01-20T08:00:00Z");
+        Instant to = Instant.parse("2030-01-21T08:00:00Z");
+        when(reservationService.cancelReservationsForMaintenance(testCarId, from, to)).thenReturn(List.of(
+            new CancellationResultDTO(testReservationId, testCarId, testUserId, from, from.plusSeconds(7200), CancellationOutcome.CANCELLED)));
+
+        // Act
+        MvcResult result = mockMvc.perform(delete("/api/v1/cars/{carId}/reservations", testCarId)
+                .header("X-User-ID", testUserId.toString())
+                .param("from", from.toString())
+                .param("to", to.toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(objectMapper.writeValueAsString(
+                new CancellationResultDTO(testReservationId, testCarId, testUserId, from, from.plusSeconds(7200), CancellationOutcome.CANCELLED)) + "\n"));
+    }
+
+    @Test
+    void shouldReturnError_whenCarNotFound() throws Exception {
+        // Arrange
+        when(reservationService.cancelReservationsForMaintenance(any(), any(), any()))
+            .thenThrow(new CarNotFoundException("Car not found"));
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/v1/cars/{carId}/reservations", testCarId)
+                .header("X-User-ID", testUserId.toString())
+                .param("from", "2030-01-20T08:00:00Z")
+                .param("to", "2030-01-21T08:00:00Z"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -1,27 +1,50 @@
 package com.reservation.car.controller;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.BookingRequestResponseDTO;
+import com.reservation.car.dto.response.CancellationResultDTO;
 import com.reservation.car.dto.response.ReservationResponseDTO;
 import com.reservation.car.exception.CarUnavailableException;
 import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.exception.ServiceOverloadedException;
+import com.reservation.car.model.BookingRequestStatus;
+import com.reservation.car.model.CancellationOutcome;
 import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.service.BookingRequestService;
 import com.reservation.car.service.ReservationService;
 import com.reservation.car.util.TestDataFactory;
 
@@ -31,6 +54,12 @@ class ReservationControllerTest extends BaseControllerTest {
     @MockitoBean
     private ReservationService reservationService;
 
+    @MockitoBean
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
     @Test
     void shouldCreateReservation_whenValidRequest() throws Exception {
         // Arrange
@@ -64,6 +93,168 @@ class ReservationControllerTest extends BaseControllerTest {
             .andExpect(status().isConflict());
     }
 
+    @Test
+    void shouldReturn503WithRetryAfter_whenServiceOverloaded() throws Exception {
+        // Arrange
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCarId, testUserId,
+            Instant.now().plusSeconds(3600), Instant.now().plusSeconds(7200));
+        when(reservationService.createReservation(any(), any()))
+            .thenThrow(new ServiceOverloadedException("At capacity", Duration.ofSeconds(2)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/reservations")
+                .header("X-User-ID", testUserId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "2"))
+            .andExpect(jsonPath("$.error").value("SERVICE_OVERLOADED"));
+    }
+
+    @Test
+    void shouldPlaceHold_whenValidRequest() throws Exception {
+        // Arrange
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCarId, testUserId,
+            Instant.now().plusSeconds(3600), Instant.now().plusSeconds(7200));
+        ReservationResponseDTO response = TestDataFactory.createReservationResponseDTO(testReservationId, testCarId, testUserId,
+            request.getStartTime(), request.getEndTime(), ReservationStatus.HOLD, Instant.now());
+        response.setHoldExpiresAt(Instant.parse("2030-01-20T10:05:00Z"));
+        when(reservationService.createHold(eq(request), eq(testUserId))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/reservations/holds")
+                .header("X-User-ID", testUserId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.status").value("HOLD"))
+            .andExpect(jsonPath("$.holdExpiresAt").value("2030-01-20T10:05:00Z"));
+        verify(reservationService, never()).createReservation(any(), any());
+    }
+
+    @Test
+    void shouldConfirmHold() throws Exception {
+        // Arrange
+        ReservationResponseDTO response = TestDataFactory.createReservationResponseDTO(testReservationId, testCarId, testUserId,
+            Instant.now().plusSeconds(3600), Instant.now().plusSeconds(7200), ReservationStatus.CONFIRMED, Instant.now());
+        when(reservationService.confirmHold(testReservationId, testUserId)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/reservations/{id}/confirmation", testReservationId)
+                .header("X-User-ID", testUserId.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    void shouldReturn409_whenConfirmingExpiredHold() throws Exception {
+        // Arrange
+        when(reservationService.confirmHold(testReservationId, testUserId))
+            .thenThrow(new CarUnavailableException("Hold expired"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/reservations/{id}/confirmation", testReservationId)
+                .header("X-User-ID", testUserId.toString()))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("CAR_UNAVAILABLE"));
+    }
+
+    @Test
+    void shouldExchangeSmile_whenSmileSentAndAccepted() throws Exception {
+        // Arrange
+        Instant start = Instant.parse("2030-01-20T10:00:00Z");
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCarId, testUserId,
+            start, start.plusSeconds(7200));
+        ReservationResponseDTO response = TestDataFactory.createReservationResponseDTO(testReservationId, testCarId, testUserId,
+            start, start.plusSeconds(7200), ReservationStatus.CONFIRMED, Instant.parse("2030-01-19T08:15:30.123456Z"));
+        when(reservationService.createReservation(eq(request), eq(testUserId))).thenReturn(response);
+        ObjectMapper smileMapper = smileConverter.getObjectMapper();
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        // Act
+        byte[] body = mockMvc.perform(post("/api/v1/reservations")
+                .header("X-User-ID", testUserId.toString())
+                .contentType(smile)
+                .accept(smile)
+                .content(smileMapper.writeValueAsBytes(request)))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(smile))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert: instants keep sub-millisecond precision as numeric timestamps
+        assertThat(smileMapper.readTree(body).get("createdAt").isNumber()).isTrue();
+        assertThat(smileMapper.readValue(body, ReservationResponseDTO.class)).isEqualTo(response);
+    }
+
+    @Test
+    void shouldQueueReservation_whenClientPrefersAsync() throws Exception {
+        // Arrange
+        UUID requestId = UUID.randomUUID();
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCarId, testUserId,
+            Instant.now().plusSeconds(3600), Instant.now().plusSeconds(10800));
+        BookingRequestResponseDTO accepted = TestDataFactory.createBookingRequestResponseDTO(requestId, testCarId, testUserId,
+            request.getStartTime(), request.getEndTime(), BookingRequestStatus.PENDING);
+        when(bookingRequestService.isAsyncEnabled()).thenReturn(true);
+        when(bookingRequestService.submit(any(), eq(testUserId))).thenReturn(accepted);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/reservations")
+                .header("X-User-ID", testUserId.toString())
+                .header("Prefer", "respond-async, wait=5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "http://localhost/api/v1/reservations/requests/" + requestId))
+            .andExpect(header().string("Preference-Applied", "respond-async"))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+        verify(reservationService, never()).createReservation(any(), any());
+    }
+
+    @Test
+    void shouldBookSynchronously_whenAsyncModeDisabled() throws Exception {
+        // Arrange
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCarId, testUserId,
+            Instant.now().plusSeconds(3600), Instant.now().plusSeconds(10800));
+        ReservationResponseDTO response = TestDataFactory.createReservationResponseDTO(testReservationId, testCarId, testUserId,
+            request.getStartTime(), request.getEndTime(), ReservationStatus.CONFIRMED, Instant.now());
+        when(bookingRequestService.isAsyncEnabled()).thenReturn(false);
+        when(reservationService.createReservation(any(), any())).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/reservations")
+                .header("X-User-ID", testUserId.toString())
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(testReservationId.toString()));
+        verify(bookingRequestService, never()).submit(any(), any());
+    }
+
+    @Test
+    void shouldReturnBookingRequestOutcome_whenPolled() throws Exception {
+        // Arrange
+        UUID requestId = UUID.randomUUID();
+        BookingRequestResponseDTO finished = TestDataFactory.createBookingRequestResponseDTO(requestId, testCarId, testUserId,
+            Instant.now().plusSeconds(3600), Instant.now().plusSeconds(10800), BookingRequestStatus.SUCCEEDED);
+        finished.setReservationId(testReservationId);
+        when(bookingRequestService.awaitBookingRequest(requestId, testUserId, Duration.ofSeconds(10)))
+            .thenReturn(CompletableFuture.completedFuture(finished));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/reservations/requests/{id}", requestId)
+                .header("X-User-ID", testUserId.toString())
+                .param("waitSeconds", "10"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+            .andExpect(jsonPath("$.reservationId").value(testReservationId.toString()));
+    }
+
     @Test
     void shouldCancelReservation_whenValid() throws Exception {
         // Arrange
@@ -90,6 +281,41 @@ class ReservationControllerTest extends BaseControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldStreamOneLinePerReservation_whenCancellingUpcomingReservations() throws Exception {
+        // Arrange
+        Instant start = Instant.now().plusSeconds(7200);
+        when(reservationService.cancelUpcomingReservations(testUserId)).thenReturn(List.of(
+            new CancellationResultDTO(testReservationId, testCarId, testUserId, start, start.plusSeconds(7200), CancellationOutcome.CANCELLED),
+            new CancellationResultDTO(UUID.randomUUID(), testCarId, testUserId, start, start.plusSeconds(7200), CancellationOutcome.TOO_LATE)));
+
+        // Act
+        MvcResult result = mockMvc.perform(delete("/api/v1/reservations")
+                .header("X-User-ID", testUserId.toString())
+                .param("scope", "future"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body.lines().findFirst()).get().asString()
+            .contains("\"outcome\":\"CANCELLED\"", testReservationId.toString());
+    }
+
+    @Test
+    void shouldReturn400_whenBulkCancellationScopeUnsupported() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/v1/reservations")
+                .header("X-User-ID", testUserId.toString())
+                .param("scope", "all"))
+            .andExpect(status().isBadRequest());
+        verify(reservationService, never()).cancelUpcomingReservations(any());
+    }
+
     /**
      * Parameterized test to verify that invalid reservation requests return 400 Bad Request.
      * This ensures robust error handling for various validation failures (e.g., time order, duration limits)
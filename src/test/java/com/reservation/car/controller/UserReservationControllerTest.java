@@ -0,0 +1,77 @@
+package com.reservation.car.controller;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reservation.car.dto.response.ReservationPageDTO;
+import com.reservation.car.dto.response.ReservationResponseDTO;
+import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.service.ReservationService;
+
+@WebMvcTest(UserReservationController.class)
+class UserReservationControllerTest extends BaseControllerTest {
+
+    @MockitoBean
+    private ReservationService reservationService;
+
+    @Test
+    void shouldReturnPageWithNextCursor_whenListingOwnReservations() throws Exception {
+        // Arrange
+        Instant start = Instant.parse("2030-01-20T10:00:00Z");
+        ReservationResponseDTO reservation = new ReservationResponseDTO(testReservationId, testCarId, testUserId,
+            start, start.plusSeconds(7200), ReservationStatus.CONFIRMED, Instant.now(), null);
+        when(reservationService.getUserReservations(eq(testUserId), eq(testUserId),
+                eq(Set.of(ReservationStatus.CONFIRMED, ReservationStatus.ACTIVE)), eq(start), isNull(), eq("abc"), eq(20)))
+            .thenReturn(new ReservationPageDTO(List.of(reservation), 1, "def"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/{userId}/reservations", testUserId)
+                .header("X-User-ID", testUserId.toString())
+                .param("status", "CONFIRMED", "ACTIVE")
+                .param("from", start.toString())
+                .param("cursor", "abc")
+                .param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(testReservationId.toString()))
+            .andExpect(jsonPath("$.size").value(1))
+            .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenListingReservationsOfAnotherUser() throws Exception {
+        // Arrange
+        when(reservationService.getUserReservations(any(), any(), any(), any(), any(), any(), anyInt()))
+            .thenThrow(new InvalidReservationException("User is not authorized to list reservations of another user"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/{userId}/reservations", testUserId)
+                .header("X-User-ID", testCarId.toString()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenPageSizeExceedsMaximum() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/{userId}/reservations", testUserId)
+                .header("X-User-ID", testUserId.toString())
+                .param("size", "201"))
+            .andExpect(status().isBadRequest());
+        verify(reservationService, never()).getUserReservations(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,30 @@
+package com.reservation.car.controller;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.reservation.car.config.AccessLogProperties;
+import com.reservation.car.config.AdmissionProperties;
+import com.reservation.car.config.BinaryMediaTypeConfig;
+import com.reservation.car.config.BookingQueueProperties;
+import com.reservation.car.config.BulkheadProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Beans the web slice does not auto-configure but the MVC infrastructure
+ * (interceptors registered in WebConfig, binary message converters) depends on.
+ */
+@TestConfiguration
+@Import(BinaryMediaTypeConfig.class)
+@EnableConfigurationProperties({AccessLogProperties.class, AdmissionProperties.class, BulkheadProperties.class, BookingQueueProperties.class})
+public class WebMvcTestConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
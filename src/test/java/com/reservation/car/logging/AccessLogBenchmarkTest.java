@@ -0,0 +1,165 @@
+package com.reservation.car.logging;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import com.reservation.car.config.AccessLogProperties;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * Benchmark of the access log's cost on request threads.
+ *
+ * Request threads complete requests through AccessLogInterceptor while the lines are written to a
+ * file flushed per event, standing in for the console. It compares a synchronous appender with the
+ * AsyncAppender set up in logback-spring.xml, unsampled and at a 1% sample rate, and reports
+ * throughput and p50/p99 of the time a request spends in the interceptor, plus the lines that reached
+ * the file (warmup included): when the writer cannot keep up, the async setup drops INFO lines instead
+ * of holding request threads.
+ *
+ * The end-to-end comparison runs with Gatling against the docker setup (see GATLING.md).
+ *
+ * Usage:
+ *   ./mvnw test -Dtest=AccessLogBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AccessLogBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 100_000;
+    private static final int ASYNC_QUEUE_SIZE = 8192;
+
+    @TempDir
+    private Path logDirectory;
+
+    @Test
+    void compareSetups() throws Exception {
+        List<String> results = new ArrayList<>();
+        results.add(measure("sync, every request", false, 1.0));
+        results.add(measure("async, every request", true, 1.0));
+        results.add(measure("sync, 1% sampled", false, 0.01));
+        results.add(measure("async, 1% sampled", true, 0.01));
+
+        System.out.println();
+        System.out.printf("%-22s %12s %10s %10s %12s%n", "setup", "requests/s", "p50 us", "p99 us", "lines");
+        results.forEach(System.out::println);
+        System.out.println();
+    }
+
+    private String measure(String setup, boolean async, double sampleRate) throws Exception {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger logger = context.getLogger(AccessLogInterceptor.class);
+        Path file = Files.createTempFile(logDirectory, "access", ".log");
+        Appender<ILoggingEvent> appender = appender(context, file, async);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        try {
+            AccessLogInterceptor interceptor = new AccessLogInterceptor(
+                new AccessLogProperties(true, 1.0, Map.of("SampleController.list", sampleRate)));
+            HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+
+            run(interceptor, handler, WARMUP_REQUESTS);
+            long started = System.nanoTime();
+            long[] latencies = run(interceptor, handler, MEASURED_REQUESTS);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            appender.stop();
+            long lines;
+            try (var stream = Files.lines(file)) {
+                lines = stream.count();
+            }
+            Arrays.sort(latencies);
+            return String.format("%-22s %12.0f %10.1f %10.1f %12d", setup, MEASURED_REQUESTS / seconds,
+                latencies[latencies.length / 2] / 1e3, latencies[(int) (latencies.length * 0.99)] / 1e3, lines);
+        } finally {
+            logger.detachAppender(appender);
+            logger.setAdditive(true);
+        }
+    }
+
+    private static long[] run(AccessLogInterceptor interceptor, HandlerMethod handler, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        int perThread = requests / THREADS;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * perThread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/cars");
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        interceptor.preHandle(request, response, handler);
+                        long started = System.nanoTime();
+                        interceptor.afterCompletion(request, response, handler, null);
+                        latencies[offset + i] = System.nanoTime() - started;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return Arrays.copyOf(latencies, perThread * THREADS);
+    }
+
+    private static Appender<ILoggingEvent> appender(LoggerContext context, Path path, boolean async) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} : %kvp %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(path.toString());
+        file.setEncoder(encoder);
+        file.setImmediateFlush(true);
+        file.start();
+        if (!async) {
+            return file;
+        }
+
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(ASYNC_QUEUE_SIZE);
+        appender.setNeverBlock(true);
+        appender.addAppender(file);
+        appender.start();
+        return appender;
+    }
+
+    static class SampleController {
+
+        public void list() {
+        }
+    }
+}
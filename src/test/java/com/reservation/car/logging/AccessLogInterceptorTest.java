@@ -0,0 +1,151 @@
+package com.reservation.car.logging;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import com.reservation.car.config.AccessLogProperties;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class AccessLogInterceptorTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(AccessLogInterceptor.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+        logger.setAdditive(true);
+    }
+
+    @Test
+    void shouldSkipSuccessfulRequests_whenEndpointSampledAtZero() throws Exception {
+        // Arrange
+        AccessLogInterceptor interceptor = interceptor(Map.of("SampleController.list", 0.0));
+
+        // Act
+        complete(interceptor, "list", 200, null);
+
+        // Assert
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void shouldAlwaysLogConflicts_whenEndpointSampledAtZero() throws Exception {
+        // Arrange
+        AccessLogInterceptor interceptor = interceptor(Map.of("SampleController.list", 0.0));
+
+        // Act
+        complete(interceptor, "list", 409, null);
+
+        // Assert
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(keyValues(event)).containsEntry("http.status", 409)
+                .containsEntry("endpoint", "SampleController.list")
+                .containsEntry("sampleRate", 1.0);
+        });
+    }
+
+    @Test
+    void shouldLogServerErrorsAtWarn_whenHandlerThrew() throws Exception {
+        // Arrange
+        AccessLogInterceptor interceptor = interceptor(Map.of("SampleController.list", 0.0));
+
+        // Act
+        complete(interceptor, "list", 200, new IllegalStateException("boom"));
+
+        // Assert
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(keyValues(event)).containsEntry("http.status", 500);
+        });
+    }
+
+    @Test
+    void shouldLogEverySuccessfulRequest_forEndpointsWithoutRate() throws Exception {
+        // Arrange
+        AccessLogInterceptor interceptor = interceptor(Map.of("SampleController.list", 0.0));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            complete(interceptor, "book", 201, null);
+        }
+
+        // Assert
+        assertThat(appender.list).hasSize(3);
+    }
+
+    @Test
+    void shouldLogAboutSampleRateShare_ofSuccessfulRequests() throws Exception {
+        // Arrange
+        AccessLogInterceptor interceptor = interceptor(Map.of("SampleController.list", 0.1));
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            complete(interceptor, "list", 200, null);
+        }
+
+        // Assert
+        assertThat(appender.list).hasSizeBetween(800, 1_200);
+    }
+
+    @Test
+    void shouldNotLog_whenDisabled() throws Exception {
+        // Arrange
+        AccessLogInterceptor interceptor = new AccessLogInterceptor(new AccessLogProperties(false, 1.0, null));
+
+        // Act
+        complete(interceptor, "list", 500, null);
+
+        // Assert
+        assertThat(appender.list).isEmpty();
+    }
+
+    private static AccessLogInterceptor interceptor(Map<String, Double> sampleRates) {
+        return new AccessLogInterceptor(new AccessLogProperties(true, 1.0, sampleRates));
+    }
+
+    private static void complete(AccessLogInterceptor interceptor, String method, int status, Exception ex)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sample");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod(method));
+        interceptor.preHandle(request, response, handler);
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, handler, ex);
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream()
+            .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+
+    static class SampleController {
+
+        public void list() {
+        }
+
+        public void book() {
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.reservation.car.notification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.ReservationResponseDTO;
+import com.reservation.car.service.BaseReservationIntegrationTest;
+import com.reservation.car.util.TestDataFactory;
+
+/**
+ * Verifies LISTEN/NOTIFY delivery, reconnect and resync against a real Postgres.
+ */
+@Import(ChangeNotificationIntegrationTest.RecordingListenerConfig.class)
+class ChangeNotificationIntegrationTest extends BaseReservationIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private ChangeNotificationSubscriber subscriber;
+
+    @Autowired
+    private ChangeNotificationPublisher publisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void waitForListener() throws InterruptedException {
+        awaitCondition(subscriber::isConnected);
+        listener.events.clear();
+    }
+
+    @Test
+    void shouldDeliverReservationChange_afterCommit() throws InterruptedException {
+        // Arrange
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCar.getId(), TestDataFactory.getTestUserId(),
+            Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(1)).plus(Duration.ofHours(2)));
+
+        // Act
+        ReservationResponseDTO created = reservationService.createReservation(request, TestDataFactory.getTestUserId());
+
+        // Assert
+        awaitCondition(() -> !listener.eventsOfType(ChangeEvent.Type.RESERVATION).isEmpty());
+        ChangeEvent event = listener.eventsOfType(ChangeEvent.Type.RESERVATION).get(0);
+        assertThat(event.reservationId()).isEqualTo(created.getId());
+        assertThat(event.carId()).isEqualTo(testCar.getId());
+        assertThat(event.origin()).isEqualTo(ChangeNotificationPublisher.NODE_ID);
+    }
+
+    @Test
+    void shouldStampEvent_whenTransactionCommits() throws InterruptedException {
+        // Arrange
+        Instant[] reported = new Instant[1];
+
+        // Act: the transaction keeps working for a while after reporting the change
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            publisher.carChanged(testCar.getId());
+            reported[0] = Instant.now();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Assert: only events published by this node, as the car itself may be reported by other sources
+        awaitCondition(() -> listener.events.stream().anyMatch(ChangeNotificationIntegrationTest::isPublishedHere));
+        ChangeEvent event = listener.events.stream().filter(ChangeNotificationIntegrationTest::isPublishedHere)
+            .findFirst().orElseThrow();
+        assertThat(event.publishedAt()).isAfterOrEqualTo(reported[0].plusMillis(300));
+    }
+
+    @Test
+    void shouldReconnectAndResync_whenListenerConnectionIsKilled() throws InterruptedException {
+        // Arrange
+        int resyncsBefore = listener.resyncs.get();
+
+        // Act
+        jdbcTemplate.queryForList(
+            "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = 'car-change-listener'");
+
+        // Assert
+        awaitCondition(() -> listener.resyncs.get() > resyncsBefore && subscriber.isConnected());
+
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCar.getId(), TestDataFactory.getTestUserId(),
+            Instant.now().plus(Duration.ofDays(2)), Instant.now().plus(Duration.ofDays(2)).plus(Duration.ofHours(2)));
+        reservationService.createReservation(request, TestDataFactory.getTestUserId());
+        awaitCondition(() -> !listener.eventsOfType(ChangeEvent.Type.RESERVATION).isEmpty());
+    }
+
+    @Test
+    void shouldNotifyOnceWithoutCarId_whenCarsAreBulkInserted() throws InterruptedException {
+        // Act
+        jdbcTemplate.update(
+            "INSERT INTO car (id, make, model, license_plate) " +
+            "SELECT gen_random_uuid(), 'Make', 'Model', 'BULK-' || i FROM generate_series(1, 500) i");
+
+        // Assert: events from the setup's single-row writes carry their car ID
+        awaitCondition(() -> !listener.bulkCarEvents().isEmpty());
+        Thread.sleep(200);
+        assertThat(listener.bulkCarEvents()).singleElement()
+            .satisfies(event -> assertThat(event.publishedAt()).isNotNull());
+    }
+
+    private static boolean isPublishedHere(ChangeEvent event) {
+        return event.type() == ChangeEvent.Type.CAR && ChangeNotificationPublisher.NODE_ID.equals(event.origin());
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    static class RecordingListener implements ChangeListener {
+
+        final List<ChangeEvent> events = new CopyOnWriteArrayList<>();
+        final AtomicInteger resyncs = new AtomicInteger();
+
+        List<ChangeEvent> eventsOfType(ChangeEvent.Type type) {
+            return events.stream().filter(event -> event.type() == type).toList();
+        }
+
+        List<ChangeEvent> bulkCarEvents() {
+            return eventsOfType(ChangeEvent.Type.CAR).stream().filter(event -> event.carId() == null).toList();
+        }
+
+        @Override
+        public void onChange(ChangeEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onResync() {
+            resyncs.incrementAndGet();
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.reservation.car.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservation.car.notification.ChangeNotificationSubscriber;
+import com.reservation.car.service.BaseReservationIntegrationTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that car pages are served from the second-level cache and that writes which
+ * bypass Hibernate (bulk JDBC inserts, as in PopulateTestDb) still invalidate them.
+ */
+class CarCacheIntegrationTest extends BaseReservationIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ChangeNotificationSubscriber subscriber;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void waitForListener() throws InterruptedException {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        awaitCondition(subscriber::isConnected);
+    }
+
+    @Test
+    void shouldServeRepeatedPageFromQueryCache() throws InterruptedException {
+        // Act / Assert: notifications from the setup may still evict once, so retry until a hit
+        awaitCondition(() -> {
+            carRepository.findAllCarsPaginated(FIRST_PAGE);
+            long hitsBefore = statistics.getQueryCacheHitCount();
+            carRepository.findAllCarsPaginated(FIRST_PAGE);
+            return statistics.getQueryCacheHitCount() > hitsBefore;
+        });
+    }
+
+    @Test
+    void shouldInvalidatePages_afterBulkJdbcInsert() throws InterruptedException {
+        // Arrange
+        assertThat(carRepository.findAllCarsPaginated(FIRST_PAGE).getTotalElements()).isEqualTo(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(new Object[] {UUID.randomUUID(), "Make" + (i % 10), "Model" + i, "BULK-" + i});
+        }
+
+        // Act
+        jdbcTemplate.batchUpdate("INSERT INTO car (id, make, model, license_plate) VALUES (?, ?, ?, ?)", rows);
+
+        // Assert
+        awaitCondition(() -> carRepository.findAllCarsPaginated(FIRST_PAGE).getTotalElements() == 101);
+    }
+
+    @Test
+    void shouldEvictCachedCar_afterJdbcUpdate() throws InterruptedException {
+        // Arrange
+        assertThat(carRepository.findById(testCar.getId())).get().extracting("model").isEqualTo(testCar.getModel());
+
+        // Act
+        jdbcTemplate.update("UPDATE car SET model = 'Model Y' WHERE id = ?", testCar.getId());
+
+        // Assert
+        awaitCondition(() -> "Model Y".equals(carRepository.findById(testCar.getId()).orElseThrow().getModel()));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
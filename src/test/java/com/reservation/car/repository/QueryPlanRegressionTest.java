@@ -0,0 +1,328 @@
+package com.reservation.car.repository;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.reservation.car.repository.StatementRecorder.RecordedStatement;
+import com.reservation.car.service.BaseReservationIntegrationTest;
+
+/**
+ * Query plan regression harness for every {@code @Query} in {@link CarRepository} and
+ * {@link ReservationRepository}.
+ *
+ * Loads a synthetic fleet (2,000 cars, 100,000 reservations, 60 days of occupancy), calls each
+ * repository method in a rolled-back transaction to capture the exact SQL and bindings Hibernate
+ * sends, and runs {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)} on it. Each plan is checked for
+ * its required index and its buffer and execution-time budgets, and its shape (node types, relations,
+ * indexes) is compared with the baseline in {@code src/test/resources/query-plans}, so plan changes
+ * show up as diffs in review.
+ *
+ * After an intended change, regenerate the baselines and commit them:
+ *   ./mvnw test -Dtest=QueryPlanRegressionTest -Dplans.update=true
+ */
+@Import(QueryPlanRegressionTest.RecordingConfig.class)
+class QueryPlanRegressionTest extends BaseReservationIntegrationTest {
+
+    private static final Path BASELINE_DIR = Path.of("src", "test", "resources", "query-plans");
+    private static final boolean UPDATE_BASELINES = Boolean.getBoolean("plans.update");
+    private static final String EXPLAIN = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ";
+
+    private static final int CARS = 2_000;
+    private static final int RESERVATIONS_PER_CAR = 50;
+    private static final int USERS = 500;
+    private static final int OCCUPANCY_DAYS = 60;
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return "dataSource".equals(beanName) ? StatementRecorder.wrap((DataSource) bean) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * A repository call to plan, with what its plan must satisfy.
+     *
+     * @param requiredIndex index the plan must use, or null when a scan is the right plan
+     * @param maxBuffers budget for shared buffers hit + read
+     * @param maxMillis budget for execution time
+     */
+    private record PlanCase(Object repository, String method, Object[] args,
+                            String requiredIndex, long maxBuffers, double maxMillis) {
+
+        String name() {
+            Class<?> type = repository instanceof CarRepository ? CarRepository.class : ReservationRepository.class;
+            return type.getSimpleName() + "." + method;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Instant base;
+    private UUID carId;
+    private UUID userId;
+    private UUID reservationId;
+    private UUID holdId;
+    private UUID holdUserId;
+
+    @BeforeEach
+    void generateDataset() {
+        base = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.DAYS);
+
+        jdbcTemplate.update(
+            "INSERT INTO car (id, make, model, license_plate) " +
+            "SELECT gen_random_uuid(), 'Make' || (i % 10), 'Model' || (i % 100), 'PLAN-' || i " +
+            "FROM generate_series(1, ?) i", CARS);
+        // Back-to-back 2h bookings every 3h across 500 users, a tenth of them cancelled and one in fifty on hold
+        jdbcTemplate.update(
+            "INSERT INTO reservation (id, car_id, user_id, start_time, end_time, status, created_at, hold_expires_at) " +
+            "SELECT gen_random_uuid(), c.id, CAST(md5('user' || ((hashtext(c.license_plate) & 2147483647) + k) % ?) AS uuid), " +
+            "  CAST(? AS timestamptz) + k * INTERVAL '3 hours', " +
+            "  CAST(? AS timestamptz) + k * INTERVAL '3 hours' + INTERVAL '2 hours', " +
+            "  CASE WHEN k % 10 = 0 THEN 'CANCELLED' WHEN k % 50 = 1 THEN 'HOLD' ELSE 'CONFIRMED' END, NOW(), " +
+            "  CASE WHEN k % 50 = 1 THEN NOW() + INTERVAL '5 minutes' END " +
+            "FROM car c CROSS JOIN generate_series(0, ?) k " +
+            "WHERE c.license_plate LIKE 'PLAN-%'",
+            USERS, Timestamp.from(base), Timestamp.from(base), RESERVATIONS_PER_CAR - 1);
+        // Every other car busy on each day
+        jdbcTemplate.update(
+            "INSERT INTO car_daily_occupancy (car_id, occupancy_date, booked_minutes, busy_mask) " +
+            "SELECT c.id, CAST(? AS date) + d, 240, decode('ffff00000000000000000000', 'hex') " +
+            "FROM car c CROSS JOIN generate_series(0, ?) d " +
+            "WHERE c.license_plate LIKE 'PLAN-%' AND hashtext(c.license_plate) % 2 = 0",
+            LocalDate.ofInstant(base, ZoneOffset.UTC), OCCUPANCY_DAYS - 1);
+        // VACUUM as well: whether index-only scans pay off depends on the visibility map, which
+        // autovacuum would otherwise fill in at an arbitrary point of the run
+        jdbcTemplate.execute("VACUUM ANALYZE car");
+        jdbcTemplate.execute("VACUUM ANALYZE reservation");
+        jdbcTemplate.execute("VACUUM ANALYZE car_daily_occupancy");
+
+        carId = jdbcTemplate.queryForObject("SELECT id FROM car WHERE license_plate = 'PLAN-42'", UUID.class);
+        userId = jdbcTemplate.queryForObject("SELECT CAST(md5('user42') AS uuid)", UUID.class);
+        reservationId = jdbcTemplate.queryForObject(
+            "SELECT id FROM reservation WHERE car_id = ? AND status = 'CONFIRMED' ORDER BY start_time OFFSET 5 LIMIT 1",
+            UUID.class, carId);
+        holdId = jdbcTemplate.queryForObject(
+            "SELECT id FROM reservation WHERE car_id = ? AND status = 'HOLD' LIMIT 1", UUID.class, carId);
+        holdUserId = jdbcTemplate.queryForObject("SELECT user_id FROM reservation WHERE id = ?", UUID.class, holdId);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> queryPlans() {
+        Instant from = base.plus(10, ChronoUnit.HOURS);
+        Instant to = base.plus(13, ChronoUnit.HOURS);
+        LocalDate day = LocalDate.ofInstant(base, ZoneOffset.UTC);
+        List<UUID> someCars = jdbcTemplate.queryForList(
+            "SELECT id FROM car WHERE license_plate IN ('PLAN-1', 'PLAN-2', 'PLAN-3')", UUID.class);
+
+        List<PlanCase> cases = List.of(
+            new PlanCase(carRepository, "findAvailableCarsForTimePeriod", new Object[] {from, to, PageRequest.of(0, 20)},
+                "idx_reservation_blocking_period", 3_000, 250),
+            new PlanCase(carRepository, "findAllCarsPaginated", new Object[] {PageRequest.of(0, 20)},
+                "idx_car_make_model", 200, 100),
+            new PlanCase(carRepository, "findCarsAvailableForDays", new Object[] {day, day.plusDays(2), PageRequest.of(0, 20)},
+                "car_daily_occupancy_pkey", 1_000, 100),
+            new PlanCase(carRepository, "findAllIds", new Object[] {},
+                null, 4_000, 100),
+            new PlanCase(carRepository, "findBusyIntervals",
+                new Object[] {someCars.toArray(UUID[]::new), base.plus(1, ChronoUnit.DAYS), base.plus(3, ChronoUnit.DAYS), base},
+                "idx_reservation_car_time_status", 500, 50),
+            new PlanCase(reservationRepository, "hasBlockingReservation", new Object[] {carId, from, to},
+                "idx_reservation_blocking_period", 50, 50),
+            new PlanCase(reservationRepository, "findConfirmedForCarBetween", new Object[] {carId, from, to},
+                "idx_reservation_car_time_status", 50, 50),
+            new PlanCase(reservationRepository, "findConfirmedForCars", new Object[] {someCars},
+                "idx_reservation_car_time_status", 200, 50),
+            new PlanCase(reservationRepository, "findPageForUser",
+                new Object[] {userId, from, new UUID(0, 0), Instant.parse("9999-12-31T00:00:00Z"), List.of("CONFIRMED", "ACTIVE"), 51},
+                "idx_reservation_user_start", 100, 50),
+            new PlanCase(reservationRepository, "expireOverlappingHolds", new Object[] {carId, from, to},
+                "idx_reservation_hold_expiry", 50, 50),
+            new PlanCase(reservationRepository, "expireHolds", new Object[] {List.of(holdId, reservationId), Instant.now()},
+                "idx_reservation_hold_expiry", 100, 50),
+            new PlanCase(reservationRepository, "confirmHoldIfAllowed", new Object[] {holdId, holdUserId},
+                "reservation_pkey", 100, 50),
+            new PlanCase(reservationRepository, "findHolds", new Object[] {},
+                "idx_reservation_hold_expiry", 200, 50),
+            new PlanCase(reservationRepository, "completeEnded", new Object[] {500},
+                "idx_reservation_live_end", 100, 50),
+            new PlanCase(reservationRepository, "activateStarted", new Object[] {500},
+                "idx_reservation_confirmed_start", 100, 50),
+            new PlanCase(reservationRepository, "acquireTransactionLock", new Object[] {42L},
+                null, 10, 50),
+            new PlanCase(reservationRepository, "cancelIfAllowed", new Object[] {reservationId, userId, 30},
+                "reservation_pkey", 100, 50),
+            new PlanCase(reservationRepository, "cancelUpcomingForUser", new Object[] {userId, 30},
+                "idx_reservation_user_start", 8_000, 100),
+            new PlanCase(reservationRepository, "cancelForCarWindow", new Object[] {carId, from, to.plus(2, ChronoUnit.DAYS)},
+                null, 1_000, 100)
+        );
+
+        Set<String> covered = cases.stream().map(PlanCase::name).collect(Collectors.toCollection(TreeSet::new));
+        Stream<DynamicTest> coverage = Stream.of(DynamicTest.dynamicTest("every @Query has a plan case", () ->
+            assertThat(covered).containsAll(annotatedQueries(CarRepository.class, ReservationRepository.class))));
+
+        return Stream.concat(coverage, cases.stream().map(c -> DynamicTest.dynamicTest(c.name(), () -> check(c))));
+    }
+
+    private void check(PlanCase planCase) throws Exception {
+        RecordedStatement statement = capture(planCase);
+        JsonNode explain = explain(statement).get(0);
+        JsonNode plan = explain.get("Plan");
+
+        ObjectNode baseline = JSON.createObjectNode();
+        baseline.put("query", planCase.name());
+        baseline.put("sql", statement.sql());
+        baseline.set("plan", shape(plan));
+
+        Path file = BASELINE_DIR.resolve(planCase.name() + ".json");
+        if (UPDATE_BASELINES) {
+            Files.createDirectories(BASELINE_DIR);
+            Files.writeString(file, JSON.writeValueAsString(baseline) + "\n");
+        } else {
+            assertThat(file).as("baseline for %s (run with -Dplans.update=true to create it)", planCase.name()).exists();
+            assertThat(JSON.writeValueAsString(baseline) + "\n")
+                .as("plan of %s differs from its baseline; if intended, regenerate with -Dplans.update=true", planCase.name())
+                .isEqualTo(Files.readString(file));
+        }
+
+        if (planCase.requiredIndex() != null) {
+            assertThat(indexesUsed(plan)).as("indexes used by %s", planCase.name()).contains(planCase.requiredIndex());
+        }
+        long buffers = plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong();
+        System.out.printf("%-55s buffers %6d / %6d   time %8.2f / %6.0f ms%n", planCase.name(),
+            buffers, planCase.maxBuffers(), explain.get("Execution Time").asDouble(), planCase.maxMillis());
+        assertThat(buffers).as("shared buffers touched by %s", planCase.name()).isLessThanOrEqualTo(planCase.maxBuffers());
+        assertThat(explain.get("Execution Time").asDouble()).as("execution time (ms) of %s", planCase.name())
+            .isLessThanOrEqualTo(planCase.maxMillis());
+    }
+
+    /**
+     * Calls the repository method in a transaction that is always rolled back and returns the first statement it ran.
+     */
+    private RecordedStatement capture(PlanCase planCase) throws Exception {
+        Method method = Arrays.stream(planCase.repository().getClass().getInterfaces())
+            .flatMap(type -> Arrays.stream(type.getMethods()))
+            .filter(m -> m.getName().equals(planCase.method()) && m.getParameterCount() == planCase.args().length)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No repository method " + planCase.name()));
+
+        List<RecordedStatement> statements = StatementRecorder.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            try {
+                method.invoke(planCase.repository(), planCase.args());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Calling " + planCase.name() + " failed", e);
+            } finally {
+                status.setRollbackOnly();
+            }
+        }));
+        assertThat(statements).as("statements run by %s", planCase.name()).isNotEmpty();
+        return statements.get(0);
+    }
+
+    /**
+     * Runs EXPLAIN ANALYZE in its own rolled-back transaction, since ANALYZE really executes writes.
+     */
+    private JsonNode explain(RecordedStatement statement) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement explain = statement.prepare(connection, EXPLAIN);
+                 ResultSet rs = explain.executeQuery()) {
+                rs.next();
+                return JSON.readTree(rs.getString(1));
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    /**
+     * Reduces a plan node to what should only change when the plan really changes:
+     * node type, join type, relation and index, recursively. Costs, row counts and timings are dropped.
+     */
+    private static ObjectNode shape(JsonNode plan) {
+        ObjectNode node = JSON.createObjectNode();
+        node.put("node", plan.get("Node Type").asText());
+        for (String field : List.of("Join Type", "Relation Name", "Index Name")) {
+            if (plan.has(field)) {
+                node.put(field.substring(0, 1).toLowerCase() + field.substring(1).replace(" ", ""), plan.get(field).asText());
+            }
+        }
+        if (plan.has("Plans")) {
+            ArrayNode children = node.putArray("plans");
+            plan.get("Plans").forEach(child -> children.add(shape(child)));
+        }
+        return node;
+    }
+
+    private static Set<String> indexesUsed(JsonNode plan) {
+        Set<String> indexes = new TreeSet<>();
+        if (plan.has("Index Name")) {
+            indexes.add(plan.get("Index Name").asText());
+        }
+        plan.path("Plans").forEach(child -> indexes.addAll(indexesUsed(child)));
+        return indexes;
+    }
+
+    private static Set<String> annotatedQueries(Class<?>... repositories) {
+        return Arrays.stream(repositories)
+            .flatMap(type -> Arrays.stream(type.getDeclaredMethods())
+                .filter(m -> m.isAnnotationPresent(Query.class))
+                .map(m -> type.getSimpleName() + "." + m.getName()))
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,104 @@
+package com.reservation.car.repository;
+
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservation.car.service.BaseReservationIntegrationTest;
+
+/**
+ * Proves on a realistically sized dataset that both overlap queries are answered by the
+ * partial GIST index on (car_id, period) rather than the B-tree or a sequential scan.
+ * The SQL is taken from the repositories' @Query annotations so the test follows any rewrite.
+ */
+class ReservationPeriodIndexIntegrationTest extends BaseReservationIntegrationTest {
+
+    private static final String PERIOD_INDEX = "idx_reservation_blocking_period";
+    private static final int CARS = 2_000;
+    private static final int RESERVATIONS_PER_CAR = 50;
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":(\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Instant base;
+
+    @BeforeEach
+    void generateDataset() {
+        base = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+        jdbcTemplate.update(
+            "INSERT INTO car (id, make, model, license_plate) " +
+            "SELECT gen_random_uuid(), 'Make' || (i % 10), 'Model' || (i % 100), 'PERIOD-' || i " +
+            "FROM generate_series(1, ?) i", CARS);
+        // Back-to-back 2h bookings every 3h, a tenth of them cancelled
+        jdbcTemplate.update(
+            "INSERT INTO reservation (id, car_id, user_id, start_time, end_time, status, created_at) " +
+            "SELECT gen_random_uuid(), c.id, gen_random_uuid(), " +
+            "  CAST(? AS timestamptz) + k * INTERVAL '3 hours', " +
+            "  CAST(? AS timestamptz) + k * INTERVAL '3 hours' + INTERVAL '2 hours', " +
+            "  CASE WHEN k % 10 = 0 THEN 'CANCELLED' ELSE 'CONFIRMED' END, NOW() " +
+            "FROM car c CROSS JOIN generate_series(0, ?) k " +
+            "WHERE c.license_plate LIKE 'PERIOD-%'",
+            Timestamp.from(base), Timestamp.from(base), RESERVATIONS_PER_CAR - 1);
+        jdbcTemplate.execute("ANALYZE car");
+        jdbcTemplate.execute("ANALYZE reservation");
+    }
+
+    @Test
+    void overlapCheckUsesPeriodIndex() throws Exception {
+        UUID carId = jdbcTemplate.queryForObject(
+            "SELECT id FROM car WHERE license_plate = 'PERIOD-42'", UUID.class);
+        Method method = ReservationRepository.class.getMethod(
+            "hasBlockingReservation", UUID.class, Instant.class, Instant.class);
+
+        String plan = explain(method, "", carId, base.plus(10, ChronoUnit.HOURS), base.plus(13, ChronoUnit.HOURS));
+
+        assertThat(plan).contains(PERIOD_INDEX);
+    }
+
+    @Test
+    void availabilitySearchUsesPeriodIndex() throws Exception {
+        Method method = CarRepository.class.getMethod(
+            "findAvailableCarsForTimePeriod", Instant.class, Instant.class, Pageable.class);
+
+        String plan = explain(method, " LIMIT 20", base.plus(10, ChronoUnit.HOURS), base.plus(13, ChronoUnit.HOURS));
+
+        assertThat(plan).contains(PERIOD_INDEX);
+    }
+
+    /**
+     * Runs EXPLAIN on the method's native query, binding the arguments to its named parameters in order.
+     */
+    private String explain(Method method, String suffix, Object... args) {
+        String sql = method.getAnnotation(Query.class).value();
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        List<String> names = new ArrayList<>();
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        assertThat(names).hasSize(args.length);
+
+        Object[] bound = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            bound[i] = args[i] instanceof Instant instant ? Timestamp.from(instant) : args[i];
+        }
+        List<String> lines = jdbcTemplate.queryForList(
+            "EXPLAIN (FORMAT JSON) " + matcher.replaceAll("?") + suffix, String.class, bound);
+        return String.join("\n", lines);
+    }
+}
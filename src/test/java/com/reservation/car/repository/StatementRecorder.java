@@ -0,0 +1,106 @@
+package com.reservation.car.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource wrapper that records the SQL and parameter bindings of every prepared statement
+ * executed by the current thread while recording is on. Lets the plan harness EXPLAIN exactly
+ * what Hibernate sends for a repository method, JPQL and pagination included.
+ */
+final class StatementRecorder {
+
+    /** One {@code setXxx(index, value...)} call, replayable on another PreparedStatement. */
+    record Binding(Method setter, Object[] args) {
+    }
+
+    record RecordedStatement(String sql, List<Binding> bindings) {
+
+        /**
+         * Prepares {@code prefix + sql} on the connection and replays the recorded bindings.
+         */
+        PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Binding binding : bindings) {
+                try {
+                    binding.setter().invoke(statement, binding.args());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new SQLException("Cannot replay " + binding.setter().getName(), e);
+                }
+            }
+            return statement;
+        }
+    }
+
+    private static final ThreadLocal<List<RecordedStatement>> RECORDED = new ThreadLocal<>();
+
+    private StatementRecorder() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Runs the action and returns the statements it executed on this thread, in order.
+     */
+    static List<RecordedStatement> record(Runnable action) {
+        List<RecordedStatement> recorded = new ArrayList<>();
+        RECORDED.set(recorded);
+        try {
+            action.run();
+            return recorded;
+        } finally {
+            RECORDED.remove();
+        }
+    }
+
+    static DataSource wrap(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+            new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof PreparedStatement statement && method.getName().startsWith("prepare")) {
+                    return wrap(statement, (String) args[0]);
+                }
+                return result;
+            });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement target, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                String name = method.getName();
+                List<RecordedStatement> recorded = RECORDED.get();
+                if (name.startsWith("set") && args != null && args.length >= 2 && method.getParameterTypes()[0] == int.class) {
+                    bindings.add(new Binding(method, args.clone()));
+                } else if (name.equals("clearParameters")) {
+                    bindings.clear();
+                } else if (name.startsWith("execute") && recorded != null) {
+                    recorded.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                }
+                return invoke(target, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.reservation.car.resilience;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void shouldRejectImmediately_whenLimitReachedAndQueueFull() throws InterruptedException {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0);
+
+        // Act
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectAfterQueueWait_whenNoPermitIsReleased() throws InterruptedException {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+        limiter.tryAcquire();
+
+        // Act
+        boolean queued = limiter.tryAcquire();
+
+        // Assert
+        assertThat(queued).isFalse();
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    void shouldDecreaseLimitMultiplicatively_whenLatencyExceedsThreshold() throws InterruptedException {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0);
+        limiter.tryAcquire();
+
+        // Act
+        limiter.release(SLOW, false);
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldDecreaseLimit_whenRequestSignalsOverload() throws InterruptedException {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0);
+        limiter.tryAcquire();
+
+        // Act
+        limiter.release(FAST, true);
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldIncreaseLimitAdditively_whenSaturatedAndFast() throws InterruptedException {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0);
+
+        // Act - each saturated round adds 1/limit: 2 -> 2.5 -> 2.9 -> 3.24
+        for (int round = 0; round < 3; round++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+            limiter.release(FAST, false);
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotDropBelowMinimumLimit() throws InterruptedException {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 0, 10, 0, Duration.ZERO, Duration.ofMillis(100), 0.5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 1, 10, 0, Duration.ZERO, Duration.ofMillis(100), 1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueueSize) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 1, 100, maxQueueSize,
+            Duration.ofMillis(20), Duration.ofMillis(250), 0.5);
+    }
+}
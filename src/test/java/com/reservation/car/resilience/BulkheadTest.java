@@ -0,0 +1,47 @@
+package com.reservation.car.resilience;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    @Test
+    void shouldRejectAfterMaxWait_whenAllSlotsAreTaken() throws InterruptedException {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("read", 2, Duration.ofMillis(10));
+
+        // Act
+        boolean first = bulkhead.tryAcquire();
+        boolean second = bulkhead.tryAcquire();
+        boolean third = bulkhead.tryAcquire();
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(bulkhead.getActiveCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAdmitAgain_whenSlotIsReleased() throws InterruptedException {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("write", 1, Duration.ZERO);
+        bulkhead.tryAcquire();
+
+        // Act
+        bulkhead.release();
+
+        // Assert
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.getActiveCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectConfigurationWithoutSlots() {
+        assertThatThrownBy(() -> new Bulkhead("read", 0, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.reservation.car.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reservation.car.config.AvailabilityIndexProperties;
+import com.reservation.car.dto.response.ReservationResponseDTO;
+import com.reservation.car.model.BusyInterval;
+import com.reservation.car.util.TestDataFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Builds, catches up, saves and restores availability indexes against the database. Each test
+ * works on managers of its own, so only started ones run the background maintenance.
+ */
+class AvailabilityIndexManagerIntegrationTest extends BaseReservationIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path directory;
+
+    private Path snapshot;
+    private Instant start;
+    private Instant windowStart;
+    private Instant windowEnd;
+
+    @BeforeEach
+    void setUpWindow() {
+        snapshot = directory.resolve("availability-index.snapshot");
+        start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        windowStart = start.minus(1, ChronoUnit.HOURS);
+        windowEnd = start.plus(1, ChronoUnit.DAYS);
+    }
+
+    @Test
+    void shouldFollowReservationChanges_afterRebuild() {
+        // Arrange
+        AvailabilityIndexManager manager = newManager();
+        manager.rebuild("test");
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        ReservationResponseDTO booked = reservationService.createReservation(TestDataFactory.createReservationRequestDTO(
+            testCar.getId(), userId, start, start.plus(2, ChronoUnit.HOURS)), userId);
+        List<BusyInterval> afterBooking = busyIntervals(manager).orElseThrow();
+        reservationService.cancelReservation(booked.getId(), userId);
+        List<BusyInterval> afterCancelling = busyIntervals(manager).orElseThrow();
+
+        // Assert
+        assertThat(afterBooking).containsExactly(new BusyInterval(testCar.getId(), start, start.plus(2, ChronoUnit.HOURS)));
+        assertThat(afterCancelling).containsExactly(new BusyInterval(testCar.getId(), null, null));
+    }
+
+    @Test
+    void shouldRestoreSnapshot_andReplayChangesMadeSince() {
+        // Arrange
+        AvailabilityIndexManager saved = newManager();
+        saved.rebuild("test");
+        UUID userId = UUID.randomUUID();
+        reservationService.createReservation(TestDataFactory.createReservationRequestDTO(
+            testCar.getId(), userId, start, start.plus(2, ChronoUnit.HOURS)), userId);
+        saved.catchUp();
+        saved.save();
+        reservationService.createReservation(TestDataFactory.createReservationRequestDTO(
+            testCar.getId(), userId, start.plus(5, ChronoUnit.HOURS), start.plus(6, ChronoUnit.HOURS)), userId);
+
+        // Act
+        AvailabilityIndexManager restored = newManager();
+        restored.start();
+        try {
+            List<BusyInterval> periods = busyIntervals(restored).orElseThrow();
+
+            // Assert
+            assertThat(periods).extracting(BusyInterval::startTime).containsExactly(start, start.plus(5, ChronoUnit.HOURS));
+        } finally {
+            restored.stop();
+        }
+    }
+
+    @Test
+    void shouldRebuildInBackground_whenSnapshotCorrupt() throws IOException, InterruptedException {
+        // Arrange
+        Files.writeString(snapshot, "definitely not an availability snapshot");
+        AvailabilityIndexManager manager = newManager();
+
+        // Act
+        manager.start();
+        try {
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            Optional<List<BusyInterval>> periods = busyIntervals(manager);
+            while (periods.isEmpty()) {
+                assertThat(System.nanoTime()).as("index not rebuilt within %s", TIMEOUT).isLessThan(deadline);
+                Thread.sleep(50);
+                periods = busyIntervals(manager);
+            }
+
+            // Assert
+            assertThat(periods.get()).containsExactly(new BusyInterval(testCar.getId(), null, null));
+        } finally {
+            manager.stop();
+        }
+    }
+
+    @Test
+    void shouldDropIndex_whenRowsAreDeleted() {
+        // Arrange
+        AvailabilityIndexManager manager = newManager();
+        manager.rebuild("test");
+        assertThat(busyIntervals(manager)).isPresent();
+
+        // Act
+        jdbcTemplate.update("DELETE FROM car WHERE id = ?", testCar.getId());
+        manager.catchUp();
+
+        // Assert
+        assertThat(busyIntervals(manager)).isEmpty();
+    }
+
+    @Test
+    void shouldNotAnswer_forWindowsBeforeHorizon() {
+        // Arrange
+        AvailabilityIndexManager manager = newManager();
+        manager.rebuild("test");
+
+        // Act
+        Optional<List<BusyInterval>> periods = manager.findBusyIntervals(List.of(testCar.getId()),
+            Instant.now().minus(30, ChronoUnit.DAYS), Instant.now(), 0);
+
+        // Assert
+        assertThat(periods).isEmpty();
+    }
+
+    // Asks for the stored reservation version: the tracker's cached one may not have seen the last write yet
+    private Optional<List<BusyInterval>> busyIntervals(AvailabilityIndexManager manager) {
+        Long version = jdbcTemplate.queryForObject(
+            "SELECT sum(version) FROM version_counter WHERE name = 'reservation'", Long.class);
+        return manager.findBusyIntervals(List.of(testCar.getId()), windowStart, windowEnd, version);
+    }
+
+    private AvailabilityIndexManager newManager() {
+        AvailabilityIndexProperties properties = new AvailabilityIndexProperties(true, snapshot,
+            Duration.ofMinutes(5), Duration.ofDays(1), Duration.ofDays(7), 100);
+        return new AvailabilityIndexManager(jdbcTemplate, transactionManager, properties, new SimpleMeterRegistry());
+    }
+}
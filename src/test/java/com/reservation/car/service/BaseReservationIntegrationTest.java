@@ -12,6 +12,8 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import com.reservation.car.entity.Car;
+import com.reservation.car.repository.BookingRequestRepository;
+import com.reservation.car.repository.CarDailyOccupancyRepository;
 import com.reservation.car.repository.CarRepository;
 import com.reservation.car.repository.ReservationRepository;
 import com.reservation.car.util.TestDataFactory;
@@ -47,10 +49,18 @@ public class BaseReservationIntegrationTest {
     @Autowired
     protected ReservationRepository reservationRepository;
 
+    @Autowired
+    protected CarDailyOccupancyRepository occupancyRepository;
+
+    @Autowired
+    protected BookingRequestRepository bookingRequestRepository;
+
     protected Car testCar;
 
     @BeforeEach
     void setup() {
+        bookingRequestRepository.deleteAll();
+        occupancyRepository.deleteAll();
         reservationRepository.deleteAll();
         carRepository.deleteAll();
         
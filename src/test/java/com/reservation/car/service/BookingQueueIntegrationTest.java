@@ -0,0 +1,69 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.reservation.car.entity.BookingRequest;
+import com.reservation.car.model.BookingRequestStatus;
+import com.reservation.car.repository.BookingRequestRepository;
+import com.reservation.car.util.TestDataFactory;
+
+/**
+ * Recovery of booking requests whose worker died mid-claim, against the real queue table.
+ */
+class BookingQueueIntegrationTest extends BaseReservationIntegrationTest {
+
+    @Autowired
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private BookingRequestRepository bookingRequests;
+
+    @AfterEach
+    void deleteBookingRequests() {
+        bookingRequests.deleteAll();
+    }
+
+    @Test
+    void shouldFailStaleClaim_whenAttemptsExhausted() {
+        // Arrange: claimed for the last time an hour ago by a worker that never finished
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        BookingRequest poison = TestDataFactory.createTestBookingRequest(null, testCar.getId(), UUID.randomUUID(),
+            start, start.plus(2, ChronoUnit.HOURS), BookingRequestStatus.PROCESSING);
+        poison.setAttempts(3);
+        poison.setUpdatedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        UUID poisonId = bookingRequests.save(poison).getId();
+
+        // Act
+        bookingRequestService.requeueStale();
+
+        // Assert
+        BookingRequest failed = bookingRequests.findById(poisonId).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(BookingRequestStatus.FAILED);
+        assertThat(failed.getErrorCode()).isEqualTo("INTERNAL_ERROR");
+    }
+
+    @Test
+    void shouldRequeueStaleClaim_whenAttemptsLeft() {
+        // Arrange
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        BookingRequest abandoned = TestDataFactory.createTestBookingRequest(null, testCar.getId(), UUID.randomUUID(),
+            start, start.plus(2, ChronoUnit.HOURS), BookingRequestStatus.PROCESSING);
+        abandoned.setUpdatedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        UUID abandonedId = bookingRequests.save(abandoned).getId();
+
+        // Act
+        bookingRequestService.requeueStale();
+
+        // Assert: back in the queue, where a worker may already have picked it up again
+        BookingRequest requeued = bookingRequests.findById(abandonedId).orElseThrow();
+        assertThat(requeued.getStatus()).isNotEqualTo(BookingRequestStatus.FAILED);
+        assertThat(requeued.getErrorCode()).isNull();
+    }
+}
@@ -0,0 +1,245 @@
+package com.reservation.car.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reservation.car.config.BookingQueueProperties;
+import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.BookingRequestResponseDTO;
+import com.reservation.car.entity.BookingRequest;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.exception.CarUnavailableException;
+import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.model.BookingRequestStatus;
+import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.repository.BookingRequestRepository;
+import com.reservation.car.repository.CarRepository;
+import com.reservation.car.util.TestConstants;
+import com.reservation.car.util.TestDataFactory;
+
+@ExtendWith(MockitoExtension.class)
+class BookingRequestServiceTest {
+
+    @Mock
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private BookingRequestCompletions completions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Executor taskExecutor;
+
+    @Spy
+    private BookingQueueProperties properties = new BookingQueueProperties(
+        true, 4, Duration.ofMillis(500), Duration.ofSeconds(60), 3, Duration.ofSeconds(25));
+
+    @InjectMocks
+    private BookingRequestServiceImpl bookingRequestService;
+
+    private UUID requestId;
+    private Instant startTime;
+    private Instant endTime;
+
+    @BeforeEach
+    void setUp() {
+        requestId = UUID.randomUUID();
+        startTime = Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS);
+        endTime = Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS);
+    }
+
+    @Test
+    void shouldQueuePendingRequest_whenValid() {
+        // Arrange
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            startTime, endTime);
+        when(carRepository.existsById(TestDataFactory.getTestCarId())).thenReturn(true);
+        when(bookingRequestRepository.save(any())).thenAnswer(invocation -> {
+            BookingRequest saved = invocation.getArgument(0);
+            saved.setId(requestId);
+            return saved;
+        });
+
+        // Act
+        BookingRequestResponseDTO response = bookingRequestService.submit(request, TestDataFactory.getTestUserId());
+
+        // Assert
+        assertThat(response.getId()).isEqualTo(requestId);
+        assertThat(response.getStatus()).isEqualTo(BookingRequestStatus.PENDING);
+        verify(eventPublisher).publishEvent(new BookingRequestAcceptedEvent(requestId));
+    }
+
+    @Test
+    void shouldRejectBeforeQueueing_whenTimeSlotInvalid() {
+        // Arrange
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            startTime, startTime.plusSeconds(TestConstants.ONE_HOUR_SECONDS));
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingRequestService.submit(request, TestDataFactory.getTestUserId()))
+            .isInstanceOf(InvalidReservationException.class);
+        verify(bookingRequestRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectBeforeQueueing_whenCarDoesNotExist() {
+        // Arrange
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            startTime, endTime);
+        when(carRepository.existsById(TestDataFactory.getTestCarId())).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingRequestService.submit(request, TestDataFactory.getTestUserId()))
+            .isInstanceOf(CarNotFoundException.class);
+        verify(bookingRequestRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowInvalidReservationException_whenPolledByAnotherUser() {
+        // Arrange
+        BookingRequest bookingRequest = TestDataFactory.createTestBookingRequest(requestId, TestDataFactory.getTestCarId(),
+            TestDataFactory.getTestUserId(), startTime, endTime, BookingRequestStatus.PENDING);
+        when(bookingRequestRepository.findById(requestId)).thenReturn(Optional.of(bookingRequest));
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingRequestService.getBookingRequest(requestId, UUID.randomUUID()))
+            .isInstanceOf(InvalidReservationException.class)
+            .hasMessageContaining("not authorized");
+    }
+
+    @Test
+    void shouldMarkSucceeded_whenReservationCreated() {
+        // Arrange
+        BookingRequest bookingRequest = TestDataFactory.createTestBookingRequest(requestId, TestDataFactory.getTestCarId(),
+            TestDataFactory.getTestUserId(), startTime, endTime, BookingRequestStatus.PROCESSING);
+        when(bookingRequestRepository.findByIdForUpdate(requestId)).thenReturn(Optional.of(bookingRequest));
+        when(reservationService.createReservation(any(), eq(TestDataFactory.getTestUserId()))).thenReturn(
+            TestDataFactory.createReservationResponseDTO(TestDataFactory.getTestReservationId(), TestDataFactory.getTestCarId(),
+                TestDataFactory.getTestUserId(), startTime, endTime, ReservationStatus.CONFIRMED, Instant.now()));
+
+        // Act
+        BookingRequestStatus outcome = bookingRequestService.process(requestId);
+
+        // Assert
+        assertThat(outcome).isEqualTo(BookingRequestStatus.SUCCEEDED);
+        assertThat(bookingRequest.getReservationId()).isEqualTo(TestDataFactory.getTestReservationId());
+        ArgumentCaptor<ReservationRequestDTO> captor = ArgumentCaptor.forClass(ReservationRequestDTO.class);
+        verify(reservationService).createReservation(captor.capture(), any());
+        assertThat(captor.getValue().getStartTime()).isEqualTo(startTime);
+    }
+
+    @Test
+    void shouldMarkFailedWithErrorCode_whenCarUnavailable() {
+        // Arrange
+        BookingRequest bookingRequest = TestDataFactory.createTestBookingRequest(requestId, TestDataFactory.getTestCarId(),
+            TestDataFactory.getTestUserId(), startTime, endTime, BookingRequestStatus.PROCESSING);
+        when(bookingRequestRepository.findByIdForUpdate(requestId)).thenReturn(Optional.of(bookingRequest));
+        when(reservationService.createReservation(any(), any())).thenThrow(new CarUnavailableException("Taken"));
+
+        // Act
+        BookingRequestStatus outcome = bookingRequestService.process(requestId);
+
+        // Assert
+        assertThat(outcome).isEqualTo(BookingRequestStatus.FAILED);
+        assertThat(bookingRequest.getErrorCode()).isEqualTo("CAR_UNAVAILABLE");
+        assertThat(bookingRequest.getErrorMessage()).isEqualTo("Taken");
+    }
+
+    @Test
+    void shouldRequeue_whenUnexpectedErrorAndAttemptsLeft() {
+        // Arrange
+        BookingRequest bookingRequest = TestDataFactory.createTestBookingRequest(requestId, TestDataFactory.getTestCarId(),
+            TestDataFactory.getTestUserId(), startTime, endTime, BookingRequestStatus.PROCESSING);
+        when(bookingRequestRepository.findByIdForUpdate(requestId)).thenReturn(Optional.of(bookingRequest));
+        when(reservationService.createReservation(any(), any())).thenThrow(new RuntimeException("Database temporarily unavailable"));
+
+        // Act
+        BookingRequestStatus outcome = bookingRequestService.process(requestId);
+
+        // Assert
+        assertThat(outcome).isEqualTo(BookingRequestStatus.PENDING);
+        assertThat(bookingRequest.getErrorCode()).isNull();
+    }
+
+    @Test
+    void shouldMarkFailed_whenUnexpectedErrorAndAttemptsExhausted() {
+        // Arrange
+        BookingRequest bookingRequest = TestDataFactory.createTestBookingRequest(requestId, TestDataFactory.getTestCarId(),
+            TestDataFactory.getTestUserId(), startTime, endTime, BookingRequestStatus.PROCESSING);
+        bookingRequest.setAttempts(3);
+        when(bookingRequestRepository.findByIdForUpdate(requestId)).thenReturn(Optional.of(bookingRequest));
+        when(reservationService.createReservation(any(), any())).thenThrow(new RuntimeException("Database temporarily unavailable"));
+
+        // Act
+        BookingRequestStatus outcome = bookingRequestService.process(requestId);
+
+        // Assert
+        assertThat(outcome).isEqualTo(BookingRequestStatus.FAILED);
+        assertThat(bookingRequest.getErrorCode()).isEqualTo("INTERNAL_ERROR");
+    }
+
+    @Test
+    void shouldFailExhaustedStaleClaims_beforeRequeueingTheRest() {
+        // Arrange
+        when(bookingRequestRepository.failExhaustedStale(any(), eq(3), eq("INTERNAL_ERROR"), any(), any())).thenReturn(1);
+        when(bookingRequestRepository.requeueStale(any(), eq(3), any())).thenReturn(2);
+
+        // Act
+        int requeued = bookingRequestService.requeueStale();
+
+        // Assert
+        assertThat(requeued).isEqualTo(2);
+        InOrder order = inOrder(bookingRequestRepository);
+        order.verify(bookingRequestRepository).failExhaustedStale(any(), eq(3), eq("INTERNAL_ERROR"), any(), any());
+        order.verify(bookingRequestRepository).requeueStale(any(), eq(3), any());
+    }
+
+    @Test
+    void shouldSkipBooking_whenRequestNoLongerClaimed() {
+        // Arrange
+        BookingRequest bookingRequest = TestDataFactory.createTestBookingRequest(requestId, TestDataFactory.getTestCarId(),
+            TestDataFactory.getTestUserId(), startTime, endTime, BookingRequestStatus.SUCCEEDED);
+        when(bookingRequestRepository.findByIdForUpdate(requestId)).thenReturn(Optional.of(bookingRequest));
+
+        // Act
+        BookingRequestStatus outcome = bookingRequestService.process(requestId);
+
+        // Assert
+        assertThat(outcome).isEqualTo(BookingRequestStatus.SUCCEEDED);
+        verify(reservationService, never()).createReservation(any(), any());
+    }
+}
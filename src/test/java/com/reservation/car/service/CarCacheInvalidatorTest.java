@@ -0,0 +1,97 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.reservation.car.config.CarCacheConfig;
+import com.reservation.car.entity.Car;
+import com.reservation.car.notification.ChangeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class CarCacheInvalidatorTest {
+
+    // Also serves as the injected EntityManagerFactory
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private CarCacheInvalidator invalidator;
+
+    private void givenSecondLevelCache() {
+        when(sessionFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+    }
+
+    @Test
+    void shouldEvictSingleCarAndPages_whenOneCarChanged() {
+        // Arrange
+        UUID carId = UUID.randomUUID();
+        givenSecondLevelCache();
+
+        // Act
+        invalidator.onChange(carEvent(carId));
+
+        // Assert
+        verify(cache).evictEntityData(Car.class, carId);
+        verify(cache, never()).evictEntityData(Car.class);
+        verify(cache).evictQueryRegion(CarCacheConfig.CAR_PAGES_REGION);
+    }
+
+    @Test
+    void shouldEvictAllCars_whenBulkChangeHasNoCarId() {
+        // Arrange
+        givenSecondLevelCache();
+
+        // Act
+        invalidator.onChange(carEvent(null));
+
+        // Assert
+        verify(cache).evictEntityData(Car.class);
+        verify(cache).evictQueryRegion(CarCacheConfig.CAR_PAGES_REGION);
+    }
+
+    @Test
+    void shouldIgnoreReservationChanges() {
+        // Arrange
+        ChangeEvent event = new ChangeEvent(ChangeEvent.Type.RESERVATION, UUID.randomUUID(), UUID.randomUUID(),
+            Instant.now(), Instant.now().plusSeconds(3600), UUID.randomUUID(), Instant.now());
+
+        // Act
+        invalidator.onChange(event);
+
+        // Assert
+        verifyNoInteractions(sessionFactory);
+    }
+
+    @Test
+    void shouldEvictEverything_onResync() {
+        // Arrange
+        givenSecondLevelCache();
+
+        // Act
+        invalidator.onResync();
+
+        // Assert
+        verify(cache).evictEntityData(Car.class);
+        verify(cache).evictQueryRegion(CarCacheConfig.CAR_PAGES_REGION);
+    }
+
+    private static ChangeEvent carEvent(UUID carId) {
+        return new ChangeEvent(ChangeEvent.Type.CAR, carId, null, null, null, null, Instant.now());
+    }
+}
@@ -0,0 +1,92 @@
+package com.reservation.car.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservation.car.dto.response.CarImportResultDTO;
+import com.reservation.car.model.CarImportFormat;
+
+/**
+ * Benchmark of the streaming fleet import.
+ *
+ * Imports 1,000,000 generated CSV lines (produced on the fly, never held in memory) into an
+ * empty fleet, then imports the same lines again, which leaves every car unchanged. It reports
+ * elapsed time and rows per second for both runs.
+ *
+ * Usage:
+ *   ./mvnw test -Dtest=CarImportBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CarImportBenchmarkTest extends BaseReservationIntegrationTest {
+
+    private static final int ROWS = 1_000_000;
+
+    @Autowired
+    private CarImportService carImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void removeImportedCars() {
+        jdbcTemplate.execute("TRUNCATE car CASCADE");
+    }
+
+    @Test
+    void importOneMillionCars() {
+        Result fresh = run("insert");
+        Result repeated = run("unchanged");
+
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %12s%n", "run", "rows", "seconds", "rows/s");
+        for (Result result : List.of(fresh, repeated)) {
+            System.out.printf("%-10s %10d %10.1f %12.0f%n",
+                result.name(), ROWS, result.seconds(), ROWS / result.seconds());
+        }
+        System.out.println();
+
+        assertThat(fresh.result().getInserted()).isEqualTo(ROWS);
+        assertThat(repeated.result().getUnchanged()).isEqualTo(ROWS);
+    }
+
+    private Result run(String name) {
+        long started = System.nanoTime();
+        CarImportResultDTO result = carImportService.importCars(generatedCsv(), CarImportFormat.CSV);
+        return new Result(name, result, (System.nanoTime() - started) / 1e9);
+    }
+
+    private static InputStream generatedCsv() {
+        Enumeration<InputStream> lines = new Enumeration<>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < ROWS;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String line = next < 0
+                    ? "make,model,license_plate\n"
+                    : "Make" + (next % 10) + ",Model" + (next % 100) + ",BENCH-" + next + "\n";
+                next++;
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        return new SequenceInputStream(lines);
+    }
+
+    private record Result(String name, CarImportResultDTO result, double seconds) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.reservation.car.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.reservation.car.dto.response.CarImportRejectDTO;
+import com.reservation.car.dto.response.CarImportResultDTO;
+import com.reservation.car.entity.Car;
+import com.reservation.car.model.CarImportFormat;
+
+@TestPropertySource(properties = "app.car-import.max-reported-rejects=2")
+class CarImportIntegrationTest extends BaseReservationIntegrationTest {
+
+    @Autowired
+    private CarImportService carImportService;
+
+    @Test
+    void shouldUpsertOnLicensePlate_andRejectInvalidLines() {
+        // Arrange: ABC-123 is the test car (Tesla Model 3)
+        String csv = """
+            make,model,license_plate
+            Tesla,Model Y,ABC-123
+            Ford,Focus,IMP-1
+
+            Kia,,IMP-2
+            Audi,A4,IMP-1
+            broken
+            """;
+
+        // Act
+        CarImportResultDTO result = carImportService.importCars(body(csv), CarImportFormat.CSV);
+
+        // Assert
+        assertThat(result.getReceived()).isEqualTo(5);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isZero();
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getRejects()).containsExactly(
+            new CarImportRejectDTO(5, "IMP-2", "model is required"),
+            new CarImportRejectDTO(6, "IMP-1", "duplicate license_plate (first seen on line 3)"));
+        assertThat(carRepository.findById(testCar.getId())).get().extracting(Car::getModel).isEqualTo("Model Y");
+        assertThat(carRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountUnchangedRows_whenNdjsonMatchesFleet() {
+        // Arrange
+        String ndjson = """
+            {"make":"Tesla","model":"Model 3","licensePlate":"ABC-123"}
+            {"make":"Kia","model":"Rio","licensePlate":"IMP-3"}
+            """;
+
+        // Act
+        CarImportResultDTO result = carImportService.importCars(body(ndjson), CarImportFormat.NDJSON);
+
+        // Assert
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getRejected()).isZero();
+    }
+
+    @Test
+    void shouldRollBack_whenCsvHeaderInvalid() {
+        // Act & Assert
+        assertThatThrownBy(() -> carImportService.importCars(body("make,model\nFord,Focus\n"), CarImportFormat.CSV))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(carRepository.count()).isEqualTo(1);
+
+        // The connection is reusable and the staging table was dropped with the transaction
+        CarImportResultDTO result = carImportService.importCars(
+            body("make,model,license_plate\nFord,Focus,IMP-4\n"), CarImportFormat.CSV);
+        assertThat(result.getInserted()).isEqualTo(1);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,159 @@
+package com.reservation.car.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.dto.response.CarResponseDTO;
+import com.reservation.car.entity.Car;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Benchmark comparing the DTO projection read path of CarRepository with the former entity path
+ * (load managed Car entities, then copy them through CarResponseDTO::from).
+ *
+ * Both paths run the same SQL for 200-row pages inside a read-only transaction, like CarServiceImpl.
+ * The second-level and query caches are switched off so that hydration, not cache hits, is measured.
+ * It reports bytes allocated and p50/p99 latency per page, and asserts that the projection allocates less.
+ *
+ * Usage:
+ *   ./mvnw test -Dtest=CarListingBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class CarListingBenchmarkTest extends BaseReservationIntegrationTest {
+
+    private static final int CARS = 2_000;
+    private static final int PAGE_SIZE = 200;
+    private static final int WARMUP_PAGES = 300;
+    private static final int MEASURED_PAGES = 1_000;
+    private static final Sort SORT = Sort.by("make", "model");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EntityListingRepository entityRepository;
+    private TransactionTemplate readOnly;
+    private Instant from;
+    private Instant to;
+
+    /**
+     * The listing queries as they were before the projection: returning managed entities.
+     */
+    interface EntityListingRepository extends Repository<Car, UUID> {
+
+        @Query("SELECT c FROM Car c ORDER BY c.make, c.model, c.licensePlate")
+        Page<Car> findAllCarsPaginated(Pageable pageable);
+
+        @Query(value = "SELECT c.* FROM car c " +
+               "WHERE NOT EXISTS (" +
+               "  SELECT 1 FROM reservation r " +
+               "  WHERE r.car_id = c.id " +
+               "  AND r.status = 'CONFIRMED' " +
+               "  AND r.period && tstzrange(CAST(:startTime AS timestamptz), CAST(:endTime AS timestamptz), '()')" +
+               ") " +
+               "ORDER BY c.make, c.model, c.license_plate",
+               nativeQuery = true)
+        Page<Car> findAvailableCarsForTimePeriod(@Param("startTime") Instant startTime, @Param("endTime") Instant endTime,
+                                                 Pageable pageable);
+    }
+
+    @BeforeEach
+    void generateFleet() {
+        jdbcTemplate.update(
+            "INSERT INTO car (id, make, model, license_plate) " +
+            "SELECT gen_random_uuid(), 'Make' || (i % 10), 'Model' || (i % 100), 'LIST-' || i " +
+            "FROM generate_series(1, ?) i", CARS);
+        jdbcTemplate.execute("ANALYZE car");
+
+        entityRepository = new JpaRepositoryFactory(entityManager).getRepository(EntityListingRepository.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        from = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        to = from.plus(2, ChronoUnit.HOURS);
+    }
+
+    @Test
+    void compareEntityAndProjectionPaths() {
+        List<Result> results = List.of(
+            measure("all / entity", page -> entityRepository.findAllCarsPaginated(page).map(CarResponseDTO::from)),
+            measure("all / projection", page -> carRepository.findAllCarsPaginated(page)),
+            measure("available / entity",
+                page -> entityRepository.findAvailableCarsForTimePeriod(from, to, page).map(CarResponseDTO::from)),
+            measure("available / projection", page -> carRepository.findAvailableCarsForTimePeriod(from, to, page)));
+
+        System.out.println();
+        System.out.printf("%-24s %14s %9s %9s%n", "path", "bytes/page", "p50 ms", "p99 ms");
+        for (Result result : results) {
+            System.out.printf("%-24s %14d %9.2f %9.2f%n",
+                result.path(), result.bytesPerPage(), result.percentileMillis(50), result.percentileMillis(99));
+        }
+
+        assertThat(results.get(1).bytesPerPage()).isLessThan(results.get(0).bytesPerPage());
+        assertThat(results.get(3).bytesPerPage()).isLessThan(results.get(2).bytesPerPage());
+    }
+
+    private Result measure(String path, Function<Pageable, Page<CarResponseDTO>> listing) {
+        run(listing, WARMUP_PAGES, null);
+        long[] latencies = new long[MEASURED_PAGES];
+        long allocated = run(listing, MEASURED_PAGES, latencies);
+        Arrays.sort(latencies);
+        return new Result(path, allocated / MEASURED_PAGES, latencies);
+    }
+
+    private long run(Function<Pageable, Page<CarResponseDTO>> listing, int pages, long[] latencies) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int pageCount = CARS / PAGE_SIZE;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < pages; i++) {
+            Pageable page = PageRequest.of(i % pageCount, PAGE_SIZE, SORT);
+            long began = System.nanoTime();
+            Page<CarResponseDTO> result = readOnly.execute(status -> listing.apply(page));
+            if (latencies != null) {
+                latencies[i] = System.nanoTime() - began;
+            }
+            assertThat(result.getContent()).hasSize(PAGE_SIZE);
+        }
+        return threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    }
+
+    private record Result(String path, long bytesPerPage, long[] sortedLatencies) {
+
+        double percentileMillis(int percentile) {
+            int index = Math.min(sortedLatencies.length - 1, (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1);
+            return sortedLatencies[index] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.reservation.car.config.CarScheduleProperties;
+import com.reservation.car.dto.response.CarScheduleDTO;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.model.BusyInterval;
+import com.reservation.car.repository.CarRepository;
+import com.reservation.car.util.TestDataFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CarScheduleServiceTest {
+
+    private static final Instant FROM = Instant.parse("2030-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2030-02-01T00:00:00Z");
+    private static final Instant EARLIEST_START = Instant.parse("2029-12-31T00:00:00Z");
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private AvailabilityIndexManager availabilityIndex;
+
+    @Mock
+    private DataVersionTracker dataVersionTracker;
+
+    private CarScheduleServiceImpl scheduleService;
+
+    private final UUID carId = TestDataFactory.getTestCarId();
+    private final UUID carId2 = TestDataFactory.getTestCarId2();
+
+    @BeforeEach
+    void setUp() {
+        scheduleService = new CarScheduleServiceImpl(carRepository, availabilityIndex, dataVersionTracker,
+            new CarScheduleProperties(2, 62, 100), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldServeFromCache_untilReservationsChange() {
+        // Arrange
+        when(dataVersionTracker.current()).thenReturn(
+            new DataVersionTracker.Versions(1, 7), new DataVersionTracker.Versions(1, 7), new DataVersionTracker.Versions(1, 8));
+        when(carRepository.findBusyIntervals(new UUID[] {carId}, FROM, TO, EARLIEST_START)).thenReturn(List.of(
+            new BusyInterval(carId, Instant.parse("2030-01-01T10:00:00Z"), Instant.parse("2030-01-01T12:00:00Z"))));
+
+        // Act
+        CarScheduleDTO first = scheduleService.getCarSchedule(carId, FROM, TO);
+        CarScheduleDTO cached = scheduleService.getCarSchedule(carId, FROM, TO);
+        scheduleService.getCarSchedule(carId, FROM, TO);
+
+        // Assert
+        assertThat(first.getBusy()).containsExactly(10 * 3600, 2 * 3600);
+        assertThat(cached).isSameAs(first);
+        verify(carRepository, times(2)).findBusyIntervals(new UUID[] {carId}, FROM, TO, EARLIEST_START);
+    }
+
+    @Test
+    void shouldQueryOnlyUncachedCars_andKeepRequestOrder() {
+        // Arrange
+        when(dataVersionTracker.current()).thenReturn(new DataVersionTracker.Versions(1, 7));
+        when(carRepository.findBusyIntervals(new UUID[] {carId2}, FROM, TO, EARLIEST_START))
+            .thenReturn(List.of(new BusyInterval(carId2, null, null)));
+        when(carRepository.findBusyIntervals(new UUID[] {carId}, FROM, TO, EARLIEST_START))
+            .thenReturn(List.of(new BusyInterval(carId, null, null)));
+        scheduleService.getCarSchedule(carId2, FROM, TO);
+
+        // Act
+        List<CarScheduleDTO> schedules = scheduleService.getCarSchedules(List.of(carId, carId2, carId), FROM, TO);
+
+        // Assert
+        assertThat(schedules).extracting(CarScheduleDTO::getCarId).containsExactly(carId, carId2);
+        assertThat(schedules).allSatisfy(schedule -> assertThat(schedule.getBusy()).isEmpty());
+        verify(carRepository).findBusyIntervals(new UUID[] {carId}, FROM, TO, EARLIEST_START);
+    }
+
+    @Test
+    void shouldServeFromAvailabilityIndex_whenItCanAnswer() {
+        // Arrange
+        when(dataVersionTracker.current()).thenReturn(new DataVersionTracker.Versions(1, 7));
+        when(availabilityIndex.findBusyIntervals(List.of(carId), FROM, TO, 7)).thenReturn(Optional.of(List.of(
+            new BusyInterval(carId, Instant.parse("2030-01-02T00:00:00Z"), Instant.parse("2030-01-02T01:00:00Z")))));
+
+        // Act
+        CarScheduleDTO schedule = scheduleService.getCarSchedule(carId, FROM, TO);
+
+        // Assert
+        assertThat(schedule.getBusy()).containsExactly(24 * 3600, 3600);
+        verifyNoInteractions(carRepository);
+    }
+
+    @Test
+    void shouldThrowCarNotFound_whenCarUnknown() {
+        // Arrange
+        when(dataVersionTracker.current()).thenReturn(new DataVersionTracker.Versions(1, 7));
+        when(carRepository.findBusyIntervals(any(), any(), any(), any()))
+            .thenReturn(List.of(new BusyInterval(carId, null, null)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> scheduleService.getCarSchedules(List.of(carId, carId2), FROM, TO))
+            .isInstanceOf(CarNotFoundException.class)
+            .hasMessageContaining(carId2.toString());
+    }
+
+    @Test
+    void shouldRejectInvalidWindowsAndTooManyCars() {
+        assertThatThrownBy(() -> scheduleService.getCarSchedule(carId, TO, FROM))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduleService.getCarSchedule(carId, FROM, FROM.plusSeconds(63L * 24 * 3600)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("62 days");
+        assertThatThrownBy(() -> scheduleService.getCarSchedules(List.of(carId, carId2, UUID.randomUUID()), FROM, TO))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("2 cars");
+        verifyNoInteractions(carRepository, availabilityIndex, dataVersionTracker);
+    }
+}
@@ -1,14 +1,17 @@
 package com.reservation.car.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -17,28 +20,44 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import com.reservation.car.config.AvailableCarsProperties;
+import com.reservation.car.config.OccupancyProperties;
+import com.reservation.car.dto.response.CarOccupancyResponseDTO;
 import com.reservation.car.dto.response.CarResponseDTO;
 import com.reservation.car.entity.Car;
+import com.reservation.car.entity.CarDailyOccupancy;
+import com.reservation.car.exception.CarNotFoundException;
+import com.reservation.car.repository.CarDailyOccupancyRepository;
 import com.reservation.car.repository.CarRepository;
 import com.reservation.car.util.TestDataFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class CarServiceTest {
 
     @Mock
     private CarRepository carRepository;
 
-    @InjectMocks
+    @Mock
+    private CarDailyOccupancyRepository occupancyRepository;
+
+    @Mock
+    private DataVersionTracker dataVersionTracker;
+
     private CarServiceImpl carService;
 
     private Car car1, car2;
-    private Page<Car> carPage;
+    private Page<CarResponseDTO> carPage;
 
     @BeforeEach
     void setUp() {
+        carService = new CarServiceImpl(carRepository, occupancyRepository, dataVersionTracker,
+            new OccupancyProperties(4, 500, 366), new AvailableCarsProperties(true, Duration.ofSeconds(2)),
+            new SimpleMeterRegistry());
         car1 = TestDataFactory.createTestCar(TestDataFactory.getTestCarId(), "Tesla", "Model 3", "ABC-123");
         car2 = TestDataFactory.createTestCar(TestDataFactory.getTestCarId2(), "BMW", "X5", "XYZ-456");
-        carPage = new PageImpl<>(List.of(car1, car2));
+        carPage = new PageImpl<>(List.of(CarResponseDTO.from(car1), CarResponseDTO.from(car2)));
     }
 
     @Test
@@ -62,6 +81,7 @@ class CarServiceTest {
         Instant start = Instant.now().plusSeconds(3600); // 1 hour in future
         Instant end = start.plusSeconds(7200); // 2 hours total
         Pageable pageable = PageRequest.of(0, 10, Sort.by("make", "model"));
+        when(dataVersionTracker.current()).thenReturn(new DataVersionTracker.Versions(1, 1));
         when(carRepository.findAvailableCarsForTimePeriod(start, end, pageable)).thenReturn(carPage);
 
         // Act
@@ -70,4 +90,45 @@ class CarServiceTest {
         // Assert
         assertThat(response.getContent()).hasSize(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReportUtilization_whenGetCarOccupancy() {
+        // Arrange
+        LocalDate from = LocalDate.parse("2030-01-01");
+        LocalDate to = LocalDate.parse("2030-01-02");
+        CarDailyOccupancy booked = new CarDailyOccupancy(car1.getId(), from);
+        booked.setBookedMinutes(720);
+        when(carRepository.existsById(car1.getId())).thenReturn(true);
+        when(occupancyRepository.findBookedDays(car1.getId(), from, to)).thenReturn(List.of(booked));
+
+        // Act
+        CarOccupancyResponseDTO response = carService.getCarOccupancy(car1.getId(), from, to);
+
+        // Assert
+        assertThat(response.getBookedMinutes()).isEqualTo(720);
+        assertThat(response.getUtilization()).isEqualTo(0.25);
+        assertThat(response.getDays()).hasSize(1);
+    }
+
+    @Test
+    void shouldThrowCarNotFoundException_whenOccupancyOfUnknownCar() {
+        // Arrange
+        LocalDate day = LocalDate.parse("2030-01-01");
+        when(carRepository.existsById(car1.getId())).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> carService.getCarOccupancy(car1.getId(), day, day))
+            .isInstanceOf(CarNotFoundException.class);
+    }
+
+    @Test
+    void shouldRejectDayRange_whenWiderThanConfiguredMaximum() {
+        // Arrange
+        LocalDate from = LocalDate.parse("2030-01-01");
+
+        // Act & Assert
+        assertThatThrownBy(() -> carService.findCarsAvailableForDays(from, from.plusDays(400), 0, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(occupancyRepository);
+    }
+}
@@ -0,0 +1,115 @@
+package com.reservation.car.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.notification.ChangeNotificationSubscriber;
+import com.reservation.car.util.TestDataFactory;
+
+/**
+ * Verifies that the version_counter triggers move the versions behind the listing ETags for
+ * writes through the application and around it, and that the cached versions follow.
+ */
+class DataVersionTrackerIntegrationTest extends BaseReservationIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private DataVersionTracker dataVersionTracker;
+
+    @Autowired
+    private ChangeNotificationSubscriber subscriber;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void waitForListener() throws InterruptedException {
+        awaitCondition(subscriber::isConnected);
+    }
+
+    @Test
+    void shouldMoveReservationVersionOnly_whenReservationCreated() throws InterruptedException {
+        // Arrange
+        DataVersionTracker.Versions before = dataVersionTracker.current();
+        UUID userId = UUID.randomUUID();
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        ReservationRequestDTO request = TestDataFactory.createReservationRequestDTO(testCar.getId(), userId,
+            start, start.plus(3, ChronoUnit.HOURS));
+
+        // Act
+        reservationService.createReservation(request, userId);
+
+        // Assert
+        awaitCondition(() -> dataVersionTracker.current().reservations() > before.reservations());
+        assertThat(dataVersionTracker.current().fleet()).isEqualTo(before.fleet());
+    }
+
+    @Test
+    void shouldMoveFleetVersion_afterJdbcInsert() throws InterruptedException {
+        // Arrange
+        DataVersionTracker.Versions before = dataVersionTracker.current();
+
+        // Act
+        jdbcTemplate.update("INSERT INTO car (make, model, license_plate) VALUES ('Kia', 'Rio', 'VER-1')");
+
+        // Assert
+        awaitCondition(() -> dataVersionTracker.current().fleet() > before.fleet());
+    }
+
+    @Test
+    void shouldKeepVersions_whenStatementChangesNoRows() {
+        // Arrange
+        Long before = storedVersionSum();
+
+        // Act
+        jdbcTemplate.update("UPDATE car SET model = model WHERE license_plate = 'NO-SUCH-PLATE'");
+        jdbcTemplate.update("DELETE FROM reservation WHERE user_id = ?", UUID.randomUUID());
+
+        // Assert
+        assertThat(storedVersionSum()).isEqualTo(before);
+    }
+
+    @Test
+    void shouldMoveVersions_whenTablesTruncated() {
+        // Arrange
+        long reservationsBefore = storedVersion("reservation");
+        long fleetBefore = storedVersion("car");
+
+        // Act
+        jdbcTemplate.execute("TRUNCATE reservation, booking_request");
+        long fleetAfterReservations = storedVersion("car");
+        jdbcTemplate.execute("TRUNCATE car CASCADE");
+
+        // Assert
+        assertThat(storedVersion("reservation")).isGreaterThan(reservationsBefore);
+        assertThat(fleetAfterReservations).isEqualTo(fleetBefore);
+        assertThat(storedVersion("car")).isGreaterThan(fleetBefore);
+    }
+
+    private Long storedVersionSum() {
+        return jdbcTemplate.queryForObject("SELECT sum(version) FROM version_counter", Long.class);
+    }
+
+    private long storedVersion(String name) {
+        return jdbcTemplate.queryForObject("SELECT sum(version) FROM version_counter WHERE name = ?", Long.class, name);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
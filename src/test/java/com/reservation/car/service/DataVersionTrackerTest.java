@@ -0,0 +1,130 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reservation.car.notification.ChangeEvent;
+import com.reservation.car.notification.ChangeNotificationSubscriber;
+
+@ExtendWith(MockitoExtension.class)
+class DataVersionTrackerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ChangeNotificationSubscriber subscriber;
+
+    private DataVersionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new DataVersionTracker(jdbcTemplate, transactionManager, subscriber);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStoredVersions(DataVersionTracker.Versions first, DataVersionTracker.Versions... next) {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class))).thenReturn(first, (Object[]) next);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyReads(int times) {
+        verify(jdbcTemplate, times(times)).queryForObject(anyString(), any(RowMapper.class));
+    }
+
+    @Test
+    void shouldServeCachedVersions_whileListenerConnected() {
+        // Arrange
+        when(subscriber.isConnected()).thenReturn(true);
+        givenStoredVersions(new DataVersionTracker.Versions(3, 7));
+
+        // Act
+        tracker.current();
+        DataVersionTracker.Versions versions = tracker.current();
+
+        // Assert
+        assertThat(versions).isEqualTo(new DataVersionTracker.Versions(3, 7));
+        verifyReads(1);
+    }
+
+    @Test
+    void shouldRereadVersions_afterChangeEvent() {
+        // Arrange
+        when(subscriber.isConnected()).thenReturn(true);
+        givenStoredVersions(new DataVersionTracker.Versions(3, 7), new DataVersionTracker.Versions(3, 8));
+        tracker.current();
+
+        // Act
+        tracker.onChange(new ChangeEvent(ChangeEvent.Type.RESERVATION, UUID.randomUUID(), UUID.randomUUID(),
+            Instant.now(), Instant.now(), UUID.randomUUID(), Instant.now()));
+
+        // Assert
+        assertThat(tracker.current()).isEqualTo(new DataVersionTracker.Versions(3, 8));
+        verifyReads(2);
+    }
+
+    @Test
+    void shouldRereadVersions_afterResync() {
+        // Arrange
+        when(subscriber.isConnected()).thenReturn(true);
+        givenStoredVersions(new DataVersionTracker.Versions(3, 7), new DataVersionTracker.Versions(4, 9));
+        tracker.current();
+
+        // Act
+        tracker.onResync();
+
+        // Assert
+        assertThat(tracker.current()).isEqualTo(new DataVersionTracker.Versions(4, 9));
+    }
+
+    @Test
+    void shouldAlwaysReadVersions_whileListenerDisconnected() {
+        // Arrange
+        when(subscriber.isConnected()).thenReturn(false);
+        givenStoredVersions(new DataVersionTracker.Versions(3, 7));
+
+        // Act
+        tracker.current();
+        tracker.current();
+
+        // Assert
+        verifyReads(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotCacheVersions_whenChangeArrivesDuringRead() {
+        // Arrange: the change event is delivered while the (now outdated) versions are being read
+        when(subscriber.isConnected()).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class)))
+            .thenAnswer(invocation -> {
+                tracker.onResync();
+                return new DataVersionTracker.Versions(3, 7);
+            })
+            .thenReturn(new DataVersionTracker.Versions(3, 8));
+
+        // Act
+        tracker.current();
+
+        // Assert
+        assertThat(tracker.current()).isEqualTo(new DataVersionTracker.Versions(3, 8));
+    }
+}
@@ -0,0 +1,111 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.car.entity.Car;
+import com.reservation.car.entity.Reservation;
+import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.util.TestDataFactory;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Benchmark of bulk reservation inserts through JPA, with and without JDBC batching.
+ *
+ * Inserts 100k reservations (IDs assigned client-side as UUIDv7) in transactions of 1,000,
+ * once with the session's JDBC batch size forced to 1 and once with the configured
+ * hibernate.jdbc.batch_size, which the driver rewrites into multi-row INSERTs. It reports
+ * elapsed time and rows per second.
+ *
+ * Usage:
+ *   ./mvnw test -Dtest=ReservationBatchInsertBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReservationBatchInsertBenchmarkTest extends BaseReservationIntegrationTest {
+
+    private static final int RESERVATIONS = 100_000;
+    private static final int CARS = 100;
+    private static final int PER_TRANSACTION = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareBatchedAndUnbatchedInserts() {
+        Result unbatched = run("unbatched", 1);
+        Result batched = run("batched", null);
+
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %12s%n", "mode", "rows", "seconds", "rows/s");
+        for (Result result : List.of(unbatched, batched)) {
+            System.out.printf("%-10s %10d %10.1f %12.0f%n",
+                result.mode(), RESERVATIONS, result.seconds(), RESERVATIONS / result.seconds());
+        }
+
+        assertThat(batched.seconds()).isLessThan(unbatched.seconds());
+    }
+
+    private Result run(String mode, Integer jdbcBatchSize) {
+        // Row by row deleteAll() in setup() would take longer than the inserts
+        jdbcTemplate.execute("TRUNCATE reservation, booking_request");
+        setup();
+        List<UUID> carIds = new ArrayList<>();
+        for (int i = 0; i < CARS; i++) {
+            Car car = carRepository.save(TestDataFactory.createTestCar("Batch", "Car" + i, "BATCH-" + i));
+            carIds.add(car.getId());
+        }
+        Instant base = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        long began = System.nanoTime();
+        for (int offset = 0; offset < RESERVATIONS; offset += PER_TRANSACTION) {
+            int first = offset;
+            transaction.executeWithoutResult(status -> {
+                // null restores the configured hibernate.jdbc.batch_size
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                for (int n = first; n < first + PER_TRANSACTION; n++) {
+                    reservationRepository.save(reservation(carIds.get(n % CARS), base, n / CARS));
+                }
+            });
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+
+        assertThat(reservationRepository.count()).isEqualTo(RESERVATIONS);
+        return new Result(mode, seconds);
+    }
+
+    private static Reservation reservation(UUID carId, Instant base, int slot) {
+        // Two-hour bookings every three hours per car, so the exclusion constraint never fires
+        Instant start = base.plus(slot * 3L, ChronoUnit.HOURS);
+        Reservation reservation = new Reservation();
+        reservation.setCarId(carId);
+        reservation.setUserId(TestDataFactory.getTestUserId());
+        reservation.setStartTime(start);
+        reservation.setEndTime(start.plus(2, ChronoUnit.HOURS));
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+        reservation.setCreatedAt(Instant.now());
+        return reservation;
+    }
+
+    private record Result(String mode, double seconds) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.reservation.car.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs several lifecycle sweeps at once, as several nodes would, and checks that SKIP LOCKED shares
+ * the backlog between them: every reservation is moved exactly once and nobody waits on locks.
+ */
+@TestPropertySource(properties = "app.reservation.lifecycle-sweep-interval=1h")
+class ReservationLifecycleIntegrationTest extends BaseReservationIntegrationTest {
+
+    private static final int CARS = 100;
+    private static final int SWEEPERS = 4;
+    private static final int BATCH_SIZE = 25;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void generateDataset() {
+        Instant base = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+        jdbcTemplate.update(
+            "INSERT INTO car (id, make, model, license_plate) " +
+            "SELECT gen_random_uuid(), 'Make', 'Model', 'SWEEP-' || i " +
+            "FROM generate_series(1, ?) i", CARS);
+        // Per car: five past rentals, one under way, four upcoming and two cancelled past ones
+        jdbcTemplate.update(
+            "INSERT INTO reservation (id, car_id, user_id, start_time, end_time, status, created_at) " +
+            "SELECT gen_random_uuid(), c.id, gen_random_uuid(), " +
+            "  CAST(? AS timestamptz) + k * INTERVAL '3 hours', " +
+            "  CAST(? AS timestamptz) + k * INTERVAL '3 hours' + INTERVAL '2 hours', " +
+            "  CASE WHEN k IN (1, 3) THEN 'CANCELLED' ELSE 'CONFIRMED' END, NOW() " +
+            "FROM car c CROSS JOIN generate_series(0, 11) k " +
+            "WHERE c.license_plate LIKE 'SWEEP-%'",
+            Timestamp.from(base), Timestamp.from(base));
+        // Only new rows must start in the future, so the clock can be turned back afterwards
+        jdbcTemplate.update(
+            "UPDATE reservation SET start_time = start_time - ?::interval, end_time = end_time - ?::interval",
+            "1 day 21 hours", "1 day 21 hours");
+    }
+
+    @Test
+    void concurrentSweepsMoveEveryReservationExactlyOnce() throws Exception {
+        long ended = count("status = 'CONFIRMED' AND end_time <= NOW()");
+        long running = count("status = 'CONFIRMED' AND start_time <= NOW() AND end_time > NOW()");
+        long upcoming = count("status = 'CONFIRMED' AND start_time > NOW()");
+        assertThat(ended).isEqualTo(5L * CARS);
+        assertThat(running).isEqualTo(CARS);
+
+        assertThat(sweepConcurrently(reservationService::completeEndedReservations)).isEqualTo(ended);
+        assertThat(sweepConcurrently(reservationService::activateStartedReservations)).isEqualTo(running);
+
+        assertThat(count("status = 'COMPLETED'")).isEqualTo(ended);
+        assertThat(count("status = 'ACTIVE'")).isEqualTo(running);
+        assertThat(count("status = 'CONFIRMED'")).isEqualTo(upcoming);
+        assertThat(count("status = 'CANCELLED'")).isEqualTo(2L * CARS);
+    }
+
+    /**
+     * Lets every sweeper drain batches until one comes back short, and adds up what they moved.
+     */
+    private long sweepConcurrently(IntUnaryOperator batch) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SWEEPERS);
+        try {
+            List<Callable<Integer>> sweepers = new ArrayList<>();
+            for (int i = 0; i < SWEEPERS; i++) {
+                sweepers.add(() -> {
+                    int total = 0;
+                    int moved;
+                    do {
+                        moved = batch.applyAsInt(BATCH_SIZE);
+                        total += moved;
+                    } while (moved == BATCH_SIZE);
+                    return total;
+                });
+            }
+            long total = 0;
+            for (Future<Integer> result : executor.invokeAll(sweepers)) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long count(String condition) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM reservation r JOIN car c ON c.id = r.car_id " +
+            "WHERE c.license_plate LIKE 'SWEEP-%' AND " + condition, Long.class);
+    }
+}
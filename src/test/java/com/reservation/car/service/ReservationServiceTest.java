@@ -1,7 +1,10 @@
 package com.reservation.car.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -10,25 +13,43 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import com.reservation.car.config.ReservationProperties;
 import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.CancellationResultDTO;
+import com.reservation.car.dto.response.ReservationPageDTO;
 import com.reservation.car.dto.response.ReservationResponseDTO;
 import com.reservation.car.entity.Car;
 import com.reservation.car.entity.Reservation;
 import com.reservation.car.exception.CarNotFoundException;
 import com.reservation.car.exception.CarUnavailableException;
 import com.reservation.car.exception.InvalidReservationException;
+import com.reservation.car.model.CancellationOutcome;
 import com.reservation.car.model.ReservationStatus;
+import com.reservation.car.model.ReservationWriteMode;
+import com.reservation.car.notification.ChangeNotificationPublisher;
 import com.reservation.car.repository.CarRepository;
 import com.reservation.car.repository.ReservationRepository;
+import com.reservation.car.util.DatabaseUtils;
+import com.reservation.car.util.ReservationCursor;
 import com.reservation.car.util.TestConstants;
 import com.reservation.car.util.TestDataFactory;
 
@@ -41,6 +62,19 @@ class ReservationServiceTest {
     @Mock
     private CarRepository carRepository;
 
+    @Mock
+    private OccupancyService occupancyService;
+
+    @Mock
+    private ChangeNotificationPublisher changePublisher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ReservationProperties reservationProperties = new ReservationProperties(
+        ReservationWriteMode.OPTIMISTIC, Duration.ofMinutes(5), Duration.ofSeconds(1), 500, Duration.ofMinutes(1), 500);
+
     @InjectMocks
     private ReservationServiceImpl reservationService;
 
@@ -60,7 +94,7 @@ class ReservationServiceTest {
         ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
             Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
         when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
-        when(reservationRepository.hasOverlappingConfirmedReservation(any(), any(), any())).thenReturn(false);
+        when(reservationRepository.hasBlockingReservation(any(), any(), any())).thenReturn(false);
         when(reservationRepository.saveAndFlush(any())).thenReturn(reservation);
 
         // Act
@@ -69,6 +103,41 @@ class ReservationServiceTest {
         // Assert
         assertThat(response.getId()).isEqualTo(TestDataFactory.getTestReservationId());
         assertThat(response.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verify(occupancyService).refresh(reservation.getCarId(), reservation.getStartTime(), reservation.getEndTime());
+        verify(changePublisher).reservationChanged(reservation);
+    }
+
+    @Test
+    void shouldNotTakeCarLock_whenOptimisticWriteMode() {
+        // Arrange
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
+        when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
+        when(reservationRepository.saveAndFlush(any())).thenReturn(reservation);
+
+        // Act
+        reservationService.createReservation(request, TestDataFactory.getTestUserId());
+
+        // Assert
+        verify(reservationRepository, never()).acquireTransactionLock(anyLong());
+    }
+
+    @Test
+    void shouldLockCarBeforeOverlapCheck_whenAdvisoryLockWriteMode() {
+        // Arrange
+        when(reservationProperties.writeMode()).thenReturn(ReservationWriteMode.ADVISORY_LOCK);
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
+        when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
+        when(reservationRepository.saveAndFlush(any())).thenReturn(reservation);
+
+        // Act
+        reservationService.createReservation(request, TestDataFactory.getTestUserId());
+
+        // Assert
+        InOrder order = inOrder(reservationRepository);
+        order.verify(reservationRepository).acquireTransactionLock(DatabaseUtils.advisoryLockKey(TestDataFactory.getTestCarId()));
+        order.verify(reservationRepository, atLeastOnce()).hasBlockingReservation(any(), any(), any());
     }
 
     @Test
@@ -89,7 +158,7 @@ class ReservationServiceTest {
         ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
             Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
         when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
-        when(reservationRepository.hasOverlappingConfirmedReservation(any(), any(), any())).thenReturn(false);
+        when(reservationRepository.hasBlockingReservation(any(), any(), any())).thenReturn(false);
         when(reservationRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("conflicting key value violates exclusion constraint"));
 
         // Act & Assert
@@ -101,14 +170,84 @@ class ReservationServiceTest {
     void shouldCancelReservationSuccessfully_whenValid() {
         // Arrange
         reservation.setStartTime(Instant.now().plusSeconds(TestConstants.TWO_HOURS_SECONDS));
-        when(reservationRepository.findById(TestDataFactory.getTestReservationId())).thenReturn(Optional.of(reservation));
-        when(reservationRepository.save(any())).thenReturn(reservation);
+        reservation.setStatus(ReservationStatus.CANCELLED);
+        when(reservationRepository.cancelIfAllowed(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId(), 30))
+            .thenReturn(Optional.of(reservation));
 
         // Act
         ReservationResponseDTO response = reservationService.cancelReservation(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId());
 
         // Assert
         assertThat(response.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(reservationRepository, never()).findById(any());
+        verify(occupancyService).refresh(reservation.getCarId(), reservation.getStartTime(), reservation.getEndTime());
+        verify(changePublisher).reservationChanged(reservation);
+    }
+
+    @Test
+    void shouldThrowInvalidReservationException_whenCancellingUnknownReservation() {
+        // Arrange
+        when(reservationRepository.findById(TestDataFactory.getTestReservationId())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> reservationService.cancelReservation(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId()))
+            .isInstanceOf(InvalidReservationException.class)
+            .hasMessageContaining("not found");
+        verify(changePublisher, never()).reservationChanged(any());
+    }
+
+    @Test
+    void shouldReportOutcomePerRow_whenCancellingUpcomingReservations() {
+        // Arrange
+        Reservation cancelled = TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS * 2));
+        cancelled.setStatus(ReservationStatus.CANCELLED);
+        Reservation tooLate = TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            Instant.now().plusSeconds(TestConstants.THIRTY_MINUTES_SECONDS / 2), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
+        when(reservationRepository.cancelUpcomingForUser(TestDataFactory.getTestUserId(), 30)).thenReturn(List.of(tooLate, cancelled));
+
+        // Act
+        List<CancellationResultDTO> results = reservationService.cancelUpcomingReservations(TestDataFactory.getTestUserId());
+
+        // Assert
+        assertThat(results).extracting(CancellationResultDTO::getOutcome)
+            .containsExactly(CancellationOutcome.TOO_LATE, CancellationOutcome.CANCELLED);
+        verify(occupancyService).refresh(cancelled.getCarId(), cancelled.getStartTime(), cancelled.getEndTime());
+        verify(occupancyService, never()).refresh(tooLate.getCarId(), tooLate.getStartTime(), tooLate.getEndTime());
+        verify(changePublisher).reservationChanged(cancelled);
+        verify(changePublisher, never()).reservationChanged(tooLate);
+    }
+
+    @Test
+    void shouldReportStartedRentals_whenCancellingForMaintenance() {
+        // Arrange
+        Instant windowStart = Instant.now();
+        Instant windowEnd = windowStart.plusSeconds(TestConstants.THREE_HOURS_SECONDS);
+        Reservation running = TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            windowStart.minusSeconds(TestConstants.ONE_HOUR_SECONDS), windowStart.plusSeconds(TestConstants.ONE_HOUR_SECONDS));
+        when(carRepository.existsById(TestDataFactory.getTestCarId())).thenReturn(true);
+        when(reservationRepository.cancelForCarWindow(TestDataFactory.getTestCarId(), windowStart, windowEnd)).thenReturn(List.of(running));
+
+        // Act
+        List<CancellationResultDTO> results = reservationService.cancelReservationsForMaintenance(
+            TestDataFactory.getTestCarId(), windowStart, windowEnd);
+
+        // Assert
+        assertThat(results).extracting(CancellationResultDTO::getOutcome).containsExactly(CancellationOutcome.ALREADY_STARTED);
+        verify(changePublisher, never()).reservationChanged(any());
+    }
+
+    @Test
+    void shouldThrowInvalidReservationException_whenMaintenanceWindowInverted() {
+        // Arrange
+        Instant windowStart = Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS);
+
+        // Act & Assert
+        assertThatThrownBy(() -> reservationService.cancelReservationsForMaintenance(
+                TestDataFactory.getTestCarId(), windowStart, windowStart.minusSeconds(TestConstants.ONE_HOUR_SECONDS)))
+            .isInstanceOf(InvalidReservationException.class)
+            .hasMessageContaining("Maintenance window");
+        verify(reservationRepository, never()).cancelForCarWindow(any(), any(), any());
     }
 
     @Test
@@ -160,7 +299,7 @@ class ReservationServiceTest {
         ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
             Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
         when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
-        when(reservationRepository.hasOverlappingConfirmedReservation(any(), any(), any())).thenReturn(false);
+        when(reservationRepository.hasBlockingReservation(any(), any(), any())).thenReturn(false);
         when(reservationRepository.saveAndFlush(any()))
             .thenThrow(new ConcurrencyFailureException("deadlock detected"))
             .thenReturn(reservation);
@@ -180,7 +319,7 @@ class ReservationServiceTest {
         ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
             Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
         when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
-        when(reservationRepository.hasOverlappingConfirmedReservation(any(), any(), any())).thenReturn(false);
+        when(reservationRepository.hasBlockingReservation(any(), any(), any())).thenReturn(false);
         when(reservationRepository.saveAndFlush(any()))
             .thenThrow(new ConcurrencyFailureException("deadlock 1"))
             .thenThrow(new ConcurrencyFailureException("deadlock 2"))
@@ -192,4 +331,262 @@ class ReservationServiceTest {
             .hasMessageContaining("persistent concurrency conflicts");
         verify(reservationRepository, times(3)).saveAndFlush(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPlaceHoldExpiringAfterTtl_whenValidRequest() {
+        // Arrange
+        Instant start = Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS);
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            start, start.plusSeconds(TestConstants.TWO_HOURS_SECONDS));
+        when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
+        when(reservationRepository.saveAndFlush(any())).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+
+        // Act
+        ReservationResponseDTO response = reservationService.createHold(request, TestDataFactory.getTestUserId());
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.HOLD);
+        assertThat(response.getHoldExpiresAt()).isBetween(Instant.now().plus(Duration.ofMinutes(4)), Instant.now().plus(Duration.ofMinutes(5)));
+        verify(eventPublisher).publishEvent(new HoldPlacedEvent(response.getId(), response.getHoldExpiresAt()));
+        verify(occupancyService, never()).refresh(any(), any(), any());
+    }
+
+    @Test
+    void shouldExpireHoldAtStartTime_whenStartIsWithinTtl() {
+        // Arrange
+        Instant start = Instant.now().plus(Duration.ofMinutes(2));
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            start, start.plusSeconds(TestConstants.TWO_HOURS_SECONDS));
+        when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
+        when(reservationRepository.saveAndFlush(any())).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+
+        // Act
+        ReservationResponseDTO response = reservationService.createHold(request, TestDataFactory.getTestUserId());
+
+        // Assert
+        assertThat(response.getHoldExpiresAt()).isEqualTo(start);
+    }
+
+    @Test
+    void shouldReleaseLapsedHoldsBeforeInsert_whenSlotIsFree() {
+        // Arrange
+        ReservationRequestDTO request = new ReservationRequestDTO(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            Instant.now().plusSeconds(TestConstants.ONE_HOUR_SECONDS), Instant.now().plusSeconds(TestConstants.THREE_HOURS_SECONDS));
+        Reservation lapsedHold = TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), UUID.randomUUID(),
+            request.getStartTime(), request.getEndTime());
+        lapsedHold.setStatus(ReservationStatus.EXPIRED);
+        when(carRepository.findById(TestDataFactory.getTestCarId())).thenReturn(Optional.of(car));
+        when(reservationRepository.expireOverlappingHolds(TestDataFactory.getTestCarId(), request.getStartTime(), request.getEndTime()))
+            .thenReturn(List.of(lapsedHold));
+        when(reservationRepository.saveAndFlush(any())).thenReturn(reservation);
+
+        // Act
+        reservationService.createReservation(request, TestDataFactory.getTestUserId());
+
+        // Assert
+        InOrder order = inOrder(reservationRepository, changePublisher);
+        order.verify(reservationRepository).expireOverlappingHolds(any(), any(), any());
+        order.verify(changePublisher).reservationChanged(lapsedHold);
+        order.verify(reservationRepository).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldConfirmHold_whenAllowed() {
+        // Arrange
+        when(reservationRepository.confirmHoldIfAllowed(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId()))
+            .thenReturn(Optional.of(reservation));
+
+        // Act
+        ReservationResponseDTO response = reservationService.confirmHold(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId());
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verify(occupancyService).refresh(reservation.getCarId(), reservation.getStartTime(), reservation.getEndTime());
+        verify(changePublisher).reservationChanged(reservation);
+    }
+
+    @Test
+    void shouldThrowCarUnavailableException_whenConfirmingExpiredHold() {
+        // Arrange
+        reservation.setStatus(ReservationStatus.EXPIRED);
+        reservation.setHoldExpiresAt(Instant.now().minusSeconds(1));
+        when(reservationRepository.findById(TestDataFactory.getTestReservationId())).thenReturn(Optional.of(reservation));
+
+        // Act & Assert
+        assertThatThrownBy(() -> reservationService.confirmHold(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId()))
+            .isInstanceOf(CarUnavailableException.class)
+            .hasMessageContaining("expired");
+        verify(occupancyService, never()).refresh(any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnReservationUnchanged_whenConfirmingTwice() {
+        // Arrange
+        when(reservationRepository.findById(TestDataFactory.getTestReservationId())).thenReturn(Optional.of(reservation));
+
+        // Act
+        ReservationResponseDTO response = reservationService.confirmHold(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId());
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verify(changePublisher, never()).reservationChanged(any());
+    }
+
+    @Test
+    void shouldThrowInvalidReservationException_whenConfirmingHoldOfAnotherUser() {
+        // Arrange
+        reservation.setStatus(ReservationStatus.HOLD);
+        when(reservationRepository.findById(TestDataFactory.getTestReservationId())).thenReturn(Optional.of(reservation));
+
+        // Act & Assert
+        assertThatThrownBy(() -> reservationService.confirmHold(TestDataFactory.getTestReservationId(), UUID.randomUUID()))
+            .isInstanceOf(InvalidReservationException.class)
+            .hasMessageContaining("not authorized");
+    }
+
+    @Test
+    void shouldNotifyPerExpiredHold_whenExpiringHolds() {
+        // Arrange
+        List<UUID> due = List.of(UUID.randomUUID(), UUID.randomUUID());
+        reservation.setStatus(ReservationStatus.EXPIRED);
+        when(reservationRepository.expireHolds(any(), any())).thenReturn(List.of(reservation));
+
+        // Act
+        int expired = reservationService.expireHolds(due);
+
+        // Assert
+        assertThat(expired).isEqualTo(1);
+        verify(changePublisher, times(1)).reservationChanged(reservation);
+    }
+
+    @Test
+    void shouldNotQuery_whenNoHoldsDue() {
+        // Act
+        int expired = reservationService.expireHolds(List.of());
+
+        // Assert
+        assertThat(expired).isZero();
+        verify(reservationRepository, never()).expireHolds(any(), any());
+    }
+
+    @Test
+    void shouldReturnReservationUnchanged_whenConfirmingHoldThatIsUnderWay() {
+        // Arrange
+        reservation.setStatus(ReservationStatus.ACTIVE);
+        when(reservationRepository.findById(TestDataFactory.getTestReservationId())).thenReturn(Optional.of(reservation));
+
+        // Act
+        ReservationResponseDTO response = reservationService.confirmHold(TestDataFactory.getTestReservationId(), TestDataFactory.getTestUserId());
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.ACTIVE);
+        verify(changePublisher, never()).reservationChanged(any());
+    }
+
+    @Test
+    void shouldNotifyOncePerCompletedBatch_withoutTouchingOccupancy() {
+        // Arrange
+        reservation.setStatus(ReservationStatus.COMPLETED);
+        when(reservationRepository.completeEnded(100)).thenReturn(List.of(reservation, reservation));
+
+        // Act
+        int completed = reservationService.completeEndedReservations(100);
+
+        // Assert
+        assertThat(completed).isEqualTo(2);
+        verify(changePublisher, times(1)).reservationsChanged();
+        verify(changePublisher, never()).reservationChanged(any());
+        verify(occupancyService, never()).refresh(any(), any(), any());
+    }
+
+    @Test
+    void shouldNotifyOncePerActivatedBatch() {
+        // Arrange
+        reservation.setStatus(ReservationStatus.ACTIVE);
+        when(reservationRepository.activateStarted(100)).thenReturn(List.of(reservation, reservation));
+
+        // Act
+        int activated = reservationService.activateStartedReservations(100);
+
+        // Assert
+        assertThat(activated).isEqualTo(2);
+        verify(changePublisher, times(1)).reservationsChanged();
+        verify(changePublisher, never()).reservationChanged(any());
+    }
+
+    @Test
+    void shouldNotNotify_whenSweepFindsNothing() {
+        // Arrange
+        when(reservationRepository.activateStarted(100)).thenReturn(List.of());
+
+        // Act
+        int activated = reservationService.activateStartedReservations(100);
+
+        // Assert
+        assertThat(activated).isZero();
+        verifyNoInteractions(changePublisher);
+    }
+
+    @Test
+    void shouldReturnCursorOfLastRow_whenMoreReservationsFollow() {
+        // Arrange
+        UUID userId = TestDataFactory.getTestUserId();
+        Instant start = Instant.parse("2030-01-20T10:00:00Z");
+        Reservation first = TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), userId, start, start.plusSeconds(7200));
+        Reservation second = TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), userId, start.plusSeconds(10800), start.plusSeconds(18000));
+        Reservation third = TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), userId, start.plusSeconds(21600), start.plusSeconds(28800));
+        when(reservationRepository.findPageForUser(eq(userId), eq(Instant.EPOCH), eq(new UUID(0, 0)), any(), any(), eq(3)))
+            .thenReturn(List.of(first, second, third));
+
+        // Act
+        ReservationPageDTO page = reservationService.getUserReservations(userId, userId, Set.of(), null, null, null, 2);
+
+        // Assert
+        assertThat(page.getContent()).extracting(ReservationResponseDTO::getId).containsExactly(first.getId(), second.getId());
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(ReservationCursor.decode(page.getNextCursor()))
+            .isEqualTo(new ReservationCursor(second.getStartTime(), second.getId()));
+    }
+
+    @Test
+    void shouldContinueAfterCursor_withRequestedStatusesOnly() {
+        // Arrange
+        UUID userId = TestDataFactory.getTestUserId();
+        ReservationCursor cursor = new ReservationCursor(Instant.parse("2030-01-20T10:00:00Z"), UUID.randomUUID());
+        when(reservationRepository.findPageForUser(eq(userId), eq(cursor.startTime()), eq(cursor.id()), any(),
+                eq(List.of("CONFIRMED")), eq(51)))
+            .thenReturn(List.of(reservation));
+
+        // Act
+        ReservationPageDTO page = reservationService.getUserReservations(
+            userId, userId, Set.of(ReservationStatus.CONFIRMED), null, null, cursor.encode(), 50);
+
+        // Assert
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldThrowInvalidReservationException_whenListingReservationsOfAnotherUser() {
+        // Act & Assert
+        assertThatThrownBy(() -> reservationService.getUserReservations(
+                TestDataFactory.getTestUserId(), UUID.randomUUID(), Set.of(), null, null, null, 50))
+            .isInstanceOf(InvalidReservationException.class)
+            .hasMessageContaining("not authorized");
+        verify(reservationRepository, never()).findPageForUser(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldThrowInvalidReservationException_whenCursorIsMalformed() {
+        // Act & Assert
+        assertThatThrownBy(() -> reservationService.getUserReservations(
+                TestDataFactory.getTestUserId(), TestDataFactory.getTestUserId(), Set.of(), null, null, "not-a-cursor", 50))
+            .isInstanceOf(InvalidReservationException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+
+    private static Reservation withId(Reservation reservation) {
+        reservation.setId(UUID.randomUUID());
+        return reservation;
+    }
+}
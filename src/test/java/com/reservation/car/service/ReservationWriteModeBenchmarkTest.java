@@ -0,0 +1,152 @@
+package com.reservation.car.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.mockito.Mockito.doReturn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.reservation.car.config.ReservationProperties;
+import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.entity.Car;
+import com.reservation.car.exception.CarUnavailableException;
+import com.reservation.car.model.ReservationWriteMode;
+import com.reservation.car.util.TestDataFactory;
+
+/**
+ * Chaos benchmark comparing the two reservation write modes under heavy same-car contention.
+ *
+ * Many threads book a handful of cars with partially overlapping two-hour slots. For each mode
+ * it reports successes, business rejections (overlap found by the application check), aborts
+ * (exclusion-constraint violations, deadlocks, serialization failures and other errors) and
+ * p50/p99 latency. Invariants asserted: no mode ever stores overlapping CONFIRMED reservations,
+ * and the advisory-lock mode never aborts.
+ *
+ * Usage:
+ *   ./mvnw test -Dtest=ReservationWriteModeBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReservationWriteModeBenchmarkTest extends BaseReservationIntegrationTest {
+
+    private static final int CARS = 4;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+    private static final int SLOTS = 12;
+
+    @MockitoSpyBean
+    private ReservationProperties reservationProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareWriteModes() throws Exception {
+        Result optimistic = run(ReservationWriteMode.OPTIMISTIC);
+        Result advisoryLock = run(ReservationWriteMode.ADVISORY_LOCK);
+
+        System.out.println();
+        System.out.printf("%-14s %9s %9s %9s %11s %9s %9s%n",
+            "mode", "success", "rejected", "aborted", "abort rate", "p50 ms", "p99 ms");
+        for (Result result : List.of(optimistic, advisoryLock)) {
+            System.out.printf("%-14s %9d %9d %9d %10.1f%% %9.1f %9.1f%n",
+                result.mode(), result.successes(), result.rejections(), result.aborts(),
+                100.0 * result.aborts() / result.total(), result.percentileMillis(50), result.percentileMillis(99));
+        }
+
+        assertThat(advisoryLock.aborts()).isZero();
+    }
+
+    private Result run(ReservationWriteMode mode) throws Exception {
+        setup();
+        doReturn(mode).when(reservationProperties).writeMode();
+
+        List<Car> cars = new ArrayList<>();
+        for (int i = 0; i < CARS; i++) {
+            cars.add(carRepository.save(TestDataFactory.createTestCar("Bench", "Car" + i, "BENCH-" + i)));
+        }
+        Instant base = Instant.now().plus(2, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGun = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                // [0..n) latencies in nanos, then successes, rejections, aborts
+                long[] samples = new long[ATTEMPTS_PER_THREAD + 3];
+                startGun.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    Car car = cars.get((thread + i) % CARS);
+                    // Consecutive slots overlap by one hour
+                    Instant start = base.plus((thread * 7L + i) % SLOTS, ChronoUnit.HOURS);
+                    ReservationRequestDTO request = new ReservationRequestDTO(car.getId(), TestDataFactory.getTestUserId(),
+                        start, start.plus(2, ChronoUnit.HOURS));
+
+                    long began = System.nanoTime();
+                    try {
+                        reservationService.createReservation(request, TestDataFactory.getTestUserId());
+                        samples[ATTEMPTS_PER_THREAD]++;
+                    } catch (CarUnavailableException e) {
+                        // Without a cause the application check found the overlap; with one the database aborted us
+                        samples[e.getCause() == null ? ATTEMPTS_PER_THREAD + 1 : ATTEMPTS_PER_THREAD + 2]++;
+                    } catch (RuntimeException e) {
+                        samples[ATTEMPTS_PER_THREAD + 2]++;
+                    }
+                    samples[i] = System.nanoTime() - began;
+                }
+                return samples;
+            }));
+        }
+
+        startGun.countDown();
+        long[] latencies = new long[THREADS * ATTEMPTS_PER_THREAD];
+        int successes = 0;
+        int rejections = 0;
+        int aborts = 0;
+        for (int t = 0; t < THREADS; t++) {
+            long[] samples = futures.get(t).get(2, TimeUnit.MINUTES);
+            System.arraycopy(samples, 0, latencies, t * ATTEMPTS_PER_THREAD, ATTEMPTS_PER_THREAD);
+            successes += (int) samples[ATTEMPTS_PER_THREAD];
+            rejections += (int) samples[ATTEMPTS_PER_THREAD + 1];
+            aborts += (int) samples[ATTEMPTS_PER_THREAD + 2];
+        }
+        executor.shutdownNow();
+
+        Integer overlapping = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM reservation a JOIN reservation b " +
+            "ON a.car_id = b.car_id AND a.id < b.id " +
+            "AND a.status = 'CONFIRMED' AND b.status = 'CONFIRMED' " +
+            "AND tstzrange(a.start_time, a.end_time, '()') && tstzrange(b.start_time, b.end_time, '()')",
+            Integer.class);
+        assertThat(overlapping).as("overlapping reservations in %s mode", mode).isZero();
+
+        Arrays.sort(latencies);
+        return new Result(mode, successes, rejections, aborts, latencies);
+    }
+
+    private record Result(ReservationWriteMode mode, int successes, int rejections, int aborts, long[] sortedLatencies) {
+
+        int total() {
+            return successes + rejections + aborts;
+        }
+
+        double percentileMillis(int percentile) {
+            int index = Math.min(sortedLatencies.length - 1, (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1);
+            return sortedLatencies[index] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.reservation.car.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.reservation.car.dto.response.CarUtilizationDTO;
+import com.reservation.car.dto.response.HourlyUtilizationDTO;
+import com.reservation.car.dto.response.ModelUtilizationDTO;
+import com.reservation.car.dto.response.UtilizationReportDTO;
+import com.reservation.car.exception.ReportNotFoundException;
+
+/**
+ * Computes a month's utilization from a randomly generated fleet history and checks every figure
+ * against the same aggregates written in SQL. Small chunks and fetches make the job stream the
+ * month in many pieces over several workers.
+ */
+@TestPropertySource(properties = {
+    "app.analytics.enabled=false",
+    "app.analytics.parallelism=4",
+    "app.analytics.fetch-size=500",
+    "app.analytics.chunk-size=1000"
+})
+class UtilizationAnalyticsIntegrationTest extends BaseReservationIntegrationTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 11);
+    private static final Instant MONTH_START = Instant.parse("2025-11-01T00:00:00Z");
+    private static final Instant MONTH_END = Instant.parse("2025-12-01T00:00:00Z");
+    /** Reservations start from a day before the month to a day after it. */
+    private static final Instant HISTORY_START = MONTH_START.minus(1, ChronoUnit.DAYS);
+    private static final int CARS_PER_MODEL = 70;
+    private static final int RESERVATIONS_PER_CAR = 30;
+
+    // Booked time of each reservation, clipped to the month
+    private static final String BOOKED = """
+        WITH booked AS (
+            SELECT car_id, GREATEST(start_time, :from) AS s, LEAST(end_time, :to) AS e
+              FROM reservation
+             WHERE status IN ('CONFIRMED', 'ACTIVE', 'COMPLETED')
+               AND start_time < :to AND end_time > :from)
+        """.replace(":from", "TIMESTAMPTZ '2025-11-01 00:00:00Z'").replace(":to", "TIMESTAMPTZ '2025-12-01 00:00:00Z'");
+
+    @Autowired
+    private UtilizationAnalyticsService analyticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void generateHistory() {
+        jdbcTemplate.update("DELETE FROM utilization_report");
+        jdbcTemplate.update(
+            "INSERT INTO car (id, make, model, license_plate) " +
+            "SELECT gen_random_uuid(), m.make, m.model, 'UTIL-' || m.model || '-' || i " +
+            "FROM (VALUES ('Toyota', 'Corolla'), ('Toyota', 'Yaris'), ('Volvo', 'XC40')) m(make, model) " +
+            "CROSS JOIN generate_series(1, ?) i", CARS_PER_MODEL);
+
+        // Rows must start in the future when inserted, so they are generated ahead and moved back.
+        // Past rentals are COMPLETED and may overlap, which only the booked statuses must not.
+        Instant base = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update(
+            "INSERT INTO reservation (id, car_id, user_id, start_time, end_time, status, created_at) " +
+            "SELECT gen_random_uuid(), car_id, gen_random_uuid(), start_time, " +
+            "       start_time + (7200 + floor(random() * 79200)) * INTERVAL '1 second', " +
+            "       (ARRAY['COMPLETED', 'COMPLETED', 'COMPLETED', 'CANCELLED', 'EXPIRED'])[1 + floor(random() * 5)], NOW() " +
+            "FROM (SELECT c.id AS car_id, " +
+            "             CAST(? AS timestamptz) + floor(random() * ?) * INTERVAL '1 second' AS start_time " +
+            "      FROM car c CROSS JOIN generate_series(1, ?) k) r",
+            Timestamp.from(base), Duration.between(HISTORY_START, MONTH_END.plus(1, ChronoUnit.DAYS)).toSeconds(),
+            RESERVATIONS_PER_CAR);
+        String shift = Duration.between(HISTORY_START, base).toSeconds() + " seconds";
+        jdbcTemplate.update(
+            "UPDATE reservation SET start_time = start_time - ?::interval, end_time = end_time - ?::interval",
+            shift, shift);
+    }
+
+    @Test
+    void reportMatchesSqlAggregates() {
+        UtilizationReportDTO report = analyticsService.computeReport(MONTH);
+
+        long bookedMinutes = jdbcTemplate.queryForObject(
+            BOOKED + "SELECT COALESCE(SUM(EXTRACT(EPOCH FROM e - s)), 0)::bigint / 60 FROM booked", Long.class);
+        long reservations = jdbcTemplate.queryForObject(BOOKED + "SELECT COUNT(*) FROM booked", Long.class);
+        int cars = 3 * CARS_PER_MODEL + 1; // and the test car
+        assertThat(reservations).isPositive();
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getCarCount()).isEqualTo(cars);
+        assertThat(report.getReservationCount()).isEqualTo(reservations);
+        assertThat(report.getBookedMinutes()).isEqualTo(bookedMinutes);
+        assertThat(report.getUtilization()).isEqualTo((double) bookedMinutes / (cars * 30L * 24 * 60));
+
+        Map<Integer, Long> expectedHours = new HashMap<>();
+        jdbcTemplate.query(BOOKED +
+            "SELECT EXTRACT(HOUR FROM h AT TIME ZONE 'UTC')::int AS hour, " +
+            "       SUM(EXTRACT(EPOCH FROM LEAST(e, h + INTERVAL '1 hour') - GREATEST(s, h)))::bigint / 60 AS minutes " +
+            "FROM booked CROSS JOIN generate_series(date_trunc('hour', s, 'UTC'), e, INTERVAL '1 hour') h " +
+            "GROUP BY 1",
+            rs -> {
+                expectedHours.put(rs.getInt("hour"), rs.getLong("minutes"));
+            });
+        assertThat(report.getHours()).hasSize(24);
+        for (HourlyUtilizationDTO hour : report.getHours()) {
+            assertThat(hour.getBookedMinutes()).as("hour %d", hour.getHour())
+                .isEqualTo(expectedHours.getOrDefault(hour.getHour(), 0L));
+        }
+
+        List<ModelUtilizationDTO> expectedModels = jdbcTemplate.query(BOOKED +
+            "SELECT c.make, c.model, COUNT(DISTINCT c.id) AS cars, " +
+            "       COALESCE(SUM(EXTRACT(EPOCH FROM b.e - b.s)), 0)::bigint / 60 AS minutes " +
+            "FROM car c LEFT JOIN booked b ON b.car_id = c.id GROUP BY c.make, c.model ORDER BY c.make, c.model",
+            (rs, rowNum) -> new ModelUtilizationDTO(rs.getString("make"), rs.getString("model"), rs.getInt("cars"),
+                rs.getLong("minutes"), 0));
+        assertThat(report.getModels())
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("utilization")
+            .containsExactlyElementsOf(expectedModels);
+
+        Map<UUID, Long> expectedCars = new HashMap<>();
+        jdbcTemplate.query(BOOKED +
+            "SELECT c.id, COALESCE(SUM(EXTRACT(EPOCH FROM b.e - b.s)), 0)::bigint / 60 AS minutes " +
+            "FROM car c LEFT JOIN booked b ON b.car_id = c.id GROUP BY c.id",
+            rs -> {
+                expectedCars.put(rs.getObject("id", UUID.class), rs.getLong("minutes"));
+            });
+        List<CarUtilizationDTO> ranked = new ArrayList<>();
+        Page<CarUtilizationDTO> page = analyticsService.getCarUtilization(MONTH, 0, 200);
+        ranked.addAll(page.getContent());
+        ranked.addAll(analyticsService.getCarUtilization(MONTH, 1, 200).getContent());
+        assertThat(page.getTotalElements()).isEqualTo(cars);
+        assertThat(ranked).hasSize(cars);
+        for (CarUtilizationDTO car : ranked) {
+            assertThat(car.getBookedMinutes()).isEqualTo(expectedCars.get(car.getCarId()));
+        }
+        assertThat(ranked).isSortedAccordingTo((a, b) -> Long.compare(b.getBookedMinutes(), a.getBookedMinutes()));
+    }
+
+    @Test
+    void recomputingReplacesTheMonth() {
+        analyticsService.computeReport(MONTH);
+        jdbcTemplate.update("UPDATE reservation SET status = 'CANCELLED' WHERE status = 'COMPLETED'");
+
+        UtilizationReportDTO report = analyticsService.computeReport(MONTH);
+
+        assertThat(report.getReservationCount()).isZero();
+        assertThat(report.getBookedMinutes()).isZero();
+        assertThat(report.getModels()).allSatisfy(model -> assertThat(model.getBookedMinutes()).isZero());
+        assertThat(analyticsService.getCarUtilization(MONTH, 0, 200).getContent())
+            .allSatisfy(car -> assertThat(car.getBookedMinutes()).isZero());
+    }
+
+    @Test
+    void unknownMonthIsNotFound() {
+        assertThatThrownBy(() -> analyticsService.getReport(MONTH.minusMonths(1)))
+            .isInstanceOf(ReportNotFoundException.class);
+        assertThatThrownBy(() -> analyticsService.getCarUtilization(MONTH.minusMonths(1), 0, 50))
+            .isInstanceOf(ReportNotFoundException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.reservation.car.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.car.model.BusyInterval;
+
+class AvailabilityIndexTest {
+
+    private static final long HOUR = 3600;
+    private static final long BASE = 1_900_000_000L;
+
+    private final UUID carId = TestDataFactory.getTestCarId();
+    private final UUID carId2 = TestDataFactory.getTestCarId2();
+
+    @Test
+    void shouldReturnPeriodsOverlappingWindow_inStartOrder() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 1);
+        index.put(carId, UUID.randomUUID(), BASE + 10 * HOUR, BASE + 12 * HOUR);
+        index.put(carId, UUID.randomUUID(), BASE + 2 * HOUR, BASE + 4 * HOUR);
+        index.put(carId, UUID.randomUUID(), BASE + 30 * HOUR, BASE + 31 * HOUR);
+        index.put(carId2, UUID.randomUUID(), BASE + 3 * HOUR, BASE + 5 * HOUR);
+
+        // Act
+        List<BusyInterval> periods = collect(index, carId, BASE + 3 * HOUR, BASE + 11 * HOUR);
+
+        // Assert
+        assertThat(periods).extracting(BusyInterval::startTime).containsExactly(
+            Instant.ofEpochSecond(BASE + 2 * HOUR), Instant.ofEpochSecond(BASE + 10 * HOUR));
+        assertThat(index.carCount()).isEqualTo(2);
+        assertThat(index.periodCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReturnCarOnceWithoutTimes_whenNothingBooked_andUnknownCarNotAtAll() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 1);
+        index.putCar(carId);
+
+        // Act
+        List<BusyInterval> known = collect(index, carId, BASE, BASE + HOUR);
+        List<BusyInterval> unknown = collect(index, carId2, BASE, BASE + HOUR);
+
+        // Assert
+        assertThat(known).containsExactly(new BusyInterval(carId, null, null));
+        assertThat(unknown).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceAndRemovePeriods_byReservation() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 1);
+        UUID moved = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        index.put(carId, moved, BASE + HOUR, BASE + 2 * HOUR);
+        index.put(carId, cancelled, BASE + 5 * HOUR, BASE + 6 * HOUR);
+
+        // Act
+        index.put(carId, moved, BASE + 7 * HOUR, BASE + 8 * HOUR);
+        index.remove(carId, cancelled);
+        index.remove(carId2, cancelled);
+
+        // Assert
+        assertThat(collect(index, carId, BASE, BASE + 24 * HOUR)).containsExactly(new BusyInterval(carId,
+            Instant.ofEpochSecond(BASE + 7 * HOUR), Instant.ofEpochSecond(BASE + 8 * HOUR)));
+        assertThat(index.periodCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropPeriodsEndingBeforeHorizon_whenPruned() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 1);
+        index.put(carId, UUID.randomUUID(), BASE - 2 * HOUR, BASE - HOUR);
+        index.put(carId, UUID.randomUUID(), BASE + HOUR, BASE + 2 * HOUR);
+        index.put(carId, UUID.randomUUID(), BASE + 3 * HOUR, BASE + 5 * HOUR);
+
+        // Act
+        index.prune(BASE + 4 * HOUR);
+        index.prune(BASE);
+
+        // Assert
+        assertThat(index.horizon()).isEqualTo(BASE + 4 * HOUR);
+        assertThat(index.periodCount()).isEqualTo(1);
+        assertThat(collect(index, carId, BASE + 4 * HOUR, BASE + 24 * HOUR)).extracting(BusyInterval::endTime)
+            .containsExactly(Instant.ofEpochSecond(BASE + 5 * HOUR));
+    }
+
+    @Test
+    void shouldGrowBeyondExpectedCars() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 1);
+
+        // Act
+        for (int car = 0; car < 100; car++) {
+            index.put(UUID.randomUUID(), UUID.randomUUID(), BASE + HOUR, BASE + 2 * HOUR);
+        }
+
+        // Assert
+        assertThat(index.carCount()).isEqualTo(100);
+        assertThat(index.periodCount()).isEqualTo(100);
+    }
+
+    private static List<BusyInterval> collect(AvailabilityIndex index, UUID carId, long from, long to) {
+        List<BusyInterval> periods = new ArrayList<>();
+        index.collectBusyIntervals(carId, from, to, periods);
+        return periods;
+    }
+}
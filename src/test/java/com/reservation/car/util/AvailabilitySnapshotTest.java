@@ -0,0 +1,115 @@
+package com.reservation.car.util;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.reservation.car.model.BusyInterval;
+
+class AvailabilitySnapshotTest {
+
+    private static final long BASE = 1_900_000_000L;
+    private static final AvailabilitySnapshot.Marker MARKER =
+        new AvailabilitySnapshot.Marker("1000:1005:1001,1003", 42, 3, Instant.parse("2030-01-01T00:00:00Z"));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldRestoreIndexAndMarker() throws IOException {
+        // Arrange
+        Path file = directory.resolve("index.snapshot");
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 4);
+        List<UUID> cars = new ArrayList<>();
+        for (int car = 0; car < 50; car++) {
+            UUID carId = UUID.randomUUID();
+            cars.add(carId);
+            index.putCar(carId);
+            for (int period = 0; period < car % 5; period++) {
+                index.put(carId, UUID.randomUUID(), BASE + period * 7200L, BASE + period * 7200L + 3600);
+            }
+        }
+
+        // Act
+        AvailabilitySnapshot.write(file, index, MARKER);
+        AvailabilitySnapshot.Loaded loaded = AvailabilitySnapshot.read(file);
+
+        // Assert
+        assertThat(loaded.marker()).isEqualTo(MARKER);
+        assertThat(loaded.index().horizon()).isEqualTo(BASE);
+        assertThat(loaded.index().carCount()).isEqualTo(50);
+        assertThat(loaded.index().periodCount()).isEqualTo(index.periodCount());
+        for (UUID carId : cars) {
+            assertThat(collect(loaded.index(), carId)).isEqualTo(collect(index, carId));
+        }
+        assertThat(Files.exists(directory.resolve("index.snapshot.tmp"))).isFalse();
+    }
+
+    @Test
+    void shouldKeepWorking_afterRestore() throws IOException {
+        // Arrange
+        Path file = directory.resolve("index.snapshot");
+        UUID carId = UUID.randomUUID();
+        UUID reservationId = UUID.randomUUID();
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 1);
+        index.put(carId, reservationId, BASE + 3600, BASE + 7200);
+        AvailabilitySnapshot.write(file, index, MARKER);
+        AvailabilityIndex restored = AvailabilitySnapshot.read(file).index();
+
+        // Act
+        restored.put(carId, UUID.randomUUID(), BASE, BASE + 1800);
+        restored.remove(carId, reservationId);
+
+        // Assert
+        assertThat(collect(restored, carId)).extracting(BusyInterval::startTime).containsExactly(Instant.ofEpochSecond(BASE));
+    }
+
+    @Test
+    void shouldRejectCorruptedFile() throws IOException {
+        // Arrange
+        Path file = directory.resolve("index.snapshot");
+        AvailabilityIndex index = new AvailabilityIndex(BASE, 1);
+        index.put(UUID.randomUUID(), UUID.randomUUID(), BASE + 3600, BASE + 7200);
+        AvailabilitySnapshot.write(file, index, MARKER);
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(raf.length() - 1);
+            raf.write(raf.read() ^ 0xFF);
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> AvailabilitySnapshot.read(file))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void shouldRejectTruncatedAndForeignFiles() throws IOException {
+        // Arrange
+        Path truncated = directory.resolve("truncated.snapshot");
+        AvailabilitySnapshot.write(truncated, new AvailabilityIndex(BASE, 1), MARKER);
+        try (RandomAccessFile raf = new RandomAccessFile(truncated.toFile(), "rw")) {
+            raf.setLength(raf.length() - 4);
+        }
+        Path foreign = Files.writeString(directory.resolve("foreign.snapshot"), "not a snapshot at all, honestly");
+
+        // Act & Assert
+        assertThatThrownBy(() -> AvailabilitySnapshot.read(truncated)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> AvailabilitySnapshot.read(foreign)).isInstanceOf(IOException.class);
+    }
+
+    private static List<BusyInterval> collect(AvailabilityIndex index, UUID carId) {
+        List<BusyInterval> periods = new ArrayList<>();
+        index.collectBusyIntervals(carId, BASE, BASE + 86_400, periods);
+        return periods;
+    }
+}
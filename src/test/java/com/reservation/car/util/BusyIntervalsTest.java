@@ -0,0 +1,66 @@
+package com.reservation.car.util;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.car.model.BusyInterval;
+
+class BusyIntervalsTest {
+
+    private static final UUID CAR_ID = TestDataFactory.getTestCarId();
+    private static final Instant FROM = Instant.parse("2030-01-02T00:00:00Z");
+    private static final Instant TO = Instant.parse("2030-01-03T00:00:00Z");
+
+    @Test
+    void shouldMergeOverlappingAndTouchingPeriods() {
+        // Arrange
+        List<BusyInterval> periods = List.of(
+            period("2030-01-02T02:00:00Z", "2030-01-02T05:00:00Z"),
+            period("2030-01-02T04:00:00Z", "2030-01-02T06:00:00Z"),
+            period("2030-01-02T05:00:00Z", "2030-01-02T07:00:00Z"),
+            period("2030-01-02T06:00:00Z", "2030-01-02T08:00:00Z"),
+            period("2030-01-02T10:00:00Z", "2030-01-02T12:00:00Z"));
+
+        // Act
+        long[] encoded = BusyIntervals.encode(FROM, TO, periods);
+
+        // Assert - 02:00-08:00 and 10:00-12:00 as gap, length, gap, length
+        assertThat(encoded).containsExactly(2 * 3600, 6 * 3600, 2 * 3600, 2 * 3600);
+    }
+
+    @Test
+    void shouldClipToWindowAndWidenSubSecondBounds() {
+        // Arrange
+        List<BusyInterval> periods = List.of(
+            period("2030-01-01T20:00:00Z", "2030-01-02T01:00:00Z"),
+            period("2030-01-02T03:00:00.250Z", "2030-01-02T05:00:00.250Z"),
+            period("2030-01-02T22:00:00Z", "2030-01-03T04:00:00Z"));
+
+        // Act
+        long[] encoded = BusyIntervals.encode(FROM, TO, periods);
+
+        // Assert
+        assertThat(encoded).containsExactly(
+            0, 3600,
+            2 * 3600, 2 * 3600 + 1,
+            17 * 3600 - 1, 2 * 3600);
+    }
+
+    @Test
+    void shouldEncodeNothing_whenCarIsFree() {
+        // Arrange - a car without bookings comes back as a single row with null times
+        List<BusyInterval> periods = List.of(new BusyInterval(CAR_ID, null, null));
+
+        // Act & Assert
+        assertThat(BusyIntervals.encode(FROM, TO, periods)).isEmpty();
+        assertThat(BusyIntervals.encode(FROM, TO, List.of())).isEmpty();
+    }
+
+    private static BusyInterval period(String start, String end) {
+        return new BusyInterval(CAR_ID, Instant.parse(start), Instant.parse(end));
+    }
+}
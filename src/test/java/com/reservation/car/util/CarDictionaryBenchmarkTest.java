@@ -0,0 +1,101 @@
+package com.reservation.car.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Benchmark of the heap taken by a car-ordinal dictionary for one million cars.
+ *
+ * It compares the {@code HashMap<UUID, Integer>} plus {@code UUID[]} reverse array that in-memory
+ * indexes used before with {@link CarDictionary}, and reports the retained heap per car (heap in
+ * use after a full GC, with and without the structure) and the time of a lookup of a known car.
+ * The car IDs themselves are generated as longs, so they are not counted for either structure.
+ *
+ * Usage:
+ *   ./mvnw test -Dtest=CarDictionaryBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CarDictionaryBenchmarkTest {
+
+    private static final int CARS = 1_000_000;
+    private static final int LOOKUPS = 10_000_000;
+
+    /** Consumes lookup results so they are not optimized away. */
+    private static volatile long sink;
+
+    private record HashMapDictionary(Map<UUID, Integer> ordinals, UUID[] ids) {
+    }
+
+    @Test
+    void compareFootprints() {
+        long[] high = new long[CARS];
+        long[] low = new long[CARS];
+        for (int car = 0; car < CARS; car++) {
+            UUID carId = UUID.randomUUID();
+            high[car] = carId.getMostSignificantBits();
+            low[car] = carId.getLeastSignificantBits();
+        }
+
+        String hashMap = measure("HashMap<UUID, Integer>", () -> {
+            HashMapDictionary dictionary = new HashMapDictionary(new HashMap<>(), new UUID[CARS]);
+            for (int car = 0; car < CARS; car++) {
+                UUID carId = new UUID(high[car], low[car]);
+                dictionary.ordinals().put(carId, car);
+                dictionary.ids()[car] = carId;
+            }
+            return dictionary;
+        }, (dictionary, car) -> dictionary.ordinals().get(new UUID(high[car], low[car])));
+
+        String primitive = measure("CarDictionary", () -> {
+            CarDictionary dictionary = new CarDictionary(CARS);
+            for (int car = 0; car < CARS; car++) {
+                dictionary.add(new UUID(high[car], low[car]));
+            }
+            return dictionary;
+        }, (dictionary, car) -> dictionary.ordinal(new UUID(high[car], low[car])));
+
+        System.out.println();
+        System.out.printf("%-24s %14s %14s %14s%n", "dictionary", "retained MB", "bytes/car", "lookup ns");
+        System.out.println(hashMap);
+        System.out.println(primitive);
+        System.out.println();
+    }
+
+    private static <T> String measure(String name, Supplier<T> build, ToIntBiFunction<T, Integer> lookup) {
+        long before = usedHeapAfterGc();
+        T dictionary = build.get();
+        long retained = usedHeapAfterGc() - before;
+
+        // Warm up, then time lookups in a scattered order
+        long checksum = 0;
+        for (int i = 0; i < LOOKUPS / 10; i++) {
+            checksum += lookup.applyAsInt(dictionary, (int) ((i * 7919L) % CARS));
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            checksum += lookup.applyAsInt(dictionary, (int) ((i * 7919L) % CARS));
+        }
+        double lookupNanos = (double) (System.nanoTime() - started) / LOOKUPS;
+        sink = checksum;
+        Reference.reachabilityFence(dictionary);
+
+        return String.format("%-24s %14.1f %14.1f %14.1f", name, retained / 1e6, (double) retained / CARS, lookupNanos);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
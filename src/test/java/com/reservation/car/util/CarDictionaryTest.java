@@ -0,0 +1,79 @@
+package com.reservation.car.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class CarDictionaryTest {
+
+    @Test
+    void shouldHandOutDenseOrdinals_inInsertionOrder() {
+        // Arrange
+        CarDictionary dictionary = new CarDictionary(4);
+        UUID first = TestDataFactory.getTestCarId();
+        UUID second = TestDataFactory.getTestCarId2();
+
+        // Act
+        int firstOrdinal = dictionary.add(first);
+        int secondOrdinal = dictionary.add(second);
+        int again = dictionary.add(first);
+
+        // Assert
+        assertThat(firstOrdinal).isZero();
+        assertThat(secondOrdinal).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(dictionary.carId(1)).isEqualTo(second);
+    }
+
+    @Test
+    void shouldReturnMinusOne_forUnknownCar() {
+        // Arrange
+        CarDictionary dictionary = new CarDictionary(4);
+        dictionary.add(TestDataFactory.getTestCarId());
+
+        // Act & Assert
+        assertThat(dictionary.ordinal(UUID.randomUUID())).isEqualTo(-1);
+        assertThat(dictionary.contains(TestDataFactory.getTestCarId())).isTrue();
+        assertThatThrownBy(() -> dictionary.carId(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldKeepOrdinals_whileGrowing() {
+        // Arrange
+        CarDictionary dictionary = new CarDictionary(1);
+        List<UUID> cars = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            cars.add(UUID.randomUUID());
+        }
+
+        // Act
+        cars.forEach(dictionary::add);
+
+        // Assert
+        assertThat(dictionary.size()).isEqualTo(cars.size());
+        for (int ordinal = 0; ordinal < cars.size(); ordinal++) {
+            assertThat(dictionary.ordinal(cars.get(ordinal))).isEqualTo(ordinal);
+            assertThat(dictionary.carId(ordinal)).isEqualTo(cars.get(ordinal));
+        }
+    }
+
+    @Test
+    void shouldSpreadSequentialIds() {
+        // Arrange: IDs differing only in their low bits, as time-ordered or hand-made ones do
+        CarDictionary dictionary = new CarDictionary(16);
+
+        // Act
+        for (long i = 0; i < 50_000; i++) {
+            dictionary.add(new UUID(0x0190_0000_0000_7000L, 0x8000_0000_0000_0000L | i));
+        }
+
+        // Assert
+        assertThat(dictionary.size()).isEqualTo(50_000);
+        assertThat(dictionary.ordinal(new UUID(0x0190_0000_0000_7000L, 0x8000_0000_0000_0000L | 49_999))).isEqualTo(49_999);
+    }
+}
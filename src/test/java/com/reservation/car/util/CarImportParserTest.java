@@ -0,0 +1,103 @@
+package com.reservation.car.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CarImportParserTest {
+
+    private final CarImportParser.LineParser csv = CarImportParser.csv("license_plate,Make,MODEL,color");
+    private final CarImportParser.LineParser ndjson = CarImportParser.ndjson(new ObjectMapper());
+
+    @Test
+    void shouldMapCsvColumnsByHeaderName() {
+        // Act
+        CarImportParser.Row row = csv.parse("ABC-123, Tesla ,Model 3,red");
+
+        // Assert
+        assertThat(row).isEqualTo(new CarImportParser.Row("Tesla", "Model 3", "ABC-123"));
+    }
+
+    @Test
+    void shouldUnquoteCsvFields() {
+        // Act
+        CarImportParser.Row row = csv.parse("\"XYZ-1\",\"Ford, Inc\",\"The \"\"Focus\"\"\",");
+
+        // Assert
+        assertThat(row).isEqualTo(new CarImportParser.Row("Ford, Inc", "The \"Focus\"", "XYZ-1"));
+    }
+
+    @Test
+    void shouldRejectCsvHeader_whenColumnMissing() {
+        // Act & Assert
+        assertThatThrownBy(() -> CarImportParser.csv("make,model,plate"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("license_plate");
+    }
+
+    @Test
+    void shouldRejectCsvLine_whenFieldCountDiffers() {
+        // Act & Assert
+        assertThatThrownBy(() -> csv.parse("ABC-123,Tesla"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessage("expected 4 fields but found 2");
+    }
+
+    @Test
+    void shouldRejectCsvLine_whenQuoteUnterminated() {
+        // Act & Assert
+        assertThatThrownBy(() -> csv.parse("ABC-123,\"Tesla,Model 3,red"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessage("unterminated quoted field");
+    }
+
+    @Test
+    void shouldKeepLicensePlate_whenOtherFieldInvalid() {
+        // Act & Assert
+        assertThatThrownBy(() -> csv.parse("ABC-123,  ,Model 3,red"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessage("make is required")
+            .extracting("licensePlate").isEqualTo("ABC-123");
+    }
+
+    @Test
+    void shouldRejectLine_whenValueTooLong() {
+        // Act & Assert
+        assertThatThrownBy(() -> csv.parse("ABC-123,Tesla," + "x".repeat(51) + ",red"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessage("model exceeds 50 characters");
+        assertThatThrownBy(() -> csv.parse("X".repeat(21) + ",Tesla,Model 3,red"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessage("licensePlate exceeds 20 characters");
+    }
+
+    @Test
+    void shouldParseNdjsonObject() {
+        // Act
+        CarImportParser.Row row = ndjson.parse("{\"make\":\"Tesla\",\"model\":\"Model 3\",\"licensePlate\":\"ABC-123\",\"extra\":1}");
+
+        // Assert
+        assertThat(row).isEqualTo(new CarImportParser.Row("Tesla", "Model 3", "ABC-123"));
+    }
+
+    @Test
+    void shouldRejectNdjsonLine_whenNotAnObject() {
+        // Act & Assert
+        assertThatThrownBy(() -> ndjson.parse("[1,2]"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessage("expected a JSON object");
+        assertThatThrownBy(() -> ndjson.parse("{\"make\":"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessageStartingWith("malformed JSON");
+    }
+
+    @Test
+    void shouldRejectNdjsonLine_whenFieldNotScalar() {
+        // Act & Assert
+        assertThatThrownBy(() -> ndjson.parse("{\"make\":{},\"model\":\"Model 3\",\"licensePlate\":\"ABC-123\"}"))
+            .isInstanceOf(CarImportParser.InvalidLineException.class)
+            .hasMessage("make must be a string");
+    }
+}
@@ -0,0 +1,84 @@
+package com.reservation.car.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.car.entity.CarDailyOccupancy;
+import com.reservation.car.entity.Reservation;
+
+class OccupancyCalculatorTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2030-01-02");
+
+    @Test
+    void shouldComputeMinutesAndSlots_forReservationsWithinDay() {
+        // Arrange
+        CarDailyOccupancy day = new CarDailyOccupancy(TestDataFactory.getTestCarId(), DAY);
+        List<Reservation> reservations = List.of(
+            reservation("2030-01-02T03:00:00Z", "2030-01-02T05:00:00Z"),
+            reservation("2030-01-02T10:05:00Z", "2030-01-02T12:10:00Z"));
+
+        // Act
+        OccupancyCalculator.recompute(day, reservations);
+
+        // Assert
+        assertThat(day.getBookedMinutes()).isEqualTo(120 + 125);
+        assertThat(OccupancyCalculator.isSlotBusy(day.getBusyMask(), 11)).isFalse(); // 02:45
+        assertThat(OccupancyCalculator.isSlotBusy(day.getBusyMask(), 12)).isTrue();  // 03:00
+        assertThat(OccupancyCalculator.isSlotBusy(day.getBusyMask(), 19)).isTrue();  // 04:45
+        assertThat(OccupancyCalculator.isSlotBusy(day.getBusyMask(), 20)).isFalse(); // 05:00
+        assertThat(OccupancyCalculator.isSlotBusy(day.getBusyMask(), 40)).isTrue();  // 10:00, partially booked
+        assertThat(OccupancyCalculator.isSlotBusy(day.getBusyMask(), 48)).isTrue();  // 12:00, partially booked
+        assertThat(OccupancyCalculator.isSlotBusy(day.getBusyMask(), 49)).isFalse(); // 12:15
+    }
+
+    @Test
+    void shouldClipReservationSpanningMidnight() {
+        // Arrange
+        Reservation overnight = reservation("2030-01-01T22:10:00Z", "2030-01-02T01:05:00Z");
+        CarDailyOccupancy first = new CarDailyOccupancy(TestDataFactory.getTestCarId(), DAY.minusDays(1));
+        CarDailyOccupancy second = new CarDailyOccupancy(TestDataFactory.getTestCarId(), DAY);
+
+        // Act
+        OccupancyCalculator.recompute(first, List.of(overnight));
+        OccupancyCalculator.recompute(second, List.of(overnight));
+
+        // Assert - same layout as the V2 migration backfill
+        assertThat(first.getBookedMinutes()).isEqualTo(110);
+        assertThat(OccupancyCalculator.toHex(first.getBusyMask())).isEqualTo("0000000000000000000000ff");
+        assertThat(second.getBookedMinutes()).isEqualTo(65);
+        assertThat(OccupancyCalculator.toHex(second.getBusyMask())).isEqualTo("1f0000000000000000000000");
+    }
+
+    @Test
+    void shouldClearDay_whenNoReservationsOverlap() {
+        // Arrange
+        CarDailyOccupancy day = new CarDailyOccupancy(TestDataFactory.getTestCarId(), DAY);
+        day.setBookedMinutes(120);
+
+        // Act
+        OccupancyCalculator.recompute(day, List.of(reservation("2030-01-03T00:00:00Z", "2030-01-03T02:00:00Z")));
+
+        // Assert
+        assertThat(day.getBookedMinutes()).isZero();
+        assertThat(OccupancyCalculator.toHex(day.getBusyMask())).isEqualTo("000000000000000000000000");
+    }
+
+    @Test
+    void shouldListDaysCovered_withExclusiveEnd() {
+        // Act & Assert
+        assertThat(OccupancyCalculator.daysCovered(Instant.parse("2030-01-01T22:00:00Z"), Instant.parse("2030-01-02T00:00:00Z")))
+            .containsExactly(DAY.minusDays(1));
+        assertThat(OccupancyCalculator.daysCovered(Instant.parse("2030-01-01T22:00:00Z"), Instant.parse("2030-01-02T00:00:01Z")))
+            .containsExactly(DAY.minusDays(1), DAY);
+    }
+
+    private static Reservation reservation(String start, String end) {
+        return TestDataFactory.createTestReservation(TestDataFactory.getTestCarId(), TestDataFactory.getTestUserId(),
+            Instant.parse(start), Instant.parse(end));
+    }
+}
@@ -0,0 +1,132 @@
+package com.reservation.car.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneExecution_betweenConcurrentIdenticalCalls() throws Exception {
+        // Arrange
+        RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>(Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act: the first caller blocks in the loader until every other one is waiting on it
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.execute("key", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        awaitRequests(coalescer, CALLERS);
+        release.countDown();
+
+        // Assert
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(coalescer.requests()).isEqualTo(CALLERS);
+        assertThat(coalescer.executions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExecuteAgain_onceSharedExecutionCompleted() {
+        // Arrange
+        RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>(Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        coalescer.execute("key", loads::incrementAndGet);
+        int second = coalescer.execute("key", loads::incrementAndGet);
+        coalescer.execute("other", loads::incrementAndGet);
+
+        // Assert
+        assertThat(second).isEqualTo(2);
+        assertThat(coalescer.executions()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRunOwnExecution_whenSharedOneExceedsTimeout() throws Exception {
+        // Arrange
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("key", () -> {
+            await(release);
+            return "shared";
+        }));
+        awaitRequests(coalescer, 1);
+
+        // Act
+        String own = coalescer.execute("key", () -> "own");
+        release.countDown();
+
+        // Assert
+        assertThat(own).isEqualTo("own");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("shared");
+        assertThat(coalescer.timeouts()).isEqualTo(1);
+        assertThat(coalescer.executions()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRethrowFailure_toEveryWaitingCaller() throws Exception {
+        // Arrange
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("key", () -> {
+            await(release);
+            throw new IllegalArgumentException("bad window");
+        }));
+        awaitRequests(coalescer, 1);
+        Future<String> follower = executor.submit(() -> coalescer.execute("key", () -> "unused"));
+        awaitRequests(coalescer, 2);
+
+        // Act
+        release.countDown();
+
+        // Assert
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(coalescer.executions()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitRequests(RequestCoalescer<?, ?> coalescer, int requests) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.requests() < requests) {
+            assertThat(System.nanoTime()).as("callers not waiting in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.reservation.car.util;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class ReservationCursorTest {
+
+    @Test
+    void shouldRoundTrip_withMicrosecondStartTime() {
+        // Arrange
+        ReservationCursor cursor = new ReservationCursor(Instant.parse("2030-01-20T10:00:00.123456Z"), UUID.randomUUID());
+
+        // Act
+        String encoded = cursor.encode();
+
+        // Assert
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(ReservationCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRejectStringsThatAreNotCursors() {
+        assertThatThrownBy(() -> ReservationCursor.decode("not a cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReservationCursor.decode("bm8tc2VwYXJhdG9y"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReservationCursor.decode("eWVzdGVyZGF5fGZvbw"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
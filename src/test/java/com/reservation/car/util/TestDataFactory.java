@@ -4,10 +4,13 @@ import java.time.Instant;
 import java.util.UUID;
 
 import com.reservation.car.dto.ReservationRequestDTO;
+import com.reservation.car.dto.response.BookingRequestResponseDTO;
 import com.reservation.car.dto.response.CarResponseDTO;
 import com.reservation.car.dto.response.ReservationResponseDTO;
+import com.reservation.car.entity.BookingRequest;
 import com.reservation.car.entity.Car;
 import com.reservation.car.entity.Reservation;
+import com.reservation.car.model.BookingRequestStatus;
 import com.reservation.car.model.ReservationStatus;
 
 /**
@@ -79,10 +82,31 @@ public class TestDataFactory {
     public static ReservationResponseDTO createReservationResponseDTO(UUID reservationId, UUID carId, UUID userId,
                                                                        Instant startTime, Instant endTime,
                                                                        ReservationStatus status, Instant createdAt) {
-        return new ReservationResponseDTO(reservationId, carId, userId, startTime, endTime, status, createdAt);
+        return new ReservationResponseDTO(reservationId, carId, userId, startTime, endTime, status, createdAt, null);
     }
 
     public static CarResponseDTO createCarResponseDTO(UUID id, String make, String model, String licensePlate) {
         return new CarResponseDTO(id, make, model, licensePlate);
     }
-}
\ No newline at end of file
+
+    public static BookingRequest createTestBookingRequest(UUID requestId, UUID carId, UUID userId, Instant startTime, Instant endTime,
+                                                          BookingRequestStatus status) {
+        BookingRequest bookingRequest = new BookingRequest();
+        bookingRequest.setId(requestId);
+        bookingRequest.setCarId(carId);
+        bookingRequest.setUserId(userId);
+        bookingRequest.setStartTime(startTime);
+        bookingRequest.setEndTime(endTime);
+        bookingRequest.setStatus(status);
+        bookingRequest.setAttempts(1);
+        bookingRequest.setCreatedAt(Instant.now());
+        bookingRequest.setUpdatedAt(Instant.now());
+        return bookingRequest;
+    }
+
+    public static BookingRequestResponseDTO createBookingRequestResponseDTO(UUID requestId, UUID carId, UUID userId,
+                                                                            Instant startTime, Instant endTime,
+                                                                            BookingRequestStatus status) {
+        return BookingRequestResponseDTO.from(createTestBookingRequest(requestId, carId, userId, startTime, endTime, status));
+    }
+}
@@ -0,0 +1,104 @@
+package com.reservation.car.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void shouldReturnItem_onlyAfterItsDeadline() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, 2, START);
+        wheel.schedule("hold", START + 2_500);
+
+        // Act
+        List<String> early = wheel.advance(START + 2_999);
+        List<String> due = wheel.advance(START + 3_000);
+
+        // Assert
+        assertThat(early).isEmpty();
+        assertThat(due).containsExactly("hold");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldCascadeItems_fromHigherLevels() {
+        // Arrange: level 0 spans 8s, level 1 spans 64s
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, 2, START);
+        wheel.schedule("in 5 minutes", START + 300_000);
+        wheel.schedule("in 30 seconds", START + 30_000);
+
+        // Act
+        List<String> beforeFirst = wheel.advance(START + 30_000);
+        List<String> first = wheel.advance(START + 31_000);
+        List<String> second = wheel.advance(START + 301_000);
+
+        // Assert
+        assertThat(beforeFirst).isEmpty();
+        assertThat(first).containsExactly("in 30 seconds");
+        assertThat(second).containsExactly("in 5 minutes");
+    }
+
+    @Test
+    void shouldReturnPastDeadlines_onNextAdvance() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, 2, START);
+        wheel.advance(START + 10_000);
+        wheel.schedule("overdue", START + 5_000);
+
+        // Act & Assert
+        assertThat(wheel.advance(START + 10_000)).containsExactly("overdue");
+    }
+
+    @Test
+    void shouldHoldDeadlinesBeyondTopLevel_untilTheyAreDue() {
+        // Arrange: two levels of 4 buckets span 16s
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 4, 2, START);
+        wheel.schedule("far", START + 100_000);
+
+        // Act
+        List<String> early = wheel.advance(START + 100_000);
+        List<String> due = wheel.advance(START + 101_000);
+
+        // Assert
+        assertThat(early).isEmpty();
+        assertThat(due).containsExactly("far");
+    }
+
+    @Test
+    void shouldReturnEveryItemWithinOneTickAfterItsDeadline() {
+        // Arrange: deadlines up to about 33 minutes out, beyond the 409.6s level 1 and into level 2
+        long tick = 100;
+        long step = 37;
+        TimingWheel<Long> wheel = new TimingWheel<>(Duration.ofMillis(tick), 64, 3, START);
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long deadline = START + random.nextLong(2_000_000);
+            wheel.schedule(deadline, deadline);
+        }
+
+        // Act & Assert
+        int returned = 0;
+        for (long now = START; now <= START + 2_000_000 + tick + step; now += step) {
+            for (long deadline : wheel.advance(now)) {
+                assertThat(deadline).isLessThan(now).isGreaterThanOrEqualTo(now - tick - step);
+                returned++;
+            }
+        }
+        assertThat(returned).isEqualTo(10_000);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectConfigurationWithoutBuckets() {
+        assertThatThrownBy(() -> new TimingWheel<>(Duration.ofSeconds(1), 1, 2, START))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
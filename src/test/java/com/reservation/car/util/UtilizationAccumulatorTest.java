@@ -0,0 +1,79 @@
+package com.reservation.car.util;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class UtilizationAccumulatorTest {
+
+    @Test
+    void shouldSplitPeriodOverHoursOfDay() {
+        // Arrange
+        UtilizationAccumulator accumulator = new UtilizationAccumulator(2);
+
+        // Act
+        accumulator.add(1, seconds("2030-01-02T22:30:00Z"), seconds("2030-01-03T01:15:00Z"));
+
+        // Assert
+        assertThat(accumulator.carSeconds(0)).isZero();
+        assertThat(accumulator.carSeconds(1)).isEqualTo(9_900);
+        assertThat(accumulator.hourSeconds(22)).isEqualTo(1_800);
+        assertThat(accumulator.hourSeconds(23)).isEqualTo(3_600);
+        assertThat(accumulator.hourSeconds(0)).isEqualTo(3_600);
+        assertThat(accumulator.hourSeconds(1)).isEqualTo(900);
+        assertThat(accumulator.hourSeconds(2)).isZero();
+    }
+
+    @Test
+    void shouldCountEveryHourOnce_whenPeriodSpansSeveralDays() {
+        // Arrange
+        UtilizationAccumulator accumulator = new UtilizationAccumulator(1);
+
+        // Act
+        accumulator.add(0, seconds("2030-01-02T00:00:00Z"), seconds("2030-01-05T00:00:00Z"));
+
+        // Assert
+        assertThat(accumulator.carSeconds(0)).isEqualTo(3 * 86_400);
+        for (int hour = 0; hour < UtilizationAccumulator.HOURS_PER_DAY; hour++) {
+            assertThat(accumulator.hourSeconds(hour)).isEqualTo(3 * 3_600);
+        }
+    }
+
+    @Test
+    void shouldIgnoreEmptyPeriod() {
+        // Arrange
+        UtilizationAccumulator accumulator = new UtilizationAccumulator(1);
+
+        // Act
+        accumulator.add(0, seconds("2030-01-02T10:00:00Z"), seconds("2030-01-02T10:00:00Z"));
+
+        // Assert
+        assertThat(accumulator.carSeconds(0)).isZero();
+        assertThat(accumulator.hourSeconds(10)).isZero();
+    }
+
+    @Test
+    void shouldSumCounts_whenMergingAccumulators() {
+        // Arrange
+        UtilizationAccumulator first = new UtilizationAccumulator(2);
+        UtilizationAccumulator second = new UtilizationAccumulator(2);
+        first.add(0, seconds("2030-01-02T10:00:00Z"), seconds("2030-01-02T11:00:00Z"));
+        second.add(0, seconds("2030-01-02T10:30:00Z"), seconds("2030-01-02T11:30:00Z"));
+        second.add(1, seconds("2030-01-02T12:00:00Z"), seconds("2030-01-02T12:10:00Z"));
+
+        // Act
+        first.addAll(second);
+
+        // Assert
+        assertThat(first.carSeconds(0)).isEqualTo(7_200);
+        assertThat(first.carSeconds(1)).isEqualTo(600);
+        assertThat(first.hourSeconds(10)).isEqualTo(5_400);
+        assertThat(first.hourSeconds(11)).isEqualTo(1_800);
+        assertThat(first.hourSeconds(12)).isEqualTo(600);
+    }
+
+    private static long seconds(String instant) {
+        return Instant.parse(instant).getEpochSecond();
+    }
+}
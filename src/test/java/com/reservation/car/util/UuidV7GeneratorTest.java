@@ -0,0 +1,56 @@
+package com.reservation.car.util;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void shouldSetVersionAndVariant() {
+        // Act
+        UUID uuid = UuidV7Generator.next();
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEmbedCurrentUnixMillis() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidV7Generator.next();
+
+        // Assert
+        long embedded = uuid.getMostSignificantBits() >>> 16;
+        assertThat(embedded).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasing_whenManyIdsShareAMillisecond() {
+        // Arrange
+        UUID previous = UuidV7Generator.next();
+
+        // Act & Assert: compare as unsigned big-endian bytes, the order Postgres uses for uuid
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7Generator.next();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                .as("id %d", i)
+                .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldLayOutFieldsPerRfc9562() {
+        // Act
+        UUID uuid = UuidV7Generator.build(0x0123456789ABL, 0xFFF, -1L);
+
+        // Assert
+        assertThat(uuid.toString()).isEqualTo("01234567-89ab-7fff-bfff-ffffffffffff");
+    }
+}
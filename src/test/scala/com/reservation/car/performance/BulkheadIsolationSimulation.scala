@@ -0,0 +1,74 @@
+package com.reservation.car.performance
+
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import scala.concurrent.duration._
+
+import java.time.Instant
+import java.time.temporal.ChronoUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Floods the read compartment (availability anti-join) while a steady stream of
+ * reservation writes runs, and fails if the writes' p99 exceeds the configured bound.
+ *
+ * Tunables (system properties): baseUrl, readUsersPerSec, writeUsersPerSec, durationSeconds, writeP99Ms.
+ * Run with: mvn gatling:test -Dgatling.simulationClass=com.reservation.car.performance.BulkheadIsolationSimulation
+ */
+class BulkheadIsolationSimulation extends Simulation {
+
+  val baseUrl = System.getProperty("baseUrl", "http://localhost:8081")
+  val readUsersPerSec = Integer.getInteger("readUsersPerSec", 200).toDouble
+  val writeUsersPerSec = Integer.getInteger("writeUsersPerSec", 10).toDouble
+  val duration = Integer.getInteger("durationSeconds", 60).toInt.seconds
+  val writeP99Ms = Integer.getInteger("writeP99Ms", 500).toInt
+
+  val httpProtocol = http
+    .baseUrl(baseUrl)
+    .acceptHeader("application/json")
+    .contentTypeHeader("application/json")
+
+  // Each write books its own two-hour slot far in the future so writes never conflict
+  val slotCounter = new AtomicLong()
+  val firstSlot = Instant.now().plus(400, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS)
+  val slotFeeder = Iterator.continually {
+    val start = firstSlot.plus(slotCounter.getAndIncrement() * 2, ChronoUnit.HOURS)
+    Map("startTime" -> start.toString, "endTime" -> start.plus(2, ChronoUnit.HOURS).toString)
+  }
+
+  // Read flood: shed requests (503) are expected once the read bulkhead is full
+  val readFlood = scenario("Read Flood")
+    .exec(http("Check Available Cars")
+      .get("/api/v1/cars/available?startTime=2030-01-01T10:00:00Z&endTime=2030-01-01T12:00:00Z&size=100")
+      .check(status.in(200, 503)))
+
+  val writes = scenario("Reservation Writes")
+    .tryMax(10) {
+      exec(http("Fetch Car for Reservation")
+        .get("/api/v1/cars?page=0&size=1")
+        .check(status.is(200))
+        .check(jsonPath("$.content[0].id").saveAs("carId")))
+    }
+    .exitHereIfFailed
+    .feed(slotFeeder)
+    .exec(http("Create Reservation")
+      .post("/api/v1/reservations")
+      .header("X-User-ID", "550e8400-e29b-41d4-a716-446655440000")
+      .body(StringBody("""{"carId": "#{carId}", "userId": "550e8400-e29b-41d4-a716-446655440000", "startTime": "#{startTime}", "endTime": "#{endTime}"}"""))
+      .check(status.is(201))
+      .check(jsonPath("$.id").saveAs("reservationId")))
+    .exec(http("Cancel Reservation")
+      .delete("/api/v1/reservations/#{reservationId}")
+      .header("X-User-ID", "550e8400-e29b-41d4-a716-446655440000")
+      .check(status.is(200)))
+
+  setUp(
+    readFlood.inject(constantUsersPerSec(readUsersPerSec).during(duration)),
+    writes.inject(constantUsersPerSec(writeUsersPerSec).during(duration))
+  ).protocols(httpProtocol)
+    .assertions(
+      details("Create Reservation").responseTime.percentile(99).lt(writeP99Ms),
+      details("Cancel Reservation").responseTime.percentile(99).lt(writeP99Ms),
+      details("Create Reservation").failedRequests.percent.is(0)
+    )
+}